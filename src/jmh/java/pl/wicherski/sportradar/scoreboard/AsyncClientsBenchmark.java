@@ -0,0 +1,125 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Time of serving a large number of concurrent clients of one board. Each client updates a score of a random game and
+ * reads the leading games - either through the blocking {@link LiveScoreBoard} API or through the
+ * {@link AsyncLiveScoreBoard} API, waiting for the returned future.
+ * <p>
+ * Clients run on a pool of platform threads, as in a classic request handling pool. A blocking client holds its thread
+ * until both operations are done, while an asynchronous one only starts them and is finished when the returned future
+ * completes, so its thread is free to start next clients. On JDK 21 or newer clients can run on virtual threads instead,
+ * one per client, with {@code -p clientThreads=virtualThreads} - the locks of the boards are not monitors, so a virtual
+ * thread blocked on them unmounts from its carrier thread (only {@code synchronized} and native frames pin it), which
+ * makes blocking clients cheap as well.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncClientsBenchmark {
+
+    private static final int BOARD_SIZE = 1000;
+    private static final int SCORES_COUNT = 1024;
+    private static final int SUMMARY_LIMIT = 10;
+    private static final int CLIENT_POOL_SIZE = 200;
+
+    @Param({"threadSafeBoard", "snapshotPublishingBoard", "singleWriterBoard"})
+    private String boardType;
+
+    @Param({"100000"})
+    private int clients;
+
+    @Param({"platformPool"})
+    private String clientThreads;
+
+    private LiveScoreBoard board;
+    private ExecutorService boardExecutor;
+    private AsyncLiveScoreBoard asyncBoard;
+    private ExecutorService clientExecutor;
+    private GameId[] gameIds;
+    private Score[] scores;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        board = BenchmarkBoards.create(boardType);
+        gameIds = BenchmarkBoards.startGames(board, BOARD_SIZE, random);
+        scores = BenchmarkBoards.randomScores(SCORES_COUNT, random);
+        boardExecutor = Executors.newFixedThreadPool(Runtime.getRuntime()
+                                                            .availableProcessors());
+        asyncBoard = LiveScoreBoardFactory.getInstance()
+                                          .withAsyncApi(board, boardExecutor);
+        clientExecutor = switch (clientThreads) {
+            case "platformPool" -> Executors.newFixedThreadPool(CLIENT_POOL_SIZE);
+            case "virtualThreads" -> newVirtualThreadPerTaskExecutor();
+            default -> throw new IllegalArgumentException("Unknown client threads: " + clientThreads);
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clientExecutor.shutdownNow();
+        boardExecutor.shutdownNow();
+        BenchmarkBoards.close(board);
+    }
+
+    @Benchmark
+    public void blockingClients() throws InterruptedException {
+        runClients(finishedClients -> {
+            try {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                board.updateScore(gameIds[random.nextInt(BOARD_SIZE)], scores[random.nextInt(SCORES_COUNT)]);
+                board.getSummary(SUMMARY_LIMIT);
+            } finally {
+                finishedClients.countDown();
+            }
+        });
+    }
+
+    @Benchmark
+    public void asyncClients() throws InterruptedException {
+        runClients(finishedClients -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            asyncBoard.updateScoreAsync(gameIds[random.nextInt(BOARD_SIZE)], scores[random.nextInt(SCORES_COUNT)])
+                      .thenCompose(updated -> asyncBoard.getSummaryAsync(SUMMARY_LIMIT))
+                      .whenComplete((summary, failure) -> finishedClients.countDown());
+        });
+    }
+
+    /**
+     * Runs all clients on the client threads. Each client counts down the latch once it is finished.
+     */
+    private void runClients(Consumer<CountDownLatch> client) throws InterruptedException {
+        CountDownLatch finishedClients = new CountDownLatch(clients);
+        for (int i = 0; i < clients; i++) {
+            clientExecutor.execute(() -> client.accept(finishedClients));
+        }
+        finishedClients.await();
+    }
+
+    /**
+     * Virtual threads are available since JDK 21, while the project is built for JDK 17, so the executor is created
+     * reflectively.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor")
+                                                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads require JDK 21 or newer!", e);
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Boards available in benchmarks (by name used in {@code boardType} parameter) and helpers for filling them with games.
+ */
+final class BenchmarkBoards {
+
+    private static final LiveScoreBoardFactory FACTORY = LiveScoreBoardFactory.getInstance();
+    private static final int SHARDS = 8;
+    private static final int ARCHIVED_GAMES = 100_000;
+
+    private BenchmarkBoards() {
+    }
+
+    static LiveScoreBoard create(String boardType) {
+        Supplier<LiveScoreBoard> boardSupplier = switch (boardType) {
+            case "board" -> FACTORY::newBoard;
+            case "slotBoard" -> FACTORY::newSlotBoard;
+            case "indexedBoard" -> FACTORY::newIndexedBoard;
+            case "threadSafeBoard" -> FACTORY::newThreadSafeBoard;
+            case "instrumentedBoard" -> FACTORY::newInstrumentedBoard;
+            case "fullyInstrumentedBoard" -> () -> FACTORY.newInstrumentedBoard(1, true);
+            case "snapshotPublishingBoard" -> FACTORY::newSnapshotPublishingBoard;
+            case "concurrentBoard" -> FACTORY::newConcurrentBoard;
+            case "shardedBoard" -> () -> FACTORY.newShardedBoard(SHARDS);
+            case "cachedThreadSafeBoard" -> () -> FACTORY.withSummaryCache(FACTORY.newThreadSafeBoard());
+            case "singleWriterBoard" -> FACTORY::newSingleWriterBoard;
+            case "journaledBoard" -> () -> FACTORY.newJournaledBoard(newJournalFile());
+            case "timelineBoard" -> FACTORY::newTimelineBoard;
+            case "archiveBoard" -> () -> FACTORY.newArchiveBoard(ARCHIVED_GAMES, Duration.ofHours(24));
+            case "subscribedBoard" -> () -> {
+                LiveScoreBoard board = FACTORY.newBoard();
+                board.subscribe(events -> {
+                });
+                return board;
+            };
+            default -> throw new IllegalArgumentException("Unknown board type: " + boardType);
+        };
+        return boardSupplier.get();
+    }
+
+    /**
+     * Closes the board if it holds resources, e.g. a journal file or a writer thread.
+     */
+    static void close(LiveScoreBoard board) {
+        if (board instanceof JournaledLiveScoreBoard journaledBoard) {
+            journaledBoard.close();
+        } else if (board instanceof IngestingLiveScoreBoard ingestingBoard) {
+            ingestingBoard.close();
+        }
+    }
+
+    static Path newJournalFile() {
+        try {
+            Path file = Files.createTempFile("score-board", ".journal");
+            Files.delete(file);
+            file.toFile()
+                .deleteOnExit();
+            JournalingLiveScoreBoard.snapshotFileOf(file)
+                                    .toFile()
+                                    .deleteOnExit();
+            return file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static GameId[] startGames(LiveScoreBoard board, int boardSize, Random random) {
+        GameId[] gameIds = new GameId[boardSize];
+        for (int i = 0; i < boardSize; i++) {
+            gameIds[i] = board.startGame("Home team " + i, "Away team " + i);
+            board.updateScore(gameIds[i], Score.of(random.nextInt(6), random.nextInt(6)));
+        }
+        return gameIds;
+    }
+
+    static Score[] randomScores(int count, Random random) {
+        Score[] scores = new Score[count];
+        for (int i = 0; i < count; i++) {
+            scores[i] = Score.of(random.nextInt(6), random.nextInt(6));
+        }
+        return scores;
+    }
+
+}
@@ -0,0 +1,70 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Many feed threads updating scores of one board at once - lock-based boards (with one lock or a lock per shard)
+ * compared with the single writer board, which takes updates from a ring buffer. Sample time mode reports latency
+ * percentiles of a single blocking update, so tail latency can be compared along with the throughput.
+ * {@code submitScoreUpdate} measures feed threads which do not wait for the updates - the single writer board only
+ * enqueues them, while lock-based boards, which have no other way, apply them in place.
+ * <p>
+ * The default is 4 feed threads, other counts can be measured with JMH threads option, e.g. {@code -t 16}.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class IngestionBenchmark {
+
+    private static final int SCORES_COUNT = 1024;
+
+    @Param({"threadSafeBoard", "snapshotPublishingBoard", "singleWriterBoard", "shardedBoard"})
+    private String boardType;
+
+    @Param({"1000", "100000"})
+    private int boardSize;
+
+    private LiveScoreBoard board;
+    private GameId[] gameIds;
+    private Score[] scores;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        board = BenchmarkBoards.create(boardType);
+        gameIds = BenchmarkBoards.startGames(board, boardSize, random);
+        scores = BenchmarkBoards.randomScores(SCORES_COUNT, random);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkBoards.close(board);
+    }
+
+    @Benchmark
+    public void updateScore() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        board.updateScore(gameIds[random.nextInt(gameIds.length)], scores[random.nextInt(SCORES_COUNT)]);
+    }
+
+    @Benchmark
+    public Object submitScoreUpdate() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        GameId gameId = gameIds[random.nextInt(gameIds.length)];
+        Score score = scores[random.nextInt(SCORES_COUNT)];
+        if (board instanceof IngestingLiveScoreBoard ingestingBoard) {
+            return ingestingBoard.submitScoreUpdate(gameId, score);
+        }
+        board.updateScore(gameId, score);
+        return null;
+    }
+
+}
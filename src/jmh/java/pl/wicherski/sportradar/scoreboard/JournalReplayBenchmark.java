@@ -0,0 +1,74 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of rebuilding a journaled board, in events of its history per second. The history holds {@link #GAMES}
+ * started games followed by score updates, {@link #EVENTS} events in total. It is either replayed from the journal, or
+ * the board is rebuilt from a compacted journal - a snapshot of the games and an empty journal.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JournalReplayBenchmark {
+
+    private static final int GAMES = 1_000;
+    private static final int EVENTS = 1_000_000;
+    private static final Duration FLUSH_INTERVAL = Duration.ofMillis(10);
+
+    private final LiveScoreBoardFactory factory = LiveScoreBoardFactory.getInstance();
+
+    private Path journalFile;
+    private Path compactedJournalFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        journalFile = BenchmarkBoards.newJournalFile();
+        try (JournaledLiveScoreBoard board = factory.newJournaledBoard(journalFile)) {
+            GameId[] gameIds = BenchmarkBoards.startGames(board, GAMES, random);
+            Score[] scores = BenchmarkBoards.randomScores(GAMES, random);
+            for (int i = 2 * GAMES; i < EVENTS; i++) {
+                board.updateScore(gameIds[i % GAMES], scores[random.nextInt(GAMES)]);
+            }
+        }
+        compactedJournalFile = BenchmarkBoards.newJournalFile();
+        Files.copy(journalFile, compactedJournalFile);
+        // the board compacts the journal right after replaying it
+        factory.newJournaledBoard(compactedJournalFile)
+               .close();
+    }
+
+    /**
+     * Replays the whole journal, which is not compacted by opening it directly.
+     */
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public JournalReplayStatistics replay() {
+        GameRepositoryReplayer replayer = new GameRepositoryReplayer(new InMemoryGameRepository(new HashMap<>()),
+                                                                     new TeamNameDictionary());
+        try (EventJournal journal = EventJournal.open(journalFile, FLUSH_INTERVAL, replayer)) {
+            return journal.replayStatistics();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(EVENTS)
+    public ScoreSummary rebuildFromCompactedJournal() {
+        try (JournaledLiveScoreBoard board = factory.newJournaledBoard(compactedJournalFile)) {
+            return board.getSummary();
+        }
+    }
+
+}
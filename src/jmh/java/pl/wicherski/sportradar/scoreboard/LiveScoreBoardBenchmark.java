@@ -0,0 +1,164 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-threaded throughput of {@link LiveScoreBoard} operations for each board type and board size.
+ * <p>
+ * By default only the basic, the indexed and the thread-safe board are measured for two board sizes, so a default run
+ * takes minutes, not hours. The full matrix of boards and sizes is run with
+ * {@code -p boardType=board,slotBoard,indexedBoard,threadSafeBoard,instrumentedBoard,fullyInstrumentedBoard,
+ * snapshotPublishingBoard,concurrentBoard,shardedBoard,cachedThreadSafeBoard,journaledBoard,timelineBoard,archiveBoard,
+ * subscribedBoard -p boardSize=10,1000,100000} (without the line breaks), see {@link BenchmarkBoards} for all board
+ * types.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class LiveScoreBoardBenchmark {
+
+    private static final int SCORES_COUNT = 1024;
+    private static final int BATCH_SIZE = 32;
+    private static final int PAGE_SIZE = 50;
+
+    @Param({"board", "indexedBoard", "threadSafeBoard"})
+    private String boardType;
+
+    @Param({"1000", "100000"})
+    private int boardSize;
+
+    private LiveScoreBoard board;
+    private GameId[] gameIds;
+    private Score[] scores;
+    private int nextGame;
+    private int nextScore;
+    private long nextSequence;
+    private Map<GameId, Score> batch;
+    private ByteBuffer summaryBuffer;
+    private ScoreSummary pagedSummary;
+    private SummaryCursor lastPageCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        board = BenchmarkBoards.create(boardType);
+        gameIds = BenchmarkBoards.startGames(board, boardSize, random);
+        scores = BenchmarkBoards.randomScores(SCORES_COUNT, random);
+        summaryBuffer = ByteBuffer.allocateDirect(64 * (boardSize + 1));
+        batch = new HashMap<>();
+        for (int i = 0; i < Math.min(BATCH_SIZE, boardSize); i++) {
+            batch.put(gameIds[random.nextInt(boardSize)], scores[i]);
+        }
+        pagedSummary = board.getSummary();
+        SummaryPage page = pagedSummary.firstPage(PAGE_SIZE);
+        while (page.hasNextPage()) {
+            lastPageCursor = page.nextCursor()
+                                 .orElseThrow();
+            page = pagedSummary.page(lastPageCursor);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkBoards.close(board);
+    }
+
+    @Benchmark
+    public void updateScore() {
+        board.updateScore(gameIds[nextGame()], scores[nextScore()]);
+    }
+
+    @Benchmark
+    public boolean updateScoreIfNewer() {
+        return board.updateScoreIfNewer(gameIds[nextGame()], ++nextSequence, scores[nextScore()]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public BatchUpdateResult updateScoresInBatch() {
+        return board.updateScores(batch);
+    }
+
+    @Benchmark
+    public GameId startAndFinishGame() {
+        // finishing right away keeps the board size constant during the measurement
+        GameId gameId = board.startGame("Home", "Away");
+        board.finishGame(gameId);
+        return gameId;
+    }
+
+    @Benchmark
+    public ScoreSummary getSummary() {
+        return board.getSummary();
+    }
+
+    @Benchmark
+    public ScoreSummary getTop10Summary() {
+        return board.getSummary(10);
+    }
+
+    @Benchmark
+    public String toPrintableSummary() {
+        return board.getSummary()
+                    .toPrintableSummary();
+    }
+
+    @Benchmark
+    public String printFirstSummaryPage() {
+        // the first page of a new summary, which pays for ranking all games of the board
+        return board.getSummary()
+                    .firstPage(PAGE_SIZE)
+                    .games()
+                    .toPrintableSummary();
+    }
+
+    @Benchmark
+    public String printLastSummaryPage() {
+        // the last page of an already taken summary, as fetched by a client paging through a large board
+        if (lastPageCursor == null) {
+            return pagedSummary.firstPage(PAGE_SIZE)
+                               .games()
+                               .toPrintableSummary();
+        }
+        return pagedSummary.page(lastPageCursor)
+                           .games()
+                           .toPrintableSummary();
+    }
+
+    @Benchmark
+    public ByteBuffer writeSummaryToBuffer() {
+        summaryBuffer.clear();
+        board.getSummary()
+             .writeTo(summaryBuffer);
+        return summaryBuffer;
+    }
+
+    @Benchmark
+    public String updateScoreAndPrintSummary() {
+        board.updateScore(gameIds[nextGame()], scores[nextScore()]);
+        return board.getSummary()
+                    .toPrintableSummary();
+    }
+
+    private int nextGame() {
+        int game = nextGame;
+        nextGame = game + 1 == gameIds.length ? 0 : game + 1;
+        return game;
+    }
+
+    private int nextScore() {
+        int score = nextScore;
+        nextScore = (score + 1) & (SCORES_COUNT - 1);
+        return score;
+    }
+
+}
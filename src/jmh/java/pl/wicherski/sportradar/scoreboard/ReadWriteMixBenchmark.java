@@ -0,0 +1,95 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent readers and writers sharing one thread-safe {@link LiveScoreBoard}. Readers request summaries, writers
+ * update scores of random games.
+ * <p>
+ * Two reader to writer mixes are measured, each as a separate group - {@code balanced} with 1 reader and 1 writer, and
+ * {@code readHeavy} with 7 readers and 1 writer. Thread counts of both groups can be overridden with JMH thread groups
+ * option, which takes the numbers of readers and writers, e.g. {@code -tg 1,3} for 1 reader and 3 writers (it is not a
+ * benchmark parameter, so it applies to every group of the run - select one group with a benchmark name pattern, e.g.
+ * {@code ReadWriteMixBenchmark.balanced}).
+ * <p>
+ * By default only the lock-based, the snapshot publishing and the concurrent board are measured for two board sizes.
+ * The full matrix is run with {@code -p boardType=threadSafeBoard,instrumentedBoard,snapshotPublishingBoard,
+ * concurrentBoard,shardedBoard,cachedThreadSafeBoard,singleWriterBoard -p boardSize=10,1000,100000} (without the line
+ * break).
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Group)
+public class ReadWriteMixBenchmark {
+
+    private static final int SCORES_COUNT = 1024;
+
+    @Param({"threadSafeBoard", "snapshotPublishingBoard", "concurrentBoard"})
+    private String boardType;
+
+    @Param({"1000", "100000"})
+    private int boardSize;
+
+    private LiveScoreBoard board;
+    private GameId[] gameIds;
+    private Score[] scores;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        board = BenchmarkBoards.create(boardType);
+        gameIds = BenchmarkBoards.startGames(board, boardSize, random);
+        scores = BenchmarkBoards.randomScores(SCORES_COUNT, random);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkBoards.close(board);
+    }
+
+    @Benchmark
+    @Group("balanced")
+    @GroupThreads(1)
+    public String balancedReadSummary() {
+        return readSummary();
+    }
+
+    @Benchmark
+    @Group("balanced")
+    @GroupThreads(1)
+    public void balancedWriteScore() {
+        writeScore();
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(7)
+    public String readHeavyReadSummary() {
+        return readSummary();
+    }
+
+    @Benchmark
+    @Group("readHeavy")
+    @GroupThreads(1)
+    public void readHeavyWriteScore() {
+        writeScore();
+    }
+
+    private String readSummary() {
+        return board.getSummary()
+                    .toPrintableSummary();
+    }
+
+    private void writeScore() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        board.updateScore(gameIds[random.nextInt(gameIds.length)], scores[random.nextInt(SCORES_COUNT)]);
+    }
+
+}
@@ -0,0 +1,80 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost and lag of replicating a leader board to {@link #followers} follower boards over localhost sockets.
+ * {@link #leaderUpdate()} measures the throughput of score updates of the leader, which never waits for its followers.
+ * {@link #replicationLag()} measures the time from a score update of the leader until the last follower has applied it.
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReplicationBenchmark {
+
+    private static final int BOARD_SIZE = 1000;
+    private static final int SCORES_COUNT = 1024;
+
+    private final LiveScoreBoardFactory factory = LiveScoreBoardFactory.getInstance();
+
+    @Param({"0", "1", "2"})
+    private int followers;
+
+    private LeaderLiveScoreBoard leader;
+    private final List<FollowerLiveScoreBoard> followerBoards = new ArrayList<>();
+    private GameId[] gameIds;
+    private Score[] scores;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        leader = factory.newLeaderBoard(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        gameIds = BenchmarkBoards.startGames(leader, BOARD_SIZE, random);
+        scores = BenchmarkBoards.randomScores(SCORES_COUNT, random);
+        for (int i = 0; i < followers; i++) {
+            followerBoards.add(factory.newFollowerBoard(leader.getReplicationAddress()));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        followerBoards.forEach(FollowerLiveScoreBoard::close);
+        followerBoards.clear();
+        leader.close();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void leaderUpdate() {
+        updateNextScore();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void replicationLag() {
+        updateNextScore();
+        long sequence = leader.getLastSequence();
+        for (FollowerLiveScoreBoard follower : followerBoards) {
+            while (follower.getAppliedSequence() < sequence && follower.isConnected()) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    private void updateNextScore() {
+        int i = index++;
+        leader.updateScore(gameIds[i % BOARD_SIZE], scores[i % SCORES_COUNT]);
+    }
+
+}
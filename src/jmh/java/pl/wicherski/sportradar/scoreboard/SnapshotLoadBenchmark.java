@@ -0,0 +1,51 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time of writing a board snapshot and of creating a board from it, for each board size. Heap is sized upfront, as it
+ * would be for a service tracking that many games, so the results do not depend on growing the heap.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Thread)
+public class SnapshotLoadBenchmark {
+
+    private final LiveScoreBoardFactory factory = LiveScoreBoardFactory.getInstance();
+
+    @Param({"1000", "100000"})
+    private int boardSize;
+
+    private LiveScoreBoard board;
+    private Path snapshotFile;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        board = factory.newBoard();
+        BenchmarkBoards.startGames(board, boardSize, new Random(42));
+        snapshotFile = Files.createTempFile("score-board", ".snapshot");
+        snapshotFile.toFile()
+                    .deleteOnExit();
+        board.saveSnapshot(snapshotFile);
+    }
+
+    @Benchmark
+    public LiveScoreBoard loadSnapshot() {
+        return factory.newBoardFromSnapshot(snapshotFile);
+    }
+
+    @Benchmark
+    public void saveSnapshot() {
+        board.saveSnapshot(snapshotFile);
+    }
+
+}
@@ -0,0 +1,39 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.Optional;
+
+/**
+ * {@link LiveScoreBoard} which moves finished games into an archive instead of forgetting them, so their results can
+ * still be looked up. The archive keeps a bounded number of the most recently finished games, for a bounded time.
+ * <p>
+ * The archive has its own lock, so reading results never waits for modifications of the live games and vice versa.
+ */
+public interface ArchiveLiveScoreBoard extends LiveScoreBoard {
+
+    /**
+     * Returns the result of a finished game.
+     *
+     * @param gameId - ID the game had while it was tracked
+     * @return result of the game, empty if the game is not finished yet or it has already been evicted from the archive
+     * @throws IllegalArgumentException if the game ID is null
+     */
+    Optional<FinishedGame> getFinishedGame(GameId gameId);
+
+    /**
+     * Returns a summary of the most recently finished games, in the same format as {@link #getSummary()}, but ordered by
+     * the finish time - the most recent first.
+     *
+     * @param limit - maximum number of games in the summary
+     * @return summary of at most {@code limit} most recently finished games
+     * @throws IllegalArgumentException if limit is negative
+     */
+    ScoreSummary getLatestResults(int limit);
+
+    /**
+     * Returns statistics of the archive.
+     *
+     * @return number of retained, archived and evicted games
+     */
+    ArchiveStatistics getArchiveStatistics();
+
+}
@@ -0,0 +1,13 @@
+package pl.wicherski.sportradar.scoreboard;
+
+/**
+ * Statistics of the finished game archive.
+ *
+ * @param retainedGames number of finished games currently kept in the archive, including the ones which are already
+ *                      too old to be returned and wait for eviction
+ * @param archivedGames number of finished games archived so far
+ * @param evictedGames  number of finished games evicted so far, because the archive was full or they were too old
+ */
+public record ArchiveStatistics(int retainedGames, long archivedGames, long evictedGames) {
+
+}
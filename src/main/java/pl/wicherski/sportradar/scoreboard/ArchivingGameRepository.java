@@ -0,0 +1,54 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Decorator of {@link GameRepository} moving deleted (finished) games into {@link FinishedGameArchive}. Other operations
+ * are passed to the decorated repository as they are, so only finishing a game does additional work.
+ * <p>
+ * Repository IS NOT thread safe.
+ */
+class ArchivingGameRepository implements GameRepository {
+
+    private final GameRepository gameRepository;
+    private final FinishedGameArchive archive;
+
+    ArchivingGameRepository(GameRepository gameRepository, FinishedGameArchive archive) {
+        this.gameRepository = gameRepository;
+        this.archive = archive;
+    }
+
+    @Override
+    public void save(GameId gameId, Game game) {
+        gameRepository.save(gameId, game);
+    }
+
+    @Override
+    public void delete(GameId gameId) {
+        Optional<Game> finishedGame = gameRepository.get(gameId);
+        gameRepository.delete(gameId);
+        finishedGame.ifPresent(game -> archive.archive(gameId, game));
+    }
+
+    @Override
+    public void update(GameId gameId, Game updatedGame) {
+        gameRepository.update(gameId, updatedGame);
+    }
+
+    @Override
+    public boolean replace(GameId gameId, Game expectedGame, Game updatedGame) {
+        return gameRepository.replace(gameId, expectedGame, updatedGame);
+    }
+
+    @Override
+    public Optional<Game> get(GameId gameId) {
+        return gameRepository.get(gameId);
+    }
+
+    @Override
+    public Collection<Game> getAll() {
+        return gameRepository.getAll();
+    }
+
+}
@@ -0,0 +1,46 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.Optional;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Decorator of {@link LiveScoreBoard} answering queries about finished games from the {@link FinishedGameArchive}, which
+ * the decorated board moves its finished games to (see {@link ArchivingGameRepository}). Decorator is thread-safe if the
+ * decorated board is thread-safe.
+ */
+class ArchivingLiveScoreBoard extends ForwardingLiveScoreBoard implements ArchiveLiveScoreBoard {
+
+    private final FinishedGameArchive archive;
+    private final ScoreSummaryFactory scoreSummaryFactory;
+
+    ArchivingLiveScoreBoard(LiveScoreBoard liveScoreBoard,
+                            FinishedGameArchive archive,
+                            ScoreSummaryFactory scoreSummaryFactory) {
+        super(liveScoreBoard);
+        this.archive = archive;
+        this.scoreSummaryFactory = scoreSummaryFactory;
+    }
+
+    @Override
+    public Optional<FinishedGame> getFinishedGame(GameId gameId) {
+        if (isNull(gameId)) {
+            throw new IllegalArgumentException("Game ID cannot be null!");
+        }
+        return archive.get(gameId);
+    }
+
+    @Override
+    public ScoreSummary getLatestResults(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative! Limit=%s".formatted(limit));
+        }
+        return scoreSummaryFactory.createSummaryFor(archive.latest(limit));
+    }
+
+    @Override
+    public ArchiveStatistics getArchiveStatistics() {
+        return archive.statistics();
+    }
+
+}
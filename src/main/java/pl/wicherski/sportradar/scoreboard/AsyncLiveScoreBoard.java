@@ -0,0 +1,58 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous API of a thread-safe {@link LiveScoreBoard}. Operations return right away and the returned futures are
+ * completed once the operations are done, so calling threads never wait for locks of the board. Modifications of an
+ * {@link IngestingLiveScoreBoard} are the exception - the calling thread waits while its command ring is full.
+ * <p>
+ * Failures of the operations (e.g. {@link GameNotFoundException}) complete the returned futures exceptionally, instead
+ * of being thrown.
+ */
+public interface AsyncLiveScoreBoard {
+
+    /**
+     * Starts a game, as {@link LiveScoreBoard#startGame(String, String)} does, without waiting for it.
+     *
+     * @param homeTeam - home team name
+     * @param awayTeam - away team name
+     * @return future completed with ID of the newly created game
+     */
+    CompletableFuture<GameId> startGameAsync(String homeTeam, String awayTeam);
+
+    /**
+     * Updates a score of the tracked game, as {@link LiveScoreBoard#updateScore(GameId, Score)} does, without waiting
+     * for it.
+     *
+     * @param gameId - ID of the game to update score
+     * @param score  - new score of the game
+     * @return future completed when the score is updated, or completed exceptionally with {@link GameNotFoundException}
+     */
+    CompletableFuture<Void> updateScoreAsync(GameId gameId, Score score);
+
+    /**
+     * Finishes a game, as {@link LiveScoreBoard#finishGame(GameId)} does, without waiting for it.
+     *
+     * @param gameId - ID of the game to finish
+     * @return future completed when the game is finished
+     */
+    CompletableFuture<Void> finishGameAsync(GameId gameId);
+
+    /**
+     * Returns a summary of all tracked games, as {@link LiveScoreBoard#getSummary()} does, without waiting for it.
+     *
+     * @return future completed with the summary
+     */
+    CompletableFuture<ScoreSummary> getSummaryAsync();
+
+    /**
+     * Returns a summary of the leading tracked games, as {@link LiveScoreBoard#getSummary(int)} does, without waiting
+     * for it.
+     *
+     * @param limit - maximum number of games in the summary
+     * @return future completed with the summary
+     */
+    CompletableFuture<ScoreSummary> getSummaryAsync(int limit);
+
+}
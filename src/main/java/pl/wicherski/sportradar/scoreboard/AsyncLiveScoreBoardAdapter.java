@@ -0,0 +1,85 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * {@link AsyncLiveScoreBoard} running operations of a thread-safe {@link LiveScoreBoard} on given executor, so threads
+ * calling the board are never blocked by its locks - only threads of the executor are.
+ * <p>
+ * Operations which do not wait for locks are not passed to the executor:
+ * <ul>
+ *     <li>modifications of {@link IngestingLiveScoreBoard}, which are submitted to its writer thread directly - they wait
+ *     only when all slots of its command ring are taken, until the writer frees one (spinning, yielding and then
+ *     parking), which is the backpressure of the board against callers outpacing its writer</li>
+ *     <li>summaries of {@link IngestingLiveScoreBoard} and {@link SnapshotPublishingLiveScoreBoard}, which are read from
+ *     already published snapshots</li>
+ * </ul>
+ */
+class AsyncLiveScoreBoardAdapter implements AsyncLiveScoreBoard {
+
+    private final LiveScoreBoard liveScoreBoard;
+    private final Executor executor;
+    private final boolean publishesSummaries;
+
+    AsyncLiveScoreBoardAdapter(LiveScoreBoard liveScoreBoard, Executor executor) {
+        this.liveScoreBoard = liveScoreBoard;
+        this.executor = executor;
+        this.publishesSummaries = liveScoreBoard instanceof IngestingLiveScoreBoard
+                                  || liveScoreBoard instanceof SnapshotPublishingLiveScoreBoard;
+    }
+
+    @Override
+    public CompletableFuture<GameId> startGameAsync(String homeTeam, String awayTeam) {
+        if (liveScoreBoard instanceof IngestingLiveScoreBoard ingestingBoard) {
+            return callDirectly(() -> ingestingBoard.submitStartGame(homeTeam, awayTeam));
+        }
+        return CompletableFuture.supplyAsync(() -> liveScoreBoard.startGame(homeTeam, awayTeam), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> updateScoreAsync(GameId gameId, Score score) {
+        if (liveScoreBoard instanceof IngestingLiveScoreBoard ingestingBoard) {
+            return callDirectly(() -> ingestingBoard.submitScoreUpdate(gameId, score));
+        }
+        return CompletableFuture.runAsync(() -> liveScoreBoard.updateScore(gameId, score), executor);
+    }
+
+    @Override
+    public CompletableFuture<Void> finishGameAsync(GameId gameId) {
+        if (liveScoreBoard instanceof IngestingLiveScoreBoard ingestingBoard) {
+            return callDirectly(() -> ingestingBoard.submitFinishGame(gameId));
+        }
+        return CompletableFuture.runAsync(() -> liveScoreBoard.finishGame(gameId), executor);
+    }
+
+    @Override
+    public CompletableFuture<ScoreSummary> getSummaryAsync() {
+        if (publishesSummaries) {
+            return callDirectly(() -> CompletableFuture.completedFuture(liveScoreBoard.getSummary()));
+        }
+        return CompletableFuture.supplyAsync(liveScoreBoard::getSummary, executor);
+    }
+
+    @Override
+    public CompletableFuture<ScoreSummary> getSummaryAsync(int limit) {
+        if (publishesSummaries) {
+            return callDirectly(() -> CompletableFuture.completedFuture(liveScoreBoard.getSummary(limit)));
+        }
+        return CompletableFuture.supplyAsync(() -> liveScoreBoard.getSummary(limit), executor);
+    }
+
+    /**
+     * Calls the operation on the calling thread, turning exceptions thrown by it (e.g. of a closed board) into failed
+     * futures, as they would be if the operation was run on the executor.
+     */
+    private static <T> CompletableFuture<T> callDirectly(Supplier<CompletableFuture<T>> operation) {
+        try {
+            return operation.get();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+}
@@ -0,0 +1,25 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.List;
+
+/**
+ * Result of a batch score update.
+ *
+ * @param notFoundGameIds IDs of the games which were not updated, because they do not exist or are already finished
+ */
+public record BatchUpdateResult(List<GameId> notFoundGameIds) {
+
+    public BatchUpdateResult {
+        notFoundGameIds = List.copyOf(notFoundGameIds);
+    }
+
+    /**
+     * Returns information whether all updates from the batch were applied.
+     *
+     * @return true if every game from the batch was found and updated
+     */
+    public boolean allApplied() {
+        return notFoundGameIds.isEmpty();
+    }
+
+}
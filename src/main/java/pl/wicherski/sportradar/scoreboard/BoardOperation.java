@@ -0,0 +1,33 @@
+package pl.wicherski.sportradar.scoreboard;
+
+/**
+ * Operations of {@link LiveScoreBoard}, for which latencies are recorded by {@link InstrumentedLiveScoreBoard}.
+ */
+public enum BoardOperation {
+
+    START_GAME("startGame"),
+    FINISH_GAME("finishGame"),
+    UPDATE_SCORE("updateScore"),
+    COMPARE_AND_SET_SCORE("compareAndSetScore"),
+    UPDATE_SCORE_IF_NEWER("updateScoreIfNewer"),
+    START_GAMES("startGames"),
+    FINISH_GAMES("finishGames"),
+    UPDATE_SCORES("updateScores"),
+    GET_SUMMARY("getSummary"),
+    GET_LIMITED_SUMMARY("getLimitedSummary"),
+    SAVE_SNAPSHOT("saveSnapshot");
+
+    private final String attributeName;
+
+    BoardOperation(String attributeName) {
+        this.attributeName = attributeName;
+    }
+
+    /**
+     * Name of the operation used in keys of {@link BoardStatisticsMXBean#getOperationLatencies()}.
+     */
+    String attributeName() {
+        return attributeName;
+    }
+
+}
@@ -0,0 +1,258 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Games restored from a binary snapshot file, together with the highest sequential game ID among them, so new games
+ * can get IDs which do not collide with the restored ones, and the layout of the board which wrote the snapshot - the
+ * number of its shards and the scope of their game IDs, or zeros if the board was not sharded.
+ * <p>
+ * Snapshot file consists of a header (magic number, format version, number of shards, scope of game IDs, number of team
+ * names and number of games), a table of distinct team names (length and UTF-8 bytes of each) and fixed size game
+ * records - game ID, codes of the team names in the table, score, sequence number of the last conditional score update
+ * and creation timestamp. Sizes of all parts are known upfront, so the snapshot is written and read with a single,
+ * pre-sized buffer. Files of format version 1, without the layout, are read as snapshots of boards which are not
+ * sharded, and games of format versions 1 and 2, without score sequence numbers, are read with sequence numbers 0.
+ */
+record BoardSnapshot(Map<GameId, Game> games, long lastSequence, int shards, long idScope) {
+
+    private static final int MAGIC = 0x5342534E;
+    private static final int VERSION = 3;
+    private static final int VERSION_WITHOUT_SCORE_SEQUENCE = 2;
+    private static final int VERSION_WITHOUT_LAYOUT = 1;
+    private static final int HEADER_SIZE = 4 * Integer.BYTES;
+    private static final int LAYOUT_SIZE = Integer.BYTES + Long.BYTES;
+    private static final int GAME_SIZE_WITHOUT_SCORE_SEQUENCE = 2 * Long.BYTES + 4 * Integer.BYTES + Long.BYTES
+                                                                + Integer.BYTES;
+    private static final int GAME_SIZE = GAME_SIZE_WITHOUT_SCORE_SEQUENCE + Long.BYTES;
+
+    /**
+     * Writes all games stored in the repository of a board which is not sharded to the snapshot file.
+     *
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    static void write(Path file, GameRepository gameRepository) {
+        write(file, gameRepository, 0, 0);
+    }
+
+    /**
+     * Writes all games stored in the repository to the snapshot file, together with the layout of the board. The snapshot
+     * is written to a temporary file first and moved in place of the given file, so a previous snapshot is never left
+     * partially overwritten.
+     *
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    static void write(Path file, GameRepository gameRepository, int shards, long idScope) {
+        List<GameId> gameIds = new ArrayList<>();
+        List<Game> games = new ArrayList<>();
+        gameRepository.forEach((gameId, game) -> {
+            gameIds.add(gameId);
+            games.add(game);
+        });
+
+        Map<String, Integer> nameCodes = new HashMap<>();
+        List<byte[]> names = new ArrayList<>();
+        Function<String, Integer> addName = name -> {
+            names.add(name.getBytes(UTF_8));
+            return names.size() - 1;
+        };
+        int[] teamCodes = new int[2 * games.size()];
+        for (int i = 0; i < games.size(); i++) {
+            teamCodes[2 * i] = nameCodes.computeIfAbsent(games.get(i)
+                                                              .homeTeamName(), addName);
+            teamCodes[2 * i + 1] = nameCodes.computeIfAbsent(games.get(i)
+                                                                  .awayTeamName(), addName);
+        }
+        int namesSize = 0;
+        for (byte[] name : names) {
+            namesSize += Integer.BYTES + name.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + LAYOUT_SIZE + namesSize + games.size() * GAME_SIZE);
+        buffer.putInt(MAGIC)
+              .putInt(VERSION)
+              .putInt(shards)
+              .putLong(idScope)
+              .putInt(names.size())
+              .putInt(games.size());
+        for (byte[] name : names) {
+            buffer.putInt(name.length)
+                  .put(name);
+        }
+        for (int i = 0; i < games.size(); i++) {
+            GameId gameId = gameIds.get(i);
+            Game game = games.get(i);
+            buffer.putLong(gameId.mostSignificantBits())
+                  .putLong(gameId.leastSignificantBits())
+                  .putInt(teamCodes[2 * i])
+                  .putInt(teamCodes[2 * i + 1])
+                  .putInt(game.score()
+                              .home())
+                  .putInt(game.score()
+                              .away())
+                  .putLong(game.scoreSequence())
+                  .putLong(game.creationTimestamp()
+                               .getEpochSecond())
+                  .putInt(game.creationTimestamp()
+                              .getNano());
+        }
+        buffer.flip();
+
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, CREATE, WRITE, TRUNCATE_EXISTING)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            Files.move(temporaryFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write snapshot file %s".formatted(file), e);
+        }
+    }
+
+    /**
+     * Reads all games from the snapshot file, with a single read of the whole file. Each distinct team name is decoded
+     * once, from the names table, and shared by all games of the team. Names are not looked up in a
+     * {@link TeamNameDictionary}, as for boards of a hundred thousand games it would take more time than reading the
+     * whole file.
+     *
+     * @throws IllegalArgumentException if the file is not a snapshot or is corrupted
+     * @throws UncheckedIOException     if the file cannot be read
+     */
+    static BoardSnapshot read(Path file) {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("File is not a score board snapshot! File=%s".formatted(file));
+            }
+            buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // reads until the buffer, pre-sized to the whole file, is full
+            }
+            buffer.flip();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read snapshot file %s".formatted(file), e);
+        }
+
+        if (buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("File is not a score board snapshot! File=%s".formatted(file));
+        }
+        int version = buffer.getInt();
+        if (version != VERSION && version != VERSION_WITHOUT_SCORE_SEQUENCE && version != VERSION_WITHOUT_LAYOUT) {
+            throw new IllegalArgumentException("Unsupported snapshot format! File=%s, Version=%s".formatted(file,
+                                                                                                             version));
+        }
+        int shards = 0;
+        long idScope = 0;
+        if (version != VERSION_WITHOUT_LAYOUT) {
+            if (buffer.remaining() < LAYOUT_SIZE + 2 * Integer.BYTES) {
+                throw corrupted(file);
+            }
+            shards = buffer.getInt();
+            idScope = buffer.getLong();
+            if (shards < 0) {
+                throw corrupted(file);
+            }
+        }
+        boolean withScoreSequence = version == VERSION;
+        int gameSize = withScoreSequence ? GAME_SIZE : GAME_SIZE_WITHOUT_SCORE_SEQUENCE;
+        int namesCount = buffer.getInt();
+        int gamesCount = buffer.getInt();
+        if (namesCount < 0
+            || gamesCount < 0
+            || (long) namesCount * Integer.BYTES + (long) gamesCount * gameSize > buffer.remaining()) {
+            throw corrupted(file);
+        }
+
+        String[] names = new String[namesCount];
+        for (int code = 0; code < namesCount; code++) {
+            int length = buffer.remaining() >= Integer.BYTES ? buffer.getInt() : -1;
+            if (length < 0 || length > buffer.remaining()) {
+                throw corrupted(file);
+            }
+            names[code] = new String(buffer.array(), buffer.position(), length, UTF_8);
+            buffer.position(buffer.position() + length);
+        }
+        if (buffer.remaining() != gamesCount * gameSize) {
+            throw corrupted(file);
+        }
+
+        Map<GameId, Game> games = new HashMap<>((int) (gamesCount / 0.75f) + 1);
+        long lastSequence = 0;
+        for (int i = 0; i < gamesCount; i++) {
+            GameId gameId = GameId.of(buffer.getLong(), buffer.getLong());
+            int homeTeam = buffer.getInt();
+            int awayTeam = buffer.getInt();
+            if (homeTeam < 0 || homeTeam >= namesCount || awayTeam < 0 || awayTeam >= namesCount) {
+                throw corrupted(file);
+            }
+            Score score = Score.of(buffer.getInt(), buffer.getInt());
+            long scoreSequence = withScoreSequence ? buffer.getLong() : 0;
+            int timestampOffset = buffer.position();
+            Instant creationTimestamp;
+            try {
+                creationTimestamp = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+            } catch (DateTimeException e) {
+                throw corrupted(file, timestampOffset, e);
+            }
+            games.put(gameId, new Game(gameId,
+                                       names[homeTeam],
+                                       names[awayTeam],
+                                       score,
+                                       creationTimestamp,
+                                       RankKey.of(score, creationTimestamp),
+                                       scoreSequence));
+            if (gameId.isSequence()) {
+                lastSequence = Math.max(lastSequence, gameId.sequence());
+            }
+        }
+        return new BoardSnapshot(games, lastSequence, shards, idScope);
+    }
+
+    /**
+     * Passes all games of the snapshot to the handler, as if each of them was started and then updated to its score.
+     */
+    void replayTo(JournalEventHandler handler) {
+        Score initialScore = Score.of(0, 0);
+        games.forEach((gameId, game) -> {
+            handler.gameStarted(gameId, game.homeTeamName(), game.awayTeamName(), game.creationTimestamp());
+            if (!game.score()
+                     .equals(initialScore) || game.scoreSequence() != 0) {
+                handler.scoreUpdated(gameId, game.score(), game.scoreSequence());
+            }
+        });
+    }
+
+    private static IllegalArgumentException corrupted(Path file) {
+        return new IllegalArgumentException("Snapshot file is corrupted! File=%s".formatted(file));
+    }
+
+    private static IllegalArgumentException corrupted(Path file, int offset, Exception cause) {
+        return new IllegalArgumentException("Snapshot file is corrupted! File=%s, Offset=%s".formatted(file, offset),
+                                            cause);
+    }
+
+}
@@ -0,0 +1,27 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.Map;
+
+/**
+ * Statistics recorded by {@link InstrumentedLiveScoreBoard}. Latencies and lock times are in nanoseconds. Latencies
+ * are recorded for a random sample of operations, so their counts are counts of the timed operations. Lock times are
+ * recorded only for boards created with {@link LiveScoreBoardFactory#newInstrumentedBoard(int, boolean)} with lock times
+ * - otherwise they are empty.
+ *
+ * @param operationLatencies latencies of each operation of the board, including the time spent waiting for locks
+ * @param readLockWait       time spent by readers waiting for the read lock of the board
+ * @param readLockHold       time for which readers held the read lock of the board
+ * @param writeLockWait      time spent by writers waiting for the write lock of the board
+ * @param writeLockHold      time for which writers held the write lock of the board
+ * @param boardSize          number of games tracked by the board, as of its last full summary
+ * @param summarySizes       numbers of games in the produced summaries
+ */
+public record BoardStatistics(Map<BoardOperation, HistogramStatistics> operationLatencies,
+                              HistogramStatistics readLockWait,
+                              HistogramStatistics readLockHold,
+                              HistogramStatistics writeLockWait,
+                              HistogramStatistics writeLockHold,
+                              long boardSize,
+                              HistogramStatistics summarySizes) {
+
+}
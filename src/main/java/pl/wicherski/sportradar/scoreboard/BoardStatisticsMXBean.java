@@ -0,0 +1,31 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.Map;
+
+/**
+ * Management interface exposing {@link BoardStatistics} of {@link InstrumentedLiveScoreBoard} over JMX. Histograms are
+ * flattened into maps with keys made of the histogram name and the statistic, e.g. {@code updateScore.p99}.
+ */
+public interface BoardStatisticsMXBean {
+
+    /**
+     * @return number of games tracked by the board, as of its last full summary
+     */
+    long getBoardSize();
+
+    /**
+     * @return latencies of the board operations in nanoseconds, e.g. {@code getSummary.p99}
+     */
+    Map<String, Long> getOperationLatencies();
+
+    /**
+     * @return times of waiting for and holding the locks of the board in nanoseconds, e.g. {@code writeLockWait.p99}
+     */
+    Map<String, Long> getLockTimes();
+
+    /**
+     * @return numbers of games in the produced summaries, e.g. {@code summarySizes.max}
+     */
+    Map<String, Long> getSummarySizes();
+
+}
@@ -0,0 +1,16 @@
+package pl.wicherski.sportradar.scoreboard;
+
+/**
+ * {@link LiveScoreBoard} which caches produced {@link ScoreSummary}. As long as the board is not modified, the same
+ * summary object is returned.
+ */
+public interface CachingLiveScoreBoard extends LiveScoreBoard {
+
+    /**
+     * Returns current statistics of the summary cache.
+     *
+     * @return hits and misses of the summary cache since the board was created
+     */
+    SummaryCacheStatistics getCacheStatistics();
+
+}
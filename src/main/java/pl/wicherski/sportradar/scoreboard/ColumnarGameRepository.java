@@ -0,0 +1,170 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@link GameRepository} storing games as columns of primitive arrays (struct of arrays), indexed by the slot encoded
+ * in {@link GameId}. Scores, creation timestamps, rank keys and score sequences are kept as primitives, and team names
+ * as codes from {@link TeamNameDictionary}, so tracked games do not occupy separate objects on the heap and score
+ * updates are written in place with {@link #updateScore(GameId, Score)}.
+ * <p>
+ * {@link Game} objects are created only when games are read - they are immutable snapshots of the stored data.
+ * <p>
+ * Repository IS NOT thread safe.
+ */
+class ColumnarGameRepository implements GameRepository, GameIdGenerator {
+
+    private static final int DEFAULT_CAPACITY = 1_024;
+
+    private final SlotAllocator slotAllocator;
+    private final TeamNameDictionary teamNames;
+    private boolean[] occupied;
+    private int[] homeTeams;
+    private int[] awayTeams;
+    private int[] homeScores;
+    private int[] awayScores;
+    private long[] creationSeconds;
+    private int[] creationNanos;
+    private long[] rankKeys;
+    private long[] scoreSequences;
+
+    ColumnarGameRepository(TeamNameDictionary teamNames) {
+        this(teamNames, DEFAULT_CAPACITY);
+    }
+
+    ColumnarGameRepository(TeamNameDictionary teamNames, int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.slotAllocator = new SlotAllocator(capacity);
+        this.teamNames = teamNames;
+        occupied = new boolean[capacity];
+        homeTeams = new int[capacity];
+        awayTeams = new int[capacity];
+        homeScores = new int[capacity];
+        awayScores = new int[capacity];
+        creationSeconds = new long[capacity];
+        creationNanos = new int[capacity];
+        rankKeys = new long[capacity];
+        scoreSequences = new long[capacity];
+    }
+
+    @Override
+    public GameId next() {
+        GameId gameId = slotAllocator.allocate();
+        if (gameId.slot() >= occupied.length) {
+            grow(occupied.length * 2);
+        }
+        return gameId;
+    }
+
+    @Override
+    public void save(GameId gameId, Game game) {
+        GameRepository.requireGameId(gameId, game);
+        if (!slotAllocator.isCurrent(gameId)) {
+            throw new IllegalArgumentException("Game ID was not reserved by this repository or is stale! GameID=%s"
+                                                       .formatted(gameId));
+        }
+        int slot = gameId.slot();
+        occupied[slot] = true;
+        homeTeams[slot] = teamNames.codeOf(game.homeTeamName());
+        awayTeams[slot] = teamNames.codeOf(game.awayTeamName());
+        creationSeconds[slot] = game.creationTimestamp()
+                                    .getEpochSecond();
+        creationNanos[slot] = game.creationTimestamp()
+                                  .getNano();
+        writeScore(slot, game.score(), game.rankKey());
+        scoreSequences[slot] = game.scoreSequence();
+    }
+
+    @Override
+    public void delete(GameId gameId) {
+        if (!isStored(gameId)) {
+            return;
+        }
+        occupied[gameId.slot()] = false;
+        slotAllocator.release(gameId);
+    }
+
+    @Override
+    public void update(GameId gameId, Game updatedGame) {
+        GameRepository.requireGameId(gameId, updatedGame);
+        if (isStored(gameId)) {
+            writeScore(gameId.slot(), updatedGame.score(), updatedGame.rankKey());
+            scoreSequences[gameId.slot()] = updatedGame.scoreSequence();
+        }
+    }
+
+    /**
+     * Writes new score of the stored game in place.
+     *
+     * @return true if the game was found and updated
+     */
+    boolean updateScore(GameId gameId, Score score) {
+        if (!isStored(gameId)) {
+            return false;
+        }
+        int slot = gameId.slot();
+        writeScore(slot, score, RankKey.of(score.home(), score.away(), creationSeconds[slot], creationNanos[slot]));
+        return true;
+    }
+
+    @Override
+    public Optional<Game> get(GameId gameId) {
+        if (!isStored(gameId)) {
+            return Optional.empty();
+        }
+        return Optional.of(readGame(gameId.slot()));
+    }
+
+    @Override
+    public Collection<Game> getAll() {
+        List<Game> allGames = new ArrayList<>(slotAllocator.allocatedCount());
+        for (int slot = 0; slot < slotAllocator.highWaterMark(); slot++) {
+            if (occupied[slot]) {
+                allGames.add(readGame(slot));
+            }
+        }
+        return allGames;
+    }
+
+    private boolean isStored(GameId gameId) {
+        return slotAllocator.isCurrent(gameId) && occupied[gameId.slot()];
+    }
+
+    private void writeScore(int slot, Score score, long rankKey) {
+        homeScores[slot] = score.home();
+        awayScores[slot] = score.away();
+        rankKeys[slot] = rankKey;
+    }
+
+    private Instant creationTimestamp(int slot) {
+        return Instant.ofEpochSecond(creationSeconds[slot], creationNanos[slot]);
+    }
+
+    private Game readGame(int slot) {
+        return new Game(slotAllocator.idOf(slot),
+                        teamNames.nameOf(homeTeams[slot]),
+                        teamNames.nameOf(awayTeams[slot]),
+                        Score.of(homeScores[slot], awayScores[slot]),
+                        creationTimestamp(slot),
+                        rankKeys[slot],
+                        scoreSequences[slot]);
+    }
+
+    private void grow(int capacity) {
+        occupied = Arrays.copyOf(occupied, capacity);
+        homeTeams = Arrays.copyOf(homeTeams, capacity);
+        awayTeams = Arrays.copyOf(awayTeams, capacity);
+        homeScores = Arrays.copyOf(homeScores, capacity);
+        awayScores = Arrays.copyOf(awayScores, capacity);
+        creationSeconds = Arrays.copyOf(creationSeconds, capacity);
+        creationNanos = Arrays.copyOf(creationNanos, capacity);
+        rankKeys = Arrays.copyOf(rankKeys, capacity);
+        scoreSequences = Arrays.copyOf(scoreSequences, capacity);
+    }
+
+}
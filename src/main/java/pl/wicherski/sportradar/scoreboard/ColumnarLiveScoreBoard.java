@@ -0,0 +1,27 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.Comparator;
+
+/**
+ * {@link LiveScoreBoardImpl} variant backed by {@link ColumnarGameRepository}. Scores are written into the repository
+ * columns in place, without reading the game and creating its updated copy.
+ */
+class ColumnarLiveScoreBoard extends LiveScoreBoardImpl {
+
+    private final ColumnarGameRepository gameRepository;
+
+    ColumnarLiveScoreBoard(ColumnarGameRepository gameRepository,
+                           TimeProvider timeProvider,
+                           ScoreSummaryFactory scoreSummaryFactory,
+                           Comparator<Game> gamesSortingComparator,
+                           TeamNameDictionary teamNames) {
+        super(gameRepository, timeProvider, scoreSummaryFactory, gamesSortingComparator, gameRepository, teamNames);
+        this.gameRepository = gameRepository;
+    }
+
+    @Override
+    boolean applyScore(GameId gameId, Score score) {
+        return gameRepository.updateScore(gameId, score);
+    }
+
+}
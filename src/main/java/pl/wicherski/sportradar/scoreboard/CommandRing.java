@@ -0,0 +1,192 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Bounded ring of preallocated slots, filled by many producer threads and drained by a single consumer thread.
+ * <p>
+ * Each command gets a sequence number. Producer claims the next sequence, fills the slot of the sequence and publishes
+ * it. Consumer reads published slots in order of their sequences and releases them, once it no longer needs their
+ * content. Slots are reused, so passing a command through the ring does not allocate. When all slots are taken,
+ * producers wait until the consumer releases some of them - the ring never grows.
+ * <p>
+ * The ring can be closed by claiming its last sequence - later claims fail, while all commands claimed before are still
+ * published and consumed.
+ */
+final class CommandRing<T> {
+
+    private static final long CLOSED = 1L << 62;
+    private static final int CONSUMER_SPINS = 256;
+    private static final int PRODUCER_SPINS = 64;
+    private static final int PRODUCER_YIELDS = 64;
+    private static final long PRODUCER_PARK_NANOS = 1_000;
+
+    private final Object[] slots;
+    private final AtomicLongArray publishedSequences;
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private volatile long releasedSequence;
+    private volatile Thread consumer;
+    private volatile boolean consumerParked;
+
+    CommandRing(int capacity, Supplier<T> slotFactory) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity has to be a positive power of 2! Capacity=%s".formatted(capacity));
+        }
+        slots = new Object[capacity];
+        publishedSequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = slotFactory.get();
+            publishedSequences.set(i, -1);
+        }
+        mask = capacity - 1;
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Claims the next sequence, waiting until its slot is released by the consumer.
+     *
+     * @return claimed sequence
+     * @throws IllegalStateException if the ring is closed
+     */
+    long claim() {
+        while (true) {
+            long sequence = nextSequence.get();
+            if ((sequence & CLOSED) != 0) {
+                throw new IllegalStateException("Command ring is closed!");
+            }
+            if (nextSequence.compareAndSet(sequence, sequence + 1)) {
+                awaitSlot(sequence);
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * Claims the next sequence only if its slot is already released, so it never waits - e.g. for the consumer thread,
+     * which would wait for itself.
+     *
+     * @return claimed sequence, or -1 if all slots are taken
+     * @throws IllegalStateException if the ring is closed
+     */
+    long tryClaim() {
+        while (true) {
+            long sequence = nextSequence.get();
+            if ((sequence & CLOSED) != 0) {
+                throw new IllegalStateException("Command ring is closed!");
+            }
+            if (sequence - releasedSequence >= slots.length) {
+                return -1;
+            }
+            if (nextSequence.compareAndSet(sequence, sequence + 1)) {
+                return sequence;
+            }
+        }
+    }
+
+    /**
+     * Claims the last sequence and closes the ring, waiting until its slot is released by the consumer.
+     *
+     * @return claimed sequence, or -1 if the ring has already been closed
+     */
+    long claimLast() {
+        while (true) {
+            long sequence = nextSequence.get();
+            if ((sequence & CLOSED) != 0) {
+                return -1;
+            }
+            if (nextSequence.compareAndSet(sequence, sequence | CLOSED)) {
+                awaitSlot(sequence);
+                return sequence;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    T slot(long sequence) {
+        return (T) slots[(int) sequence & mask];
+    }
+
+    /**
+     * Makes the filled slot of claimed sequence visible to the consumer, waking it up if it waits for the sequence.
+     */
+    void publish(long sequence) {
+        publishedSequences.set((int) sequence & mask, sequence);
+        if (consumerParked) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    boolean isPublished(long sequence) {
+        return publishedSequences.get((int) sequence & mask) == sequence;
+    }
+
+    /**
+     * Waits until the sequence is published. Consumer spins for a short while first, so a busy ring does not pay for
+     * parking and unparking of the consumer thread.
+     */
+    void awaitPublished(long sequence) {
+        awaitPublished(sequence, Long.MAX_VALUE);
+    }
+
+    /**
+     * Waits until the sequence is published, as {@link #awaitPublished(long)} does, but not longer than given time.
+     *
+     * @return true if the sequence is published, false if the time has elapsed
+     */
+    boolean awaitPublished(long sequence, long timeoutNanos) {
+        for (int i = 0; i < CONSUMER_SPINS; i++) {
+            if (isPublished(sequence)) {
+                return true;
+            }
+            Thread.onSpinWait();
+        }
+        long deadline = System.nanoTime() + Math.min(timeoutNanos, Long.MAX_VALUE / 2);
+        consumer = Thread.currentThread();
+        while (!isPublished(sequence)) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                return false;
+            }
+            consumerParked = true;
+            // producers check the flag after publishing, so the sequence is checked again after setting it
+            if (!isPublished(sequence)) {
+                LockSupport.parkNanos(this, remainingNanos);
+            }
+            consumerParked = false;
+        }
+        return true;
+    }
+
+    /**
+     * Releases slots of all sequences lower than given one, so producers can reuse them.
+     */
+    void release(long sequence) {
+        releasedSequence = sequence;
+    }
+
+    /**
+     * Waits for the consumer to release the slot of given sequence - spinning first, then yielding the processor, so the
+     * consumer can run even if there are more producers than processors, and parking at last.
+     */
+    private void awaitSlot(long sequence) {
+        int attempts = 0;
+        while (sequence - releasedSequence >= slots.length) {
+            if (attempts < PRODUCER_SPINS) {
+                Thread.onSpinWait();
+            } else if (attempts < PRODUCER_SPINS + PRODUCER_YIELDS) {
+                Thread.yield();
+            } else {
+                LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+            }
+            attempts++;
+        }
+    }
+
+}
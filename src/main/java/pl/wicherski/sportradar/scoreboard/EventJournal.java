@@ -0,0 +1,450 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Append-only journal of board events (game started, score updated, game finished), stored in a memory-mapped file.
+ * <p>
+ * The file starts with a header (magic number, format version and region size) and is mapped in regions of fixed size.
+ * Each event is a single record: a type byte followed by event data. The type byte is written after the data, so a
+ * record interrupted by a crash is left with zero type, which marks the end of the journal. Records never span
+ * regions - a region which cannot fit the next record is closed with an end of region marker. Score updates carry the
+ * sequence number of the last conditional update of the game, so it is restored together with the score. Journals of
+ * format version 1, whose score updates have no sequence number, are read with sequence numbers 0 and marked as
+ * version 2 before new events are appended.
+ * <p>
+ * Appending an event only copies it to the mapped memory, which survives a crash of the JVM. Mapped regions are forced
+ * to the storage device by a background thread once per flush interval (group commit), so a single force covers all
+ * events appended since the previous one and appending threads never wait for the device. A crash of the operating
+ * system may lose events appended during the last flush interval.
+ * <p>
+ * Journal is thread-safe.
+ */
+final class EventJournal implements AutoCloseable {
+
+    static final int DEFAULT_REGION_SIZE = 1 << 20;
+
+    private static final int MAGIC = 0x53424A4C;
+    private static final int VERSION = 2;
+    private static final int VERSION_WITHOUT_SCORE_SEQUENCE = 1;
+    private static final int HEADER_SIZE = 3 * Integer.BYTES;
+    private static final int MIN_REGION_SIZE = 256;
+
+    private static final byte END_OF_JOURNAL = 0;
+    private static final byte GAME_STARTED = 1;
+    private static final byte SCORE_UPDATED_WITHOUT_SEQUENCE = 2;
+    private static final byte GAME_FINISHED = 3;
+    private static final byte END_OF_REGION = 4;
+    private static final byte SCORE_UPDATED = 5;
+
+    private static final int GAME_ID_SIZE = 2 * Long.BYTES;
+    private static final int GAME_STARTED_FIXED_SIZE = 1 + GAME_ID_SIZE + Long.BYTES + 3 * Integer.BYTES;
+    private static final int SCORE_UPDATED_SIZE = 1 + GAME_ID_SIZE + 2 * Integer.BYTES + Long.BYTES;
+    private static final int GAME_FINISHED_SIZE = 1 + GAME_ID_SIZE;
+
+    private final Path file;
+    private final FileChannel channel;
+    private final int regionSize;
+    private final Lock appendLock = new ReentrantLock();
+    private final List<MappedByteBuffer> fullRegions = new ArrayList<>();
+    private final ScheduledExecutorService flusher;
+    private final JournalReplayStatistics replayStatistics;
+    private MappedByteBuffer region;
+    private long regionStart;
+    private boolean unflushed;
+    private boolean closed;
+    private volatile UncheckedIOException flushFailure;
+
+    private EventJournal(Path file,
+                         FileChannel channel,
+                         Duration flushInterval,
+                         int regionSize,
+                         JournalEventHandler handler) throws IOException {
+        this.file = file;
+        this.channel = channel;
+        if (channel.size() == 0) {
+            this.regionSize = regionSize;
+            region = channel.map(READ_WRITE, 0, regionSize);
+            region.putInt(MAGIC)
+                  .putInt(VERSION)
+                  .putInt(regionSize);
+            region.force();
+            replayStatistics = new JournalReplayStatistics(0, 0, Duration.ZERO);
+        } else {
+            this.regionSize = readHeader();
+            region = channel.map(READ_WRITE, 0, this.regionSize);
+            if (region.getInt(Integer.BYTES) != VERSION) {
+                region.putInt(Integer.BYTES, VERSION);
+                region.force();
+            }
+            region.position(HEADER_SIZE);
+            replayStatistics = replay(handler);
+        }
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "score-board-journal-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long flushIntervalNanos = flushInterval.toNanos();
+        flusher.scheduleWithFixedDelay(this::flushInBackground,
+                                       flushIntervalNanos,
+                                       flushIntervalNanos,
+                                       TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Opens the journal stored in given file, creating the file if it does not exist. Events already stored in the file
+     * are passed to the handler before this method returns, and new events are appended after them.
+     *
+     * @param file          - file of the journal
+     * @param flushInterval - how often appended events are forced to the storage device
+     * @param handler       - receiver of the events already stored in the file
+     * @return opened journal
+     * @throws IllegalArgumentException if the file exists and is not a journal
+     * @throws UncheckedIOException     if the file cannot be read or mapped
+     */
+    static EventJournal open(Path file, Duration flushInterval, JournalEventHandler handler) {
+        return open(file, flushInterval, DEFAULT_REGION_SIZE, handler);
+    }
+
+    /**
+     * Opens the journal as {@link #open(Path, Duration, JournalEventHandler)} does, mapping a new file in regions of given
+     * size. Region size of an existing file is read from its header.
+     */
+    static EventJournal open(Path file, Duration flushInterval, int regionSize, JournalEventHandler handler) {
+        if (isNull(file) || isNull(flushInterval) || isNull(handler)) {
+            throw new IllegalArgumentException("File, flush interval and handler cannot be null! File=%s, FlushInterval=%s".formatted(
+                    file,
+                    flushInterval));
+        }
+        if (flushInterval.isNegative() || flushInterval.isZero()) {
+            throw new IllegalArgumentException("Flush interval has to be positive! FlushInterval=%s".formatted(
+                    flushInterval));
+        }
+        if (regionSize < MIN_REGION_SIZE) {
+            throw new IllegalArgumentException("Region size cannot be smaller than %s! RegionSize=%s".formatted(
+                    MIN_REGION_SIZE,
+                    regionSize));
+        }
+
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(file, CREATE, READ, WRITE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open journal file %s".formatted(file), e);
+        }
+        try {
+            return new EventJournal(file, channel, flushInterval, regionSize, handler);
+        } catch (IOException e) {
+            closeAfterFailure(channel, e);
+            throw new UncheckedIOException("Cannot read journal file %s".formatted(file), e);
+        } catch (RuntimeException e) {
+            closeAfterFailure(channel, e);
+            throw e;
+        }
+    }
+
+    JournalReplayStatistics replayStatistics() {
+        return replayStatistics;
+    }
+
+    void appendGameStarted(GameId gameId, String homeTeam, String awayTeam, Instant creationTimestamp) {
+        byte[] homeTeamBytes = homeTeam.getBytes(UTF_8);
+        byte[] awayTeamBytes = awayTeam.getBytes(UTF_8);
+        appendLock.lock();
+        try {
+            int position = reserve(GAME_STARTED_FIXED_SIZE + homeTeamBytes.length + awayTeamBytes.length);
+            putGameId(gameId);
+            region.putLong(creationTimestamp.getEpochSecond())
+                  .putInt(creationTimestamp.getNano())
+                  .putInt(homeTeamBytes.length)
+                  .put(homeTeamBytes)
+                  .putInt(awayTeamBytes.length)
+                  .put(awayTeamBytes);
+            commit(position, GAME_STARTED);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    void appendScoreUpdated(GameId gameId, Score score, long scoreSequence) {
+        appendLock.lock();
+        try {
+            int position = reserve(SCORE_UPDATED_SIZE);
+            putGameId(gameId);
+            region.putInt(score.home())
+                  .putInt(score.away())
+                  .putLong(scoreSequence);
+            commit(position, SCORE_UPDATED);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    void appendGameFinished(GameId gameId) {
+        appendLock.lock();
+        try {
+            int position = reserve(GAME_FINISHED_SIZE);
+            putGameId(gameId);
+            commit(position, GAME_FINISHED);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Drops all appended events, e.g. after the state they lead to was written to a snapshot, so new events are appended
+     * from the beginning of the journal again and the file is shrunk to a single region.
+     *
+     * @throws UncheckedIOException if the file cannot be written
+     */
+    synchronized void truncate() {
+        appendLock.lock();
+        try {
+            if (closed) {
+                throw new IllegalStateException("Journal is closed! File=%s".formatted(file));
+            }
+            fullRegions.clear();
+            regionStart = 0;
+            region = channel.map(READ_WRITE, 0, regionSize);
+            // the first record is cleared and forced before the others, so a crash in the middle of clearing leaves an
+            // empty journal rather than a part of the dropped events
+            region.put(HEADER_SIZE, END_OF_JOURNAL);
+            region.force();
+            region.position(HEADER_SIZE);
+            clearRemainingRegion();
+            region.force();
+            channel.truncate(regionSize);
+            unflushed = false;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot truncate journal file %s".formatted(file), e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Forces all appended events to the storage device, without waiting for the next flush interval.
+     *
+     * @throws UncheckedIOException if forcing events failed, now or in the background
+     */
+    synchronized void flush() {
+        throwIfFlushFailed();
+        force(takeRegionsToForce(false));
+    }
+
+    /**
+     * Forces all appended events to the storage device and closes the file. Appending to a closed journal is not allowed.
+     */
+    @Override
+    public synchronized void close() {
+        flusher.shutdown();
+        try {
+            force(takeRegionsToForce(true));
+        } finally {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot close journal file %s".formatted(file), e);
+            }
+        }
+        throwIfFlushFailed();
+    }
+
+    private int readHeader() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        header.flip();
+        if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+            throw new IllegalArgumentException("File is not a score board journal! File=%s".formatted(file));
+        }
+        int version = header.getInt();
+        int storedRegionSize = header.getInt();
+        if ((version != VERSION && version != VERSION_WITHOUT_SCORE_SEQUENCE) || storedRegionSize < MIN_REGION_SIZE) {
+            throw new IllegalArgumentException("Unsupported journal format! File=%s, Version=%s, RegionSize=%s".formatted(
+                    file,
+                    version,
+                    storedRegionSize));
+        }
+        return storedRegionSize;
+    }
+
+    private JournalReplayStatistics replay(JournalEventHandler handler) throws IOException {
+        long startNanos = System.nanoTime();
+        long events = 0;
+        while (true) {
+            int position = region.position();
+            byte type = region.hasRemaining() ? region.get(position) : END_OF_REGION;
+            if (type == END_OF_JOURNAL) {
+                break;
+            }
+            if (type == END_OF_REGION) {
+                mapNextRegion();
+                continue;
+            }
+
+            region.position(position + 1);
+            GameId gameId = GameId.of(region.getLong(), region.getLong());
+            switch (type) {
+                case GAME_STARTED -> {
+                    Instant creationTimestamp = Instant.ofEpochSecond(region.getLong(), region.getInt());
+                    String homeTeam = getString();
+                    String awayTeam = getString();
+                    handler.gameStarted(gameId, homeTeam, awayTeam, creationTimestamp);
+                }
+                case SCORE_UPDATED -> handler.scoreUpdated(gameId,
+                                                           Score.of(region.getInt(), region.getInt()),
+                                                           region.getLong());
+                case SCORE_UPDATED_WITHOUT_SEQUENCE -> handler.scoreUpdated(gameId,
+                                                                            Score.of(region.getInt(), region.getInt()),
+                                                                            0);
+                case GAME_FINISHED -> handler.gameFinished(gameId);
+                default -> throw new IllegalStateException("Corrupted journal record! File=%s, Type=%s, Offset=%s".formatted(
+                        file,
+                        type,
+                        regionStart + position));
+            }
+            events++;
+        }
+        clearRemainingRegion();
+        return new JournalReplayStatistics(events,
+                                           regionStart + region.position() - HEADER_SIZE,
+                                           Duration.ofNanos(System.nanoTime() - startNanos));
+    }
+
+    private String getString() {
+        byte[] bytes = new byte[region.getInt()];
+        region.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Zeroes leftovers of a record interrupted by a crash, so they are not read as a part of the records appended later.
+     */
+    private void clearRemainingRegion() {
+        int position = region.position();
+        while (region.hasRemaining()) {
+            region.put(END_OF_JOURNAL);
+        }
+        region.position(position);
+    }
+
+    /**
+     * Makes room for a record in the current region, moving to the next region if needed.
+     *
+     * @return position of the record type, which has to be written with {@link #commit(int, byte)}
+     */
+    private int reserve(int recordSize) {
+        if (closed) {
+            throw new IllegalStateException("Journal is closed! File=%s".formatted(file));
+        }
+        if (recordSize > regionSize - HEADER_SIZE) {
+            throw new IllegalArgumentException("Event does not fit in journal region! EventSize=%s, RegionSize=%s".formatted(
+                    recordSize,
+                    regionSize));
+        }
+        if (region.remaining() < recordSize) {
+            if (region.hasRemaining()) {
+                region.put(region.position(), END_OF_REGION);
+            }
+            fullRegions.add(region);
+            try {
+                mapNextRegion();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot extend journal file %s".formatted(file), e);
+            }
+        }
+        int position = region.position();
+        region.position(position + 1);
+        return position;
+    }
+
+    private void commit(int position, byte type) {
+        region.put(position, type);
+        unflushed = true;
+    }
+
+    private void putGameId(GameId gameId) {
+        region.putLong(gameId.mostSignificantBits())
+              .putLong(gameId.leastSignificantBits());
+    }
+
+    private void mapNextRegion() throws IOException {
+        regionStart += regionSize;
+        region = channel.map(READ_WRITE, regionStart, regionSize);
+    }
+
+    private List<MappedByteBuffer> takeRegionsToForce(boolean close) {
+        appendLock.lock();
+        try {
+            if (closed) {
+                return List.of();
+            }
+            closed = close;
+            List<MappedByteBuffer> regionsToForce = new ArrayList<>(fullRegions);
+            fullRegions.clear();
+            if (unflushed) {
+                regionsToForce.add(region);
+                unflushed = false;
+            }
+            return regionsToForce;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    private void force(List<MappedByteBuffer> regionsToForce) {
+        try {
+            regionsToForce.forEach(MappedByteBuffer::force);
+        } catch (UncheckedIOException e) {
+            flushFailure = e;
+            throw e;
+        }
+    }
+
+    private void flushInBackground() {
+        try {
+            flush();
+        } catch (UncheckedIOException e) {
+            // remembered in flushFailure and reported by the next flush or close
+        }
+    }
+
+    private void throwIfFlushFailed() {
+        UncheckedIOException failure = flushFailure;
+        if (nonNull(failure)) {
+            throw failure;
+        }
+    }
+
+    private static void closeAfterFailure(FileChannel channel, Exception failure) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            failure.addSuppressed(e);
+        }
+    }
+
+}
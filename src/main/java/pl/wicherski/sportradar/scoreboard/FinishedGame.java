@@ -0,0 +1,22 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.time.Instant;
+
+/**
+ * Result of a finished game, kept in the archive of {@link ArchiveLiveScoreBoard}.
+ *
+ * @param gameId          ID the game had while it was tracked
+ * @param homeTeam        home team name
+ * @param awayTeam        away team name
+ * @param score           final score of the game
+ * @param startTimestamp  time the game was started
+ * @param finishTimestamp time the game was finished
+ */
+public record FinishedGame(GameId gameId,
+                           String homeTeam,
+                           String awayTeam,
+                           Score score,
+                           Instant startTimestamp,
+                           Instant finishTimestamp) {
+
+}
@@ -0,0 +1,201 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Bounded store of finished games. Games are kept in a ring buffer in the order they were finished - in columns of IDs,
+ * games and finish times - together with an open-addressing index from game ID to the position in the buffer, so
+ * archiving a game, looking it up and listing the latest results do not depend on the number of archived games
+ * (besides the length of the list). Archiving a game does not allocate memory, so the archive does not add garbage to
+ * finishing a game, and only the finished games themselves are retained.
+ * <p>
+ * When the buffer is full, archiving a game evicts the oldest one. Games finished longer than the retention ago are not
+ * returned anymore and are evicted when the next game is archived - as games are archived in the finish order, they are
+ * always at the oldest end of the buffer. Finish times are kept with millisecond precision.
+ * <p>
+ * Archive is thread-safe. It is guarded by its own read-write lock, independent of the lock of the board.
+ */
+class FinishedGameArchive {
+
+    private static final int NO_POSITION = -1;
+
+    private final GameId[] gameIds;
+    private final Game[] games;
+    private final long[] finishMillis;
+    private final int[] index;
+    private final int indexMask;
+    private final int indexShift;
+    private final long retentionMillis;
+    private final TimeProvider timeProvider;
+    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    private int oldest;
+    private int size;
+    private long lastFinishMillis = Long.MIN_VALUE;
+    private long archivedGames;
+    private long evictedGames;
+
+    FinishedGameArchive(int capacity, Duration retention, TimeProvider timeProvider) {
+        this.gameIds = new GameId[capacity];
+        this.games = new Game[capacity];
+        this.finishMillis = new long[capacity];
+        // at most half of the index is used, so probe sequences stay short
+        this.index = new int[Integer.highestOneBit(Math.max(1, capacity)) << 2];
+        this.indexMask = index.length - 1;
+        this.indexShift = Integer.numberOfLeadingZeros(indexMask);
+        this.retentionMillis = retention.toMillis();
+        this.timeProvider = timeProvider;
+    }
+
+    /**
+     * Archives the game as finished now.
+     */
+    void archive(GameId gameId, Game game) {
+        long now = timeProvider.now()
+                               .toEpochMilli();
+        Lock writeLock = readWriteLock.writeLock();
+        try {
+            writeLock.lock();
+            evictExpired(now - retentionMillis);
+            if (size == games.length) {
+                evictOldest();
+            }
+            int position = (oldest + size) % games.length;
+            gameIds[position] = gameId;
+            games[position] = game;
+            // finish times never go back, so the buffer stays ordered by them
+            lastFinishMillis = Math.max(now, lastFinishMillis);
+            finishMillis[position] = lastFinishMillis;
+            indexPosition(gameId, position);
+            size++;
+            archivedGames++;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    Optional<FinishedGame> get(GameId gameId) {
+        long cutoff = timeProvider.now()
+                                  .toEpochMilli() - retentionMillis;
+        Lock readLock = readWriteLock.readLock();
+        try {
+            readLock.lock();
+            int position = positionOf(gameId);
+            if (position == NO_POSITION || finishMillis[position] < cutoff) {
+                return Optional.empty();
+            }
+            Game game = games[position];
+            return Optional.of(new FinishedGame(gameId,
+                                                game.homeTeamName(),
+                                                game.awayTeamName(),
+                                                game.score(),
+                                                game.creationTimestamp(),
+                                                Instant.ofEpochMilli(finishMillis[position])));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * @return most recently finished games, the most recent first
+     */
+    List<Game> latest(int limit) {
+        long cutoff = timeProvider.now()
+                                  .toEpochMilli() - retentionMillis;
+        Lock readLock = readWriteLock.readLock();
+        try {
+            readLock.lock();
+            List<Game> latestGames = new ArrayList<>(Math.min(limit, size));
+            for (int i = size - 1; i >= 0 && latestGames.size() < limit; i--) {
+                int position = (oldest + i) % games.length;
+                if (finishMillis[position] < cutoff) {
+                    break;
+                }
+                latestGames.add(games[position]);
+            }
+            return latestGames;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    ArchiveStatistics statistics() {
+        Lock readLock = readWriteLock.readLock();
+        try {
+            readLock.lock();
+            return new ArchiveStatistics(size, archivedGames, evictedGames);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private void evictExpired(long cutoff) {
+        while (size > 0 && finishMillis[oldest] < cutoff) {
+            evictOldest();
+        }
+    }
+
+    private void evictOldest() {
+        removeFromIndex(oldest);
+        gameIds[oldest] = null;
+        games[oldest] = null;
+        oldest = (oldest + 1) % games.length;
+        size--;
+        evictedGames++;
+    }
+
+    /**
+     * Fibonacci hashing - takes the highest bits of the multiplied hash, which depend on all bits of the hash.
+     */
+    private int slotOf(GameId gameId) {
+        return gameId.hashCode() * 0x9E3779B9 >>> indexShift;
+    }
+
+    /**
+     * Index keeps positions shifted by one, so 0 marks an empty slot.
+     */
+    private void indexPosition(GameId gameId, int position) {
+        int slot = slotOf(gameId);
+        while (index[slot] != 0) {
+            slot = slot + 1 & indexMask;
+        }
+        index[slot] = position + 1;
+    }
+
+    private int positionOf(GameId gameId) {
+        for (int slot = slotOf(gameId); index[slot] != 0; slot = slot + 1 & indexMask) {
+            int position = index[slot] - 1;
+            if (gameIds[position].equals(gameId)) {
+                return position;
+            }
+        }
+        return NO_POSITION;
+    }
+
+    /**
+     * Removes the position from the index and shifts the following entries of its probe sequence back, so lookups do
+     * not need tombstones.
+     */
+    private void removeFromIndex(int position) {
+        int hole = slotOf(gameIds[position]);
+        while (index[hole] != position + 1) {
+            hole = hole + 1 & indexMask;
+        }
+        for (int slot = hole + 1 & indexMask; index[slot] != 0; slot = slot + 1 & indexMask) {
+            int homeSlot = slotOf(gameIds[index[slot] - 1]);
+            // entry can fill the hole only if its home slot is not between the hole and the entry
+            if ((slot - homeSlot & indexMask) >= (slot - hole & indexMask)) {
+                index[hole] = index[slot];
+                hole = slot;
+            }
+        }
+        index[hole] = 0;
+    }
+
+}
@@ -0,0 +1,29 @@
+package pl.wicherski.sportradar.scoreboard;
+
+/**
+ * Read-only copy of a {@link LeaderLiveScoreBoard}, kept up to date with the modifications streamed by the leader.
+ * Summaries of the follower may lag behind the leader - see {@link #getAppliedSequence()}. Modifying operations and
+ * subscriptions are not supported and throw {@link UnsupportedOperationException}.
+ * <p>
+ * The board has to be closed to disconnect from the leader. When the leader disconnects, the board keeps the games
+ * received so far.
+ */
+public interface FollowerLiveScoreBoard extends LiveScoreBoard, AutoCloseable {
+
+    /**
+     * @return sequence number of the last leader modification applied to this board
+     */
+    long getAppliedSequence();
+
+    /**
+     * @return true if the board is still receiving modifications from the leader
+     */
+    boolean isConnected();
+
+    /**
+     * Disconnects from the leader. The board still returns the last received summaries.
+     */
+    @Override
+    void close();
+
+}
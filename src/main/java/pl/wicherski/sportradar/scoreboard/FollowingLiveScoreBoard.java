@@ -0,0 +1,104 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link FollowerLiveScoreBoard} reading from a board which is modified only by {@link ReplicationClient}. The client
+ * applies the replicated events under the write lock of the read board, so summaries never include a part of a batch.
+ */
+class FollowingLiveScoreBoard implements FollowerLiveScoreBoard {
+
+    private final LiveScoreBoard liveScoreBoard;
+    private final ReplicationClient client;
+
+    FollowingLiveScoreBoard(LiveScoreBoard liveScoreBoard, ReplicationClient client) {
+        this.liveScoreBoard = liveScoreBoard;
+        this.client = client;
+    }
+
+    @Override
+    public GameId startGame(String homeTeam, String awayTeam) {
+        throw readOnly();
+    }
+
+    @Override
+    public void finishGame(GameId gameId) {
+        throw readOnly();
+    }
+
+    @Override
+    public void updateScore(GameId gameId, Score score) throws GameNotFoundException {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean compareAndSetScore(GameId gameId, Score expectedScore, Score newScore) throws GameNotFoundException {
+        throw readOnly();
+    }
+
+    @Override
+    public boolean updateScoreIfNewer(GameId gameId, long sequence, Score score) throws GameNotFoundException {
+        throw readOnly();
+    }
+
+    @Override
+    public List<GameId> startGames(List<Teams> teams) {
+        throw readOnly();
+    }
+
+    @Override
+    public void finishGames(Collection<GameId> gameIds) {
+        throw readOnly();
+    }
+
+    @Override
+    public BatchUpdateResult updateScores(Map<GameId, Score> scores) {
+        throw readOnly();
+    }
+
+    @Override
+    public ScoreSummary getSummary() {
+        return liveScoreBoard.getSummary();
+    }
+
+    @Override
+    public ScoreSummary getSummary(int limit) {
+        return liveScoreBoard.getSummary(limit);
+    }
+
+    @Override
+    public void saveSnapshot(Path file) {
+        liveScoreBoard.saveSnapshot(file);
+    }
+
+    /**
+     * Replicated events are applied directly to the games, so the board does not publish them.
+     */
+    @Override
+    public Subscription subscribe(ScoreEventListener listener) {
+        throw new UnsupportedOperationException("Follower board does not publish score events!");
+    }
+
+    @Override
+    public long getAppliedSequence() {
+        return client.appliedSequence();
+    }
+
+    @Override
+    public boolean isConnected() {
+        return client.isConnected();
+    }
+
+    @Override
+    public void close() {
+        client.close();
+    }
+
+    private static UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Follower board is read-only!");
+    }
+
+}
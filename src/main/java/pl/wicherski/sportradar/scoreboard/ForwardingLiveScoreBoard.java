@@ -0,0 +1,81 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base of {@link LiveScoreBoard} decorators, which forwards all operations to the decorated board - including the batch
+ * ones, so batches are still applied atomically if the decorated board does so. Decorators override only the
+ * operations they change. Forwarding board is thread-safe if the decorated board is thread-safe.
+ */
+abstract class ForwardingLiveScoreBoard implements LiveScoreBoard {
+
+    private final LiveScoreBoard liveScoreBoard;
+
+    ForwardingLiveScoreBoard(LiveScoreBoard liveScoreBoard) {
+        this.liveScoreBoard = liveScoreBoard;
+    }
+
+    @Override
+    public GameId startGame(String homeTeam, String awayTeam) {
+        return liveScoreBoard.startGame(homeTeam, awayTeam);
+    }
+
+    @Override
+    public void finishGame(GameId gameId) {
+        liveScoreBoard.finishGame(gameId);
+    }
+
+    @Override
+    public void updateScore(GameId gameId, Score score) throws GameNotFoundException {
+        liveScoreBoard.updateScore(gameId, score);
+    }
+
+    @Override
+    public boolean compareAndSetScore(GameId gameId, Score expectedScore, Score newScore) throws GameNotFoundException {
+        return liveScoreBoard.compareAndSetScore(gameId, expectedScore, newScore);
+    }
+
+    @Override
+    public boolean updateScoreIfNewer(GameId gameId, long sequence, Score score) throws GameNotFoundException {
+        return liveScoreBoard.updateScoreIfNewer(gameId, sequence, score);
+    }
+
+    @Override
+    public List<GameId> startGames(List<Teams> teams) {
+        return liveScoreBoard.startGames(teams);
+    }
+
+    @Override
+    public void finishGames(Collection<GameId> gameIds) {
+        liveScoreBoard.finishGames(gameIds);
+    }
+
+    @Override
+    public BatchUpdateResult updateScores(Map<GameId, Score> scores) {
+        return liveScoreBoard.updateScores(scores);
+    }
+
+    @Override
+    public ScoreSummary getSummary() {
+        return liveScoreBoard.getSummary();
+    }
+
+    @Override
+    public ScoreSummary getSummary(int limit) {
+        return liveScoreBoard.getSummary(limit);
+    }
+
+    @Override
+    public void saveSnapshot(Path file) {
+        liveScoreBoard.saveSnapshot(file);
+    }
+
+    @Override
+    public Subscription subscribe(ScoreEventListener listener) {
+        return liveScoreBoard.subscribe(listener);
+    }
+
+}
@@ -2,10 +2,44 @@ package pl.wicherski.sportradar.scoreboard;
 
 import java.time.Instant;
 
-record Game(String homeTeamName, String awayTeamName, Score score, Instant creationTimestamp) {
+/**
+ * Tracked game, together with its ID, so the game can be identified in summaries. Besides its data, the game carries
+ * precomputed {@link RankKey}, which is kept in step with the score, and the sequence number of the last score update
+ * applied with {@link LiveScoreBoard#updateScoreIfNewer(GameId, long, Score)} - 0 if there was none.
+ */
+record Game(GameId gameId,
+            String homeTeamName,
+            String awayTeamName,
+            Score score,
+            Instant creationTimestamp,
+            long rankKey,
+            long scoreSequence) {
+
+    Game(GameId gameId, String homeTeamName, String awayTeamName, Score score, Instant creationTimestamp) {
+        this(gameId, homeTeamName, awayTeamName, score, creationTimestamp, RankKey.of(score, creationTimestamp));
+    }
+
+    Game(GameId gameId,
+         String homeTeamName,
+         String awayTeamName,
+         Score score,
+         Instant creationTimestamp,
+         long rankKey) {
+        this(gameId, homeTeamName, awayTeamName, score, creationTimestamp, rankKey, 0);
+    }
 
     public Game withUpdatedScore(Score score) {
-        return new Game(homeTeamName, awayTeamName, score, creationTimestamp);
+        return withUpdatedScore(score, scoreSequence);
+    }
+
+    public Game withUpdatedScore(Score score, long scoreSequence) {
+        return new Game(gameId,
+                        homeTeamName,
+                        awayTeamName,
+                        score,
+                        creationTimestamp,
+                        RankKey.of(score, creationTimestamp),
+                        scoreSequence);
     }
 
 }
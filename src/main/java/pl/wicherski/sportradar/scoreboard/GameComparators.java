@@ -11,9 +11,22 @@ final class GameComparators {
 
     static final Comparator<Game> RECENT_FIRST = comparing((Game::creationTimestamp)).reversed();
 
+    /**
+     * The same order as {@link #HIGHEST_OVERALL_SCORE} followed by {@link #RECENT_FIRST}, but in most cases resolved by
+     * comparing precomputed {@link RankKey}s. Only games with equal keys are compared with the original comparators.
+     */
+    static final Comparator<Game> BY_RANK_KEY = GameComparators::compareByRankKey;
+
+    private static final Comparator<Game> HIGHEST_OVERALL_SCORE_RECENT_FIRST = HIGHEST_OVERALL_SCORE.thenComparing(RECENT_FIRST);
+
     private GameComparators() {
     }
 
+    private static int compareByRankKey(Game game1, Game game2) {
+        int result = Long.compare(game1.rankKey(), game2.rankKey());
+        return result != 0 ? result : HIGHEST_OVERALL_SCORE_RECENT_FIRST.compare(game1, game2);
+    }
+
     private static int sumGameScore(Game game) {
         return game.score()
                    .away() + game.score()
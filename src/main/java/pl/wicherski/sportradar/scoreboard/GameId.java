@@ -1,18 +1,105 @@
 package pl.wicherski.sportradar.scoreboard;
 
-import java.util.Objects;
 import java.util.UUID;
 
+/**
+ * Identifier of a tracked game. Depending on the board, it is a random UUID, a number from a sequence, or a slot in
+ * the game storage together with the slot generation. In all cases it is represented by two {@code long}s, so
+ * comparing and hashing IDs does not allocate.
+ * <p>
+ * Sequence and slot IDs also carry a random scope, drawn once for each board, so IDs of different boards never collide
+ * - an ID of a game of one board is not found on another board, even if both count games from 1.
+ */
 public final class GameId {
 
-    private final UUID id;
+    // random (version 4) UUIDs always have the version bits (12-15) set, while the kinds below, together with the
+    // cleared version bits, take the 16 lowest bits, so the kinds never collide with UUIDs
+    private static final long KIND_MASK = 0xFFFF;
+    private static final int SCOPE_SHIFT = 16;
+    private static final long SEQUENCE_KIND = 0;
+    private static final long SLOT_KIND = 1;
 
-    private GameId(UUID id) {
-        this.id = id;
+    private final long mostSignificantBits;
+    private final long leastSignificantBits;
+
+    private GameId(long mostSignificantBits, long leastSignificantBits) {
+        this.mostSignificantBits = mostSignificantBits;
+        this.leastSignificantBits = leastSignificantBits;
     }
 
     static GameId generate() {
-        return new GameId(UUID.randomUUID());
+        UUID uuid = UUID.randomUUID();
+        return new GameId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+    }
+
+    /**
+     * Returns a new random scope for sequence or slot IDs of one board - a non-zero number of 48 bits.
+     */
+    static long newScope() {
+        long scope;
+        do {
+            scope = UUID.randomUUID()
+                        .getMostSignificantBits() >>> SCOPE_SHIFT;
+        } while (scope == 0);
+        return scope;
+    }
+
+    static GameId ofSequence(long sequence) {
+        return ofSequence(0, sequence);
+    }
+
+    static GameId ofSequence(long scope, long sequence) {
+        return new GameId(scope << SCOPE_SHIFT | SEQUENCE_KIND, sequence);
+    }
+
+    static GameId ofSlot(int slot, int generation) {
+        return ofSlot(0, slot, generation);
+    }
+
+    static GameId ofSlot(long scope, int slot, int generation) {
+        return new GameId(scope << SCOPE_SHIFT | SLOT_KIND, (long) generation << 32 | slot & 0xFFFF_FFFFL);
+    }
+
+    /**
+     * Restores an ID from its {@link #mostSignificantBits()} and {@link #leastSignificantBits()}, e.g. read from a journal.
+     */
+    static GameId of(long mostSignificantBits, long leastSignificantBits) {
+        return new GameId(mostSignificantBits, leastSignificantBits);
+    }
+
+    long mostSignificantBits() {
+        return mostSignificantBits;
+    }
+
+    long leastSignificantBits() {
+        return leastSignificantBits;
+    }
+
+    boolean isSequence() {
+        return (mostSignificantBits & KIND_MASK) == SEQUENCE_KIND;
+    }
+
+    /**
+     * Returns the scope of a sequence or slot ID - IDs of one board share the scope.
+     */
+    long scope() {
+        return mostSignificantBits >>> SCOPE_SHIFT;
+    }
+
+    long sequence() {
+        return leastSignificantBits;
+    }
+
+    boolean isSlot() {
+        return (mostSignificantBits & KIND_MASK) == SLOT_KIND;
+    }
+
+    int slot() {
+        return (int) leastSignificantBits;
+    }
+
+    int generation() {
+        return (int) (leastSignificantBits >>> 32);
     }
 
     @Override
@@ -24,12 +111,12 @@ public final class GameId {
             return false;
         }
         GameId gameId = (GameId) o;
-        return Objects.equals(id, gameId.id);
+        return mostSignificantBits == gameId.mostSignificantBits && leastSignificantBits == gameId.leastSignificantBits;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return Long.hashCode(mostSignificantBits ^ leastSignificantBits);
     }
 
 }
@@ -0,0 +1,53 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+interface GameIdGenerator {
+
+    GameId next();
+
+    /**
+     * Generator of random, UUID based IDs. It uses {@link java.security.SecureRandom}, which is contended under
+     * concurrent use.
+     */
+    static GameIdGenerator random() {
+        return GameId::generate;
+    }
+
+    /**
+     * Generator of IDs from a monotonic sequence. It is thread-safe and cheap under concurrent use.
+     */
+    static GameIdGenerator sequential() {
+        return sequential(0);
+    }
+
+    /**
+     * Generator of IDs from a monotonic sequence, continuing after the given sequence number (e.g. the last one restored
+     * from a journal). IDs get a new scope (see {@link GameId#newScope()}), so they never collide with IDs of other
+     * boards.
+     */
+    static GameIdGenerator sequential(long lastSequence) {
+        long scope = GameId.newScope();
+        AtomicLong sequence = new AtomicLong(lastSequence);
+        return () -> GameId.ofSequence(scope, sequence.incrementAndGet());
+    }
+
+    /**
+     * Generator of IDs from a monotonic sequence of one of the shards, interleaved with the sequences of the other
+     * shards, so IDs are unique across all shards and the shard of an ID is the remainder of its sequence number. All
+     * shards of a board share the given scope.
+     */
+    static GameIdGenerator sharded(long scope, int shard, int shards) {
+        return sharded(scope, shard, shards, 0);
+    }
+
+    /**
+     * Generator of IDs of one of the shards as {@link #sharded(long, int, int)}, continuing after the given sequence
+     * number of any shard (e.g. the last one restored from a snapshot).
+     */
+    static GameIdGenerator sharded(long scope, int shard, int shards, long lastSequence) {
+        AtomicLong sequence = new AtomicLong(Long.divideUnsigned(lastSequence, shards));
+        return () -> GameId.ofSequence(scope, sequence.incrementAndGet() * shards + shard);
+    }
+
+}
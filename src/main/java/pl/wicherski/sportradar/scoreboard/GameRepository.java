@@ -2,17 +2,71 @@ package pl.wicherski.sportradar.scoreboard;
 
 import java.util.Collection;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
+import static java.util.Objects.isNull;
+
+/**
+ * Stores games under their IDs. A game is always stored under its own ID - {@link #save(GameId, Game)},
+ * {@link #update(GameId, Game)} and {@link #replace(GameId, Game, Game)} reject a game with another ID (see
+ * {@link #requireGameId(GameId, Game)}), so a game read from a repository always has the ID it is stored under.
+ */
 interface GameRepository {
 
     void save(GameId gameId, Game game);
 
     void delete(GameId gameId);
 
+    /**
+     * Deletes the game and returns it. Repositories which are not thread-safe rely on the caller's lock for atomicity of
+     * the read and the deletion.
+     *
+     * @return the deleted game, or empty if it was not stored
+     */
+    default Optional<Game> remove(GameId gameId) {
+        Optional<Game> game = get(gameId);
+        if (game.isPresent()) {
+            delete(gameId);
+        }
+        return game;
+    }
+
     void update(GameId gameId, Game updatedGame);
 
+    /**
+     * Replaces the stored game with the updated one, only if the stored game is still equal to the expected one.
+     * Repositories which are not thread-safe rely on the caller's lock for atomicity of the check and the update.
+     *
+     * @return true if the game was replaced
+     */
+    default boolean replace(GameId gameId, Game expectedGame, Game updatedGame) {
+        Game currentGame = get(gameId).orElse(null);
+        if (isNull(currentGame) || currentGame != expectedGame && !currentGame.equals(expectedGame)) {
+            return false;
+        }
+        update(gameId, updatedGame);
+        return true;
+    }
+
     Optional<Game> get(GameId gameId);
 
     Collection<Game> getAll();
 
+    /**
+     * Passes each stored game, together with its ID, to the given action.
+     */
+    default void forEach(BiConsumer<GameId, Game> action) {
+        getAll().forEach(game -> action.accept(game.gameId(), game));
+    }
+
+    /**
+     * Checks that the game is stored under its own ID, called by repositories keeping the games.
+     */
+    static void requireGameId(GameId gameId, Game game) {
+        if (!gameId.equals(game.gameId())) {
+            throw new IllegalArgumentException("Game has to be stored under its own ID! GameID=%s, Game=%s"
+                                                       .formatted(gameId, game));
+        }
+    }
+
 }
@@ -0,0 +1,57 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.time.Instant;
+
+/**
+ * Rebuilds games in {@link GameRepository} from events read from {@link EventJournal} (or from a {@link BoardSnapshot}
+ * of a compacted journal). It remembers the highest sequential game ID, so new games can get IDs which do not collide
+ * with the replayed ones.
+ */
+class GameRepositoryReplayer implements JournalEventHandler {
+
+    private final GameRepository gameRepository;
+    private final TeamNameDictionary teamNames;
+    private long lastSequence;
+
+    GameRepositoryReplayer(GameRepository gameRepository, TeamNameDictionary teamNames) {
+        this.gameRepository = gameRepository;
+        this.teamNames = teamNames;
+    }
+
+    @Override
+    public void gameStarted(GameId gameId, String homeTeam, String awayTeam, Instant creationTimestamp) {
+        if (gameId.isSequence()) {
+            lastSequence = Math.max(lastSequence, gameId.sequence());
+        }
+        // a game from the snapshot is started again, if the journal was not truncated after the snapshot was written
+        gameRepository.remove(gameId)
+                      .ifPresent(this::releaseTeamNames);
+        gameRepository.save(gameId, new Game(gameId,
+                                             teamNames.canonicalize(homeTeam),
+                                             teamNames.canonicalize(awayTeam),
+                                             Score.of(0, 0),
+                                             creationTimestamp));
+    }
+
+    @Override
+    public void scoreUpdated(GameId gameId, Score score, long scoreSequence) {
+        gameRepository.get(gameId)
+                      .ifPresent(game -> gameRepository.update(gameId, game.withUpdatedScore(score, scoreSequence)));
+    }
+
+    @Override
+    public void gameFinished(GameId gameId) {
+        gameRepository.remove(gameId)
+                      .ifPresent(this::releaseTeamNames);
+    }
+
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    private void releaseTeamNames(Game game) {
+        teamNames.release(game.homeTeamName());
+        teamNames.release(game.awayTeamName());
+    }
+
+}
@@ -0,0 +1,92 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of non-negative values (e.g. latencies in nanoseconds) with log-linear buckets. Values lower than 16 have
+ * their own buckets, higher values are counted in 8 buckets per each power of 2, so a percentile read from the
+ * histogram is at most 12.5% higher than the recorded value. Histogram has a fixed number of buckets, so recording a
+ * value never allocates.
+ * <p>
+ * Histogram is thread-safe. Recording a value takes no lock - it is a few atomic increments.
+ */
+class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int EXACT_BUCKETS = 2 * SUB_BUCKETS;
+    private static final int BUCKETS = EXACT_BUCKETS + (Long.SIZE - 2 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    void record(long value) {
+        long recordedValue = Math.max(value, 0);
+        counts.incrementAndGet(bucketOf(recordedValue));
+        sum.add(recordedValue);
+        if (recordedValue > max.get()) {
+            max.accumulateAndGet(recordedValue, Math::max);
+        }
+    }
+
+    /**
+     * Returns statistics of the values recorded so far. Values recorded concurrently may be counted in some of the
+     * statistics only.
+     */
+    HistogramStatistics statistics() {
+        long[] bucketCounts = new long[BUCKETS];
+        long count = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            bucketCounts[bucket] = counts.get(bucket);
+            count += bucketCounts[bucket];
+        }
+        if (count == 0) {
+            return new HistogramStatistics(0, 0, 0, 0, 0, 0, 0);
+        }
+        long maxValue = max.get();
+        return new HistogramStatistics(count,
+                                       sum.sum() / count,
+                                       percentile(bucketCounts, count, 0.5, maxValue),
+                                       percentile(bucketCounts, count, 0.9, maxValue),
+                                       percentile(bucketCounts, count, 0.99, maxValue),
+                                       percentile(bucketCounts, count, 0.999, maxValue),
+                                       maxValue);
+    }
+
+    static int bucketOf(long value) {
+        if (value < EXACT_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return EXACT_BUCKETS + (exponent - SUB_BUCKET_BITS - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the highest value counted in the bucket.
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < EXACT_BUCKETS) {
+            return bucket;
+        }
+        int exponent = (bucket - EXACT_BUCKETS) / SUB_BUCKETS + SUB_BUCKET_BITS + 1;
+        long subBucket = (bucket - EXACT_BUCKETS) % SUB_BUCKETS;
+        return ((SUB_BUCKETS + subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    private static long percentile(long[] bucketCounts, long count, double quantile, long maxValue) {
+        long rank = (long) Math.ceil(quantile * count);
+        long counted = 0;
+        for (int bucket = 0; bucket < bucketCounts.length; bucket++) {
+            counted += bucketCounts[bucket];
+            if (counted >= rank) {
+                return Math.min(highestValueOf(bucket), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+}
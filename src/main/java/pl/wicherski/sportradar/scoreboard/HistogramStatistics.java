@@ -0,0 +1,17 @@
+package pl.wicherski.sportradar.scoreboard;
+
+/**
+ * Statistics of the values recorded in a histogram - latencies in nanoseconds or sizes. Percentiles are approximate -
+ * they are at most 12.5% higher than the recorded values.
+ *
+ * @param count number of recorded values
+ * @param mean  mean of the recorded values
+ * @param p50   median of the recorded values
+ * @param p90   90th percentile of the recorded values
+ * @param p99   99th percentile of the recorded values
+ * @param p999  99.9th percentile of the recorded values
+ * @param max   highest recorded value
+ */
+public record HistogramStatistics(long count, long mean, long p50, long p90, long p99, long p999, long max) {
+
+}
@@ -3,6 +3,7 @@ package pl.wicherski.sportradar.scoreboard;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.BiConsumer;
 
 class InMemoryGameRepository implements GameRepository {
 
@@ -14,6 +15,7 @@ class InMemoryGameRepository implements GameRepository {
 
     @Override
     public void save(GameId gameId, Game game) {
+        GameRepository.requireGameId(gameId, game);
         games.put(gameId, game);
     }
 
@@ -22,11 +24,30 @@ class InMemoryGameRepository implements GameRepository {
         games.remove(gameId);
     }
 
+    /**
+     * Removes the game with {@link Map#remove(Object)}, which is atomic for concurrent maps, so the game is returned to
+     * only one of concurrent callers.
+     */
+    @Override
+    public Optional<Game> remove(GameId gameId) {
+        return Optional.ofNullable(games.remove(gameId));
+    }
+
     @Override
     public void update(GameId gameId, Game updatedGame) {
+        GameRepository.requireGameId(gameId, updatedGame);
         games.replace(gameId, updatedGame);
     }
 
+    /**
+     * Replaces the game with {@link Map#replace(Object, Object, Object)}, which is atomic for concurrent maps.
+     */
+    @Override
+    public boolean replace(GameId gameId, Game expectedGame, Game updatedGame) {
+        GameRepository.requireGameId(gameId, updatedGame);
+        return games.replace(gameId, expectedGame, updatedGame);
+    }
+
     @Override
     public Optional<Game> get(GameId gameId) {
         return Optional.ofNullable(games.get(gameId));
@@ -37,4 +58,9 @@ class InMemoryGameRepository implements GameRepository {
         return games.values();
     }
 
+    @Override
+    public void forEach(BiConsumer<GameId, Game> action) {
+        games.forEach(action);
+    }
+
 }
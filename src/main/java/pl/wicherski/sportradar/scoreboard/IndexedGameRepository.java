@@ -0,0 +1,114 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingLong;
+import static java.util.Objects.isNull;
+
+/**
+ * {@link GameRepository} keeping games in a ranking index ordered by the given comparator. The index is updated on each
+ * modification (score changes remove and reinsert the game), so {@link #getAll()} is a linear walk returning games
+ * already in ranking order.
+ * <p>
+ * Games that are equal according to the comparator are ordered by insertion - most recently saved first.
+ */
+class IndexedGameRepository implements GameRepository {
+
+    private final Map<GameId, RankedGame> games = new HashMap<>();
+    private final NavigableSet<RankedGame> ranking;
+    private final Comparator<Game> rankingComparator;
+    private long insertionSequence;
+
+    IndexedGameRepository(Comparator<Game> rankingComparator) {
+        this.rankingComparator = rankingComparator;
+        this.ranking = new TreeSet<>(comparing(RankedGame::game, rankingComparator)
+                                             .thenComparing(comparingLong(RankedGame::sequence).reversed()));
+    }
+
+    @Override
+    public void save(GameId gameId, Game game) {
+        GameRepository.requireGameId(gameId, game);
+        RankedGame rankedGame = new RankedGame(gameId, game, insertionSequence++);
+        RankedGame previous = games.put(gameId, rankedGame);
+        if (!isNull(previous)) {
+            ranking.remove(previous);
+        }
+        ranking.add(rankedGame);
+    }
+
+    @Override
+    public void delete(GameId gameId) {
+        RankedGame removed = games.remove(gameId);
+        if (!isNull(removed)) {
+            ranking.remove(removed);
+        }
+    }
+
+    @Override
+    public Optional<Game> remove(GameId gameId) {
+        RankedGame removed = games.remove(gameId);
+        if (isNull(removed)) {
+            return Optional.empty();
+        }
+        ranking.remove(removed);
+        return Optional.of(removed.game());
+    }
+
+    @Override
+    public void update(GameId gameId, Game updatedGame) {
+        GameRepository.requireGameId(gameId, updatedGame);
+        RankedGame current = games.get(gameId);
+        if (isNull(current)) {
+            return;
+        }
+        RankedGame updated = new RankedGame(gameId, updatedGame, current.sequence());
+        ranking.remove(current);
+        ranking.add(updated);
+        games.put(gameId, updated);
+    }
+
+    @Override
+    public Optional<Game> get(GameId gameId) {
+        return Optional.ofNullable(games.get(gameId))
+                       .map(RankedGame::game);
+    }
+
+    /**
+     * Returns all stored games in ranking order.
+     *
+     * @return games ordered by the ranking comparator
+     */
+    @Override
+    public Collection<Game> getAll() {
+        return getAllRanked();
+    }
+
+    List<Game> getAllRanked() {
+        return ranking.stream()
+                      .map(RankedGame::game)
+                      .toList();
+    }
+
+    List<Game> getTopRanked(int limit) {
+        return ranking.stream()
+                      .limit(limit)
+                      .map(RankedGame::game)
+                      .toList();
+    }
+
+    Comparator<Game> rankingComparator() {
+        return rankingComparator;
+    }
+
+    private record RankedGame(GameId gameId, Game game, long sequence) {
+    }
+
+}
@@ -0,0 +1,44 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.List;
+
+/**
+ * {@link LiveScoreBoardImpl} variant backed by {@link IndexedGameRepository}. Games are kept ordered on each
+ * modification, so producing a summary does not sort the games anymore - it only walks the ranking index.
+ */
+class IndexedLiveScoreBoard extends LiveScoreBoardImpl {
+
+    private final IndexedGameRepository gameRepository;
+
+    IndexedLiveScoreBoard(IndexedGameRepository gameRepository,
+                          TimeProvider timeProvider,
+                          ScoreSummaryFactory scoreSummaryFactory,
+                          TeamNameDictionary teamNames) {
+        this(gameRepository, timeProvider, scoreSummaryFactory, GameIdGenerator.sequential(), teamNames);
+    }
+
+    IndexedLiveScoreBoard(IndexedGameRepository gameRepository,
+                          TimeProvider timeProvider,
+                          ScoreSummaryFactory scoreSummaryFactory,
+                          GameIdGenerator gameIdGenerator,
+                          TeamNameDictionary teamNames) {
+        super(gameRepository,
+              timeProvider,
+              scoreSummaryFactory,
+              gameRepository.rankingComparator(),
+              gameIdGenerator,
+              teamNames);
+        this.gameRepository = gameRepository;
+    }
+
+    @Override
+    List<Game> rankGames() {
+        return gameRepository.getAllRanked();
+    }
+
+    @Override
+    List<Game> rankTopGames(int limit) {
+        return gameRepository.getTopRanked(limit);
+    }
+
+}
@@ -0,0 +1,55 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link LiveScoreBoard} applying all modifications on a single writer thread. Modifications are submitted as commands
+ * and the returned futures are completed once the commands are applied. Blocking methods of {@link LiveScoreBoard}
+ * submit the same commands and wait for them.
+ * <p>
+ * Summaries are published by the writer thread periodically, so {@link #getSummary()} may not include the latest
+ * modifications, even if they are already completed.
+ * <p>
+ * Futures are completed on the writer thread, so dependent actions attached with non-async methods of
+ * {@link CompletableFuture} should be short, as they delay next commands. Such actions must not wait for the board -
+ * its blocking methods fail with {@link IllegalStateException} when called from them, and so do submitting methods if
+ * all slots of the ring are taken. The board has to be closed to stop the writer thread.
+ */
+public interface IngestingLiveScoreBoard extends LiveScoreBoard, AutoCloseable {
+
+    /**
+     * Submits start of a game, as {@link #startGame(String, String)} does, without waiting for it.
+     *
+     * @param homeTeam - home team name
+     * @param awayTeam - away team name
+     * @return future completed with ID of the newly created game
+     * @throws IllegalStateException if the board is closed
+     */
+    CompletableFuture<GameId> submitStartGame(String homeTeam, String awayTeam);
+
+    /**
+     * Submits update of the game score, as {@link #updateScore(GameId, Score)} does, without waiting for it.
+     *
+     * @param gameId - ID of the game to update score
+     * @param score  - new score of the game
+     * @return future completed when the score is updated, or completed exceptionally with {@link GameNotFoundException}
+     * @throws IllegalStateException if the board is closed
+     */
+    CompletableFuture<Void> submitScoreUpdate(GameId gameId, Score score);
+
+    /**
+     * Submits finish of the game, as {@link #finishGame(GameId)} does, without waiting for it.
+     *
+     * @param gameId - ID of the game to finish
+     * @return future completed when the game is finished
+     * @throws IllegalStateException if the board is closed
+     */
+    CompletableFuture<Void> submitFinishGame(GameId gameId);
+
+    /**
+     * Applies all commands submitted so far and stops the writer thread. The board cannot be modified after it is closed.
+     */
+    @Override
+    void close();
+
+}
@@ -0,0 +1,29 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import javax.management.ObjectName;
+
+/**
+ * {@link LiveScoreBoard} recording latencies of (a sample of) its operations, optionally times of waiting for and
+ * holding its locks, its size and sizes of produced summaries.
+ */
+public interface InstrumentedLiveScoreBoard extends LiveScoreBoard {
+
+    /**
+     * Returns statistics recorded since the board was created.
+     *
+     * @return snapshot of the recorded statistics
+     */
+    BoardStatistics getStatistics();
+
+    /**
+     * Registers the statistics of the board in the platform MBean server, as {@link BoardStatisticsMXBean} named
+     * {@code pl.wicherski.sportradar.scoreboard:type=LiveScoreBoard,name=<boardName>}.
+     *
+     * @param boardName - name distinguishing the board from other registered boards
+     * @return name under which the MBean has been registered
+     * @throws IllegalArgumentException if the board name is null or not valid in an MBean name
+     * @throws IllegalStateException    if an MBean with the same name is already registered
+     */
+    ObjectName registerMBean(String boardName);
+
+}
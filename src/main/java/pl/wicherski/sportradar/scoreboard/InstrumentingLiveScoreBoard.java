@@ -0,0 +1,307 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Decorator of {@link LiveScoreBoard} recording latencies of its operations in {@link Histogram}s. Recording takes no
+ * lock and does not allocate, so it does not add contention to the decorated board. Reading the clock and recording
+ * take longer than a simple operation of the board, so only a random sample of operations - one of each sampling
+ * interval on average - is timed.
+ * <p>
+ * Lock times are recorded by {@link TimedReadWriteLock} of the decorated board, if the board is created with one.
+ * Size of the board is the size of its last full summary (produced when the decorator is created and by
+ * {@link #getSummary()}), so tracking it adds nothing to modifications. Decorator is thread-safe if the decorated board
+ * is thread-safe.
+ */
+class InstrumentingLiveScoreBoard implements InstrumentedLiveScoreBoard {
+
+    static final int DEFAULT_SAMPLING_INTERVAL = 16;
+
+    private static final String MBEAN_NAME_PATTERN = "pl.wicherski.sportradar.scoreboard:type=LiveScoreBoard,name=%s";
+    private static final BoardOperation[] OPERATIONS = BoardOperation.values();
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+
+    private final LiveScoreBoard liveScoreBoard;
+    private final TimedReadWriteLock lock;
+    private final int samplingInterval;
+    private final Map<BoardOperation, Histogram> latencies = new EnumMap<>(BoardOperation.class);
+    private final Histogram summarySizes = new Histogram();
+    private volatile long boardSize;
+
+    InstrumentingLiveScoreBoard(LiveScoreBoard liveScoreBoard) {
+        this(liveScoreBoard, null, DEFAULT_SAMPLING_INTERVAL);
+    }
+
+    /**
+     * @param lock             - lock of the decorated board recording its times, or null if they are not recorded
+     * @param samplingInterval - average number of operations per one timed operation, 1 to time all of them
+     */
+    InstrumentingLiveScoreBoard(LiveScoreBoard liveScoreBoard, TimedReadWriteLock lock, int samplingInterval) {
+        if (samplingInterval <= 0) {
+            throw new IllegalArgumentException("Sampling interval has to be positive! SamplingInterval=%s"
+                                                       .formatted(samplingInterval));
+        }
+        this.liveScoreBoard = liveScoreBoard;
+        this.lock = lock;
+        this.samplingInterval = samplingInterval;
+        for (BoardOperation operation : OPERATIONS) {
+            latencies.put(operation, new Histogram());
+        }
+        if (liveScoreBoard.getSummary() instanceof ScoreSummaryImpl summary) {
+            boardSize = summary.games()
+                               .size();
+        }
+    }
+
+    @Override
+    public GameId startGame(String homeTeam, String awayTeam) {
+        long start = startTiming();
+        try {
+            return liveScoreBoard.startGame(homeTeam, awayTeam);
+        } finally {
+            record(BoardOperation.START_GAME, start);
+        }
+    }
+
+    @Override
+    public void finishGame(GameId gameId) {
+        long start = startTiming();
+        try {
+            liveScoreBoard.finishGame(gameId);
+        } finally {
+            record(BoardOperation.FINISH_GAME, start);
+        }
+    }
+
+    @Override
+    public void updateScore(GameId gameId, Score score) throws GameNotFoundException {
+        long start = startTiming();
+        try {
+            liveScoreBoard.updateScore(gameId, score);
+        } finally {
+            record(BoardOperation.UPDATE_SCORE, start);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetScore(GameId gameId, Score expectedScore, Score newScore) throws GameNotFoundException {
+        long start = startTiming();
+        try {
+            return liveScoreBoard.compareAndSetScore(gameId, expectedScore, newScore);
+        } finally {
+            record(BoardOperation.COMPARE_AND_SET_SCORE, start);
+        }
+    }
+
+    @Override
+    public boolean updateScoreIfNewer(GameId gameId, long sequence, Score score) throws GameNotFoundException {
+        long start = startTiming();
+        try {
+            return liveScoreBoard.updateScoreIfNewer(gameId, sequence, score);
+        } finally {
+            record(BoardOperation.UPDATE_SCORE_IF_NEWER, start);
+        }
+    }
+
+    @Override
+    public List<GameId> startGames(List<Teams> teams) {
+        long start = startTiming();
+        try {
+            return liveScoreBoard.startGames(teams);
+        } finally {
+            record(BoardOperation.START_GAMES, start);
+        }
+    }
+
+    @Override
+    public void finishGames(Collection<GameId> gameIds) {
+        long start = startTiming();
+        try {
+            liveScoreBoard.finishGames(gameIds);
+        } finally {
+            record(BoardOperation.FINISH_GAMES, start);
+        }
+    }
+
+    @Override
+    public BatchUpdateResult updateScores(Map<GameId, Score> scores) {
+        long start = startTiming();
+        try {
+            return liveScoreBoard.updateScores(scores);
+        } finally {
+            record(BoardOperation.UPDATE_SCORES, start);
+        }
+    }
+
+    @Override
+    public ScoreSummary getSummary() {
+        long start = startTiming();
+        try {
+            ScoreSummary summary = recordSize(liveScoreBoard.getSummary());
+            if (summary instanceof ScoreSummaryImpl summaryImpl) {
+                boardSize = summaryImpl.games()
+                                       .size();
+            }
+            return summary;
+        } finally {
+            record(BoardOperation.GET_SUMMARY, start);
+        }
+    }
+
+    @Override
+    public ScoreSummary getSummary(int limit) {
+        long start = startTiming();
+        try {
+            return recordSize(liveScoreBoard.getSummary(limit));
+        } finally {
+            record(BoardOperation.GET_LIMITED_SUMMARY, start);
+        }
+    }
+
+    @Override
+    public void saveSnapshot(Path file) {
+        long start = startTiming();
+        try {
+            liveScoreBoard.saveSnapshot(file);
+        } finally {
+            record(BoardOperation.SAVE_SNAPSHOT, start);
+        }
+    }
+
+    @Override
+    public Subscription subscribe(ScoreEventListener listener) {
+        return liveScoreBoard.subscribe(listener);
+    }
+
+    @Override
+    public BoardStatistics getStatistics() {
+        Map<BoardOperation, HistogramStatistics> operationLatencies = new EnumMap<>(BoardOperation.class);
+        latencies.forEach((operation, histogram) -> operationLatencies.put(operation, histogram.statistics()));
+        HistogramStatistics noLockTimes = new Histogram().statistics();
+        return new BoardStatistics(operationLatencies,
+                                   isNull(lock) ? noLockTimes : lock.readLockWait(),
+                                   isNull(lock) ? noLockTimes : lock.readLockHold(),
+                                   isNull(lock) ? noLockTimes : lock.writeLockWait(),
+                                   isNull(lock) ? noLockTimes : lock.writeLockHold(),
+                                   boardSize,
+                                   summarySizes.statistics());
+    }
+
+    @Override
+    public ObjectName registerMBean(String boardName) {
+        ObjectName objectName = toObjectName(boardName);
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                             .registerMBean(new StandardMBean(new StatisticsMXBean(), BoardStatisticsMXBean.class, true),
+                                            objectName);
+            return objectName;
+        } catch (InstanceAlreadyExistsException e) {
+            throw new IllegalStateException("MBean is already registered! Name=%s".formatted(objectName), e);
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register MBean! Name=%s".formatted(objectName), e);
+        }
+    }
+
+    private static ObjectName toObjectName(String boardName) {
+        if (isNull(boardName)) {
+            throw new IllegalArgumentException("Board name cannot be null!");
+        }
+        try {
+            return new ObjectName(MBEAN_NAME_PATTERN.formatted(boardName));
+        } catch (MalformedObjectNameException e) {
+            throw new IllegalArgumentException("Invalid board name! BoardName=%s".formatted(boardName), e);
+        }
+    }
+
+    /**
+     * @return start time of the operation, or {@link #NOT_SAMPLED} if the operation is not timed
+     */
+    private long startTiming() {
+        if (samplingInterval > 1 && ThreadLocalRandom.current()
+                                                     .nextInt(samplingInterval) != 0) {
+            return NOT_SAMPLED;
+        }
+        return System.nanoTime();
+    }
+
+    private void record(BoardOperation operation, long start) {
+        if (start != NOT_SAMPLED) {
+            latencies.get(operation)
+                     .record(System.nanoTime() - start);
+        }
+    }
+
+    private ScoreSummary recordSize(ScoreSummary summary) {
+        if (summary instanceof ScoreSummaryImpl summaryImpl) {
+            summarySizes.record(summaryImpl.games()
+                                           .size());
+        }
+        return summary;
+    }
+
+    private static void putHistogram(Map<String, Long> attributes, String name, HistogramStatistics statistics) {
+        attributes.put(name + ".count", statistics.count());
+        attributes.put(name + ".mean", statistics.mean());
+        attributes.put(name + ".p50", statistics.p50());
+        attributes.put(name + ".p90", statistics.p90());
+        attributes.put(name + ".p99", statistics.p99());
+        attributes.put(name + ".p999", statistics.p999());
+        attributes.put(name + ".max", statistics.max());
+    }
+
+    /**
+     * Flattens statistics of the board into attributes of {@link BoardStatisticsMXBean}. Each attribute read takes a
+     * new snapshot of the statistics.
+     */
+    private class StatisticsMXBean implements BoardStatisticsMXBean {
+
+        @Override
+        public long getBoardSize() {
+            return boardSize;
+        }
+
+        @Override
+        public Map<String, Long> getOperationLatencies() {
+            Map<String, Long> attributes = new LinkedHashMap<>();
+            getStatistics().operationLatencies()
+                           .forEach((operation, statistics) -> putHistogram(attributes,
+                                                                            operation.attributeName(),
+                                                                            statistics));
+            return attributes;
+        }
+
+        @Override
+        public Map<String, Long> getLockTimes() {
+            BoardStatistics statistics = getStatistics();
+            Map<String, Long> attributes = new LinkedHashMap<>();
+            putHistogram(attributes, "readLockWait", statistics.readLockWait());
+            putHistogram(attributes, "readLockHold", statistics.readLockHold());
+            putHistogram(attributes, "writeLockWait", statistics.writeLockWait());
+            putHistogram(attributes, "writeLockHold", statistics.writeLockHold());
+            return attributes;
+        }
+
+        @Override
+        public Map<String, Long> getSummarySizes() {
+            Map<String, Long> attributes = new LinkedHashMap<>();
+            putHistogram(attributes, "summarySizes", summarySizes.statistics());
+            return attributes;
+        }
+
+    }
+
+}
@@ -0,0 +1,19 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.time.Instant;
+
+/**
+ * Receiver of events read from {@link EventJournal}, called in the order in which the events were appended.
+ */
+interface JournalEventHandler {
+
+    void gameStarted(GameId gameId, String homeTeam, String awayTeam, Instant creationTimestamp);
+
+    /**
+     * @param scoreSequence - sequence number of the last conditional update of the game score, or 0 if there was none
+     */
+    void scoreUpdated(GameId gameId, Score score, long scoreSequence);
+
+    void gameFinished(GameId gameId);
+
+}
@@ -0,0 +1,24 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.time.Duration;
+
+/**
+ * Statistics of rebuilding a board from its journal.
+ *
+ * @param events   number of replayed events
+ * @param bytes    number of replayed journal bytes
+ * @param duration time spent on reading the journal and applying its events
+ */
+public record JournalReplayStatistics(long events, long bytes, Duration duration) {
+
+    /**
+     * Returns replay throughput.
+     *
+     * @return number of events replayed per second, or 0 if nothing was replayed
+     */
+    public double eventsPerSecond() {
+        long nanos = duration.toNanos();
+        return nanos == 0 ? 0 : events * 1_000_000_000.0 / nanos;
+    }
+
+}
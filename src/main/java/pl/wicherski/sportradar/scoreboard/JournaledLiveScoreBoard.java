@@ -0,0 +1,36 @@
+package pl.wicherski.sportradar.scoreboard;
+
+/**
+ * {@link LiveScoreBoard} which appends all its modifications to a journal file, so it can be rebuilt after a restart.
+ * The journal can be compacted into a snapshot file next to it, so rebuilding the board does not replay its whole
+ * history. The board has to be closed to release the journal file.
+ */
+public interface JournaledLiveScoreBoard extends LiveScoreBoard, AutoCloseable {
+
+    /**
+     * Returns statistics of rebuilding the board from the journal when the board was created.
+     *
+     * @return number of replayed events, replayed bytes and time spent on the replay
+     */
+    JournalReplayStatistics getReplayStatistics();
+
+    /**
+     * Forces all modifications done so far to the storage device, without waiting for the background flush.
+     */
+    void flush();
+
+    /**
+     * Writes all tracked games to the snapshot file and truncates the journal, so the board is rebuilt from the snapshot
+     * and the modifications done after it. Modifications of the board wait until the compaction is done.
+     *
+     * @throws java.io.UncheckedIOException if the snapshot or the journal cannot be written
+     */
+    void compact();
+
+    /**
+     * Flushes the journal and closes its file. The board cannot be modified after it is closed.
+     */
+    @Override
+    void close();
+
+}
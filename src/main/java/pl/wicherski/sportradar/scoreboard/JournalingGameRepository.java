@@ -0,0 +1,65 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Decorator of {@link GameRepository} appending each modification to {@link EventJournal} before applying it to the
+ * decorated repository (write-ahead). Only modifications which change the repository are journaled - finishing or
+ * updating a game which is not stored appends nothing. Only the score of an updated game is journaled, as it is the
+ * only part of the game which can change.
+ * <p>
+ * Decorator is not thread-safe - the check whether a game is stored and its modification rely on the caller's lock.
+ */
+class JournalingGameRepository implements GameRepository {
+
+    private final GameRepository gameRepository;
+    private final EventJournal journal;
+
+    JournalingGameRepository(GameRepository gameRepository, EventJournal journal) {
+        this.gameRepository = gameRepository;
+        this.journal = journal;
+    }
+
+    @Override
+    public void save(GameId gameId, Game game) {
+        journal.appendGameStarted(gameId, game.homeTeamName(), game.awayTeamName(), game.creationTimestamp());
+        gameRepository.save(gameId, game);
+    }
+
+    @Override
+    public void delete(GameId gameId) {
+        remove(gameId);
+    }
+
+    @Override
+    public Optional<Game> remove(GameId gameId) {
+        Optional<Game> game = gameRepository.get(gameId);
+        if (game.isPresent()) {
+            journal.appendGameFinished(gameId);
+            gameRepository.delete(gameId);
+        }
+        return game;
+    }
+
+    @Override
+    public void update(GameId gameId, Game updatedGame) {
+        if (gameRepository.get(gameId)
+                          .isEmpty()) {
+            return;
+        }
+        journal.appendScoreUpdated(gameId, updatedGame.score(), updatedGame.scoreSequence());
+        gameRepository.update(gameId, updatedGame);
+    }
+
+    @Override
+    public Optional<Game> get(GameId gameId) {
+        return gameRepository.get(gameId);
+    }
+
+    @Override
+    public Collection<Game> getAll() {
+        return gameRepository.getAll();
+    }
+
+}
@@ -0,0 +1,72 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.nio.file.Path;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Decorator of {@link LiveScoreBoard} owning the {@link EventJournal} which the decorated board writes to, so the
+ * journal can be flushed, compacted and closed together with the board. Decorator is thread-safe if the decorated board
+ * is thread-safe.
+ */
+class JournalingLiveScoreBoard extends ForwardingLiveScoreBoard implements JournaledLiveScoreBoard {
+
+    private final EventJournal journal;
+    private final GameRepository gameRepository;
+    private final Path snapshotFile;
+    private final Lock writeLock;
+
+    /**
+     * @param gameRepository - repository of the decorated board, without journaling
+     * @param snapshotFile   - file which the journal is compacted into
+     * @param writeLock      - lock guarding modifications of the decorated board
+     */
+    JournalingLiveScoreBoard(LiveScoreBoard liveScoreBoard,
+                             EventJournal journal,
+                             GameRepository gameRepository,
+                             Path snapshotFile,
+                             Lock writeLock) {
+        super(liveScoreBoard);
+        this.journal = journal;
+        this.gameRepository = gameRepository;
+        this.snapshotFile = snapshotFile;
+        this.writeLock = writeLock;
+    }
+
+    /**
+     * Returns the file which the given journal is compacted into.
+     */
+    static Path snapshotFileOf(Path journalFile) {
+        return journalFile.resolveSibling(journalFile.getFileName() + ".snapshot");
+    }
+
+    @Override
+    public JournalReplayStatistics getReplayStatistics() {
+        return journal.replayStatistics();
+    }
+
+    @Override
+    public void flush() {
+        journal.flush();
+    }
+
+    /**
+     * Writes the snapshot before truncating the journal - after a crash in between, the journal is replayed over the
+     * snapshot, which leads to the same games, as journaled events carry whole scores, not their changes.
+     */
+    @Override
+    public void compact() {
+        writeLock.lock();
+        try {
+            BoardSnapshot.write(snapshotFile, gameRepository);
+            journal.truncate();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        journal.close();
+    }
+
+}
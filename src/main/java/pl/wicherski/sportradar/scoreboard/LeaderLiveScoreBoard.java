@@ -0,0 +1,34 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.net.InetSocketAddress;
+
+/**
+ * {@link LiveScoreBoard} streaming all its modifications to {@link FollowerLiveScoreBoard}s connected to its replication
+ * address. Each modification gets the next sequence number, so the lag of a follower is the difference between
+ * {@link #getLastSequence()} and {@link FollowerLiveScoreBoard#getAppliedSequence()}. The board has to be closed to stop
+ * the replication.
+ */
+public interface LeaderLiveScoreBoard extends LiveScoreBoard, AutoCloseable {
+
+    /**
+     * @return address which followers connect to
+     */
+    InetSocketAddress getReplicationAddress();
+
+    /**
+     * @return sequence number of the last modification of the board, 0 if the board has not been modified
+     */
+    long getLastSequence();
+
+    /**
+     * @return number of currently connected followers
+     */
+    int getFollowerCount();
+
+    /**
+     * Disconnects all followers and stops the replication. The board cannot be modified after it is closed.
+     */
+    @Override
+    void close();
+
+}
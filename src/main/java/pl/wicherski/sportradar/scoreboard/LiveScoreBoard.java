@@ -1,7 +1,17 @@
 package pl.wicherski.sportradar.scoreboard;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.Objects.isNull;
+
 /**
- * Interface for score board operations.
+ * Interface for score board operations. Batch operations have default implementations based on the single-game ones,
+ * so an implementation has to override them only to apply a batch atomically or faster.
  */
 public interface LiveScoreBoard {
 
@@ -32,6 +42,109 @@ public interface LiveScoreBoard {
      */
     void updateScore(GameId gameId, Score score) throws GameNotFoundException;
 
+    /**
+     * Updates a score of the tracked game only if its current score equals the expected one. The check and the update
+     * are done atomically by the board, so the score does not have to be read before and concurrent updates of the game
+     * are not lost.
+     *
+     * @param gameId        - ID of the game to update score
+     * @param expectedScore - score the game has to have for the update to be applied
+     * @param newScore      - new score of the game
+     * @return true if the score was updated, false if the current score of the game is different than expected
+     * @throws GameNotFoundException    if game with given ID does not exist or is already finished.
+     * @throws IllegalArgumentException if any of the arguments is null
+     */
+    boolean compareAndSetScore(GameId gameId, Score expectedScore, Score newScore) throws GameNotFoundException;
+
+    /**
+     * Updates a score of the tracked game only if given sequence number (e.g. of the feed message) is higher than the
+     * sequence number of the last score update applied with this method, so stale, out-of-order updates are dropped. The
+     * check and the update are done atomically by the board. A started game has sequence number 0 and
+     * {@link #updateScore(GameId, Score)} does not change it.
+     * <p>
+     * Snapshots, journals and replicas keep sequence numbers together with the scores, so stale updates are dropped
+     * after a restart as well.
+     *
+     * @param gameId   - ID of the game to update score
+     * @param sequence - sequence number of the update, positive
+     * @param score    - new score of the game
+     * @return true if the score was updated, false if the game has already been updated with the same or a higher
+     * sequence number
+     * @throws GameNotFoundException    if game with given ID does not exist or is already finished.
+     * @throws IllegalArgumentException if the game ID or score is null or the sequence number is not positive
+     */
+    boolean updateScoreIfNewer(GameId gameId, long sequence, Score score) throws GameNotFoundException;
+
+    /**
+     * Starts tracking multiple games at once, with score 0-0. Team names of all games are validated before any game is
+     * started.
+     * <p>
+     * The default implementation starts the games one by one with {@link #startGame(String, String)}. Thread-safe boards
+     * of this library start the whole batch under a single lock acquisition.
+     *
+     * @param teams - home and away team names of the games to start
+     * @return IDs of the newly created games, in the same order as provided teams
+     * @throws IllegalArgumentException if any of the team names is null
+     */
+    default List<GameId> startGames(List<Teams> teams) {
+        if (isNull(teams) || teams.stream()
+                                  .anyMatch(gameTeams -> isNull(gameTeams)
+                                                         || isNull(gameTeams.homeTeam())
+                                                         || isNull(gameTeams.awayTeam()))) {
+            throw new IllegalArgumentException("Team names cannot be null! Teams=%s".formatted(teams));
+        }
+        List<GameId> gameIds = new ArrayList<>(teams.size());
+        for (Teams gameTeams : teams) {
+            gameIds.add(startGame(gameTeams.homeTeam(), gameTeams.awayTeam()));
+        }
+        return gameIds;
+    }
+
+    /**
+     * Finishes multiple games at once. Unrecognizable IDs and IDs of already finished games are ignored.
+     * <p>
+     * The default implementation finishes the games one by one with {@link #finishGame(GameId)}. Thread-safe boards of
+     * this library finish the whole batch under a single lock acquisition.
+     *
+     * @param gameIds - IDs of the games to finish
+     * @throws IllegalArgumentException if any of the game IDs is null
+     */
+    default void finishGames(Collection<GameId> gameIds) {
+        if (isNull(gameIds) || gameIds.stream()
+                                      .anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Game IDs cannot be null! GameIDs=%s".formatted(gameIds));
+        }
+        gameIds.forEach(this::finishGame);
+    }
+
+    /**
+     * Updates scores of multiple tracked games at once. Games which are not tracked do not abort the batch - they are
+     * skipped and reported in the result.
+     * <p>
+     * The default implementation updates the games one by one with {@link #updateScore(GameId, Score)}. Thread-safe
+     * boards of this library apply the whole batch under a single lock acquisition.
+     *
+     * @param scores - new scores by IDs of the games to update
+     * @return result of the batch with IDs of the games which were not found
+     * @throws IllegalArgumentException if any of the game IDs or scores is null
+     */
+    default BatchUpdateResult updateScores(Map<GameId, Score> scores) {
+        if (isNull(scores) || scores.entrySet()
+                                    .stream()
+                                    .anyMatch(entry -> isNull(entry.getKey()) || isNull(entry.getValue()))) {
+            throw new IllegalArgumentException("Game IDs and scores cannot be null! Scores=%s".formatted(scores));
+        }
+        List<GameId> notFoundGameIds = new ArrayList<>();
+        scores.forEach((gameId, score) -> {
+            try {
+                updateScore(gameId, score);
+            } catch (GameNotFoundException e) {
+                notFoundGameIds.add(gameId);
+            }
+        });
+        return new BatchUpdateResult(notFoundGameIds);
+    }
+
     /**
      * Returns a summary of all tracked games.
      *
@@ -39,4 +152,60 @@ public interface LiveScoreBoard {
      */
     ScoreSummary getSummary();
 
+    /**
+     * Returns a summary of the leading tracked games. The summary contains the same games, in the same order, as the
+     * beginning of the summary returned by {@link #getSummary()}, but the board does not need to order all tracked games
+     * to produce it.
+     *
+     * @param limit - maximum number of games in the summary
+     * @return summary of at most {@code limit} leading games
+     * @throws IllegalArgumentException if limit is negative
+     */
+    ScoreSummary getSummary(int limit);
+
+    /**
+     * Returns the first page of a summary of all tracked games. Following pages are fetched with
+     * {@link ScoreSummary#page(SummaryCursor)} of {@link SummaryPage#summary() the summary} the page was taken from -
+     * see {@link ScoreSummary#firstPage(int)}.
+     * <p>
+     * Only the following pages cost as much as their size. The first page is taken from a full summary of the board,
+     * so its cost depends on the board size: boards keeping a ranking index copy all games in ranking order (linear
+     * time), boards publishing summary snapshots return an already ranked one, and all other boards order all tracked
+     * games (n log n time). Ranks of pages stay consistent only because the whole ranking is kept in that summary - a
+     * board cannot rank a later page on its own without ranking the games before it.
+     *
+     * @param pageSize - maximum number of games in a page
+     * @return page of at most {@code pageSize} leading games, with a cursor of the next page
+     * @throws IllegalArgumentException if page size is not positive
+     */
+    default SummaryPage getSummaryPage(int pageSize) {
+        return getSummary().firstPage(pageSize);
+    }
+
+    /**
+     * Writes a compact binary snapshot of all tracked games (IDs, team names, scores and start times) to the given file,
+     * replacing its previous content. A board with the same games can be created from the snapshot with
+     * {@link LiveScoreBoardFactory#newBoardFromSnapshot(Path)}.
+     *
+     * @param file - file to write the snapshot to
+     * @throws IllegalArgumentException     if the file is null
+     * @throws java.io.UncheckedIOException if the file cannot be written
+     */
+    void saveSnapshot(Path file);
+
+    /**
+     * Subscribes the listener to changes of tracked games - starts, score updates and finishes. Events are delivered in
+     * batches, from a separate thread, so a slow listener never slows down modifications of the board. Instead, if it
+     * cannot keep up, waiting score updates of the same game are coalesced, and when its buffer is full, new events
+     * are dropped. Both are reported in {@link Subscription#getStatistics()}.
+     * <p>
+     * Boards without a global lock (see {@link LiveScoreBoardFactory#newConcurrentBoard()}) may deliver events of
+     * concurrent modifications of the same game in any order.
+     *
+     * @param listener - receiver of the events
+     * @return subscription, which can be used to stop receiving events
+     * @throws IllegalArgumentException if the listener is null
+     */
+    Subscription subscribe(ScoreEventListener listener);
+
 }
@@ -1,10 +1,24 @@
 package pl.wicherski.sportradar.scoreboard;
 
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
-import static pl.wicherski.sportradar.scoreboard.GameComparators.HIGHEST_OVERALL_SCORE;
-import static pl.wicherski.sportradar.scoreboard.GameComparators.RECENT_FIRST;
+import static java.util.Objects.isNull;
+import static pl.wicherski.sportradar.scoreboard.GameComparators.BY_RANK_KEY;
 
 /**
  * Factory class for obtaining instances of {@link LiveScoreBoard}. It is implemented with singleton pattern.
@@ -13,9 +27,16 @@ import static pl.wicherski.sportradar.scoreboard.GameComparators.RECENT_FIRST;
 public final class LiveScoreBoardFactory {
 
     private static final LiveScoreBoardFactory INSTANCE = new LiveScoreBoardFactory();
+    private static final long JOURNAL_FLUSH_INTERVAL_MILLIS = 10;
+    private static final Duration JOURNAL_FLUSH_INTERVAL = Duration.ofMillis(JOURNAL_FLUSH_INTERVAL_MILLIS);
+    private static final long SUMMARY_PUBLISH_INTERVAL_MILLIS = 10;
+    private static final Duration SUMMARY_PUBLISH_INTERVAL = Duration.ofMillis(SUMMARY_PUBLISH_INTERVAL_MILLIS);
 
     private final TimeProvider timeProvider = Instant::now;
     private final ScoreSummaryFactory scoreSummaryFactory = new ScoreSummaryFactory();
+    // dictionaries of boards which are still in use, so statistics of boards which were garbage collected are dropped
+    private final Set<TeamNameDictionary> teamNameDictionaries = Collections.synchronizedSet(Collections.newSetFromMap(
+            new WeakHashMap<>()));
 
     private LiveScoreBoardFactory() {
     }
@@ -39,7 +60,51 @@ public final class LiveScoreBoardFactory {
         return new LiveScoreBoardImpl(new InMemoryGameRepository(new HashMap<>()),
                                       timeProvider,
                                       scoreSummaryFactory,
-                                      HIGHEST_OVERALL_SCORE.thenComparing(RECENT_FIRST));
+                                      BY_RANK_KEY,
+                                      GameIdGenerator.random(),
+                                      newTeamNameDictionary());
+    }
+
+    /**
+     * Factory method for creating new {@link LiveScoreBoard} with the same ordering and summary format as {@link #newBoard()}.
+     * Created instance stores games in an array indexed directly by game IDs - an ID is a slot of the array together with
+     * its generation, so finding a game involves no hashing, and slots of finished games are reused without making their
+     * old IDs valid again.
+     * <p>
+     * Unlike random IDs of {@link #newBoard()}, these IDs are only unique within the board - they are never found on
+     * other boards, but they are not globally unique identifiers of games.
+     * <p>
+     * Created board IS NOT thread safe.
+     *
+     * @return configured new {@link LiveScoreBoard}
+     */
+    public LiveScoreBoard newSlotBoard() {
+        SlotGameRepository gameRepository = new SlotGameRepository();
+        return new LiveScoreBoardImpl(gameRepository,
+                                      timeProvider,
+                                      scoreSummaryFactory,
+                                      BY_RANK_KEY,
+                                      gameRepository,
+                                      newTeamNameDictionary());
+    }
+
+    /**
+     * Factory method for creating new {@link LiveScoreBoard} with the same ordering and summary format as {@link #newBoard()}.
+     * Created instance keeps games in a ranking index, which is updated on each start, score update and finish of the game.
+     * Thanks to that, producing a summary is a linear walk over the index instead of sorting all games on each call.
+     * <p>
+     * Modifying operations are slower than in {@link #newBoard()} (logarithmic instead of constant time), so this board
+     * should be preferred when summaries are requested more often than scores change.
+     * <p>
+     * Created board IS NOT thread safe.
+     *
+     * @return configured new {@link LiveScoreBoard}
+     */
+    public LiveScoreBoard newIndexedBoard() {
+        return new IndexedLiveScoreBoard(new IndexedGameRepository(BY_RANK_KEY),
+                                         timeProvider,
+                                         scoreSummaryFactory,
+                                         newTeamNameDictionary());
     }
 
     /**
@@ -54,6 +119,476 @@ public final class LiveScoreBoardFactory {
         return new ThreadSafeLiveScoreBoard(newBoard());
     }
 
+    /**
+     * Factory method for creating thread-safe instances of {@link LiveScoreBoard}, like {@link #newThreadSafeBoard()},
+     * recording latencies of the operations, its size and sizes of produced summaries. Statistics are available through
+     * {@link InstrumentedLiveScoreBoard#getStatistics()} and can be exposed over JMX with
+     * {@link InstrumentedLiveScoreBoard#registerMBean(String)}.
+     * <p>
+     * Recording takes no locks and does not allocate, but reading the clock takes longer than a simple operation of the
+     * board, so only a random sample of operations (one of 16 on average) is timed and lock times are not recorded - use
+     * {@link #newInstrumentedBoard(int, boolean)} for them.
+     *
+     * @return configured, thread-safe {@link InstrumentedLiveScoreBoard}
+     */
+    public InstrumentedLiveScoreBoard newInstrumentedBoard() {
+        return newInstrumentedBoard(InstrumentingLiveScoreBoard.DEFAULT_SAMPLING_INTERVAL, false);
+    }
+
+    /**
+     * Factory method for creating thread-safe instances of {@link LiveScoreBoard}, like {@link #newInstrumentedBoard()},
+     * timing given share of the operations and optionally recording times of waiting for and holding the locks of the
+     * board. Timing all operations and their locks reads the clock 4 times per modification, which takes several times
+     * longer than an update of a score itself.
+     *
+     * @param samplingInterval - average number of operations per one timed operation, 1 to time all of them
+     * @param recordLockTimes  - whether times of waiting for and holding the locks are recorded (for all operations)
+     * @return configured, thread-safe {@link InstrumentedLiveScoreBoard}
+     * @throws IllegalArgumentException if the sampling interval is not positive
+     */
+    public InstrumentedLiveScoreBoard newInstrumentedBoard(int samplingInterval, boolean recordLockTimes) {
+        if (!recordLockTimes) {
+            return new InstrumentingLiveScoreBoard(new ThreadSafeLiveScoreBoard(newBoard()), null, samplingInterval);
+        }
+        TimedReadWriteLock lock = new TimedReadWriteLock();
+        return new InstrumentingLiveScoreBoard(new ThreadSafeLiveScoreBoard(newBoard(), lock), lock, samplingInterval);
+    }
+
+    /**
+     * Factory method for creating new {@link LiveScoreBoard} with the same ordering and summary format as {@link #newBoard()},
+     * designed for boards tracking tens of thousands of games. Created instance stores games as columns of primitive
+     * arrays, with team names stored once in a dictionary, so tracked games take much less heap space and score updates
+     * are written in place, without allocating new objects.
+     * <p>
+     * Created board IS NOT thread safe.
+     *
+     * @return configured new {@link LiveScoreBoard}
+     */
+    public LiveScoreBoard newColumnarBoard() {
+        TeamNameDictionary teamNames = newTeamNameDictionary();
+        return new ColumnarLiveScoreBoard(new ColumnarGameRepository(teamNames),
+                                          timeProvider,
+                                          scoreSummaryFactory,
+                                          BY_RANK_KEY,
+                                          teamNames);
+    }
+
+    /**
+     * Factory method for creating thread-safe instances of {@link LiveScoreBoard} without a global lock. Created instance
+     * stores games in a {@link ConcurrentHashMap} and every modification is an atomic operation on a single game entry -
+     * a score is written with a compare-and-set of the game read before, repeated if the game has been modified in the
+     * meantime, so concurrent modifications of the same game are never lost. Modifications of different games do not
+     * block each other and scale across cores.
+     * Produced {@link ScoreSummary} is consistent per game (each game is included either before or after a concurrent
+     * modification), but it is not a point-in-time snapshot of the whole board.
+     *
+     * @return configured, thread-safe {@link LiveScoreBoard}
+     */
+    public LiveScoreBoard newConcurrentBoard() {
+        return new LiveScoreBoardImpl(new InMemoryGameRepository(new ConcurrentHashMap<>()),
+                                      timeProvider,
+                                      scoreSummaryFactory,
+                                      BY_RANK_KEY,
+                                      GameIdGenerator.sequential(),
+                                      newTeamNameDictionary());
+    }
+
+    /**
+     * Factory method for creating thread-safe instances of {@link LiveScoreBoard} with lock-free reads. Modifying operations
+     * are serialized and each of them publishes an immutable, already ordered {@link ScoreSummary} snapshot. Reading the
+     * summary never blocks - it returns the most recently published snapshot.
+     * It uses {@link #newIndexedBoard()} instance for behavior implementation, so publishing a snapshot does not sort the games.
+     * <p>
+     * Modifying operations are more expensive than in {@link #newThreadSafeBoard()}, so this board should be preferred when
+     * summaries are requested much more often than scores change.
+     *
+     * @return configured, thread-safe {@link LiveScoreBoard}
+     */
+    public LiveScoreBoard newSnapshotPublishingBoard() {
+        return new SnapshotPublishingLiveScoreBoard(newIndexedBoard());
+    }
+
+    /**
+     * Factory method for creating thread-safe instances of {@link LiveScoreBoard} partitioned into given number of shards.
+     * Each shard is a board created with {@link #newIndexedBoard()}, guarded by its own read-write lock, so modifications
+     * of games in different shards do not block each other. Games of one competition can be kept in one shard with
+     * {@link ShardedLiveScoreBoard#startGame(String, String, String)}.
+     * <p>
+     * Produced {@link ScoreSummary} is merged from the already ordered summaries of the shards, without sorting all games
+     * again. It is consistent per shard, but it is not a point-in-time snapshot of the whole board.
+     *
+     * @param shards - number of shards, e.g. number of available processors
+     * @return configured, thread-safe {@link ShardedLiveScoreBoard}
+     * @throws IllegalArgumentException if number of shards is not positive
+     */
+    public ShardedLiveScoreBoard newShardedBoard(int shards) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("Number of shards has to be positive! Shards=%s".formatted(shards));
+        }
+        return newShardedBoard(shards, GameId.newScope(), 0, Map.of());
+    }
+
+    /**
+     * Creates a sharded board with given scope of game IDs, tracking given games - each of them in the shard its ID is
+     * routed to.
+     */
+    private ShardedLiveScoreBoard newShardedBoard(int shards, long idScope, long lastSequence, Map<GameId, Game> games) {
+        List<IndexedGameRepository> shardRepositories = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            shardRepositories.add(new IndexedGameRepository(BY_RANK_KEY));
+        }
+        games.forEach((gameId, game) -> {
+            int shard = ShardingLiveScoreBoard.shardOf(gameId, idScope, shards);
+            if (shard < 0) {
+                throw new IllegalArgumentException("Game does not belong to any shard! GameID=%s".formatted(gameId));
+            }
+            shardRepositories.get(shard)
+                             .save(gameId, game);
+        });
+        TeamNameDictionary teamNames = newTeamNameDictionary();
+        List<LiveScoreBoard> shardBoards = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            shardBoards.add(new ThreadSafeLiveScoreBoard(new IndexedLiveScoreBoard(shardRepositories.get(shard),
+                                                                                   timeProvider,
+                                                                                   scoreSummaryFactory,
+                                                                                   GameIdGenerator.sharded(idScope,
+                                                                                                           shard,
+                                                                                                           shards,
+                                                                                                           lastSequence),
+                                                                                   teamNames)));
+        }
+        return new ShardingLiveScoreBoard(shardBoards, idScope, BY_RANK_KEY, scoreSummaryFactory);
+    }
+
+    /**
+     * Factory method for creating thread-safe instances of {@link LiveScoreBoard} with a single writer thread. Modifications
+     * are submitted as commands to a preallocated ring buffer, instead of contending on a lock of the board, and the writer
+     * thread applies them in batches to a board created with {@link #newIndexedBoard()}.
+     * <p>
+     * The writer publishes an immutable {@link ScoreSummary} every {@value #SUMMARY_PUBLISH_INTERVAL_MILLIS} milliseconds,
+     * if the board has been modified in the meantime. Reading the summary never blocks, but it may not include
+     * modifications from the last interval - even the ones already completed.
+     * <p>
+     * Modifications can be submitted without waiting for them - see {@link IngestingLiveScoreBoard}. When the ring buffer
+     * is full, submitting threads wait until the writer catches up. The board has to be closed to stop the writer thread.
+     *
+     * @return configured, thread-safe {@link IngestingLiveScoreBoard}
+     */
+    public IngestingLiveScoreBoard newSingleWriterBoard() {
+        return new SingleWriterLiveScoreBoard(newIndexedBoard(),
+                                              SingleWriterLiveScoreBoard.DEFAULT_CAPACITY,
+                                              SUMMARY_PUBLISH_INTERVAL);
+    }
+
+    /**
+     * Factory method for creating thread-safe instances of {@link LiveScoreBoard} tracking games restored from a snapshot
+     * written with {@link LiveScoreBoard#saveSnapshot(Path)}. Restored games keep their IDs, team names, scores and start
+     * times, so the board produces the same {@link ScoreSummary} as the board which wrote the snapshot.
+     * <p>
+     * The whole snapshot is read at once, into a buffer sized to the file, and games are stored in a map sized to their
+     * count, so the board is ready within milliseconds even for a hundred thousand games.
+     * <p>
+     * Snapshot records whether the board which wrote it was sharded. A snapshot of a {@link #newShardedBoard(int)} board
+     * is restored into a {@link ShardedLiveScoreBoard} with the same number of shards, each tracking the same games as
+     * before, so restored game IDs are still routed to their shards. Any other snapshot is restored into a board which
+     * behaves as {@link #newThreadSafeBoard()}.
+     *
+     * @param snapshotFile - file with the snapshot
+     * @return configured, thread-safe {@link LiveScoreBoard} (or {@link ShardedLiveScoreBoard}) with the restored games
+     * @throws IllegalArgumentException if the file is null, is not a snapshot or is corrupted
+     * @throws java.io.UncheckedIOException if the file cannot be read
+     */
+    public LiveScoreBoard newBoardFromSnapshot(Path snapshotFile) {
+        if (isNull(snapshotFile)) {
+            throw new IllegalArgumentException("Snapshot file cannot be null!");
+        }
+        BoardSnapshot snapshot = BoardSnapshot.read(snapshotFile);
+        if (snapshot.shards() > 0) {
+            return newShardedBoard(snapshot.shards(), snapshot.idScope(), snapshot.lastSequence(), snapshot.games());
+        }
+        return new ThreadSafeLiveScoreBoard(new LiveScoreBoardImpl(new InMemoryGameRepository(snapshot.games()),
+                                                                   timeProvider,
+                                                                   scoreSummaryFactory,
+                                                                   BY_RANK_KEY,
+                                                                   GameIdGenerator.sequential(snapshot.lastSequence()),
+                                                                   newTeamNameDictionary()));
+    }
+
+    /**
+     * Factory method for creating thread-safe instances of {@link LiveScoreBoard} recording score history of the tracked
+     * games. Created board behaves as {@link #newThreadSafeBoard()}, but it can also tell the score of a game at given
+     * time and return all its score changes.
+     * <p>
+     * Score changes of each game are delta-encoded in a buffer of {@value ScoreTimelineBuffer#DEFAULT_CAPACITY} bytes
+     * (about 50 changes a few minutes apart), allocated when the game starts. Recording a change does not allocate
+     * memory. When the buffer is full, the oldest changes are dropped.
+     *
+     * @return configured, thread-safe {@link TimelineLiveScoreBoard}
+     */
+    public TimelineLiveScoreBoard newTimelineBoard() {
+        SlotGameRepository slotGameRepository = new SlotGameRepository();
+        TimelineRecordingGameRepository gameRepository = new TimelineRecordingGameRepository(slotGameRepository,
+                                                                                             timeProvider,
+                                                                                             ScoreTimelineBuffer.DEFAULT_CAPACITY);
+        LiveScoreBoard board = new LiveScoreBoardImpl(gameRepository,
+                                                      timeProvider,
+                                                      scoreSummaryFactory,
+                                                      BY_RANK_KEY,
+                                                      slotGameRepository,
+                                                      newTeamNameDictionary());
+        ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+        return new TimelineRecordingLiveScoreBoard(new ThreadSafeLiveScoreBoard(board, readWriteLock),
+                                                   gameRepository,
+                                                   readWriteLock);
+    }
+
+    /**
+     * Factory method for creating thread-safe instances of {@link LiveScoreBoard} keeping results of finished games.
+     * Created board behaves as {@link #newThreadSafeBoard()}, but finished games are moved into an archive, where they can
+     * be looked up by ID and listed as the latest results.
+     * <p>
+     * The archive keeps at most given number of the most recently finished games, for at most given time after they
+     * were finished - older games are evicted. Only finishing a game does additional work (constant time), other
+     * operations of the live games are not affected.
+     *
+     * @param maxFinishedGames - maximum number of games kept in the archive
+     * @param retention        - time for which a finished game is kept in the archive
+     * @return configured, thread-safe {@link ArchiveLiveScoreBoard}
+     * @throws IllegalArgumentException if the maximum number of games is not positive or the retention is null or not
+     *                                  positive
+     */
+    public ArchiveLiveScoreBoard newArchiveBoard(int maxFinishedGames, Duration retention) {
+        if (maxFinishedGames < 1) {
+            throw new IllegalArgumentException("Maximum number of finished games has to be positive! MaxFinishedGames=%s"
+                                                       .formatted(maxFinishedGames));
+        }
+        if (isNull(retention) || retention.isNegative() || retention.isZero()) {
+            throw new IllegalArgumentException("Retention has to be positive! Retention=%s".formatted(retention));
+        }
+        FinishedGameArchive archive = new FinishedGameArchive(maxFinishedGames, retention, timeProvider);
+        SlotGameRepository gameRepository = new SlotGameRepository();
+        LiveScoreBoard board = new LiveScoreBoardImpl(new ArchivingGameRepository(gameRepository, archive),
+                                                      timeProvider,
+                                                      scoreSummaryFactory,
+                                                      BY_RANK_KEY,
+                                                      gameRepository,
+                                                      newTeamNameDictionary());
+        return new ArchivingLiveScoreBoard(new ThreadSafeLiveScoreBoard(board), archive, scoreSummaryFactory);
+    }
+
+    /**
+     * Factory method for creating thread-safe instances of {@link LiveScoreBoard} which survive a restart of the JVM.
+     * Created board behaves as {@link #newThreadSafeBoard()}, but each start, score update and finish of a game is first
+     * appended to a journal in given file. If the file already exists, the board is rebuilt by replaying the journal
+     * before it is returned - with the same game IDs, team names, scores and start times as before the restart.
+     * <p>
+     * Journal is compacted into a snapshot file next to it (named as the journal with {@code .snapshot} suffix) right
+     * after the board is rebuilt, and whenever {@link JournaledLiveScoreBoard#compact()} is called, so rebuilding the
+     * board replays the snapshot and the events appended after it, not the whole history of the board.
+     * <p>
+     * Journal is a memory-mapped file, so appending an event does not wait for the storage device. Appended events are
+     * forced to the device in the background every {@value #JOURNAL_FLUSH_INTERVAL_MILLIS} milliseconds, so a crash of the
+     * operating system (not of the JVM) may lose the modifications from the last interval.
+     * {@link JournaledLiveScoreBoard#flush()} forces them right away.
+     * <p>
+     * Only one board can use the file at a time. The board has to be closed to release the file.
+     *
+     * @param journalFile - file of the journal, created if it does not exist
+     * @return configured, thread-safe {@link JournaledLiveScoreBoard}
+     * @throws IllegalArgumentException if the file is null or it exists and is not a journal
+     * @throws java.io.UncheckedIOException if the file cannot be read or written
+     */
+    public JournaledLiveScoreBoard newJournaledBoard(Path journalFile) {
+        if (isNull(journalFile)) {
+            throw new IllegalArgumentException("Journal file cannot be null!");
+        }
+        GameRepository gameRepository = new InMemoryGameRepository(new HashMap<>());
+        TeamNameDictionary teamNames = newTeamNameDictionary();
+        GameRepositoryReplayer replayer = new GameRepositoryReplayer(gameRepository, teamNames);
+        Path snapshotFile = JournalingLiveScoreBoard.snapshotFileOf(journalFile);
+        if (Files.exists(snapshotFile)) {
+            BoardSnapshot.read(snapshotFile)
+                         .replayTo(replayer);
+        }
+        EventJournal journal = EventJournal.open(journalFile, JOURNAL_FLUSH_INTERVAL, replayer);
+        LiveScoreBoard board = new LiveScoreBoardImpl(new JournalingGameRepository(gameRepository, journal),
+                                                      timeProvider,
+                                                      scoreSummaryFactory,
+                                                      BY_RANK_KEY,
+                                                      GameIdGenerator.sequential(replayer.lastSequence()),
+                                                      teamNames);
+        ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+        JournalingLiveScoreBoard journaledBoard = new JournalingLiveScoreBoard(new ThreadSafeLiveScoreBoard(board,
+                                                                                                            readWriteLock),
+                                                                               journal,
+                                                                               gameRepository,
+                                                                               snapshotFile,
+                                                                               readWriteLock.writeLock());
+        if (journal.replayStatistics()
+                   .events() > 0) {
+            try {
+                journaledBoard.compact();
+            } catch (RuntimeException e) {
+                journal.close();
+                throw e;
+            }
+        }
+        return journaledBoard;
+    }
+
+    /**
+     * Factory method for creating thread-safe instances of {@link LiveScoreBoard} replicated to other JVMs. Created board
+     * behaves as {@link #newThreadSafeBoard()}, but each start, score update and finish of a game is also appended to an
+     * in-memory log, which is streamed in a compact binary format to {@link FollowerLiveScoreBoard}s connected to given
+     * address (see {@link #newFollowerBoard(InetSocketAddress)}). A new follower gets a snapshot of the board first and
+     * then the modifications made after the snapshot.
+     * <p>
+     * Modifications never wait for the followers - the log is sent by a background thread. A follower which falls behind
+     * by more than {@value ReplicationServer#DEFAULT_MAX_LAG_BYTES} bytes of the log is disconnected. The board has to be
+     * closed to stop the replication.
+     *
+     * @param replicationAddress - address to listen on for followers, port 0 picks a free port
+     * @return configured, thread-safe {@link LeaderLiveScoreBoard}
+     * @throws IllegalArgumentException     if the address is null
+     * @throws java.io.UncheckedIOException if the address cannot be bound
+     */
+    public LeaderLiveScoreBoard newLeaderBoard(InetSocketAddress replicationAddress) {
+        if (isNull(replicationAddress)) {
+            throw new IllegalArgumentException("Replication address cannot be null!");
+        }
+        GameRepository gameRepository = new InMemoryGameRepository(new HashMap<>());
+        ReplicationLog log = new ReplicationLog();
+        LiveScoreBoard board = new LiveScoreBoardImpl(new ReplicatingGameRepository(gameRepository, log),
+                                                      timeProvider,
+                                                      scoreSummaryFactory,
+                                                      BY_RANK_KEY,
+                                                      GameIdGenerator.sequential(),
+                                                      newTeamNameDictionary());
+        ReplicationServer server = ReplicationServer.start(replicationAddress,
+                                                           log,
+                                                           gameRepository,
+                                                           ReplicationServer.DEFAULT_MAX_LAG_BYTES);
+        return new ReplicatingLiveScoreBoard(new ThreadSafeLiveScoreBoard(board), log, server);
+    }
+
+    /**
+     * Factory method for creating read-only copies of a {@link LeaderLiveScoreBoard} running in another JVM (or the same
+     * one). Created board connects to the leader and loads its snapshot before it is returned, then it applies the
+     * modifications streamed by the leader in the background. Games are kept in a ranking index, as in
+     * {@link #newIndexedBoard()}, so producing summaries is cheap.
+     * <p>
+     * Created board is thread-safe. It has to be closed to disconnect from the leader.
+     *
+     * @param leaderAddress - replication address of the leader, see {@link LeaderLiveScoreBoard#getReplicationAddress()}
+     * @return connected {@link FollowerLiveScoreBoard}
+     * @throws IllegalArgumentException     if the address is null
+     * @throws java.io.UncheckedIOException if the leader cannot be reached
+     */
+    public FollowerLiveScoreBoard newFollowerBoard(InetSocketAddress leaderAddress) {
+        if (isNull(leaderAddress)) {
+            throw new IllegalArgumentException("Leader address cannot be null!");
+        }
+        IndexedGameRepository gameRepository = new IndexedGameRepository(BY_RANK_KEY);
+        TeamNameDictionary teamNames = newTeamNameDictionary();
+        ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+        ReplicationClient client = ReplicationClient.connect(leaderAddress,
+                                                             new GameRepositoryReplayer(gameRepository, teamNames),
+                                                             readWriteLock.writeLock());
+        LiveScoreBoard board = new IndexedLiveScoreBoard(gameRepository, timeProvider, scoreSummaryFactory, teamNames);
+        return new FollowingLiveScoreBoard(new ThreadSafeLiveScoreBoard(board, readWriteLock), client);
+    }
+
+    /**
+     * Decorates given {@link LiveScoreBoard} with a summary cache. The decorated board counts its modifications and returns
+     * the previously produced {@link ScoreSummary} as long as nothing has changed since it was produced. Hits and misses
+     * of the cache are available through {@link CachingLiveScoreBoard#getCacheStatistics()}.
+     * <p>
+     * Returned board is thread-safe only if the decorated board is thread-safe. All modifications have to be done through
+     * the returned board, otherwise outdated summaries may be returned.
+     *
+     * @param liveScoreBoard - board to decorate
+     * @return {@link LiveScoreBoard} with summary cache
+     */
+    public CachingLiveScoreBoard withSummaryCache(LiveScoreBoard liveScoreBoard) {
+        if (isNull(liveScoreBoard)) {
+            throw new IllegalArgumentException("Board cannot be null!");
+        }
+        return new SummaryCachingLiveScoreBoard(liveScoreBoard);
+    }
+
+    /**
+     * Decorates given {@link LiveScoreBoard} with recording of latencies of its operations (of a random sample of them,
+     * as {@link #newInstrumentedBoard()} does), its size and sizes of produced summaries. Times of the locks of the board
+     * are not known to the decorator, so they are not recorded - use {@link #newInstrumentedBoard(int, boolean)} for them.
+     * <p>
+     * Returned board is thread-safe only if the decorated board is thread-safe.
+     *
+     * @param liveScoreBoard - board to decorate
+     * @return {@link InstrumentedLiveScoreBoard} recording statistics of the decorated board
+     */
+    public InstrumentedLiveScoreBoard withInstrumentation(LiveScoreBoard liveScoreBoard) {
+        if (isNull(liveScoreBoard)) {
+            throw new IllegalArgumentException("Board cannot be null!");
+        }
+        return new InstrumentingLiveScoreBoard(liveScoreBoard);
+    }
+
+    /**
+     * Wraps given thread-safe {@link LiveScoreBoard} with an {@link AsyncLiveScoreBoard}, running operations of the board
+     * on given executor. Threads calling the returned board never wait for locks of the wrapped board, so it can be used
+     * from threads which should not block, e.g. event loops, with the blocking confined to threads of the executor.
+     * <p>
+     * Boards which do not block on some operations are called directly: modifications of
+     * {@link #newSingleWriterBoard()} are submitted to its writer thread and summaries of
+     * {@link #newSnapshotPublishingBoard()} and {@link #newSingleWriterBoard()} are read from published snapshots.
+     *
+     * @param liveScoreBoard - thread-safe board to wrap
+     * @param executor       - executor running blocking operations of the board
+     * @return asynchronous API of the board
+     * @throws IllegalArgumentException if the board or the executor is null
+     */
+    public AsyncLiveScoreBoard withAsyncApi(LiveScoreBoard liveScoreBoard, Executor executor) {
+        if (isNull(liveScoreBoard) || isNull(executor)) {
+            throw new IllegalArgumentException("Board and executor cannot be null! Board=%s, Executor=%s".formatted(
+                    liveScoreBoard,
+                    executor));
+        }
+        return new AsyncLiveScoreBoardAdapter(liveScoreBoard, executor);
+    }
+
+    /**
+     * Returns statistics of team name dictionaries of boards created by this factory, which are still in use. Each board
+     * keeps a single instance of each distinct team name of its tracked games, so repeated names passed to
+     * {@link LiveScoreBoard#startGame(String, String)} (e.g. parsed from feed messages) do not stay on the heap as
+     * duplicates. A name is dropped from the dictionary when the last game of the team finishes.
+     *
+     * @return statistics summed over dictionaries of boards in use, including estimated memory saved
+     */
+    public TeamNameStatistics getTeamNameStatistics() {
+        List<TeamNameDictionary> dictionaries;
+        synchronized (teamNameDictionaries) {
+            dictionaries = List.copyOf(teamNameDictionaries);
+        }
+        int distinctNames = 0;
+        long lookups = 0;
+        long duplicatesReplaced = 0;
+        long estimatedBytesSaved = 0;
+        for (TeamNameDictionary dictionary : dictionaries) {
+            TeamNameStatistics statistics = dictionary.statistics();
+            distinctNames += statistics.distinctNames();
+            lookups += statistics.lookups();
+            duplicatesReplaced += statistics.duplicatesReplaced();
+            estimatedBytesSaved += statistics.estimatedBytesSaved();
+        }
+        return new TeamNameStatistics(distinctNames, lookups, duplicatesReplaced, estimatedBytesSaved);
+    }
+
+    private TeamNameDictionary newTeamNameDictionary() {
+        TeamNameDictionary teamNames = new TeamNameDictionary();
+        teamNameDictionaries.add(teamNames);
+        return teamNames;
+    }
+
     /**
      * Returns instance of {@link LiveScoreBoardFactory} (the same each time).
      *
@@ -1,38 +1,71 @@
 package pl.wicherski.sportradar.scoreboard;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
 
 import static java.util.Objects.isNull;
 
 class LiveScoreBoardImpl implements LiveScoreBoard {
 
+    private static final int EVENT_LOCK_STRIPES = 64;
+
     private final GameRepository gameRepository;
     private final TimeProvider timeProvider;
     private final ScoreSummaryFactory scoreSummaryFactory;
     private final Comparator<Game> gamesSortingComparator;
+    private final GameIdGenerator gameIdGenerator;
+    private final TeamNameDictionary teamNames;
+    private final ScoreEventPublisher events = new ScoreEventPublisher();
+    private final Lock[] eventLocks = newEventLocks();
 
     LiveScoreBoardImpl(GameRepository gameRepository,
                        TimeProvider timeProvider,
                        ScoreSummaryFactory scoreSummaryFactory,
                        Comparator<Game> gamesSortingComparator) {
+        this(gameRepository, timeProvider, scoreSummaryFactory, gamesSortingComparator, GameIdGenerator.random());
+    }
+
+    LiveScoreBoardImpl(GameRepository gameRepository,
+                       TimeProvider timeProvider,
+                       ScoreSummaryFactory scoreSummaryFactory,
+                       Comparator<Game> gamesSortingComparator,
+                       GameIdGenerator gameIdGenerator) {
+        this(gameRepository,
+             timeProvider,
+             scoreSummaryFactory,
+             gamesSortingComparator,
+             gameIdGenerator,
+             new TeamNameDictionary());
+    }
+
+    LiveScoreBoardImpl(GameRepository gameRepository,
+                       TimeProvider timeProvider,
+                       ScoreSummaryFactory scoreSummaryFactory,
+                       Comparator<Game> gamesSortingComparator,
+                       GameIdGenerator gameIdGenerator,
+                       TeamNameDictionary teamNames) {
         this.gameRepository = gameRepository;
         this.timeProvider = timeProvider;
         this.scoreSummaryFactory = scoreSummaryFactory;
         this.gamesSortingComparator = gamesSortingComparator;
+        this.gameIdGenerator = gameIdGenerator;
+        this.teamNames = teamNames;
     }
 
     @Override
     public GameId startGame(String homeTeam, String awayTeam) {
-        if (isNull(homeTeam) || isNull(awayTeam)) {
-            throw new IllegalArgumentException("Team name cannot be null! Home=%s, Away=%s".formatted(homeTeam,
-                                                                                                      awayTeam));
-        }
-
-        Game game = new Game(homeTeam, awayTeam, Score.of(0, 0), timeProvider.now());
-        GameId gameId = GameId.generate();
-        gameRepository.save(gameId, game);
-        return gameId;
+        validateTeams(homeTeam, awayTeam);
+        return saveNewGame(homeTeam, awayTeam);
     }
 
     @Override
@@ -40,7 +73,7 @@ class LiveScoreBoardImpl implements LiveScoreBoard {
         if (isNull(gameId)) {
             throw new IllegalArgumentException("Game ID cannot be null!");
         }
-        gameRepository.delete(gameId);
+        deleteGame(gameId);
     }
 
     @Override
@@ -51,19 +84,264 @@ class LiveScoreBoardImpl implements LiveScoreBoard {
                     score));
         }
 
-        Game gameToUpdate = gameRepository.get(gameId)
-                                          .orElseThrow(() -> new GameNotFoundException(gameId));
-        Game updatedGame = gameToUpdate.withUpdatedScore(score);
-        gameRepository.update(gameId, updatedGame);
+        if (!updateGameScore(gameId, score)) {
+            throw new GameNotFoundException(gameId);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetScore(GameId gameId, Score expectedScore, Score newScore) throws GameNotFoundException {
+        if (isNull(gameId) || isNull(expectedScore) || isNull(newScore)) {
+            throw new IllegalArgumentException(
+                    "Game ID and scores cannot be null! GameID=%s, ExpectedScore=%s, NewScore=%s".formatted(gameId,
+                                                                                                             expectedScore,
+                                                                                                             newScore));
+        }
+        return updateGameScoreIf(gameId,
+                                 game -> game.score()
+                                             .equals(expectedScore),
+                                 game -> game.withUpdatedScore(newScore));
+    }
+
+    @Override
+    public boolean updateScoreIfNewer(GameId gameId, long sequence, Score score) throws GameNotFoundException {
+        if (isNull(gameId) || isNull(score) || sequence <= 0) {
+            throw new IllegalArgumentException(
+                    "Game ID and score cannot be null and sequence has to be positive! GameID=%s, Sequence=%s, Score=%s"
+                            .formatted(gameId, sequence, score));
+        }
+        return updateGameScoreIf(gameId,
+                                 game -> game.scoreSequence() < sequence,
+                                 game -> game.withUpdatedScore(score, sequence));
+    }
+
+    @Override
+    public BatchUpdateResult updateScores(Map<GameId, Score> scores) {
+        if (isNull(scores)) {
+            throw new IllegalArgumentException("Scores cannot be null!");
+        }
+        scores.forEach((gameId, score) -> {
+            if (isNull(gameId) || isNull(score)) {
+                throw new IllegalArgumentException("Game ID and score cannot be null! GameID=%s, Score=%s".formatted(
+                        gameId,
+                        score));
+            }
+        });
+
+        List<GameId> notFoundGameIds = new ArrayList<>();
+        scores.forEach((gameId, score) -> {
+            if (!updateGameScore(gameId, score)) {
+                notFoundGameIds.add(gameId);
+            }
+        });
+        return new BatchUpdateResult(notFoundGameIds);
     }
 
     @Override
     public ScoreSummary getSummary() {
-        List<Game> sortedGames = gameRepository.getAll()
-                                               .stream()
-                                               .sorted(gamesSortingComparator)
-                                               .toList();
-        return scoreSummaryFactory.createSummaryFor(sortedGames);
+        return scoreSummaryFactory.createSummaryFor(rankGames());
+    }
+
+    @Override
+    public ScoreSummary getSummary(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative! Limit=%s".formatted(limit));
+        }
+        return scoreSummaryFactory.createSummaryFor(rankTopGames(limit));
+    }
+
+    @Override
+    public void saveSnapshot(Path file) {
+        if (isNull(file)) {
+            throw new IllegalArgumentException("Snapshot file cannot be null!");
+        }
+        BoardSnapshot.write(file, gameRepository);
+    }
+
+    @Override
+    public Subscription subscribe(ScoreEventListener listener) {
+        return events.subscribe(listener);
+    }
+
+    /**
+     * Replaces score of the stored game. The game is replaced only if it has not been modified since it was read (boards
+     * without a global lock), otherwise it is read again, so a concurrent modification of the game - e.g. of its score
+     * sequence - is never overwritten with the stale copy.
+     *
+     * @return true if the game was found and updated
+     */
+    boolean applyScore(GameId gameId, Score score) {
+        while (true) {
+            Optional<Game> gameToUpdate = gameRepository.get(gameId);
+            if (gameToUpdate.isEmpty()) {
+                return false;
+            }
+            if (gameRepository.replace(gameId, gameToUpdate.get(), gameToUpdate.get()
+                                                                               .withUpdatedScore(score))) {
+                return true;
+            }
+        }
+    }
+
+    List<Game> rankGames() {
+        return gameRepository.getAll()
+                             .stream()
+                             .sorted(gamesSortingComparator)
+                             .toList();
+    }
+
+    /**
+     * Selects leading games with a bounded heap, which holds the worst of the leading games on its top - O(n log limit).
+     */
+    List<Game> rankTopGames(int limit) {
+        Collection<Game> games = gameRepository.getAll();
+        if (limit >= games.size()) {
+            return rankGames();
+        }
+        if (limit == 0) {
+            return List.of();
+        }
+
+        PriorityQueue<Game> leadingGames = new PriorityQueue<>(limit, gamesSortingComparator.reversed());
+        for (Game game : games) {
+            if (leadingGames.size() < limit) {
+                leadingGames.add(game);
+            } else if (gamesSortingComparator.compare(game, leadingGames.peek()) < 0) {
+                leadingGames.poll();
+                leadingGames.add(game);
+            }
+        }
+        Game[] sortedGames = new Game[leadingGames.size()];
+        for (int i = sortedGames.length - 1; i >= 0; i--) {
+            sortedGames[i] = leadingGames.poll();
+        }
+        return List.of(sortedGames);
+    }
+
+    private void validateTeams(String homeTeam, String awayTeam) {
+        if (isNull(homeTeam) || isNull(awayTeam)) {
+            throw new IllegalArgumentException("Team name cannot be null! Home=%s, Away=%s".formatted(homeTeam,
+                                                                                                      awayTeam));
+        }
+    }
+
+    private GameId saveNewGame(String homeTeam, String awayTeam) {
+        GameId gameId = gameIdGenerator.next();
+        Game game = new Game(gameId,
+                             teamNames.canonicalize(homeTeam),
+                             teamNames.canonicalize(awayTeam),
+                             Score.of(0, 0),
+                             timeProvider.now());
+        gameRepository.save(gameId, game);
+        if (events.hasSubscribers()) {
+            events.publish(new ScoreEvent.GameStarted(gameId, game.homeTeamName(), game.awayTeamName()));
+        }
+        return gameId;
+    }
+
+    /**
+     * Applies the score and publishes its change. The previous score is read only if anyone receives the event, and then
+     * it is read, replaced and published under the event lock of the game, so it is the score which was actually
+     * replaced and events of the game are published in the order of its modifications.
+     */
+    private boolean updateGameScore(GameId gameId, Score score) {
+        if (!events.hasSubscribers()) {
+            return applyScore(gameId, score);
+        }
+        Lock eventLock = eventLockOf(gameId);
+        eventLock.lock();
+        try {
+            Optional<Game> game = gameRepository.get(gameId);
+            if (game.isEmpty() || !applyScore(gameId, score)) {
+                return false;
+            }
+            events.publish(new ScoreEvent.ScoreUpdated(gameId, game.get()
+                                                                 .score(), score));
+            return true;
+        } finally {
+            eventLock.unlock();
+        }
+    }
+
+    private boolean updateGameScoreIf(GameId gameId, Predicate<Game> condition, UnaryOperator<Game> update) {
+        if (!events.hasSubscribers()) {
+            return replaceGameIf(gameId, condition, update);
+        }
+        Lock eventLock = eventLockOf(gameId);
+        eventLock.lock();
+        try {
+            return replaceGameIf(gameId, condition, update);
+        } finally {
+            eventLock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the game with its updated copy if it meets the condition. The replacement fails only if the game has been
+     * modified concurrently (boards without a global lock), then the condition is checked again against the new state.
+     *
+     * @return true if the game met the condition and was updated
+     */
+    private boolean replaceGameIf(GameId gameId, Predicate<Game> condition, UnaryOperator<Game> update) {
+        while (true) {
+            Game game = gameRepository.get(gameId)
+                                      .orElseThrow(() -> new GameNotFoundException(gameId));
+            if (!condition.test(game)) {
+                return false;
+            }
+            Game updatedGame = update.apply(game);
+            if (gameRepository.replace(gameId, game, updatedGame)) {
+                if (events.hasSubscribers()) {
+                    events.publish(new ScoreEvent.ScoreUpdated(gameId, game.score(), updatedGame.score()));
+                }
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Deletes the game and releases its team names, so names of teams without any tracked game are not kept in memory.
+     */
+    private void deleteGame(GameId gameId) {
+        if (!events.hasSubscribers()) {
+            removeGame(gameId);
+            return;
+        }
+        Lock eventLock = eventLockOf(gameId);
+        eventLock.lock();
+        try {
+            removeGame(gameId);
+        } finally {
+            eventLock.unlock();
+        }
+    }
+
+    private void removeGame(GameId gameId) {
+        gameRepository.remove(gameId)
+                      .ifPresent(finishedGame -> {
+                          teamNames.release(finishedGame.homeTeamName());
+                          teamNames.release(finishedGame.awayTeamName());
+                          if (events.hasSubscribers()) {
+                              events.publish(new ScoreEvent.GameFinished(gameId, finishedGame.score()));
+                          }
+                      });
+    }
+
+    /**
+     * Event locks serialize modifications of a game while anyone is subscribed (boards without a global lock), so its
+     * events are published in the same order as the modifications are applied. Games are striped over a fixed number
+     * of locks, so modifications of different games rarely wait for each other.
+     */
+    private Lock eventLockOf(GameId gameId) {
+        return eventLocks[gameId.hashCode() & (EVENT_LOCK_STRIPES - 1)];
+    }
+
+    private static Lock[] newEventLocks() {
+        Lock[] locks = new Lock[EVENT_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
     }
 
 }
@@ -0,0 +1,61 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.time.Instant;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Packs total score and creation time of a game into a single non-negative {@code long}, which in ascending order ranks
+ * games the same way as {@link GameComparators#HIGHEST_OVERALL_SCORE} followed by {@link GameComparators#RECENT_FIRST}:
+ * <pre>
+ * | sign bit: 0 | 15 bits: 0x7FFF - total score | 48 bits: 0xFFFF_FFFF_FFFF - creation epoch millis |
+ * </pre>
+ * The mapping is monotonic, but not injective - games with equal keys have to be compared with the original
+ * comparators. That is the case for games with the same total score started in the same millisecond, and for all games
+ * with total score out of the encodable range (they get the first or the last possible key).
+ */
+final class RankKey {
+
+    private static final int TIME_BITS = 48;
+    private static final int MAX_TOTAL_SCORE = 0x7FFF;
+    private static final long MAX_EPOCH_MILLI = (1L << TIME_BITS) - 1;
+    private static final long HIGHEST_RANK = 0;
+    private static final long LOWEST_RANK = Long.MAX_VALUE;
+
+    private RankKey() {
+    }
+
+    static long of(Score score, Instant creationTimestamp) {
+        if (isNull(score)) {
+            return LOWEST_RANK;
+        }
+        if (isNull(creationTimestamp)) {
+            return of(score.home(), score.away(), 0, 0);
+        }
+        return of(score.home(), score.away(), creationTimestamp.getEpochSecond(), creationTimestamp.getNano());
+    }
+
+    static long of(int homeScore, int awayScore, long creationEpochSecond, int creationNano) {
+        // the same (overflowing) int sum as in GameComparators
+        int totalScore = homeScore + awayScore;
+        if (totalScore < 0) {
+            return LOWEST_RANK;
+        }
+        if (totalScore >= MAX_TOTAL_SCORE) {
+            return HIGHEST_RANK;
+        }
+        return (long) (MAX_TOTAL_SCORE - totalScore) << TIME_BITS | MAX_EPOCH_MILLI - epochMilli(creationEpochSecond,
+                                                                                                 creationNano);
+    }
+
+    private static long epochMilli(long epochSecond, int nano) {
+        if (epochSecond < 0) {
+            return 0;
+        }
+        if (epochSecond >= MAX_EPOCH_MILLI / 1_000) {
+            return MAX_EPOCH_MILLI;
+        }
+        return epochSecond * 1_000 + nano / 1_000_000;
+    }
+
+}
@@ -0,0 +1,85 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Decorator of {@link GameRepository} appending each modification to {@link ReplicationLog} right after applying it to
+ * the decorated repository. Both are done under the append lock of the log, so a snapshot of the repository taken by
+ * the log always matches its log position. Only modifications which change the repository are replicated - finishing or
+ * updating a game which is not stored appends nothing. Only the score of an updated game is replicated, as it is the
+ * only part of the game which can change.
+ */
+class ReplicatingGameRepository implements GameRepository {
+
+    private final GameRepository gameRepository;
+    private final ReplicationLog log;
+
+    ReplicatingGameRepository(GameRepository gameRepository, ReplicationLog log) {
+        this.gameRepository = gameRepository;
+        this.log = log;
+    }
+
+    @Override
+    public void save(GameId gameId, Game game) {
+        Lock appendLock = log.appendLock();
+        try {
+            appendLock.lock();
+            log.ensureOpen();
+            gameRepository.save(gameId, game);
+            log.appendGameStarted(gameId, game);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void delete(GameId gameId) {
+        remove(gameId);
+    }
+
+    @Override
+    public Optional<Game> remove(GameId gameId) {
+        Lock appendLock = log.appendLock();
+        try {
+            appendLock.lock();
+            log.ensureOpen();
+            Optional<Game> game = gameRepository.remove(gameId);
+            if (game.isPresent()) {
+                log.appendGameFinished(gameId);
+            }
+            return game;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void update(GameId gameId, Game updatedGame) {
+        Lock appendLock = log.appendLock();
+        try {
+            appendLock.lock();
+            log.ensureOpen();
+            if (gameRepository.get(gameId)
+                              .isEmpty()) {
+                return;
+            }
+            gameRepository.update(gameId, updatedGame);
+            log.appendScoreUpdated(gameId, updatedGame.score(), updatedGame.scoreSequence());
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Game> get(GameId gameId) {
+        return gameRepository.get(gameId);
+    }
+
+    @Override
+    public Collection<Game> getAll() {
+        return gameRepository.getAll();
+    }
+
+}
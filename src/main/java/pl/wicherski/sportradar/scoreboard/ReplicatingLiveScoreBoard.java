@@ -0,0 +1,42 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Decorator of {@link LiveScoreBoard} owning the {@link ReplicationLog} which the decorated board writes to and the
+ * {@link ReplicationServer} streaming it to followers, so the replication can be stopped together with the board.
+ * Decorator is thread-safe if the decorated board is thread-safe.
+ */
+class ReplicatingLiveScoreBoard extends ForwardingLiveScoreBoard implements LeaderLiveScoreBoard {
+
+    private final ReplicationLog log;
+    private final ReplicationServer server;
+
+    ReplicatingLiveScoreBoard(LiveScoreBoard liveScoreBoard, ReplicationLog log, ReplicationServer server) {
+        super(liveScoreBoard);
+        this.log = log;
+        this.server = server;
+    }
+
+    @Override
+    public InetSocketAddress getReplicationAddress() {
+        return server.address();
+    }
+
+    @Override
+    public long getLastSequence() {
+        return log.lastSequence();
+    }
+
+    @Override
+    public int getFollowerCount() {
+        return server.followerCount();
+    }
+
+    @Override
+    public void close() {
+        log.close();
+        server.close();
+    }
+
+}
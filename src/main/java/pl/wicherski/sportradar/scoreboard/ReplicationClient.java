@@ -0,0 +1,188 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.time.Instant;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * Receives the replication stream of a leader board and passes it to a {@link JournalEventHandler} which rebuilds the
+ * games of a follower board. The snapshot is loaded before {@link #connect} returns, then the tail of the leader log is
+ * applied by a background thread. Each batch of records read from the socket is applied under given lock, so readers
+ * of the follower board see whole batches.
+ * <p>
+ * When the leader closes the connection, the follower keeps the games it has received so far.
+ */
+final class ReplicationClient implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final SocketChannel channel;
+    private final JournalEventHandler handler;
+    private final Lock applyLock;
+    private final SequenceCountingHandler countingHandler = new SequenceCountingHandler();
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private boolean snapshotLoaded;
+    private volatile long appliedSequence;
+    private volatile boolean connected = true;
+    private Thread thread;
+
+    private ReplicationClient(SocketChannel channel, JournalEventHandler handler, Lock applyLock) {
+        this.channel = channel;
+        this.handler = handler;
+        this.applyLock = applyLock;
+    }
+
+    /**
+     * Connects to the leader and loads its snapshot.
+     *
+     * @param leaderAddress - replication address of the leader board
+     * @param handler       - receiver of the replicated events
+     * @param applyLock     - lock held while the events are passed to the handler
+     * @return client receiving the tail of the leader log in the background
+     * @throws UncheckedIOException  if the leader cannot be reached or it disconnects before sending the snapshot
+     * @throws IllegalStateException if the leader sends an unsupported stream
+     */
+    static ReplicationClient connect(InetSocketAddress leaderAddress, JournalEventHandler handler, Lock applyLock) {
+        SocketChannel channel;
+        try {
+            channel = SocketChannel.open(leaderAddress);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot connect to leader %s".formatted(leaderAddress), e);
+        }
+        ReplicationClient client = new ReplicationClient(channel, handler, applyLock);
+        try {
+            client.loadSnapshot();
+        } catch (IOException e) {
+            client.close();
+            throw new UncheckedIOException("Cannot load snapshot from leader %s".formatted(leaderAddress), e);
+        } catch (RuntimeException e) {
+            client.close();
+            throw e;
+        }
+        client.thread = new Thread(client::receiveLog, "score-board-follower");
+        client.thread.setDaemon(true);
+        client.thread.start();
+        return client;
+    }
+
+    /**
+     * @return sequence number of the last leader modification applied to the follower
+     */
+    long appliedSequence() {
+        return appliedSequence;
+    }
+
+    boolean isConnected() {
+        return connected;
+    }
+
+    @Override
+    public void close() {
+        connected = false;
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot close connection to leader", e);
+        }
+    }
+
+    private void loadSnapshot() throws IOException {
+        while (buffer.position() < Integer.BYTES * 2) {
+            readOrFail();
+        }
+        buffer.flip();
+        ReplicationLog.readHeader(buffer);
+        buffer.compact();
+        while (!snapshotLoaded) {
+            applyAvailable();
+            if (!snapshotLoaded) {
+                readOrFail();
+            }
+        }
+    }
+
+    private void receiveLog() {
+        try {
+            while (connected) {
+                applyAvailable();
+                readOrFail();
+            }
+        } catch (IOException e) {
+            // leader closed the connection, or the follower has been closed
+        } finally {
+            connected = false;
+        }
+    }
+
+    private void readOrFail() throws IOException {
+        if (!buffer.hasRemaining()) {
+            // a single record does not fit in the buffer
+            buffer = ByteBuffer.allocateDirect(2 * buffer.capacity())
+                               .put(buffer.flip());
+        }
+        if (channel.read(buffer) < 0) {
+            throw new IOException("Leader closed the connection");
+        }
+    }
+
+    /**
+     * Applies whole records read so far, keeping a partial record at the beginning of the buffer.
+     */
+    private void applyAvailable() {
+        if (buffer.position() == 0) {
+            return;
+        }
+        buffer.flip();
+        applyLock.lock();
+        try {
+            ReplicationLog.decode(buffer, countingHandler);
+        } finally {
+            applyLock.unlock();
+        }
+        buffer.compact();
+    }
+
+    /**
+     * Passes events to the handler, counting modifications of the tail of the log after the snapshot.
+     */
+    private final class SequenceCountingHandler implements ReplicationEventHandler {
+
+        @Override
+        public void gameStarted(GameId gameId, String homeTeam, String awayTeam, Instant creationTimestamp) {
+            handler.gameStarted(gameId, homeTeam, awayTeam, creationTimestamp);
+            applied();
+        }
+
+        @Override
+        public void scoreUpdated(GameId gameId, Score score, long scoreSequence) {
+            handler.scoreUpdated(gameId, score, scoreSequence);
+            applied();
+        }
+
+        @Override
+        public void gameFinished(GameId gameId) {
+            handler.gameFinished(gameId);
+            applied();
+        }
+
+        @Override
+        public void snapshotLoaded(long lastSequence) {
+            appliedSequence = lastSequence;
+            snapshotLoaded = true;
+        }
+
+        private void applied() {
+            if (snapshotLoaded) {
+                appliedSequence++;
+            }
+        }
+
+    }
+
+}
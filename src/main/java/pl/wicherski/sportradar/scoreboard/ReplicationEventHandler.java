@@ -0,0 +1,16 @@
+package pl.wicherski.sportradar.scoreboard;
+
+/**
+ * Receiver of events read from the replication stream of {@link ReplicationLog}. Besides the events of the board, it is
+ * told where the snapshot sent to a new follower ends and the tail of the log begins.
+ */
+interface ReplicationEventHandler extends JournalEventHandler {
+
+    /**
+     * Called after all games of the snapshot have been passed to the handler.
+     *
+     * @param lastSequence - sequence number of the last modification included in the snapshot
+     */
+    void snapshotLoaded(long lastSequence);
+
+}
@@ -0,0 +1,415 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * In-memory log of board modifications streamed by the leader to its followers, in a binary format like the one of
+ * {@link EventJournal} records: a type byte, ID of the game and event data. Records are appended to chunks of fixed
+ * size and each of them gets the next sequence number. Score records carry the sequence number of the last conditional
+ * update of the game, so followers keep it together with the score.
+ * <p>
+ * A new follower gets a snapshot first - stream header, a start and a score record for each game and a snapshot end
+ * record with the sequence number of the last included modification - and then the log from the position of the
+ * snapshot. Modifications of the board are applied and appended under {@link #appendLock()}, which is also held while
+ * the games of the snapshot are captured, so the snapshot matches its log position exactly.
+ * <p>
+ * Bytes appended to a chunk never change, so buffers returned by {@link #read(long)} can be read without the lock.
+ * Chunks which all followers have already read are dropped with {@link #trim(long)}.
+ */
+final class ReplicationLog {
+
+    static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+    private static final int MAGIC = 0x5342524C;
+    private static final int VERSION = 2;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    private static final byte GAME_STARTED = 1;
+    private static final byte SCORE_UPDATED = 2;
+    private static final byte GAME_FINISHED = 3;
+    private static final byte SNAPSHOT_END = 4;
+
+    private static final int GAME_ID_SIZE = 2 * Long.BYTES;
+    private static final int GAME_STARTED_FIXED_SIZE = 1 + GAME_ID_SIZE + Long.BYTES + 3 * Integer.BYTES;
+    private static final int SCORE_UPDATED_SIZE = 1 + GAME_ID_SIZE + 2 * Integer.BYTES + Long.BYTES;
+    private static final int GAME_FINISHED_SIZE = 1 + GAME_ID_SIZE;
+    private static final int SNAPSHOT_END_SIZE = 1 + Long.BYTES;
+
+    private static final Runnable NO_LISTENER = () -> {
+    };
+
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final int chunkSize;
+    private final ArrayDeque<Chunk> chunks = new ArrayDeque<>();
+    private Chunk currentChunk;
+    private boolean closed;
+    private volatile long endPosition;
+    private volatile long lastSequence;
+    private volatile Runnable appendListener = NO_LISTENER;
+
+    ReplicationLog() {
+        this(DEFAULT_CHUNK_SIZE);
+    }
+
+    ReplicationLog(int chunkSize) {
+        this.chunkSize = chunkSize;
+        currentChunk = new Chunk(0, ByteBuffer.allocate(chunkSize));
+        chunks.add(currentChunk);
+    }
+
+    /**
+     * Lock under which modifications have to be applied and appended, so they are not split by a snapshot.
+     */
+    Lock appendLock() {
+        return appendLock;
+    }
+
+    /**
+     * Sets the action called after each append, e.g. to wake up the thread sending the log to followers.
+     */
+    void setAppendListener(Runnable appendListener) {
+        this.appendListener = appendListener;
+    }
+
+    /**
+     * @throws IllegalStateException if the log is closed, so a modification is rejected before it is applied
+     */
+    void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Replication log is closed!");
+        }
+    }
+
+    void appendGameStarted(GameId gameId, Game game) {
+        byte[] homeTeamBytes = game.homeTeamName()
+                                   .getBytes(UTF_8);
+        byte[] awayTeamBytes = game.awayTeamName()
+                                   .getBytes(UTF_8);
+        appendLock.lock();
+        try {
+            ByteBuffer buffer = reserve(GAME_STARTED_FIXED_SIZE + homeTeamBytes.length + awayTeamBytes.length);
+            putGameStarted(buffer, gameId, game.creationTimestamp(), homeTeamBytes, awayTeamBytes);
+            appended();
+        } finally {
+            appendLock.unlock();
+        }
+        appendListener.run();
+    }
+
+    void appendScoreUpdated(GameId gameId, Score score, long scoreSequence) {
+        appendLock.lock();
+        try {
+            putScoreUpdated(reserve(SCORE_UPDATED_SIZE), gameId, score, scoreSequence);
+            appended();
+        } finally {
+            appendLock.unlock();
+        }
+        appendListener.run();
+    }
+
+    void appendGameFinished(GameId gameId) {
+        appendLock.lock();
+        try {
+            ByteBuffer buffer = reserve(GAME_FINISHED_SIZE);
+            buffer.put(GAME_FINISHED);
+            putGameId(buffer, gameId);
+            appended();
+        } finally {
+            appendLock.unlock();
+        }
+        appendListener.run();
+    }
+
+    /**
+     * Copies all games of the repository, together with the log position they match, for a snapshot of a new follower.
+     * Games are immutable, so only references are copied under {@link #appendLock()} - the snapshot is encoded later,
+     * without holding the lock. The repository has to be modified only under {@link #appendLock()}.
+     *
+     * @return games of the repository together with the log position, from which the follower has to read next
+     */
+    CapturedGames capture(GameRepository gameRepository) {
+        appendLock.lock();
+        try {
+            List<GameId> gameIds = new ArrayList<>();
+            List<Game> games = new ArrayList<>();
+            gameRepository.forEach((gameId, game) -> {
+                gameIds.add(gameId);
+                games.add(game);
+            });
+            return new CapturedGames(gameIds, games, lastSequence, endPosition);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Encodes captured games as a snapshot for a new follower. Takes no lock, so it can run on any thread.
+     *
+     * @return snapshot together with the log position, from which the follower has to read next
+     */
+    static Snapshot encode(CapturedGames capturedGames) {
+        List<Game> games = capturedGames.games();
+        List<byte[]> teamNames = new ArrayList<>(2 * games.size());
+        int size = HEADER_SIZE + SNAPSHOT_END_SIZE;
+        for (Game game : games) {
+            byte[] homeTeamBytes = game.homeTeamName()
+                                       .getBytes(UTF_8);
+            byte[] awayTeamBytes = game.awayTeamName()
+                                       .getBytes(UTF_8);
+            teamNames.add(homeTeamBytes);
+            teamNames.add(awayTeamBytes);
+            size += GAME_STARTED_FIXED_SIZE + homeTeamBytes.length + awayTeamBytes.length + SCORE_UPDATED_SIZE;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.putInt(MAGIC)
+              .putInt(VERSION);
+        for (int i = 0; i < games.size(); i++) {
+            Game game = games.get(i);
+            GameId gameId = capturedGames.gameIds()
+                                         .get(i);
+            putGameStarted(buffer, gameId, game.creationTimestamp(), teamNames.get(2 * i), teamNames.get(2 * i + 1));
+            putScoreUpdated(buffer, gameId, game.score(), game.scoreSequence());
+        }
+        buffer.put(SNAPSHOT_END)
+              .putLong(capturedGames.lastSequence());
+        return new Snapshot(buffer.flip(), capturedGames.position());
+    }
+
+    /**
+     * Returns appended bytes from given position to the end of its chunk - the caller moves to the next chunk by reading
+     * again from the position after the returned bytes.
+     *
+     * @return read-only buffer, empty if there is nothing appended after the position
+     * @throws IllegalStateException if the position has already been trimmed
+     */
+    ByteBuffer read(long position) {
+        appendLock.lock();
+        try {
+            for (Chunk chunk : chunks) {
+                if (position < chunk.start()) {
+                    break;
+                }
+                long chunkEnd = chunk.start() + chunk.buffer()
+                                                     .position();
+                if (position < chunkEnd || chunk == currentChunk) {
+                    return chunk.buffer()
+                                .asReadOnlyBuffer()
+                                .flip()
+                                .position((int) (position - chunk.start()));
+                }
+            }
+            throw new IllegalStateException("Log position is already trimmed! Position=%s".formatted(position));
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Drops chunks which end before given position, e.g. the lowest position which followers still have to read.
+     */
+    void trim(long position) {
+        appendLock.lock();
+        try {
+            while (chunks.peekFirst() != currentChunk) {
+                Chunk chunk = chunks.peekFirst();
+                if (chunk.start() + chunk.buffer()
+                                         .position() > position) {
+                    break;
+                }
+                chunks.pollFirst();
+            }
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Stops accepting new records. Records appended so far can still be read.
+     */
+    void close() {
+        appendLock.lock();
+        try {
+            closed = true;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    long endPosition() {
+        return endPosition;
+    }
+
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    long retainedBytes() {
+        appendLock.lock();
+        try {
+            return endPosition - chunks.getFirst()
+                                       .start();
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    /**
+     * Checks the header which starts the stream sent to a follower.
+     *
+     * @return true if the buffer held a whole header, which has been consumed
+     * @throws IllegalStateException if the stream is not a replication stream of a supported version
+     */
+    static boolean readHeader(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_SIZE) {
+            return false;
+        }
+        int magic = buffer.getInt();
+        int version = buffer.getInt();
+        if (magic != MAGIC || version != VERSION) {
+            throw new IllegalStateException("Unsupported replication stream! Magic=%s, Version=%s".formatted(magic,
+                                                                                                          version));
+        }
+        return true;
+    }
+
+    /**
+     * Passes whole records from the buffer to the handler. A record which is not whole yet is left in the buffer.
+     *
+     * @return number of decoded records
+     * @throws IllegalStateException if the buffer contains an unknown record
+     */
+    static int decode(ByteBuffer buffer, ReplicationEventHandler handler) {
+        int records = 0;
+        while (isRecordComplete(buffer)) {
+            decodeRecord(buffer, handler);
+            records++;
+        }
+        return records;
+    }
+
+    private static boolean isRecordComplete(ByteBuffer buffer) {
+        int available = buffer.remaining();
+        if (available == 0) {
+            return false;
+        }
+        int start = buffer.position();
+        return switch (buffer.get(start)) {
+            case GAME_STARTED -> {
+                int homeTeamLengthOffset = GAME_STARTED_FIXED_SIZE - 2 * Integer.BYTES;
+                if (available < GAME_STARTED_FIXED_SIZE) {
+                    yield false;
+                }
+                int homeTeamLength = buffer.getInt(start + homeTeamLengthOffset);
+                int awayTeamLengthOffset = homeTeamLengthOffset + Integer.BYTES + homeTeamLength;
+                yield available >= GAME_STARTED_FIXED_SIZE + homeTeamLength
+                      && available >= GAME_STARTED_FIXED_SIZE + homeTeamLength + buffer.getInt(start + awayTeamLengthOffset);
+            }
+            case SCORE_UPDATED -> available >= SCORE_UPDATED_SIZE;
+            case GAME_FINISHED -> available >= GAME_FINISHED_SIZE;
+            case SNAPSHOT_END -> available >= SNAPSHOT_END_SIZE;
+            default -> throw new IllegalStateException("Corrupted replication record! Type=%s".formatted(buffer.get(start)));
+        };
+    }
+
+    private static void decodeRecord(ByteBuffer buffer, ReplicationEventHandler handler) {
+        byte type = buffer.get();
+        if (type == SNAPSHOT_END) {
+            handler.snapshotLoaded(buffer.getLong());
+            return;
+        }
+        GameId gameId = GameId.of(buffer.getLong(), buffer.getLong());
+        switch (type) {
+            case GAME_STARTED -> {
+                Instant creationTimestamp = Instant.ofEpochSecond(buffer.getLong(), buffer.getInt());
+                String homeTeam = getString(buffer);
+                String awayTeam = getString(buffer);
+                handler.gameStarted(gameId, homeTeam, awayTeam, creationTimestamp);
+            }
+            case SCORE_UPDATED -> handler.scoreUpdated(gameId,
+                                                       Score.of(buffer.getInt(), buffer.getInt()),
+                                                       buffer.getLong());
+            default -> handler.gameFinished(gameId);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, UTF_8);
+    }
+
+    /**
+     * Returns the buffer of the chunk with room for a record, moving to a new chunk if needed.
+     */
+    private ByteBuffer reserve(int recordSize) {
+        ensureOpen();
+        if (currentChunk.buffer()
+                        .remaining() < recordSize) {
+            long start = currentChunk.start() + currentChunk.buffer()
+                                                            .position();
+            currentChunk = new Chunk(start, ByteBuffer.allocate(Math.max(chunkSize, recordSize)));
+            chunks.add(currentChunk);
+        }
+        return currentChunk.buffer();
+    }
+
+    private void appended() {
+        endPosition = currentChunk.start() + currentChunk.buffer()
+                                                         .position();
+        lastSequence++;
+    }
+
+    private static void putGameStarted(ByteBuffer buffer,
+                                       GameId gameId,
+                                       Instant creationTimestamp,
+                                       byte[] homeTeamBytes,
+                                       byte[] awayTeamBytes) {
+        buffer.put(GAME_STARTED);
+        putGameId(buffer, gameId);
+        buffer.putLong(creationTimestamp.getEpochSecond())
+              .putInt(creationTimestamp.getNano())
+              .putInt(homeTeamBytes.length)
+              .put(homeTeamBytes)
+              .putInt(awayTeamBytes.length)
+              .put(awayTeamBytes);
+    }
+
+    private static void putScoreUpdated(ByteBuffer buffer, GameId gameId, Score score, long scoreSequence) {
+        buffer.put(SCORE_UPDATED);
+        putGameId(buffer, gameId);
+        buffer.putInt(score.home())
+              .putInt(score.away())
+              .putLong(scoreSequence);
+    }
+
+    private static void putGameId(ByteBuffer buffer, GameId gameId) {
+        buffer.putLong(gameId.mostSignificantBits())
+              .putLong(gameId.leastSignificantBits());
+    }
+
+    /**
+     * Games of the board captured for a snapshot, the sequence number of the last modification included in them and the
+     * log position of the first modification not included in them.
+     */
+    record CapturedGames(List<GameId> gameIds, List<Game> games, long lastSequence, long position) {
+    }
+
+    /**
+     * Encoded snapshot of the board and the log position of the first modification not included in it.
+     */
+    record Snapshot(ByteBuffer data, long position) {
+    }
+
+    private record Chunk(long start, ByteBuffer buffer) {
+    }
+
+}
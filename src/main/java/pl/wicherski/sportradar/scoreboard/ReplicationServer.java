@@ -0,0 +1,399 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Streams {@link ReplicationLog} of the leader board to connected followers over non-blocking sockets, all served by a
+ * single thread. A new follower gets a snapshot of the board first and then the log from the position of the snapshot.
+ * Games of the snapshot are captured on the server thread, under the append lock of the log, but they are encoded on a
+ * separate thread, so a large board does not stall other followers or modifications of the leader.
+ * <p>
+ * The thread sleeps in the selector only when all followers are up to date, and appending to the log wakes it up only
+ * then, so under load the log is sent without waking the selector for every modification. A follower which cannot keep
+ * up is disconnected once it falls behind by more than the allowed number of bytes, so the log does not grow without
+ * a bound. An unexpected failure while serving followers disconnects them, but the server keeps running.
+ */
+final class ReplicationServer implements AutoCloseable {
+
+    static final long DEFAULT_MAX_LAG_BYTES = 64L << 20;
+
+    private final ReplicationLog log;
+    private final GameRepository gameRepository;
+    private final long maxLagBytes;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final List<FollowerConnection> followers = new ArrayList<>();
+    private final Queue<EncodedSnapshot> encodedSnapshots = new ConcurrentLinkedQueue<>();
+    private final ExecutorService snapshotEncoder = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "score-board-replication-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean sleeping = new AtomicBoolean();
+    private final Thread thread;
+    private volatile int followerCount;
+    private volatile boolean closed;
+
+    private ReplicationServer(ReplicationLog log,
+                              GameRepository gameRepository,
+                              long maxLagBytes,
+                              Selector selector,
+                              ServerSocketChannel serverChannel) {
+        this.log = log;
+        this.gameRepository = gameRepository;
+        this.maxLagBytes = maxLagBytes;
+        this.selector = selector;
+        this.serverChannel = serverChannel;
+        this.thread = new Thread(this::run, "score-board-replication");
+        thread.setDaemon(true);
+        log.setAppendListener(this::wakeUp);
+        thread.start();
+    }
+
+    /**
+     * Starts serving followers on given address.
+     *
+     * @param address        - address to listen on, port 0 picks a free port
+     * @param log            - log of the leader board
+     * @param gameRepository - repository of the leader board, read for snapshots under the append lock of the log
+     * @param maxLagBytes    - how many bytes of the log a follower can fall behind before it is disconnected
+     * @return started server
+     * @throws UncheckedIOException if the address cannot be bound
+     */
+    static ReplicationServer start(InetSocketAddress address,
+                                   ReplicationLog log,
+                                   GameRepository gameRepository,
+                                   long maxLagBytes) {
+        Selector selector = null;
+        ServerSocketChannel serverChannel = null;
+        try {
+            selector = Selector.open();
+            serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(address);
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+            return new ReplicationServer(log, gameRepository, maxLagBytes, selector, serverChannel);
+        } catch (IOException e) {
+            closeQuietly(serverChannel, e);
+            closeQuietly(selector, e);
+            throw new UncheckedIOException("Cannot start replication on %s".formatted(address), e);
+        }
+    }
+
+    InetSocketAddress address() {
+        try {
+            return (InetSocketAddress) serverChannel.getLocalAddress();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read replication address", e);
+        }
+    }
+
+    int followerCount() {
+        return followerCount;
+    }
+
+    /**
+     * Stops the server thread and disconnects all followers.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        selector.wakeup();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            while (!closed) {
+                try {
+                    serveFollowers();
+                } catch (RuntimeException e) {
+                    // unexpected failure - followers are disconnected, as lagging ones are, and the server keeps
+                    // accepting new ones and trimming the log
+                    sleeping.set(false);
+                    disconnectAllFollowers();
+                }
+            }
+        } catch (IOException e) {
+            // selector failed - followers are disconnected below and see the end of the stream
+        } finally {
+            disconnectAllFollowers();
+            snapshotEncoder.shutdownNow();
+            closeQuietly(serverChannel, null);
+            closeQuietly(selector, null);
+        }
+    }
+
+    private void serveFollowers() throws IOException {
+        attachEncodedSnapshots();
+        sendToFollowers();
+        disconnectLaggingFollowers();
+        log.trim(lowestFollowerPosition());
+        sleeping.set(true);
+        if (hasUnsentLog()) {
+            sleeping.set(false);
+            selector.selectNow();
+        } else {
+            selector.select();
+            sleeping.set(false);
+        }
+        handleSelectedKeys();
+    }
+
+    private void disconnectAllFollowers() {
+        followers.forEach(follower -> closeQuietly(follower.channel(), null));
+        followers.clear();
+        followerCount = 0;
+    }
+
+    private void wakeUp() {
+        if (sleeping.compareAndSet(true, false)) {
+            selector.wakeup();
+        }
+    }
+
+    private void handleSelectedKeys() throws IOException {
+        Iterator<SelectionKey> selectedKeys = selector.selectedKeys()
+                                                      .iterator();
+        while (selectedKeys.hasNext()) {
+            SelectionKey key = selectedKeys.next();
+            selectedKeys.remove();
+            if (!key.isValid()) {
+                continue;
+            }
+            if (key.isAcceptable()) {
+                accept();
+            } else if (key.isWritable()) {
+                FollowerConnection follower = (FollowerConnection) key.attachment();
+                key.interestOps(0);
+                follower.setWriteBlocked(false);
+            }
+        }
+    }
+
+    /**
+     * Accepts a new follower and captures games for its snapshot. Until the snapshot is encoded, the follower is not
+     * sent anything, but the log is kept from the position of the snapshot.
+     */
+    private void accept() throws IOException {
+        SocketChannel channel = serverChannel.accept();
+        if (isNull(channel)) {
+            return;
+        }
+        try {
+            channel.configureBlocking(false);
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            ReplicationLog.CapturedGames capturedGames = log.capture(gameRepository);
+            SelectionKey key = channel.register(selector, 0);
+            FollowerConnection follower = new FollowerConnection(channel, key, capturedGames.position());
+            key.attach(follower);
+            snapshotEncoder.execute(() -> encodeSnapshot(follower, capturedGames));
+            followers.add(follower);
+            followerCount = followers.size();
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(channel, e);
+        }
+    }
+
+    /**
+     * Encodes the snapshot on the encoder thread and passes it to the server thread. The follower is disconnected if
+     * the snapshot cannot be encoded.
+     */
+    private void encodeSnapshot(FollowerConnection follower, ReplicationLog.CapturedGames capturedGames) {
+        ByteBuffer data = null;
+        try {
+            data = ReplicationLog.encode(capturedGames)
+                                 .data();
+        } finally {
+            encodedSnapshots.add(new EncodedSnapshot(follower, data));
+            selector.wakeup();
+        }
+    }
+
+    private void attachEncodedSnapshots() {
+        EncodedSnapshot snapshot;
+        while (nonNull(snapshot = encodedSnapshots.poll())) {
+            FollowerConnection follower = snapshot.follower();
+            if (nonNull(snapshot.data())) {
+                follower.setSnapshot(snapshot.data());
+            } else if (followers.remove(follower)) {
+                closeQuietly(follower.channel(), null);
+            }
+        }
+        followerCount = followers.size();
+    }
+
+    private void sendToFollowers() {
+        Iterator<FollowerConnection> iterator = followers.iterator();
+        while (iterator.hasNext()) {
+            FollowerConnection follower = iterator.next();
+            try {
+                send(follower);
+            } catch (IOException | RuntimeException e) {
+                closeQuietly(follower.channel(), e);
+                iterator.remove();
+            }
+        }
+        followerCount = followers.size();
+    }
+
+    /**
+     * Writes pending bytes and then the log to the follower, until it is up to date or its socket buffer is full.
+     */
+    private void send(FollowerConnection follower) throws IOException {
+        if (follower.snapshotPending()) {
+            return;
+        }
+        while (!follower.writeBlocked()) {
+            ByteBuffer pending = follower.pending();
+            if (!pending.hasRemaining()) {
+                pending = log.read(follower.position());
+                if (!pending.hasRemaining()) {
+                    return;
+                }
+                follower.setPending(pending, follower.position() + pending.remaining());
+            }
+            follower.channel()
+                    .write(pending);
+            if (pending.hasRemaining()) {
+                follower.setWriteBlocked(true);
+                follower.key()
+                        .interestOps(SelectionKey.OP_WRITE);
+            }
+        }
+    }
+
+    private void disconnectLaggingFollowers() {
+        long endPosition = log.endPosition();
+        followers.removeIf(follower -> {
+            if (endPosition - follower.position() <= maxLagBytes) {
+                return false;
+            }
+            closeQuietly(follower.channel(), null);
+            return true;
+        });
+        followerCount = followers.size();
+    }
+
+    private long lowestFollowerPosition() {
+        long position = log.endPosition();
+        for (FollowerConnection follower : followers) {
+            position = Math.min(position, follower.position());
+        }
+        return position;
+    }
+
+    private boolean hasUnsentLog() {
+        long endPosition = log.endPosition();
+        for (FollowerConnection follower : followers) {
+            if (!follower.snapshotPending() && !follower.writeBlocked() && (follower.pending()
+                                                     .hasRemaining() || follower.position() < endPosition)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void closeQuietly(AutoCloseable closeable, Exception failure) {
+        if (isNull(closeable)) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            if (nonNull(failure)) {
+                failure.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * State of a connected follower, used only by the server thread. Position is the log position right after the
+     * pending bytes - or, until its snapshot is encoded, the position of the snapshot.
+     */
+    private static final class FollowerConnection {
+
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private ByteBuffer pending = ByteBuffer.allocate(0);
+        private long position;
+        private boolean snapshotPending = true;
+        private boolean writeBlocked;
+
+        FollowerConnection(SocketChannel channel, SelectionKey key, long snapshotPosition) {
+            this.channel = channel;
+            this.key = key;
+            this.position = snapshotPosition;
+        }
+
+        SocketChannel channel() {
+            return channel;
+        }
+
+        SelectionKey key() {
+            return key;
+        }
+
+        ByteBuffer pending() {
+            return pending;
+        }
+
+        long position() {
+            return position;
+        }
+
+        void setPending(ByteBuffer pending, long position) {
+            this.pending = pending;
+            this.position = position;
+        }
+
+        boolean snapshotPending() {
+            return snapshotPending;
+        }
+
+        /**
+         * Sets the encoded snapshot as the pending bytes - the log follows it from the position of the snapshot.
+         */
+        void setSnapshot(ByteBuffer snapshot) {
+            pending = snapshot;
+            snapshotPending = false;
+        }
+
+        boolean writeBlocked() {
+            return writeBlocked;
+        }
+
+        void setWriteBlocked(boolean writeBlocked) {
+            this.writeBlocked = writeBlocked;
+        }
+
+    }
+
+    private record EncodedSnapshot(FollowerConnection follower, ByteBuffer data) {
+    }
+
+}
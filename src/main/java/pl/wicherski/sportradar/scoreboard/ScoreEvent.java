@@ -0,0 +1,45 @@
+package pl.wicherski.sportradar.scoreboard;
+
+/**
+ * Change of a tracked game, delivered to {@link ScoreEventListener}s subscribed to the board.
+ */
+public sealed interface ScoreEvent {
+
+    /**
+     * Returns ID of the changed game.
+     *
+     * @return ID of the game
+     */
+    GameId gameId();
+
+    /**
+     * Game has been started, with score 0-0.
+     *
+     * @param gameId   ID of the started game
+     * @param homeTeam home team name
+     * @param awayTeam away team name
+     */
+    record GameStarted(GameId gameId, String homeTeam, String awayTeam) implements ScoreEvent {
+    }
+
+    /**
+     * Score of the game has been updated. If updates of the same game were coalesced, the previous score is the score
+     * before the first of them and the score is the score after the last of them.
+     *
+     * @param gameId        ID of the updated game
+     * @param previousScore score before the update
+     * @param score         score after the update
+     */
+    record ScoreUpdated(GameId gameId, Score previousScore, Score score) implements ScoreEvent {
+    }
+
+    /**
+     * Game has been finished and is not tracked anymore.
+     *
+     * @param gameId     ID of the finished game
+     * @param finalScore score of the game when it was finished
+     */
+    record GameFinished(GameId gameId, Score finalScore) implements ScoreEvent {
+    }
+
+}
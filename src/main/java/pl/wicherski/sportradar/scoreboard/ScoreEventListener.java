@@ -0,0 +1,30 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.List;
+
+/**
+ * Receiver of {@link ScoreEvent}s of the board it is subscribed to with {@link LiveScoreBoard#subscribe(ScoreEventListener)}.
+ */
+@FunctionalInterface
+public interface ScoreEventListener {
+
+    /**
+     * Receives a batch of events, in the order in which they happened. The listener is called from a delivery thread,
+     * never from the thread modifying the board, and it is never called concurrently for the same subscription.
+     *
+     * @param events - non-empty, unmodifiable batch of events
+     */
+    void onEvents(List<ScoreEvent> events);
+
+    /**
+     * Receives notice that events were dropped right after the last delivered batch, because the listener could not
+     * keep up and its buffer was full. Any kind of event may be lost (also start or finish of a game), so the listener
+     * should resync its state, e.g. with {@link LiveScoreBoard#getSummary()}. It is called before the listener receives
+     * any later event. Does nothing by default.
+     *
+     * @param droppedEvents - number of events dropped since the last delivered batch
+     */
+    default void onEventsDropped(long droppedEvents) {
+    }
+
+}
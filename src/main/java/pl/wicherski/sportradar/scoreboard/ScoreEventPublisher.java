@@ -0,0 +1,202 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Publishes {@link ScoreEvent}s of a board to its subscribers. Each subscriber has a bounded buffer of pending events,
+ * which is drained in batches by a delivery task run on the executor, so publishing an event only appends it to the
+ * buffers and never waits for the listeners.
+ * <p>
+ * While a score update is waiting in the buffer, next updates of the same game are merged into it. If the buffer is full
+ * anyway, because the listener is too slow, new events are dropped - the listener is told about it after the batch
+ * preceding them, so it can resync with a summary of the board. Both are counted in the subscription statistics.
+ * <p>
+ * Publisher is thread-safe.
+ */
+class ScoreEventPublisher {
+
+    static final int DEFAULT_CAPACITY = 1024;
+
+    private final List<EventSubscription> subscriptions = new CopyOnWriteArrayList<>();
+    private final Executor executor;
+    private final int capacity;
+
+    ScoreEventPublisher() {
+        this(DefaultExecutorHolder.EXECUTOR, DEFAULT_CAPACITY);
+    }
+
+    ScoreEventPublisher(Executor executor, int capacity) {
+        this.executor = executor;
+        this.capacity = capacity;
+    }
+
+    Subscription subscribe(ScoreEventListener listener) {
+        if (isNull(listener)) {
+            throw new IllegalArgumentException("Listener cannot be null!");
+        }
+        EventSubscription subscription = new EventSubscription(listener);
+        subscriptions.add(subscription);
+        return subscription;
+    }
+
+    /**
+     * Tells whether any listener is subscribed, so the board can skip preparing events nobody receives.
+     */
+    boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    void publish(ScoreEvent event) {
+        for (EventSubscription subscription : subscriptions) {
+            subscription.offer(event);
+        }
+    }
+
+    private class EventSubscription implements Subscription {
+
+        private final ScoreEventListener listener;
+        private final Lock lock = new ReentrantLock();
+        private final Map<GameId, Integer> pendingScoreUpdates = new HashMap<>();
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder coalesced = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private List<ScoreEvent> pendingEvents = new ArrayList<>();
+        private long droppedAfterPendingEvents;
+        private boolean deliveryScheduled;
+        private boolean cancelled;
+
+        EventSubscription(ScoreEventListener listener) {
+            this.listener = listener;
+        }
+
+        void offer(ScoreEvent event) {
+            lock.lock();
+            try {
+                if (cancelled || coalesce(event)) {
+                    return;
+                }
+                if (pendingEvents.size() == capacity) {
+                    dropped.increment();
+                    droppedAfterPendingEvents++;
+                    return;
+                }
+                if (event instanceof ScoreEvent.ScoreUpdated) {
+                    pendingScoreUpdates.put(event.gameId(), pendingEvents.size());
+                } else if (event instanceof ScoreEvent.GameFinished) {
+                    pendingScoreUpdates.remove(event.gameId());
+                }
+                pendingEvents.add(event);
+                if (deliveryScheduled) {
+                    return;
+                }
+                deliveryScheduled = true;
+            } finally {
+                lock.unlock();
+            }
+            executor.execute(this::deliver);
+        }
+
+        @Override
+        public SubscriptionStatistics getStatistics() {
+            return new SubscriptionStatistics(delivered.sum(), coalesced.sum(), dropped.sum());
+        }
+
+        @Override
+        public void cancel() {
+            subscriptions.remove(this);
+            lock.lock();
+            try {
+                cancelled = true;
+                pendingEvents.clear();
+                pendingScoreUpdates.clear();
+                droppedAfterPendingEvents = 0;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        /**
+         * Merges score update into the pending update of the same game, keeping the score from before the pending one.
+         *
+         * @return true if the event was merged and should not be added to the buffer
+         */
+        private boolean coalesce(ScoreEvent event) {
+            if (!(event instanceof ScoreEvent.ScoreUpdated scoreUpdated)) {
+                return false;
+            }
+            Integer pendingIndex = pendingScoreUpdates.get(event.gameId());
+            if (isNull(pendingIndex)) {
+                return false;
+            }
+            ScoreEvent.ScoreUpdated pending = (ScoreEvent.ScoreUpdated) pendingEvents.get(pendingIndex);
+            pendingEvents.set(pendingIndex, new ScoreEvent.ScoreUpdated(event.gameId(),
+                                                                        pending.previousScore(),
+                                                                        scoreUpdated.score()));
+            coalesced.increment();
+            return true;
+        }
+
+        /**
+         * Delivers pending events in batches, until there are none left. Events published during delivery of a batch
+         * are delivered with the next one. If events were dropped after a batch, the listener is told about it before
+         * it receives any later event.
+         */
+        private void deliver() {
+            while (true) {
+                List<ScoreEvent> batch;
+                long droppedEvents;
+                lock.lock();
+                try {
+                    if (cancelled || pendingEvents.isEmpty()) {
+                        deliveryScheduled = false;
+                        return;
+                    }
+                    batch = pendingEvents;
+                    pendingEvents = new ArrayList<>();
+                    pendingScoreUpdates.clear();
+                    droppedEvents = droppedAfterPendingEvents;
+                    droppedAfterPendingEvents = 0;
+                } finally {
+                    lock.unlock();
+                }
+                try {
+                    listener.onEvents(Collections.unmodifiableList(batch));
+                } catch (RuntimeException e) {
+                    // failure of the listener does not stop delivery of next batches
+                }
+                delivered.add(batch.size());
+                if (droppedEvents > 0) {
+                    try {
+                        listener.onEventsDropped(droppedEvents);
+                    } catch (RuntimeException e) {
+                        // failure of the listener does not stop delivery of next batches
+                    }
+                }
+            }
+        }
+
+    }
+
+    private static final class DefaultExecutorHolder {
+
+        private static final Executor EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "score-board-event-delivery");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    }
+
+}
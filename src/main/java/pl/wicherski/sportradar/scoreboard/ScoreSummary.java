@@ -1,5 +1,9 @@
 package pl.wicherski.sportradar.scoreboard;
 
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
 /**
  * Interface for snapshot of the scores. Once created, summary won't be updated.
  */
@@ -12,4 +16,67 @@ public interface ScoreSummary {
      */
     String toPrintableSummary();
 
+    /**
+     * Writes printable summary of the scores directly into given {@link Appendable} (e.g. {@link java.io.Writer} or
+     * {@link StringBuilder}), without building intermediate {@link String} objects. Written text is the same as returned
+     * by {@link #toPrintableSummary()}.
+     *
+     * @param appendable - destination of the summary
+     * @throws IOException if the appendable fails to append the text
+     */
+    void appendTo(Appendable appendable) throws IOException;
+
+    /**
+     * Writes printable summary of the scores, encoded as UTF-8, directly into given buffer, starting at its current
+     * position. Written bytes are the same as UTF-8 encoded {@link #toPrintableSummary()}. Buffer position is moved past
+     * the written bytes, so the same buffer can be reused for subsequent summaries after clearing it.
+     *
+     * @param buffer - destination of the summary
+     * @throws BufferOverflowException if there is not enough space remaining in the buffer
+     */
+    void writeTo(ByteBuffer buffer);
+
+    /**
+     * Returns a summary of the leading games of this summary.
+     *
+     * @param limit - maximum number of games in the returned summary
+     * @return summary of at most {@code limit} first games of this summary
+     * @throws IllegalArgumentException if limit is negative
+     */
+    ScoreSummary top(int limit);
+
+    /**
+     * Returns the first page of this summary. Pages of the summary are ranked against this summary, which never changes,
+     * so ranks stay consistent across pages, however the board changes in the meantime. A following page is fetched
+     * with {@link #page(SummaryCursor)} and the cursor returned with the page, in time dependent on the page size
+     * only - games are neither ordered nor copied again. The full ranking is paid once, when the summary is produced
+     * by the board (see {@link LiveScoreBoard#getSummary()}), so only the first page of a summary costs as much as the
+     * board size.
+     *
+     * @param pageSize - maximum number of games in a page
+     * @return page of at most {@code pageSize} first games of this summary, with a cursor of the next page
+     * @throws IllegalArgumentException if page size is not positive
+     */
+    SummaryPage firstPage(int pageSize);
+
+    /**
+     * Returns the page of this summary which starts at given cursor. The page can be fetched any number of times.
+     *
+     * @param cursor - cursor returned with a page of this summary, or restored from its token
+     * @return page of at most the page size games, with a cursor of the next page
+     * @throws IllegalArgumentException if the cursor is null or was not returned for this summary
+     */
+    SummaryPage page(SummaryCursor cursor);
+
+    /**
+     * Returns changes of the ranking since the previous summary of the same board - added, removed and moved games and
+     * changed scores. Games are matched by their IDs and the changes are computed in time linear to the number of games,
+     * so a client holding the previous summary can update its view without comparing the summaries itself.
+     *
+     * @param previous - summary produced by the same board before this one
+     * @return changes needed to turn the previous summary into this one
+     * @throws IllegalArgumentException if previous summary is null or was not produced by a board of this library
+     */
+    SummaryDiff changesSince(ScoreSummary previous);
+
 }
@@ -1,18 +1,38 @@
 package pl.wicherski.sportradar.scoreboard;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.IntStream;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 
 import static java.util.Objects.isNull;
 
 class ScoreSummaryImpl implements ScoreSummary {
 
+    // rough size of a single summary line, e.g. "1. Uruguay 6 - Italy 6"
+    private static final int ESTIMATED_LINE_LENGTH = 32;
+    private static final AtomicLongFieldUpdater<ScoreSummaryImpl> SUMMARY_ID =
+            AtomicLongFieldUpdater.newUpdater(ScoreSummaryImpl.class, "summaryId");
+
     private final List<Game> games;
+    private final int firstRank;
     private String printableSummary;
+    // assigned when the summary is paged for the first time, so summaries which are never paged do not pay for it
+    private volatile long summaryId;
 
     ScoreSummaryImpl(List<Game> games) {
+        this(games, 1);
+    }
+
+    /**
+     * Creates a summary of a part of a bigger summary, e.g. a page - its games are ranked starting from given rank.
+     */
+    ScoreSummaryImpl(List<Game> games, int firstRank) {
         this.games = games;
+        this.firstRank = firstRank;
     }
 
     @Override
@@ -23,19 +43,124 @@ class ScoreSummaryImpl implements ScoreSummary {
         return printableSummary;
     }
 
+    @Override
+    public void appendTo(Appendable appendable) throws IOException {
+        if (isNull(appendable)) {
+            throw new IllegalArgumentException("Appendable cannot be null!");
+        }
+        if (!isNull(printableSummary)) {
+            appendable.append(printableSummary);
+            return;
+        }
+        try {
+            render(SummarySink.of(appendable));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public void writeTo(ByteBuffer buffer) {
+        if (isNull(buffer)) {
+            throw new IllegalArgumentException("Buffer cannot be null!");
+        }
+        render(SummarySink.of(buffer));
+    }
+
+    @Override
+    public ScoreSummary top(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative! Limit=%s".formatted(limit));
+        }
+        if (limit >= games.size()) {
+            return this;
+        }
+        return new ScoreSummaryImpl(games.subList(0, limit), firstRank);
+    }
+
+    @Override
+    public SummaryPage firstPage(int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size has to be positive! PageSize=%s".formatted(pageSize));
+        }
+        return page(0, pageSize);
+    }
+
+    @Override
+    public SummaryPage page(SummaryCursor cursor) {
+        if (isNull(cursor)) {
+            throw new IllegalArgumentException("Cursor cannot be null!");
+        }
+        if (cursor.summaryId() != summaryId() || cursor.offset() > games.size()) {
+            throw new IllegalArgumentException("Cursor does not belong to this summary! Cursor=%s".formatted(cursor));
+        }
+        return page(cursor.offset(), cursor.pageSize());
+    }
+
+    private SummaryPage page(int offset, int pageSize) {
+        int end = (int) Math.min((long) offset + pageSize, games.size());
+        SummaryCursor nextCursor = end < games.size() ? new SummaryCursor(summaryId(), end, pageSize) : null;
+        return new SummaryPage(new ScoreSummaryImpl(games.subList(offset, end), firstRank + offset),
+                               firstRank + offset,
+                               games.size(),
+                               Optional.ofNullable(nextCursor),
+                               this);
+    }
+
+    @Override
+    public SummaryDiff changesSince(ScoreSummary previous) {
+        if (!(previous instanceof ScoreSummaryImpl previousSummary)) {
+            throw new IllegalArgumentException("Unsupported previous summary! Summary=%s".formatted(previous));
+        }
+        return SummaryDiff.between(previousSummary.games, previousSummary.firstRank, games, firstRank);
+    }
+
+    List<Game> games() {
+        return games;
+    }
+
+    private long summaryId() {
+        long id = summaryId;
+        if (id == 0) {
+            long newId;
+            do {
+                newId = ThreadLocalRandom.current()
+                                         .nextLong();
+            } while (newId == 0);
+            // another thread paging the same summary may have assigned its ID in the meantime
+            SUMMARY_ID.compareAndSet(this, 0, newId);
+            id = summaryId;
+        }
+        return id;
+    }
+
     private String prepareSummary() {
-        return IntStream.range(0, games.size())
-                        .mapToObj(i -> (i + 1) + ". " + formatGame(games.get(i)))
-                        .collect(Collectors.joining("\n"));
-    }
-
-    private String formatGame(Game game) {
-        return "%s %s - %s %s".formatted(game.homeTeamName(),
-                                         game.score()
-                                             .home(),
-                                         game.awayTeamName(),
-                                         game.score()
-                                             .away());
+        StringBuilder summary = new StringBuilder(games.size() * ESTIMATED_LINE_LENGTH);
+        render(SummarySink.of(summary));
+        return summary.toString();
+    }
+
+    private void render(SummarySink sink) {
+        for (int i = 0; i < games.size(); i++) {
+            if (i > 0) {
+                sink.character('\n');
+            }
+            sink.number(firstRank + i);
+            sink.text(". ");
+            renderGame(sink, games.get(i));
+        }
+    }
+
+    private void renderGame(SummarySink sink, Game game) {
+        sink.text(game.homeTeamName());
+        sink.character(' ');
+        sink.number(game.score()
+                        .home());
+        sink.text(" - ");
+        sink.text(game.awayTeamName());
+        sink.character(' ');
+        sink.number(game.score()
+                        .away());
     }
 
 }
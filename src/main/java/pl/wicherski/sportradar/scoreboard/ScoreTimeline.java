@@ -0,0 +1,28 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Score history of a tracked game, as recorded by {@link TimelineLiveScoreBoard}.
+ *
+ * @param gameId    ID of the game
+ * @param changes   scores of the game since its start (or since the oldest retained change), ordered by time
+ * @param truncated true if the oldest changes have been dropped to keep the history within its memory limit
+ */
+public record ScoreTimeline(GameId gameId, List<ScoreChange> changes, boolean truncated) {
+
+    public ScoreTimeline {
+        changes = List.copyOf(changes);
+    }
+
+    /**
+     * Score of the game set at given time - the start of the game with score 0-0 or a score update.
+     *
+     * @param timestamp time of the change, with millisecond precision
+     * @param score     score of the game since the change
+     */
+    public record ScoreChange(Instant timestamp, Score score) {
+    }
+
+}
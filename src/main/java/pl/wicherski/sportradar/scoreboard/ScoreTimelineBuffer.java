@@ -0,0 +1,201 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Score changes of one game, delta-encoded in a byte array of fixed capacity. The oldest retained change is kept in
+ * primitive fields, each next one as variable-length deltas of the time in milliseconds and of both team scores (zigzag
+ * encoded, as a score can also be corrected down). A typical change - a goal a few minutes after the previous one -
+ * takes 5 bytes.
+ * <p>
+ * When a change does not fit, the oldest changes are dropped in place, so memory of the buffer stays bounded and
+ * appending never allocates. Timestamps are kept with millisecond precision and never go back - a change with an
+ * earlier timestamp than the previous one is recorded at the time of the previous one.
+ * <p>
+ * Buffer IS NOT thread safe.
+ */
+class ScoreTimelineBuffer {
+
+    static final int DEFAULT_CAPACITY = 256;
+
+    private static final int MAX_CHANGE_SIZE = 10 + 2 * 5;
+
+    private final byte[] deltas;
+    private int size;
+    private int changes;
+    private boolean truncated;
+    private long firstMillis;
+    private int firstHome;
+    private int firstAway;
+    private long lastMillis;
+    private int lastHome;
+    private int lastAway;
+
+    ScoreTimelineBuffer(int capacity, Instant timestamp, Score score) {
+        if (capacity < MAX_CHANGE_SIZE) {
+            throw new IllegalArgumentException("Timeline capacity cannot be lower than %s! Capacity=%s".formatted(
+                    MAX_CHANGE_SIZE,
+                    capacity));
+        }
+        deltas = new byte[capacity];
+        firstMillis = timestamp.toEpochMilli();
+        firstHome = score.home();
+        firstAway = score.away();
+        lastMillis = firstMillis;
+        lastHome = firstHome;
+        lastAway = firstAway;
+        changes = 1;
+    }
+
+    /**
+     * Records a new score of the game. A score equal to the current one is not a change, so it is not recorded.
+     */
+    void append(Instant timestamp, Score score) {
+        if (score.home() == lastHome && score.away() == lastAway) {
+            return;
+        }
+        long millis = Math.max(timestamp.toEpochMilli(), lastMillis);
+        if (deltas.length - size < MAX_CHANGE_SIZE) {
+            dropOldestChanges();
+        }
+        size = putVarLong(deltas, size, millis - lastMillis);
+        size = putVarLong(deltas, size, zigzag(score.home() - lastHome));
+        size = putVarLong(deltas, size, zigzag(score.away() - lastAway));
+        lastMillis = millis;
+        lastHome = score.home();
+        lastAway = score.away();
+        changes++;
+    }
+
+    /**
+     * @return score valid at given time, empty if the time is before the oldest retained change
+     */
+    Optional<Score> scoreAt(Instant timestamp) {
+        long millis = timestamp.toEpochMilli();
+        if (millis < firstMillis) {
+            return Optional.empty();
+        }
+        if (millis >= lastMillis) {
+            return Optional.of(Score.of(lastHome, lastAway));
+        }
+        ChangeReader reader = new ChangeReader();
+        while (reader.hasNext() && reader.peekMillis() <= millis) {
+            reader.next();
+        }
+        return Optional.of(Score.of(reader.home, reader.away));
+    }
+
+    ScoreTimeline toTimeline(GameId gameId) {
+        List<ScoreTimeline.ScoreChange> scoreChanges = new ArrayList<>(changes);
+        ChangeReader reader = new ChangeReader();
+        scoreChanges.add(reader.current());
+        while (reader.hasNext()) {
+            reader.next();
+            scoreChanges.add(reader.current());
+        }
+        return new ScoreTimeline(gameId, scoreChanges, truncated);
+    }
+
+    int changes() {
+        return changes;
+    }
+
+    int capacity() {
+        return deltas.length;
+    }
+
+    /**
+     * Drops the oldest changes until at least a quarter of the buffer is free, so the remaining bytes are moved only
+     * once per many appends. Changes are decoded into local variables, as appending must not allocate.
+     */
+    private void dropOldestChanges() {
+        int target = Math.max(MAX_CHANGE_SIZE, deltas.length / 4);
+        int position = 0;
+        while (position < size && deltas.length - (size - position) < target) {
+            firstMillis += getVarLong(deltas, position);
+            position = skipVarLong(deltas, position);
+            firstHome += unzigzag(getVarLong(deltas, position));
+            position = skipVarLong(deltas, position);
+            firstAway += unzigzag(getVarLong(deltas, position));
+            position = skipVarLong(deltas, position);
+            changes--;
+        }
+        System.arraycopy(deltas, position, deltas, 0, size - position);
+        size -= position;
+        truncated = true;
+    }
+
+    private static long zigzag(int value) {
+        return Integer.toUnsignedLong((value << 1) ^ (value >> 31));
+    }
+
+    private static int unzigzag(long value) {
+        return (int) (value >>> 1) ^ -(int) (value & 1);
+    }
+
+    private static int putVarLong(byte[] buffer, int position, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        buffer[position++] = (byte) remaining;
+        return position;
+    }
+
+    private static long getVarLong(byte[] buffer, int position) {
+        long value = 0;
+        int shift = 0;
+        int current = position;
+        while (buffer[current] < 0) {
+            value |= (long) (buffer[current++] & 0x7F) << shift;
+            shift += 7;
+        }
+        return value | (long) buffer[current] << shift;
+    }
+
+    private static int skipVarLong(byte[] buffer, int position) {
+        int current = position;
+        while (buffer[current] < 0) {
+            current++;
+        }
+        return current + 1;
+    }
+
+    /**
+     * Walks the changes from the oldest retained one, decoding them into its fields.
+     */
+    private final class ChangeReader {
+
+        private int position;
+        private long millis = firstMillis;
+        private int home = firstHome;
+        private int away = firstAway;
+
+        boolean hasNext() {
+            return position < size;
+        }
+
+        long peekMillis() {
+            return millis + getVarLong(deltas, position);
+        }
+
+        void next() {
+            millis += getVarLong(deltas, position);
+            position = skipVarLong(deltas, position);
+            home += unzigzag(getVarLong(deltas, position));
+            position = skipVarLong(deltas, position);
+            away += unzigzag(getVarLong(deltas, position));
+            position = skipVarLong(deltas, position);
+        }
+
+        ScoreTimeline.ScoreChange current() {
+            return new ScoreTimeline.ScoreChange(Instant.ofEpochMilli(millis), Score.of(home, away));
+        }
+
+    }
+
+}
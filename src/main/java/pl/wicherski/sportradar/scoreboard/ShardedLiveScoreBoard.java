@@ -0,0 +1,36 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.List;
+
+/**
+ * {@link LiveScoreBoard} partitioning its games across independent shards, so modifications of games in different
+ * shards do not block each other. Games of one competition can be kept in the same shard by starting them with a
+ * competition key - games started without it are placed by a hash of their team names.
+ */
+public interface ShardedLiveScoreBoard extends LiveScoreBoard {
+
+    /**
+     * Starts a game of the competition in the shard of the competition.
+     *
+     * @param competition - key of the competition, e.g. its name
+     * @param homeTeam    - home team name
+     * @param awayTeam    - away team name
+     * @return ID of the newly created game
+     */
+    GameId startGame(String competition, String homeTeam, String awayTeam);
+
+    /**
+     * Starts multiple games of the competition at once in the shard of the competition.
+     *
+     * @param competition - key of the competition, e.g. its name
+     * @param teams       - teams of the games to start
+     * @return IDs of the newly created games, in the order of the given teams
+     */
+    List<GameId> startGames(String competition, List<Teams> teams);
+
+    /**
+     * @return number of shards of the board
+     */
+    int shardCount();
+
+}
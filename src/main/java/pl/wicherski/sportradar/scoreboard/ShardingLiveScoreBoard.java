@@ -0,0 +1,428 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static java.util.Objects.isNull;
+
+/**
+ * {@link ShardedLiveScoreBoard} with a thread-safe {@link IndexedLiveScoreBoard} per shard. Each shard generates IDs from
+ * its own interleaved sequence ({@link GameIdGenerator#sharded(long, int, int)}), so the shard of a game is computed from
+ * its ID, without any shared map. IDs not generated by the shards - of another kind or scope - are treated as IDs of not
+ * tracked games.
+ * <p>
+ * Each shard keeps its games ranked, so the global summary is a k-way merge of the already ordered shard summaries -
+ * O(n log k) for k shards, with no sorting. Summary is consistent per shard, but it is not a point-in-time snapshot of
+ * the whole board. Batches are split between the shards and each part is applied atomically in its shard.
+ */
+class ShardingLiveScoreBoard implements ShardedLiveScoreBoard {
+
+    private final List<LiveScoreBoard> shards;
+    private final long idScope;
+    private final Comparator<Game> rankingComparator;
+    private final ScoreSummaryFactory scoreSummaryFactory;
+
+    ShardingLiveScoreBoard(List<LiveScoreBoard> shards,
+                           long idScope,
+                           Comparator<Game> rankingComparator,
+                           ScoreSummaryFactory scoreSummaryFactory) {
+        this.shards = shards;
+        this.idScope = idScope;
+        this.rankingComparator = rankingComparator;
+        this.scoreSummaryFactory = scoreSummaryFactory;
+    }
+
+    @Override
+    public GameId startGame(String homeTeam, String awayTeam) {
+        validateTeams(homeTeam, awayTeam);
+        return shards.get(shardOf(homeTeam, awayTeam))
+                     .startGame(homeTeam, awayTeam);
+    }
+
+    @Override
+    public GameId startGame(String competition, String homeTeam, String awayTeam) {
+        validateCompetition(competition);
+        return shards.get(shardOf(competition))
+                     .startGame(homeTeam, awayTeam);
+    }
+
+    /**
+     * All teams are validated before any game is started, so a batch spread across the shards is not started partially.
+     */
+    @Override
+    public List<GameId> startGames(List<Teams> teams) {
+        if (isNull(teams)) {
+            throw new IllegalArgumentException("Teams cannot be null!");
+        }
+        teams.forEach(gameTeams -> {
+            if (isNull(gameTeams)) {
+                throw new IllegalArgumentException("Teams cannot be null!");
+            }
+            validateTeams(gameTeams.homeTeam(), gameTeams.awayTeam());
+        });
+
+        Map<Integer, List<Integer>> positionsByShard = new HashMap<>();
+        for (int i = 0; i < teams.size(); i++) {
+            Teams gameTeams = teams.get(i);
+            positionsByShard.computeIfAbsent(shardOf(gameTeams.homeTeam(), gameTeams.awayTeam()), shard -> new ArrayList<>())
+                            .add(i);
+        }
+        GameId[] gameIds = new GameId[teams.size()];
+        positionsByShard.forEach((shard, positions) -> {
+            List<GameId> shardGameIds = shards.get(shard)
+                                              .startGames(positions.stream()
+                                                                   .map(teams::get)
+                                                                   .toList());
+            for (int i = 0; i < positions.size(); i++) {
+                gameIds[positions.get(i)] = shardGameIds.get(i);
+            }
+        });
+        return List.of(gameIds);
+    }
+
+    @Override
+    public List<GameId> startGames(String competition, List<Teams> teams) {
+        validateCompetition(competition);
+        return shards.get(shardOf(competition))
+                     .startGames(teams);
+    }
+
+    @Override
+    public void finishGame(GameId gameId) {
+        if (isNull(gameId)) {
+            throw new IllegalArgumentException("Game ID cannot be null!");
+        }
+        int shard = shardOf(gameId);
+        if (shard >= 0) {
+            shards.get(shard)
+                  .finishGame(gameId);
+        }
+    }
+
+    @Override
+    public void finishGames(Collection<GameId> gameIds) {
+        if (isNull(gameIds) || gameIds.stream()
+                                      .anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Game IDs cannot be null! GameIDs=%s".formatted(gameIds));
+        }
+        Map<Integer, List<GameId>> gameIdsByShard = new HashMap<>();
+        for (GameId gameId : gameIds) {
+            int shard = shardOf(gameId);
+            if (shard >= 0) {
+                gameIdsByShard.computeIfAbsent(shard, key -> new ArrayList<>())
+                              .add(gameId);
+            }
+        }
+        gameIdsByShard.forEach((shard, shardGameIds) -> shards.get(shard)
+                                                              .finishGames(shardGameIds));
+    }
+
+    @Override
+    public void updateScore(GameId gameId, Score score) throws GameNotFoundException {
+        if (isNull(gameId) || isNull(score)) {
+            throw new IllegalArgumentException("Game ID and score cannot be null! GameID=%s, Score=%s".formatted(
+                    gameId,
+                    score));
+        }
+        int shard = shardOf(gameId);
+        if (shard < 0) {
+            throw new GameNotFoundException(gameId);
+        }
+        shards.get(shard)
+              .updateScore(gameId, score);
+    }
+
+    @Override
+    public boolean compareAndSetScore(GameId gameId, Score expectedScore, Score newScore) throws GameNotFoundException {
+        return shardBoardOf(gameId).compareAndSetScore(gameId, expectedScore, newScore);
+    }
+
+    @Override
+    public boolean updateScoreIfNewer(GameId gameId, long sequence, Score score) throws GameNotFoundException {
+        return shardBoardOf(gameId).updateScoreIfNewer(gameId, sequence, score);
+    }
+
+    @Override
+    public BatchUpdateResult updateScores(Map<GameId, Score> scores) {
+        if (isNull(scores)) {
+            throw new IllegalArgumentException("Scores cannot be null!");
+        }
+        List<GameId> notFoundGameIds = new ArrayList<>();
+        Map<Integer, Map<GameId, Score>> scoresByShard = new HashMap<>();
+        scores.forEach((gameId, score) -> {
+            if (isNull(gameId) || isNull(score)) {
+                throw new IllegalArgumentException("Game ID and score cannot be null! GameID=%s, Score=%s".formatted(
+                        gameId,
+                        score));
+            }
+            int shard = shardOf(gameId);
+            if (shard < 0) {
+                notFoundGameIds.add(gameId);
+            } else {
+                scoresByShard.computeIfAbsent(shard, key -> new HashMap<>())
+                             .put(gameId, score);
+            }
+        });
+        scoresByShard.forEach((shard, shardScores) -> notFoundGameIds.addAll(shards.get(shard)
+                                                                                   .updateScores(shardScores)
+                                                                                   .notFoundGameIds()));
+        return new BatchUpdateResult(notFoundGameIds);
+    }
+
+    @Override
+    public ScoreSummary getSummary() {
+        List<List<Game>> shardGames = new ArrayList<>(shards.size());
+        for (LiveScoreBoard shard : shards) {
+            shardGames.add(gamesOf(shard.getSummary()));
+        }
+        return scoreSummaryFactory.createSummaryFor(merge(shardGames, Integer.MAX_VALUE));
+    }
+
+    /**
+     * Each shard returns at most {@code limit} of its leading games, so the merge never walks more than
+     * {@code limit * k} games.
+     */
+    @Override
+    public ScoreSummary getSummary(int limit) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("Limit cannot be negative! Limit=%s".formatted(limit));
+        }
+        List<List<Game>> shardGames = new ArrayList<>(shards.size());
+        for (LiveScoreBoard shard : shards) {
+            shardGames.add(gamesOf(shard.getSummary(limit)));
+        }
+        return scoreSummaryFactory.createSummaryFor(merge(shardGames, limit));
+    }
+
+    /**
+     * Snapshot contains games of all shards, each shard read at a different moment, together with the number of shards
+     * and the scope of their game IDs. It can be loaded with {@link LiveScoreBoardFactory#newBoardFromSnapshot(Path)}
+     * into a sharded board which routes the restored games to the same shards.
+     */
+    @Override
+    public void saveSnapshot(Path file) {
+        if (isNull(file)) {
+            throw new IllegalArgumentException("Snapshot file cannot be null!");
+        }
+        Map<GameId, Game> games = new HashMap<>();
+        for (LiveScoreBoard shard : shards) {
+            gamesOf(shard.getSummary()).forEach(game -> games.put(game.gameId(), game));
+        }
+        BoardSnapshot.write(file, new InMemoryGameRepository(games), shards.size(), idScope);
+    }
+
+    /**
+     * Listener is subscribed to each shard. Shards deliver their events on their own threads, so deliveries (and
+     * notifications about dropped events) are serialized to keep the listener from being called concurrently. Events of
+     * one game always come from one shard, so they stay in order.
+     */
+    @Override
+    public Subscription subscribe(ScoreEventListener listener) {
+        if (isNull(listener)) {
+            throw new IllegalArgumentException("Listener cannot be null!");
+        }
+        Object deliveryLock = new Object();
+        ScoreEventListener serializedListener = new ScoreEventListener() {
+            @Override
+            public void onEvents(List<ScoreEvent> events) {
+                synchronized (deliveryLock) {
+                    listener.onEvents(events);
+                }
+            }
+
+            @Override
+            public void onEventsDropped(long droppedEvents) {
+                synchronized (deliveryLock) {
+                    listener.onEventsDropped(droppedEvents);
+                }
+            }
+        };
+        List<Subscription> subscriptions = new ArrayList<>(shards.size());
+        for (LiveScoreBoard shard : shards) {
+            subscriptions.add(shard.subscribe(serializedListener));
+        }
+        return new ShardedSubscription(subscriptions);
+    }
+
+    @Override
+    public int shardCount() {
+        return shards.size();
+    }
+
+    /**
+     * Merges games ordered by the ranking comparator into one ordered list, taking the leading game of the shards from
+     * the top of a binary heap of shard cursors. After a game is taken, its cursor is advanced and sifted down from the
+     * top in place - a single pass, which stops right away while the same shard keeps leading.
+     */
+    private List<Game> merge(List<List<Game>> shardGames, int limit) {
+        ShardCursor[] heap = new ShardCursor[shardGames.size()];
+        int heapSize = 0;
+        int gamesCount = 0;
+        for (List<Game> games : shardGames) {
+            gamesCount += games.size();
+            if (!games.isEmpty()) {
+                heap[heapSize++] = new ShardCursor(games);
+            }
+        }
+        for (int i = heapSize / 2 - 1; i >= 0; i--) {
+            siftDown(heap, heapSize, i);
+        }
+
+        List<Game> mergedGames = new ArrayList<>(Math.min(gamesCount, limit));
+        while (mergedGames.size() < limit && heapSize > 0) {
+            ShardCursor leadingCursor = heap[0];
+            mergedGames.add(leadingCursor.current());
+            if (!leadingCursor.advance()) {
+                heap[0] = heap[--heapSize];
+            }
+            siftDown(heap, heapSize, 0);
+        }
+        return mergedGames;
+    }
+
+    private void siftDown(ShardCursor[] heap, int heapSize, int index) {
+        ShardCursor cursor = heap[index];
+        int child = 2 * index + 1;
+        while (child < heapSize) {
+            if (child + 1 < heapSize && precedes(heap[child + 1], heap[child])) {
+                child++;
+            }
+            if (!precedes(heap[child], cursor)) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+            child = 2 * index + 1;
+        }
+        heap[index] = cursor;
+    }
+
+    private boolean precedes(ShardCursor cursor1, ShardCursor cursor2) {
+        return rankingComparator.compare(cursor1.current(), cursor2.current()) < 0;
+    }
+
+    private static List<Game> gamesOf(ScoreSummary summary) {
+        if (!(summary instanceof ScoreSummaryImpl summaryImpl)) {
+            throw new IllegalStateException("Unsupported shard summary! Summary=%s".formatted(summary));
+        }
+        return summaryImpl.games();
+    }
+
+    /**
+     * Returns the board of the shard owning the game, which validates the rest of the arguments of an operation.
+     */
+    private LiveScoreBoard shardBoardOf(GameId gameId) {
+        if (isNull(gameId)) {
+            throw new IllegalArgumentException("Game ID cannot be null!");
+        }
+        int shard = shardOf(gameId);
+        if (shard < 0) {
+            throw new GameNotFoundException(gameId);
+        }
+        return shards.get(shard);
+    }
+
+    private int shardOf(GameId gameId) {
+        return shardOf(gameId, idScope, shards.size());
+    }
+
+    /**
+     * Returns the shard owning the game with given ID, or -1 if the ID was not generated by shards of a board with given
+     * ID scope.
+     */
+    static int shardOf(GameId gameId, long idScope, int shards) {
+        if (!gameId.isSequence() || gameId.scope() != idScope) {
+            return -1;
+        }
+        return (int) Long.remainderUnsigned(gameId.sequence(), shards);
+    }
+
+    private int shardOf(String homeTeam, String awayTeam) {
+        return spread(homeTeam.hashCode() * 0x9E3779B9 + awayTeam.hashCode());
+    }
+
+    private int shardOf(String competition) {
+        return spread(competition.hashCode());
+    }
+
+    /**
+     * Mixes all bits of the hash into the lower ones (MurmurHash3 finalizer), as hashes of similar team names, e.g.
+     * differing only in a suffix, differ only in a few bits.
+     */
+    private int spread(int hash) {
+        int mixed = hash ^ hash >>> 16;
+        mixed *= 0x85EBCA6B;
+        mixed ^= mixed >>> 13;
+        mixed *= 0xC2B2AE35;
+        mixed ^= mixed >>> 16;
+        return Math.floorMod(mixed, shards.size());
+    }
+
+    private static void validateTeams(String homeTeam, String awayTeam) {
+        if (isNull(homeTeam) || isNull(awayTeam)) {
+            throw new IllegalArgumentException("Team name cannot be null! Home=%s, Away=%s".formatted(homeTeam,
+                                                                                                      awayTeam));
+        }
+    }
+
+    private static void validateCompetition(String competition) {
+        if (isNull(competition)) {
+            throw new IllegalArgumentException("Competition cannot be null!");
+        }
+    }
+
+    private static final class ShardCursor {
+
+        private final List<Game> games;
+        private int position;
+        private Game current;
+
+        ShardCursor(List<Game> games) {
+            this.games = games;
+            this.current = games.get(0);
+        }
+
+        Game current() {
+            return current;
+        }
+
+        boolean advance() {
+            if (++position == games.size()) {
+                return false;
+            }
+            current = games.get(position);
+            return true;
+        }
+
+    }
+
+    private record ShardedSubscription(List<Subscription> subscriptions) implements Subscription {
+
+        @Override
+        public SubscriptionStatistics getStatistics() {
+            long delivered = 0;
+            long coalesced = 0;
+            long dropped = 0;
+            for (Subscription subscription : subscriptions) {
+                SubscriptionStatistics statistics = subscription.getStatistics();
+                delivered += statistics.delivered();
+                coalesced += statistics.coalesced();
+                dropped += statistics.dropped();
+            }
+            return new SubscriptionStatistics(delivered, coalesced, dropped);
+        }
+
+        @Override
+        public void cancel() {
+            subscriptions.forEach(Subscription::cancel);
+        }
+
+    }
+
+}
@@ -0,0 +1,344 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+
+/**
+ * {@link IngestingLiveScoreBoard} applying commands to a board which is not thread-safe, from a single writer thread.
+ * Producers put commands into a {@link CommandRing}, so they never contend on a lock of the board - only on claiming
+ * the next sequence of the ring.
+ * <p>
+ * Writer applies all commands published so far as a batch and completes their futures right away. Summary is published
+ * separately, at most once per publish interval and only if the board has been modified since the previous one, so
+ * producing summaries does not slow down modifications, however many of them are submitted. Readers never wait for the
+ * writer - summaries are read from a volatile field.
+ * <p>
+ * Futures are completed on the writer thread, so dependent actions attached with non-async methods of
+ * {@link CompletableFuture} run on it too. Such actions can submit next commands, but they never wait for the writer -
+ * submitting fails with {@link IllegalStateException} if the ring is full and blocking methods of the board fail with
+ * it right away, as the writer would wait for itself.
+ */
+class SingleWriterLiveScoreBoard implements IngestingLiveScoreBoard {
+
+    static final int DEFAULT_CAPACITY = 4096;
+
+    private final LiveScoreBoard liveScoreBoard;
+    private final CommandRing<Command> ring;
+    private final long publishIntervalNanos;
+    private final Thread writer;
+    private volatile ScoreSummary publishedSummary;
+
+    SingleWriterLiveScoreBoard(LiveScoreBoard liveScoreBoard, int capacity, Duration publishInterval) {
+        this.liveScoreBoard = liveScoreBoard;
+        this.ring = new CommandRing<>(capacity, Command::new);
+        this.publishIntervalNanos = publishInterval.toNanos();
+        this.publishedSummary = liveScoreBoard.getSummary();
+        this.writer = new Thread(this::applyCommands, "score-board-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public CompletableFuture<GameId> submitStartGame(String homeTeam, String awayTeam) {
+        long sequence = claim();
+        Command command = ring.slot(sequence);
+        command.type = CommandType.START_GAME;
+        command.homeTeam = homeTeam;
+        command.awayTeam = awayTeam;
+        return submit(sequence, command);
+    }
+
+    @Override
+    public CompletableFuture<Void> submitScoreUpdate(GameId gameId, Score score) {
+        long sequence = claim();
+        Command command = ring.slot(sequence);
+        command.type = CommandType.UPDATE_SCORE;
+        command.gameId = gameId;
+        command.score = score;
+        return submit(sequence, command);
+    }
+
+    @Override
+    public CompletableFuture<Void> submitFinishGame(GameId gameId) {
+        long sequence = claim();
+        Command command = ring.slot(sequence);
+        command.type = CommandType.FINISH_GAME;
+        command.gameId = gameId;
+        return submit(sequence, command);
+    }
+
+    @Override
+    public GameId startGame(String homeTeam, String awayTeam) {
+        return await(() -> submitStartGame(homeTeam, awayTeam));
+    }
+
+    @Override
+    public void finishGame(GameId gameId) {
+        await(() -> submitFinishGame(gameId));
+    }
+
+    @Override
+    public void updateScore(GameId gameId, Score score) throws GameNotFoundException {
+        await(() -> submitScoreUpdate(gameId, score));
+    }
+
+    @Override
+    public boolean compareAndSetScore(GameId gameId, Score expectedScore, Score newScore) throws GameNotFoundException {
+        return await(() -> submitOperation(board -> board.compareAndSetScore(gameId, expectedScore, newScore),
+                                           true));
+    }
+
+    @Override
+    public boolean updateScoreIfNewer(GameId gameId, long sequence, Score score) throws GameNotFoundException {
+        return await(() -> submitOperation(board -> board.updateScoreIfNewer(gameId, sequence, score), true));
+    }
+
+    @Override
+    public List<GameId> startGames(List<Teams> teams) {
+        return await(() -> submitOperation(board -> board.startGames(teams), true));
+    }
+
+    @Override
+    public void finishGames(Collection<GameId> gameIds) {
+        await(() -> submitOperation(board -> {
+            board.finishGames(gameIds);
+            return null;
+        }, true));
+    }
+
+    @Override
+    public BatchUpdateResult updateScores(Map<GameId, Score> scores) {
+        return await(() -> submitOperation(board -> board.updateScores(scores), true));
+    }
+
+    @Override
+    public ScoreSummary getSummary() {
+        return publishedSummary;
+    }
+
+    @Override
+    public ScoreSummary getSummary(int limit) {
+        return publishedSummary.top(limit);
+    }
+
+    /**
+     * Snapshot is written by the writer thread, so it contains all modifications submitted before.
+     */
+    @Override
+    public void saveSnapshot(Path file) {
+        await(() -> submitOperation(board -> {
+            board.saveSnapshot(file);
+            return null;
+        }, false));
+    }
+
+    @Override
+    public Subscription subscribe(ScoreEventListener listener) {
+        return liveScoreBoard.subscribe(listener);
+    }
+
+    @Override
+    public void close() {
+        long sequence = ring.claimLast();
+        if (sequence >= 0) {
+            ring.slot(sequence).type = CommandType.STOP;
+            ring.publish(sequence);
+        }
+        if (Thread.currentThread() == writer) {
+            return;
+        }
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread()
+                  .interrupt();
+        }
+    }
+
+    /**
+     * Claims the next sequence of the ring. The writer thread cannot wait for a slot it has to release itself, so it
+     * claims only a free one.
+     */
+    private long claim() {
+        if (Thread.currentThread() != writer) {
+            return ring.claim();
+        }
+        long sequence = ring.tryClaim();
+        if (sequence < 0) {
+            throw new IllegalStateException("Command ring is full, so commands cannot be submitted from the writer "
+                                                    + "thread!");
+        }
+        return sequence;
+    }
+
+    private <T> CompletableFuture<T> submitOperation(Function<LiveScoreBoard, T> operation, boolean modifying) {
+        long sequence = claim();
+        Command command = ring.slot(sequence);
+        command.type = modifying ? CommandType.MODIFY : CommandType.READ;
+        command.operation = operation;
+        return submit(sequence, command);
+    }
+
+    private <T> CompletableFuture<T> submit(long sequence, Command command) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        command.result = result;
+        ring.publish(sequence);
+        return result;
+    }
+
+    /**
+     * Loop of the writer thread, applying commands in batches and publishing summaries until the board is closed.
+     */
+    private void applyCommands() {
+        long nextSequence = 0;
+        long lastPublication = System.nanoTime();
+        boolean modified = false;
+        boolean stopped = false;
+        while (!stopped) {
+            if (modified) {
+                long untilPublication = lastPublication + publishIntervalNanos - System.nanoTime();
+                if (untilPublication <= 0 || !ring.awaitPublished(nextSequence, untilPublication)) {
+                    publishedSummary = liveScoreBoard.getSummary();
+                    lastPublication = System.nanoTime();
+                    modified = false;
+                    continue;
+                }
+            } else {
+                ring.awaitPublished(nextSequence);
+            }
+            long batchEnd = nextSequence;
+            while (batchEnd - nextSequence < ring.capacity() && ring.isPublished(batchEnd)) {
+                Command command = ring.slot(batchEnd++);
+                if (command.type == CommandType.STOP) {
+                    stopped = true;
+                    break;
+                }
+                modified |= apply(command);
+            }
+            completeCommands(nextSequence, batchEnd);
+            nextSequence = batchEnd;
+        }
+        if (modified) {
+            publishedSummary = liveScoreBoard.getSummary();
+        }
+    }
+
+    private void completeCommands(long batchStart, long batchEnd) {
+        for (long sequence = batchStart; sequence < batchEnd; sequence++) {
+            Command command = ring.slot(sequence);
+            CompletableFuture<Object> result = command.result();
+            Object value = command.value;
+            RuntimeException failure = command.failure;
+            command.clear();
+            // slot is released before completing the future, so actions dependent on it can submit next commands
+            ring.release(sequence + 1);
+            if (isNull(result)) {
+                continue;
+            }
+            if (isNull(failure)) {
+                result.complete(value);
+            } else {
+                result.completeExceptionally(failure);
+            }
+        }
+    }
+
+    /**
+     * @return true if the command could have modified the board
+     */
+    private boolean apply(Command command) {
+        try {
+            command.value = switch (command.type) {
+                case START_GAME -> liveScoreBoard.startGame(command.homeTeam, command.awayTeam);
+                case UPDATE_SCORE -> {
+                    liveScoreBoard.updateScore(command.gameId, command.score);
+                    yield null;
+                }
+                case FINISH_GAME -> {
+                    liveScoreBoard.finishGame(command.gameId);
+                    yield null;
+                }
+                case MODIFY, READ -> command.operation.apply(liveScoreBoard);
+                case STOP -> throw new IllegalStateException("Stop command cannot be applied!");
+            };
+        } catch (RuntimeException e) {
+            command.failure = e;
+        }
+        return command.type != CommandType.READ;
+    }
+
+    /**
+     * Submits the command and waits for its result. Writer thread cannot wait for a command it has to apply itself, so
+     * the command is not submitted at all from it.
+     */
+    private <T> T await(Supplier<CompletableFuture<T>> submission) {
+        if (Thread.currentThread() == writer) {
+            throw new IllegalStateException("Board cannot be waited for on its writer thread! Use submit methods or "
+                                                    + "async actions of returned futures instead");
+        }
+        try {
+            return submission.get()
+                             .join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private enum CommandType {
+        START_GAME, UPDATE_SCORE, FINISH_GAME, MODIFY, READ, STOP
+    }
+
+    /**
+     * Slot of the ring. Producer fills the arguments, writer stores the outcome and clears all references before
+     * completing the result, so the slot does not keep them until it is reused.
+     */
+    private static final class Command {
+
+        private CommandType type;
+        private String homeTeam;
+        private String awayTeam;
+        private GameId gameId;
+        private Score score;
+        private Function<LiveScoreBoard, ?> operation;
+        private CompletableFuture<?> result;
+        private Object value;
+        private RuntimeException failure;
+
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Object> result() {
+            return (CompletableFuture<Object>) result;
+        }
+
+        void clear() {
+            type = null;
+            homeTeam = null;
+            awayTeam = null;
+            gameId = null;
+            score = null;
+            operation = null;
+            result = null;
+            value = null;
+            failure = null;
+        }
+
+    }
+
+}
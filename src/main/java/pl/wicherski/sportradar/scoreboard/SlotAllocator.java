@@ -0,0 +1,72 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.Arrays;
+
+/**
+ * Allocates slots of array based game storages and produces slot based {@link GameId}s. Released slots are reused, and
+ * each release increments the slot generation, so IDs issued before the release are recognized as stale. IDs of each
+ * allocator have their own scope, so IDs issued by another allocator are never recognized as current.
+ * <p>
+ * Allocator IS NOT thread safe.
+ */
+final class SlotAllocator {
+
+    private final long scope = GameId.newScope();
+    private int[] generations;
+    private int[] freeSlots;
+    private int freeSlotsCount;
+    private int usedSlotsCount;
+
+    SlotAllocator(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        generations = new int[capacity];
+        freeSlots = new int[capacity];
+    }
+
+    GameId allocate() {
+        int slot;
+        if (freeSlotsCount > 0) {
+            slot = freeSlots[--freeSlotsCount];
+        } else {
+            if (usedSlotsCount == generations.length) {
+                generations = Arrays.copyOf(generations, usedSlotsCount * 2);
+                freeSlots = Arrays.copyOf(freeSlots, usedSlotsCount * 2);
+            }
+            slot = usedSlotsCount++;
+        }
+        return GameId.ofSlot(scope, slot, generations[slot]);
+    }
+
+    void release(GameId gameId) {
+        int slot = gameId.slot();
+        generations[slot]++;
+        freeSlots[freeSlotsCount++] = slot;
+    }
+
+    boolean isCurrent(GameId gameId) {
+        return gameId.isSlot()
+               && gameId.scope() == scope
+               && gameId.slot() >= 0
+               && gameId.slot() < usedSlotsCount
+               && generations[gameId.slot()] == gameId.generation();
+    }
+
+    /**
+     * Returns current ID of the given allocated slot.
+     */
+    GameId idOf(int slot) {
+        return GameId.ofSlot(scope, slot, generations[slot]);
+    }
+
+    /**
+     * Returns number of slots which were ever allocated - all allocated slots are lower than this number.
+     */
+    int highWaterMark() {
+        return usedSlotsCount;
+    }
+
+    int allocatedCount() {
+        return usedSlotsCount - freeSlotsCount;
+    }
+
+}
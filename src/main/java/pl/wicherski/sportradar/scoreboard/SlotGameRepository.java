@@ -0,0 +1,100 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Objects.isNull;
+
+/**
+ * {@link GameRepository} storing games in an array, indexed directly by the slot encoded in {@link GameId}, so lookups
+ * do not involve hashing. The repository is also the {@link GameIdGenerator} for the games it stores - it reserves a
+ * free slot for each new ID. Slots of deleted games are reused, and each reuse increments the slot generation, so
+ * stale IDs of finished games are not confused with games started later in the same slot.
+ * <p>
+ * Repository IS NOT thread safe.
+ */
+class SlotGameRepository implements GameRepository, GameIdGenerator {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final SlotAllocator slotAllocator;
+    private Game[] games;
+
+    SlotGameRepository() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    SlotGameRepository(int initialCapacity) {
+        slotAllocator = new SlotAllocator(initialCapacity);
+        games = new Game[Math.max(1, initialCapacity)];
+    }
+
+    @Override
+    public GameId next() {
+        GameId gameId = slotAllocator.allocate();
+        if (gameId.slot() >= games.length) {
+            games = Arrays.copyOf(games, games.length * 2);
+        }
+        return gameId;
+    }
+
+    @Override
+    public void save(GameId gameId, Game game) {
+        GameRepository.requireGameId(gameId, game);
+        if (!slotAllocator.isCurrent(gameId)) {
+            throw new IllegalArgumentException("Game ID was not reserved by this repository or is stale! GameID=%s"
+                                                       .formatted(gameId));
+        }
+        games[gameId.slot()] = game;
+    }
+
+    @Override
+    public void delete(GameId gameId) {
+        if (!slotAllocator.isCurrent(gameId) || isNull(games[gameId.slot()])) {
+            return;
+        }
+        games[gameId.slot()] = null;
+        slotAllocator.release(gameId);
+    }
+
+    @Override
+    public Optional<Game> remove(GameId gameId) {
+        Optional<Game> game = get(gameId);
+        if (game.isPresent()) {
+            games[gameId.slot()] = null;
+            slotAllocator.release(gameId);
+        }
+        return game;
+    }
+
+    @Override
+    public void update(GameId gameId, Game updatedGame) {
+        GameRepository.requireGameId(gameId, updatedGame);
+        if (slotAllocator.isCurrent(gameId) && !isNull(games[gameId.slot()])) {
+            games[gameId.slot()] = updatedGame;
+        }
+    }
+
+    @Override
+    public Optional<Game> get(GameId gameId) {
+        if (!slotAllocator.isCurrent(gameId)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(games[gameId.slot()]);
+    }
+
+    @Override
+    public Collection<Game> getAll() {
+        List<Game> allGames = new ArrayList<>(slotAllocator.allocatedCount());
+        for (int slot = 0; slot < slotAllocator.highWaterMark(); slot++) {
+            if (!isNull(games[slot])) {
+                allGames.add(games[slot]);
+            }
+        }
+        return allGames;
+    }
+
+}
@@ -0,0 +1,157 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe {@link LiveScoreBoard} publishing immutable, already ordered summaries. Writers are serialized with a
+ * lock and, after each modification, publish a new summary through an atomic reference. Readers never take the lock -
+ * {@link #getSummary()} is a single reference read.
+ */
+class SnapshotPublishingLiveScoreBoard implements LiveScoreBoard {
+
+    private final Lock writeLock = new ReentrantLock();
+    private final LiveScoreBoard liveScoreBoard;
+    private final AtomicReference<ScoreSummary> publishedSummary;
+
+    SnapshotPublishingLiveScoreBoard(LiveScoreBoard liveScoreBoard) {
+        this.liveScoreBoard = liveScoreBoard;
+        this.publishedSummary = new AtomicReference<>(liveScoreBoard.getSummary());
+    }
+
+    @Override
+    public GameId startGame(String homeTeam, String awayTeam) {
+        try {
+            writeLock.lock();
+            GameId gameId = liveScoreBoard.startGame(homeTeam, awayTeam);
+            publishSummary();
+            return gameId;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void finishGame(GameId gameId) {
+        try {
+            writeLock.lock();
+            liveScoreBoard.finishGame(gameId);
+            publishSummary();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void updateScore(GameId gameId, Score score) throws GameNotFoundException {
+        try {
+            writeLock.lock();
+            liveScoreBoard.updateScore(gameId, score);
+            publishSummary();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean compareAndSetScore(GameId gameId, Score expectedScore, Score newScore) throws GameNotFoundException {
+        try {
+            writeLock.lock();
+            boolean updated = liveScoreBoard.compareAndSetScore(gameId, expectedScore, newScore);
+            if (updated) {
+                publishSummary();
+            }
+            return updated;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean updateScoreIfNewer(GameId gameId, long sequence, Score score) throws GameNotFoundException {
+        try {
+            writeLock.lock();
+            boolean updated = liveScoreBoard.updateScoreIfNewer(gameId, sequence, score);
+            if (updated) {
+                publishSummary();
+            }
+            return updated;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<GameId> startGames(List<Teams> teams) {
+        try {
+            writeLock.lock();
+            List<GameId> gameIds = liveScoreBoard.startGames(teams);
+            publishSummary();
+            return gameIds;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void finishGames(Collection<GameId> gameIds) {
+        try {
+            writeLock.lock();
+            liveScoreBoard.finishGames(gameIds);
+            publishSummary();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public BatchUpdateResult updateScores(Map<GameId, Score> scores) {
+        try {
+            writeLock.lock();
+            BatchUpdateResult result = liveScoreBoard.updateScores(scores);
+            publishSummary();
+            return result;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public ScoreSummary getSummary() {
+        return publishedSummary.get();
+    }
+
+    @Override
+    public ScoreSummary getSummary(int limit) {
+        return publishedSummary.get()
+                               .top(limit);
+    }
+
+    /**
+     * Snapshot is written under the writers lock, so it is consistent with the published summary.
+     */
+    @Override
+    public void saveSnapshot(Path file) {
+        try {
+            writeLock.lock();
+            liveScoreBoard.saveSnapshot(file);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Subscription subscribe(ScoreEventListener listener) {
+        return liveScoreBoard.subscribe(listener);
+    }
+
+    private void publishSummary() {
+        publishedSummary.set(liveScoreBoard.getSummary());
+    }
+
+}
@@ -0,0 +1,20 @@
+package pl.wicherski.sportradar.scoreboard;
+
+/**
+ * Subscription of {@link ScoreEventListener} to the board.
+ */
+public interface Subscription {
+
+    /**
+     * Returns current statistics of the subscription.
+     *
+     * @return numbers of delivered, coalesced and dropped events since the subscription was made
+     */
+    SubscriptionStatistics getStatistics();
+
+    /**
+     * Stops delivering events to the listener. Events which were not delivered yet are discarded.
+     */
+    void cancel();
+
+}
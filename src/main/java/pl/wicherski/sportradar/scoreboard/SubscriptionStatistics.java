@@ -0,0 +1,12 @@
+package pl.wicherski.sportradar.scoreboard;
+
+/**
+ * Statistics of the subscription to board events.
+ *
+ * @param delivered number of events passed to the listener
+ * @param coalesced number of score updates merged into a not yet delivered update of the same game
+ * @param dropped   number of events discarded, because the listener was too slow and its buffer was full
+ */
+public record SubscriptionStatistics(long delivered, long coalesced, long dropped) {
+
+}
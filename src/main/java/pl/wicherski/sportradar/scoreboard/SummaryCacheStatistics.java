@@ -0,0 +1,11 @@
+package pl.wicherski.sportradar.scoreboard;
+
+/**
+ * Statistics of the summary cache.
+ *
+ * @param hits   number of summary requests served from the cache
+ * @param misses number of summary requests which required producing a new summary
+ */
+public record SummaryCacheStatistics(long hits, long misses) {
+
+}
@@ -0,0 +1,137 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Decorator of {@link LiveScoreBoard} counting modifications of the board and caching the produced summary together
+ * with the board version it was produced for. The summary is produced again only when the version has changed.
+ * <p>
+ * The version is increased after the modification is applied and read before producing a summary, so a cached summary
+ * is never older than the version it is stored with. Decorator is thread-safe if the decorated board is thread-safe.
+ */
+class SummaryCachingLiveScoreBoard implements CachingLiveScoreBoard {
+
+    private final LiveScoreBoard liveScoreBoard;
+    private final AtomicLong version = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile CachedSummary cachedSummary;
+
+    SummaryCachingLiveScoreBoard(LiveScoreBoard liveScoreBoard) {
+        this.liveScoreBoard = liveScoreBoard;
+    }
+
+    @Override
+    public GameId startGame(String homeTeam, String awayTeam) {
+        GameId gameId = liveScoreBoard.startGame(homeTeam, awayTeam);
+        version.incrementAndGet();
+        return gameId;
+    }
+
+    @Override
+    public void finishGame(GameId gameId) {
+        liveScoreBoard.finishGame(gameId);
+        version.incrementAndGet();
+    }
+
+    @Override
+    public void updateScore(GameId gameId, Score score) throws GameNotFoundException {
+        liveScoreBoard.updateScore(gameId, score);
+        version.incrementAndGet();
+    }
+
+    @Override
+    public boolean compareAndSetScore(GameId gameId, Score expectedScore, Score newScore) throws GameNotFoundException {
+        boolean updated = liveScoreBoard.compareAndSetScore(gameId, expectedScore, newScore);
+        if (updated) {
+            version.incrementAndGet();
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean updateScoreIfNewer(GameId gameId, long sequence, Score score) throws GameNotFoundException {
+        boolean updated = liveScoreBoard.updateScoreIfNewer(gameId, sequence, score);
+        if (updated) {
+            version.incrementAndGet();
+        }
+        return updated;
+    }
+
+    @Override
+    public List<GameId> startGames(List<Teams> teams) {
+        List<GameId> gameIds = liveScoreBoard.startGames(teams);
+        version.incrementAndGet();
+        return gameIds;
+    }
+
+    @Override
+    public void finishGames(Collection<GameId> gameIds) {
+        liveScoreBoard.finishGames(gameIds);
+        version.incrementAndGet();
+    }
+
+    @Override
+    public BatchUpdateResult updateScores(Map<GameId, Score> scores) {
+        BatchUpdateResult result = liveScoreBoard.updateScores(scores);
+        version.incrementAndGet();
+        return result;
+    }
+
+    @Override
+    public ScoreSummary getSummary() {
+        long currentVersion = version.get();
+        CachedSummary cached = cachedSummary;
+        if (nonNull(cached) && cached.version() == currentVersion) {
+            hits.increment();
+            return cached.summary();
+        }
+        misses.increment();
+        ScoreSummary summary = liveScoreBoard.getSummary();
+        cachedSummary = new CachedSummary(currentVersion, summary);
+        return summary;
+    }
+
+    /**
+     * Leading games are taken from the cached summary if it is up to date. Otherwise, they are requested from the
+     * decorated board, without caching them.
+     */
+    @Override
+    public ScoreSummary getSummary(int limit) {
+        long currentVersion = version.get();
+        CachedSummary cached = cachedSummary;
+        if (nonNull(cached) && cached.version() == currentVersion) {
+            hits.increment();
+            return cached.summary()
+                         .top(limit);
+        }
+        misses.increment();
+        return liveScoreBoard.getSummary(limit);
+    }
+
+    @Override
+    public void saveSnapshot(Path file) {
+        liveScoreBoard.saveSnapshot(file);
+    }
+
+    @Override
+    public Subscription subscribe(ScoreEventListener listener) {
+        return liveScoreBoard.subscribe(listener);
+    }
+
+    @Override
+    public SummaryCacheStatistics getCacheStatistics() {
+        return new SummaryCacheStatistics(hits.sum(), misses.sum());
+    }
+
+    private record CachedSummary(long version, ScoreSummary summary) {
+    }
+
+}
@@ -0,0 +1,122 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Position of a page in a score summary - ID of the summary, offset of the page and page size. The cursor does not
+ * reference the summary, so it can be sent to a client as an opaque token (see {@link #toToken()}) and a summary is
+ * kept in memory only as long as whoever serves its pages keeps it. A page is fetched with
+ * {@link ScoreSummary#page(SummaryCursor)} of the summary the cursor was returned for - a cursor of any other summary
+ * is rejected, so pages are never ranked against different summaries.
+ */
+public final class SummaryCursor {
+
+    private static final int TOKEN_SIZE = Long.BYTES + 2 * Integer.BYTES;
+
+    private final long summaryId;
+    private final int offset;
+    private final int pageSize;
+
+    SummaryCursor(long summaryId, int offset, int pageSize) {
+        this.summaryId = summaryId;
+        this.offset = offset;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * Restores a cursor from its token.
+     *
+     * @param token - token returned by {@link #toToken()}
+     * @return cursor equal to the one the token was created from
+     * @throws IllegalArgumentException if the token is null or is not a summary cursor token
+     */
+    public static SummaryCursor fromToken(String token) {
+        if (token == null) {
+            throw new IllegalArgumentException("Token cannot be null!");
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder()
+                          .decode(token);
+        } catch (IllegalArgumentException e) {
+            throw invalidToken(token);
+        }
+        if (bytes.length != TOKEN_SIZE) {
+            throw invalidToken(token);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        long summaryId = buffer.getLong();
+        int offset = buffer.getInt();
+        int pageSize = buffer.getInt();
+        if (offset < 0 || pageSize < 1) {
+            throw invalidToken(token);
+        }
+        return new SummaryCursor(summaryId, offset, pageSize);
+    }
+
+    /**
+     * Returns the cursor as a URL-safe text token, which can be passed to a client and back.
+     *
+     * @return token of this cursor
+     */
+    public String toToken() {
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_SIZE)
+                                      .putLong(summaryId)
+                                      .putInt(offset)
+                                      .putInt(pageSize);
+        return Base64.getUrlEncoder()
+                     .withoutPadding()
+                     .encodeToString(buffer.array());
+    }
+
+    /**
+     * Returns the ID of the summary the cursor was returned for, so the summary can be looked up when the cursor comes
+     * back from a client.
+     *
+     * @return random ID of the summary, so cursors of summaries paged before a restart do not match new summaries
+     */
+    public long summaryId() {
+        return summaryId;
+    }
+
+    /**
+     * Returns the number of games of the summary before this cursor.
+     *
+     * @return index of the first game of the page in the summary, starting from 0
+     */
+    public int offset() {
+        return offset;
+    }
+
+    int pageSize() {
+        return pageSize;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SummaryCursor cursor = (SummaryCursor) o;
+        return summaryId == cursor.summaryId && offset == cursor.offset && pageSize == cursor.pageSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Long.hashCode(summaryId) + offset) + pageSize;
+    }
+
+    @Override
+    public String toString() {
+        return "SummaryCursor[summaryId=%s, offset=%s, pageSize=%s]".formatted(summaryId, offset, pageSize);
+    }
+
+    private static IllegalArgumentException invalidToken(String token) {
+        return new IllegalArgumentException("Invalid summary cursor token! Token=%s".formatted(token));
+    }
+
+}
@@ -0,0 +1,205 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Changes between two score summaries of the same board, based on identity of the games. Ranks are positions of the
+ * games in the summaries, starting from 1, as in the printable summary - games of a summary of a part of the ranking,
+ * e.g. a page, are ranked starting from the rank of its first game.
+ * <p>
+ * Previous summary can be turned into the current one by removing {@link #removed()} and {@link #moved()} games,
+ * inserting {@link #added()} and {@link #moved()} games at their ranks, in ascending order of the ranks, and applying
+ * {@link #scoreChanged()} scores. Games which are neither moved, added nor removed keep their relative order, even if
+ * their ranks change because of other games.
+ *
+ * @param added        games present only in the current summary, ordered by rank
+ * @param removed      games present only in the previous summary, ordered by previous rank
+ * @param moved        games present in both summaries, which changed their position relative to other games, ordered by
+ *                     rank
+ * @param scoreChanged games present in both summaries, which have a different score, ordered by rank
+ */
+public record SummaryDiff(List<Added> added, List<Removed> removed, List<Moved> moved, List<ScoreChanged> scoreChanged) {
+
+    /**
+     * Tells whether the summaries contain the same games, in the same order and with the same scores.
+     *
+     * @return true if there are no changes
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty() && moved.isEmpty() && scoreChanged.isEmpty();
+    }
+
+    /**
+     * Game which is present only in the current summary.
+     *
+     * @param gameId   ID of the game
+     * @param rank     rank of the game in the current summary
+     * @param homeTeam home team name
+     * @param awayTeam away team name
+     * @param score    score of the game in the current summary
+     */
+    public record Added(GameId gameId, int rank, String homeTeam, String awayTeam, Score score) {
+    }
+
+    /**
+     * Game which is present only in the previous summary.
+     *
+     * @param gameId       ID of the game
+     * @param previousRank rank of the game in the previous summary
+     */
+    public record Removed(GameId gameId, int previousRank) {
+    }
+
+    /**
+     * Game which changed its position relative to other games present in both summaries.
+     *
+     * @param gameId       ID of the game
+     * @param previousRank rank of the game in the previous summary
+     * @param rank         rank of the game in the current summary
+     */
+    public record Moved(GameId gameId, int previousRank, int rank) {
+    }
+
+    /**
+     * Game which has a different score in the current summary.
+     *
+     * @param gameId        ID of the game
+     * @param previousScore score of the game in the previous summary
+     * @param score         score of the game in the current summary
+     */
+    public record ScoreChanged(GameId gameId, Score previousScore, Score score) {
+    }
+
+    /**
+     * Computes changes between ranked games of two whole summaries, see {@link #between(List, int, List, int)}.
+     */
+    static SummaryDiff between(List<Game> previousGames, List<Game> currentGames) {
+        return between(previousGames, 1, currentGames, 1);
+    }
+
+    /**
+     * Computes changes between ranked games of two summaries in linear time. Summaries can be of parts of the ranking,
+     * e.g. pages, whose first games have given ranks.
+     * <p>
+     * Moved games are found by walking games present in both summaries (survivors) in the previous and in the current
+     * order at once. When the games under both cursors differ, one of them has to be moved - the one which is further
+     * from its other position is marked as moved and skipped in both orders, since it is more likely the one that jumped
+     * over the others, e.g. a single game which scored a goal and overtook many games is reported as the only move.
+     * The result is not guaranteed to be the smallest possible set of moves, which would take longest common
+     * subsequence computation, but every game is visited a constant number of times.
+     */
+    static SummaryDiff between(List<Game> previousGames,
+                               int previousFirstRank,
+                               List<Game> currentGames,
+                               int currentFirstRank) {
+        Map<GameId, Integer> previousRanks = ranksOf(previousGames, previousFirstRank);
+        Map<GameId, Integer> currentRanks = ranksOf(currentGames, currentFirstRank);
+
+        List<Removed> removed = new ArrayList<>();
+        List<Game> previousSurvivors = new ArrayList<>(previousGames.size());
+        for (int i = 0; i < previousGames.size(); i++) {
+            Game game = previousGames.get(i);
+            if (currentRanks.containsKey(game.gameId())) {
+                previousSurvivors.add(game);
+            } else {
+                removed.add(new Removed(game.gameId(), previousFirstRank + i));
+            }
+        }
+        List<Added> added = new ArrayList<>();
+        List<ScoreChanged> scoreChanged = new ArrayList<>();
+        List<Game> currentSurvivors = new ArrayList<>(previousSurvivors.size());
+        for (int i = 0; i < currentGames.size(); i++) {
+            Game game = currentGames.get(i);
+            Integer previousRank = previousRanks.get(game.gameId());
+            if (previousRank == null) {
+                added.add(new Added(game.gameId(),
+                                    currentFirstRank + i,
+                                    game.homeTeamName(),
+                                    game.awayTeamName(),
+                                    game.score()));
+                continue;
+            }
+            currentSurvivors.add(game);
+            Score previousScore = previousGames.get(previousRank - previousFirstRank)
+                                               .score();
+            if (!previousScore.equals(game.score())) {
+                scoreChanged.add(new ScoreChanged(game.gameId(), previousScore, game.score()));
+            }
+        }
+
+        boolean[] movedInCurrentOrder = findMovedSurvivors(previousSurvivors, currentSurvivors);
+        List<Moved> moved = new ArrayList<>();
+        for (int j = 0; j < currentSurvivors.size(); j++) {
+            if (movedInCurrentOrder[j]) {
+                GameId gameId = currentSurvivors.get(j)
+                                                .gameId();
+                moved.add(new Moved(gameId, previousRanks.get(gameId), currentRanks.get(gameId)));
+            }
+        }
+        return new SummaryDiff(List.copyOf(added), List.copyOf(removed), List.copyOf(moved), List.copyOf(scoreChanged));
+    }
+
+    /**
+     * Marks survivors which have to be moved, so the remaining ones are in the same order in both lists.
+     *
+     * @return flags of moved games, indexed by position in the current survivors
+     */
+    private static boolean[] findMovedSurvivors(List<Game> previousSurvivors, List<Game> currentSurvivors) {
+        int survivorsCount = currentSurvivors.size();
+        Map<GameId, Integer> previousPositions = positionsOf(previousSurvivors);
+        Map<GameId, Integer> currentPositions = positionsOf(currentSurvivors);
+        boolean[] movedInPreviousOrder = new boolean[survivorsCount];
+        boolean[] movedInCurrentOrder = new boolean[survivorsCount];
+
+        int i = 0;
+        int j = 0;
+        while (i < survivorsCount && j < survivorsCount) {
+            if (movedInPreviousOrder[i]) {
+                i++;
+            } else if (movedInCurrentOrder[j]) {
+                j++;
+            } else if (previousSurvivors.get(i)
+                                        .gameId()
+                                        .equals(currentSurvivors.get(j)
+                                                                .gameId())) {
+                i++;
+                j++;
+            } else {
+                int currentGamePreviousPosition = previousPositions.get(currentSurvivors.get(j)
+                                                                                        .gameId());
+                int previousGameCurrentPosition = currentPositions.get(previousSurvivors.get(i)
+                                                                                        .gameId());
+                if (currentGamePreviousPosition - i >= previousGameCurrentPosition - j) {
+                    movedInPreviousOrder[currentGamePreviousPosition] = true;
+                    movedInCurrentOrder[j++] = true;
+                } else {
+                    movedInCurrentOrder[previousGameCurrentPosition] = true;
+                    movedInPreviousOrder[i++] = true;
+                }
+            }
+        }
+        return movedInCurrentOrder;
+    }
+
+    private static Map<GameId, Integer> ranksOf(List<Game> games, int firstRank) {
+        Map<GameId, Integer> ranks = new HashMap<>((int) (games.size() / 0.75f) + 1);
+        for (int i = 0; i < games.size(); i++) {
+            ranks.put(games.get(i)
+                           .gameId(), firstRank + i);
+        }
+        return ranks;
+    }
+
+    private static Map<GameId, Integer> positionsOf(List<Game> games) {
+        Map<GameId, Integer> positions = new HashMap<>((int) (games.size() / 0.75f) + 1);
+        for (int i = 0; i < games.size(); i++) {
+            positions.put(games.get(i)
+                               .gameId(), i);
+        }
+        return positions;
+    }
+
+}
@@ -0,0 +1,30 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.Optional;
+
+/**
+ * Page of a score summary, see {@link ScoreSummary#firstPage(int)}.
+ *
+ * @param games      summary of the games of the page, which ranks the games as the whole summary does, starting from
+ *                   {@code firstRank}
+ * @param firstRank  rank of the first game of the page in the whole summary, starting from 1
+ * @param totalGames number of games in the whole summary
+ * @param nextCursor cursor of the next page, empty if this is the last page
+ * @param summary    the whole summary the page was taken from, which serves the following pages
+ */
+public record SummaryPage(ScoreSummary games,
+                          int firstRank,
+                          int totalGames,
+                          Optional<SummaryCursor> nextCursor,
+                          ScoreSummary summary) {
+
+    /**
+     * Tells whether there are more games in the summary after this page.
+     *
+     * @return true if there is a next page
+     */
+    public boolean hasNextPage() {
+        return nextCursor.isPresent();
+    }
+
+}
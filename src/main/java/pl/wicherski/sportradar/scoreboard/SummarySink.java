@@ -0,0 +1,132 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Target of summary rendering. Implementations write text and non-negative numbers directly into the destination,
+ * without creating intermediate {@link String} objects or boxing numbers.
+ */
+interface SummarySink {
+
+    void text(CharSequence text);
+
+    void character(char character);
+
+    void number(int number);
+
+    static SummarySink of(Appendable appendable) {
+        return new AppendableSink(appendable);
+    }
+
+    static SummarySink of(ByteBuffer buffer) {
+        return new Utf8ByteBufferSink(buffer);
+    }
+
+    private static int highestPowerOfTen(int number) {
+        int power = 1;
+        while (number / power >= 10) {
+            power *= 10;
+        }
+        return power;
+    }
+
+    /**
+     * Appends text as is. {@link IOException} of the appendable is rethrown as {@link UncheckedIOException}.
+     */
+    final class AppendableSink implements SummarySink {
+
+        private final Appendable appendable;
+
+        private AppendableSink(Appendable appendable) {
+            this.appendable = appendable;
+        }
+
+        @Override
+        public void text(CharSequence text) {
+            try {
+                appendable.append(text);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void character(char character) {
+            try {
+                appendable.append(character);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void number(int number) {
+            for (int power = highestPowerOfTen(number); power > 0; power /= 10) {
+                character((char) ('0' + number / power % 10));
+            }
+        }
+
+    }
+
+    /**
+     * Encodes text as UTF-8, the same way as {@link String#getBytes(java.nio.charset.Charset)} does - malformed
+     * surrogates are replaced with {@code '?'}.
+     */
+    final class Utf8ByteBufferSink implements SummarySink {
+
+        private final ByteBuffer buffer;
+
+        private Utf8ByteBufferSink(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void text(CharSequence text) {
+            int length = text.length();
+            for (int i = 0; i < length; i++) {
+                char current = text.charAt(i);
+                if (Character.isHighSurrogate(current) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                    putCodePoint(Character.toCodePoint(current, text.charAt(++i)));
+                } else if (Character.isSurrogate(current)) {
+                    buffer.put((byte) '?');
+                } else {
+                    putCodePoint(current);
+                }
+            }
+        }
+
+        @Override
+        public void character(char character) {
+            putCodePoint(Character.isSurrogate(character) ? '?' : character);
+        }
+
+        @Override
+        public void number(int number) {
+            for (int power = highestPowerOfTen(number); power > 0; power /= 10) {
+                buffer.put((byte) ('0' + number / power % 10));
+            }
+        }
+
+        private void putCodePoint(int codePoint) {
+            if (codePoint < 0x80) {
+                buffer.put((byte) codePoint);
+            } else if (codePoint < 0x800) {
+                buffer.put((byte) (0xC0 | codePoint >> 6));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+            } else if (codePoint < 0x10000) {
+                buffer.put((byte) (0xE0 | codePoint >> 12));
+                buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+            } else {
+                buffer.put((byte) (0xF0 | codePoint >> 18));
+                buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+                buffer.put((byte) (0x80 | codePoint & 0x3F));
+            }
+        }
+
+    }
+
+}
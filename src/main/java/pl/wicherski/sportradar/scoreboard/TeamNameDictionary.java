@@ -0,0 +1,173 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dictionary of team names. Each distinct name is stored once - equal names passed to the dictionary are replaced with
+ * the stored instance, and each of them gets an integer code, which can be kept instead of the name itself.
+ * <p>
+ * Names are counted by references - each {@link #canonicalize(String)} call references the name, each
+ * {@link #release(String)} call releases it, and a name is removed when no reference is left (e.g. all games of the
+ * team have finished). Its code is then reused by another name.
+ * <p>
+ * Dictionary is thread safe. Looking up or releasing a name which is still referenced does not take any lock.
+ */
+class TeamNameDictionary {
+
+    // object header, hash and coder fields of a String plus its byte array header
+    private static final int STRING_OVERHEAD_BYTES = 40;
+    private static final int REMOVED = -1;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder duplicatesReplaced = new LongAdder();
+    private final LongAdder estimatedBytesSaved = new LongAdder();
+    private volatile String[] names = new String[64];
+    private int size;
+    private int[] freeCodes = new int[16];
+    private int freeCodesCount;
+
+    /**
+     * Returns the stored instance equal to given name and adds a reference to it. Statistics of the dictionary are based
+     * on calls of this method.
+     */
+    String canonicalize(String name) {
+        lookups.increment();
+        Entry entry = referencedEntryOf(name);
+        if (entry.name != name) {
+            duplicatesReplaced.increment();
+            estimatedBytesSaved.add(STRING_OVERHEAD_BYTES + name.length() * (long) entry.bytesPerChar);
+        }
+        return entry.name;
+    }
+
+    /**
+     * Releases a reference to the given instance returned by {@link #canonicalize(String)}. Names which are not stored,
+     * or other instances equal to the stored one (e.g. of games restored without the dictionary), are ignored.
+     */
+    void release(String name) {
+        Entry entry = entries.get(name);
+        if (entry == null || entry.name != name) {
+            return;
+        }
+        while (true) {
+            int references = entry.references.get();
+            if (references <= 0) {
+                return;
+            }
+            if (entry.references.compareAndSet(references, references - 1)) {
+                if (references == 1) {
+                    removeEntry(entry);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the code of given name. A name which is not stored yet is added without a reference, so it is kept until
+     * it is referenced and released.
+     */
+    int codeOf(String name) {
+        Entry entry = entries.get(name);
+        return entry != null ? entry.code : addEntry(name, 0).code;
+    }
+
+    String nameOf(int code) {
+        return names[code];
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    TeamNameStatistics statistics() {
+        return new TeamNameStatistics(size(), lookups.sum(), duplicatesReplaced.sum(), estimatedBytesSaved.sum());
+    }
+
+    private Entry referencedEntryOf(String name) {
+        Entry entry = entries.get(name);
+        return entry != null && tryReference(entry) ? entry : addEntry(name, 1);
+    }
+
+    private static boolean tryReference(Entry entry) {
+        while (true) {
+            int references = entry.references.get();
+            if (references == REMOVED) {
+                return false;
+            }
+            if (entry.references.compareAndSet(references, references + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private synchronized Entry addEntry(String name, int references) {
+        Entry entry = entries.get(name);
+        // entries are marked as removed and removed from the map under this lock, so a stored entry is never removed
+        if (entry != null) {
+            if (references > 0) {
+                tryReference(entry);
+            }
+            return entry;
+        }
+        String[] currentNames = names;
+        int code;
+        if (freeCodesCount > 0) {
+            code = freeCodes[--freeCodesCount];
+        } else {
+            if (size == currentNames.length) {
+                currentNames = Arrays.copyOf(currentNames, size * 2);
+            }
+            code = size++;
+        }
+        currentNames[code] = name;
+        names = currentNames;
+        entry = new Entry(name, code, isLatin1(name) ? 1 : 2, references);
+        // name is stored before the entry is published, so its code can be resolved by any thread which sees the entry
+        entries.put(name, entry);
+        return entry;
+    }
+
+    private synchronized void removeEntry(Entry entry) {
+        // the name could have been referenced again since its last reference was released
+        if (!entry.references.compareAndSet(0, REMOVED)) {
+            return;
+        }
+        entries.remove(entry.name, entry);
+        if (freeCodesCount == freeCodes.length) {
+            freeCodes = Arrays.copyOf(freeCodes, freeCodesCount * 2);
+        }
+        freeCodes[freeCodesCount++] = entry.code;
+    }
+
+    private static boolean isLatin1(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) > 0xFF) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Entry {
+
+        private final String name;
+        private final int code;
+        private final int bytesPerChar;
+        private final AtomicInteger references;
+
+        private Entry(String name, int code, int bytesPerChar, int references) {
+            this.name = name;
+            this.code = code;
+            this.bytesPerChar = bytesPerChar;
+            this.references = new AtomicInteger(references);
+        }
+
+    }
+
+}
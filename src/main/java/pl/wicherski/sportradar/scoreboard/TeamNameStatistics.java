@@ -0,0 +1,13 @@
+package pl.wicherski.sportradar.scoreboard;
+
+/**
+ * Statistics of the team names dictionary.
+ *
+ * @param distinctNames       number of distinct team names stored in the dictionary
+ * @param lookups             number of team names passed through the dictionary
+ * @param duplicatesReplaced  number of passed names which were replaced with an already stored, equal instance
+ * @param estimatedBytesSaved estimated heap size of the replaced duplicates, which could be garbage collected
+ */
+public record TeamNameStatistics(int distinctNames, long lookups, long duplicatesReplaced, long estimatedBytesSaved) {
+
+}
@@ -0,0 +1,9 @@
+package pl.wicherski.sportradar.scoreboard;
+
+public record Teams(String homeTeam, String awayTeam) {
+
+    public static Teams of(String homeTeam, String awayTeam) {
+        return new Teams(homeTeam, awayTeam);
+    }
+
+}
@@ -1,16 +1,25 @@
 package pl.wicherski.sportradar.scoreboard;
 
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 class ThreadSafeLiveScoreBoard implements LiveScoreBoard {
 
-    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    private final ReadWriteLock readWriteLock;
     private final LiveScoreBoard liveScoreBoard;
 
     ThreadSafeLiveScoreBoard(LiveScoreBoard liveScoreBoard) {
+        this(liveScoreBoard, new ReentrantReadWriteLock());
+    }
+
+    ThreadSafeLiveScoreBoard(LiveScoreBoard liveScoreBoard, ReadWriteLock readWriteLock) {
         this.liveScoreBoard = liveScoreBoard;
+        this.readWriteLock = readWriteLock;
     }
 
     @Override
@@ -35,6 +44,28 @@ class ThreadSafeLiveScoreBoard implements LiveScoreBoard {
         }
     }
 
+    @Override
+    public boolean compareAndSetScore(GameId gameId, Score expectedScore, Score newScore) {
+        Lock writeLock = readWriteLock.writeLock();
+        try {
+            writeLock.lock();
+            return liveScoreBoard.compareAndSetScore(gameId, expectedScore, newScore);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean updateScoreIfNewer(GameId gameId, long sequence, Score score) {
+        Lock writeLock = readWriteLock.writeLock();
+        try {
+            writeLock.lock();
+            return liveScoreBoard.updateScoreIfNewer(gameId, sequence, score);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
     @Override
     public void finishGame(GameId gameId) {
         Lock writeLock = readWriteLock.writeLock();
@@ -46,6 +77,39 @@ class ThreadSafeLiveScoreBoard implements LiveScoreBoard {
         }
     }
 
+    @Override
+    public List<GameId> startGames(List<Teams> teams) {
+        Lock writeLock = readWriteLock.writeLock();
+        try {
+            writeLock.lock();
+            return liveScoreBoard.startGames(teams);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void finishGames(Collection<GameId> gameIds) {
+        Lock writeLock = readWriteLock.writeLock();
+        try {
+            writeLock.lock();
+            liveScoreBoard.finishGames(gameIds);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public BatchUpdateResult updateScores(Map<GameId, Score> scores) {
+        Lock writeLock = readWriteLock.writeLock();
+        try {
+            writeLock.lock();
+            return liveScoreBoard.updateScores(scores);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
     @Override
     public ScoreSummary getSummary() {
         Lock readLock = readWriteLock.readLock();
@@ -57,4 +121,31 @@ class ThreadSafeLiveScoreBoard implements LiveScoreBoard {
         }
     }
 
+    @Override
+    public ScoreSummary getSummary(int limit) {
+        Lock readLock = readWriteLock.readLock();
+        try {
+            readLock.lock();
+            return liveScoreBoard.getSummary(limit);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public void saveSnapshot(Path file) {
+        Lock readLock = readWriteLock.readLock();
+        try {
+            readLock.lock();
+            liveScoreBoard.saveSnapshot(file);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public Subscription subscribe(ScoreEventListener listener) {
+        return liveScoreBoard.subscribe(listener);
+    }
+
 }
@@ -0,0 +1,192 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link ReadWriteLock} recording how long threads wait for its read and write locks and how long they hold them.
+ * Hold time is measured from acquiring to releasing the lock by the same thread, so the lock is not meant to be
+ * acquired reentrantly - nested acquisitions would be measured only from the innermost one.
+ */
+class TimedReadWriteLock implements ReadWriteLock {
+
+    private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    private final TimedLock readLock = new TimedReadLock(readWriteLock);
+    private final TimedLock writeLock = new TimedWriteLock(readWriteLock.writeLock());
+
+    @Override
+    public Lock readLock() {
+        return readLock;
+    }
+
+    @Override
+    public Lock writeLock() {
+        return writeLock;
+    }
+
+    HistogramStatistics readLockWait() {
+        return readLock.waitTimes.statistics();
+    }
+
+    HistogramStatistics readLockHold() {
+        return readLock.holdTimes.statistics();
+    }
+
+    HistogramStatistics writeLockWait() {
+        return writeLock.waitTimes.statistics();
+    }
+
+    HistogramStatistics writeLockHold() {
+        return writeLock.holdTimes.statistics();
+    }
+
+    /**
+     * Uncontended acquisitions are recorded with no wait time, so they read the clock only once - when the lock is
+     * acquired - and once more when it is released. Reading the clock takes longer than an uncontended acquisition.
+     */
+    private abstract static class TimedLock implements Lock {
+
+        private final Lock lock;
+        private final Histogram waitTimes = new Histogram();
+        private final Histogram holdTimes = new Histogram();
+
+        TimedLock(Lock lock) {
+            this.lock = lock;
+        }
+
+        /**
+         * Acquires the lock if it is available right away, without breaking the fairness of the lock towards waiting
+         * threads.
+         */
+        abstract boolean acquireIfUncontended(Lock lock);
+
+        abstract void setAcquiredAt(long acquisition);
+
+        abstract long acquiredAt();
+
+        @Override
+        public void lock() {
+            if (acquireIfUncontended(lock)) {
+                acquired(0);
+                return;
+            }
+            long waitStart = System.nanoTime();
+            lock.lock();
+            acquiredAfterWait(waitStart);
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            if (acquireIfUncontended(lock)) {
+                acquired(0);
+                return;
+            }
+            long waitStart = System.nanoTime();
+            lock.lockInterruptibly();
+            acquiredAfterWait(waitStart);
+        }
+
+        @Override
+        public boolean tryLock() {
+            if (!lock.tryLock()) {
+                return false;
+            }
+            acquired(0);
+            return true;
+        }
+
+        @Override
+        public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+            long waitStart = System.nanoTime();
+            if (!lock.tryLock(time, unit)) {
+                return false;
+            }
+            acquiredAfterWait(waitStart);
+            return true;
+        }
+
+        @Override
+        public void unlock() {
+            holdTimes.record(System.nanoTime() - acquiredAt());
+            lock.unlock();
+        }
+
+        @Override
+        public Condition newCondition() {
+            return lock.newCondition();
+        }
+
+        private void acquired(long waitTime) {
+            waitTimes.record(waitTime);
+            setAcquiredAt(System.nanoTime());
+        }
+
+        private void acquiredAfterWait(long waitStart) {
+            long acquisition = System.nanoTime();
+            waitTimes.record(acquisition - waitStart);
+            setAcquiredAt(acquisition);
+        }
+
+    }
+
+    private static final class TimedReadLock extends TimedLock {
+
+        private final ReentrantReadWriteLock readWriteLock;
+        // read lock is shared, so each holder keeps its own acquisition time
+        private final ThreadLocal<long[]> acquiredAt = ThreadLocal.withInitial(() -> new long[1]);
+
+        TimedReadLock(ReentrantReadWriteLock readWriteLock) {
+            super(readWriteLock.readLock());
+            this.readWriteLock = readWriteLock;
+        }
+
+        /**
+         * Barging read lock acquisition could starve queued writers, so the lock is tried only if no thread is waiting.
+         */
+        @Override
+        boolean acquireIfUncontended(Lock lock) {
+            return !readWriteLock.hasQueuedThreads() && lock.tryLock();
+        }
+
+        @Override
+        void setAcquiredAt(long acquisition) {
+            acquiredAt.get()[0] = acquisition;
+        }
+
+        @Override
+        long acquiredAt() {
+            return acquiredAt.get()[0];
+        }
+
+    }
+
+    private static final class TimedWriteLock extends TimedLock {
+
+        // guarded by the lock itself - only its holder reads and writes it
+        private long acquiredAt;
+
+        TimedWriteLock(Lock lock) {
+            super(lock);
+        }
+
+        @Override
+        boolean acquireIfUncontended(Lock lock) {
+            return lock.tryLock();
+        }
+
+        @Override
+        void setAcquiredAt(long acquisition) {
+            acquiredAt = acquisition;
+        }
+
+        @Override
+        long acquiredAt() {
+            return acquiredAt;
+        }
+
+    }
+
+}
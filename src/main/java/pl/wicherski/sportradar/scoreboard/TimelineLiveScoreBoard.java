@@ -0,0 +1,35 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * {@link LiveScoreBoard} which records score history of each tracked game, so it can tell the score of a game at any
+ * time since its start. History of each game has a fixed memory limit - when it is reached, the oldest changes are
+ * dropped. History of a game is dropped when the game is finished.
+ */
+public interface TimelineLiveScoreBoard extends LiveScoreBoard {
+
+    /**
+     * Returns the score the game had at given time.
+     *
+     * @param gameId    - ID of the tracked game
+     * @param timestamp - time to return the score for
+     * @return score of the game at given time, empty if the game was not started yet or the changes from that time have
+     * already been dropped
+     * @throws GameNotFoundException    if game with given ID does not exist or is already finished.
+     * @throws IllegalArgumentException if any of the arguments is null
+     */
+    Optional<Score> getScoreAt(GameId gameId, Instant timestamp) throws GameNotFoundException;
+
+    /**
+     * Returns all retained score changes of the game.
+     *
+     * @param gameId - ID of the tracked game
+     * @return score history of the game
+     * @throws GameNotFoundException    if game with given ID does not exist or is already finished.
+     * @throws IllegalArgumentException if the game ID is null
+     */
+    ScoreTimeline getTimeline(GameId gameId) throws GameNotFoundException;
+
+}
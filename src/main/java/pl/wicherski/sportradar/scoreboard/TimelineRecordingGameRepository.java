@@ -0,0 +1,65 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Decorator of {@link GameRepository} recording score changes of stored games in a {@link ScoreTimelineBuffer} per
+ * game. A timeline starts with the score and creation time of a saved game, each update appends the new score at the
+ * current time and deleting the game drops its timeline.
+ * <p>
+ * Repository IS NOT thread safe.
+ */
+class TimelineRecordingGameRepository implements GameRepository {
+
+    private final GameRepository gameRepository;
+    private final TimeProvider timeProvider;
+    private final int timelineCapacity;
+    private final Map<GameId, ScoreTimelineBuffer> timelines = new HashMap<>();
+
+    TimelineRecordingGameRepository(GameRepository gameRepository, TimeProvider timeProvider, int timelineCapacity) {
+        this.gameRepository = gameRepository;
+        this.timeProvider = timeProvider;
+        this.timelineCapacity = timelineCapacity;
+    }
+
+    @Override
+    public void save(GameId gameId, Game game) {
+        gameRepository.save(gameId, game);
+        timelines.put(gameId, new ScoreTimelineBuffer(timelineCapacity, game.creationTimestamp(), game.score()));
+    }
+
+    @Override
+    public void delete(GameId gameId) {
+        gameRepository.delete(gameId);
+        timelines.remove(gameId);
+    }
+
+    @Override
+    public void update(GameId gameId, Game updatedGame) {
+        gameRepository.update(gameId, updatedGame);
+        ScoreTimelineBuffer timeline = timelines.get(gameId);
+        if (nonNull(timeline)) {
+            timeline.append(timeProvider.now(), updatedGame.score());
+        }
+    }
+
+    @Override
+    public Optional<Game> get(GameId gameId) {
+        return gameRepository.get(gameId);
+    }
+
+    @Override
+    public Collection<Game> getAll() {
+        return gameRepository.getAll();
+    }
+
+    Optional<ScoreTimelineBuffer> timelineOf(GameId gameId) {
+        return Optional.ofNullable(timelines.get(gameId));
+    }
+
+}
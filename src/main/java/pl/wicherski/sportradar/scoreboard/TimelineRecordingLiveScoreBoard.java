@@ -0,0 +1,63 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Decorator of {@link LiveScoreBoard} answering score history queries from the {@link TimelineRecordingGameRepository}
+ * which the decorated board writes to. The decorated board has to modify the repository only under the write lock of
+ * given {@link ReadWriteLock} (see {@link ThreadSafeLiveScoreBoard}) - timelines are read under its read lock.
+ */
+class TimelineRecordingLiveScoreBoard extends ForwardingLiveScoreBoard implements TimelineLiveScoreBoard {
+
+    private final TimelineRecordingGameRepository gameRepository;
+    private final ReadWriteLock readWriteLock;
+
+    TimelineRecordingLiveScoreBoard(LiveScoreBoard liveScoreBoard,
+                                    TimelineRecordingGameRepository gameRepository,
+                                    ReadWriteLock readWriteLock) {
+        super(liveScoreBoard);
+        this.gameRepository = gameRepository;
+        this.readWriteLock = readWriteLock;
+    }
+
+    @Override
+    public Optional<Score> getScoreAt(GameId gameId, Instant timestamp) throws GameNotFoundException {
+        if (isNull(gameId) || isNull(timestamp)) {
+            throw new IllegalArgumentException("Game ID and timestamp cannot be null! GameID=%s, Timestamp=%s".formatted(
+                    gameId,
+                    timestamp));
+        }
+        Lock readLock = readWriteLock.readLock();
+        try {
+            readLock.lock();
+            return timelineOf(gameId).scoreAt(timestamp);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    @Override
+    public ScoreTimeline getTimeline(GameId gameId) throws GameNotFoundException {
+        if (isNull(gameId)) {
+            throw new IllegalArgumentException("Game ID cannot be null!");
+        }
+        Lock readLock = readWriteLock.readLock();
+        try {
+            readLock.lock();
+            return timelineOf(gameId).toTimeline(gameId);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private ScoreTimelineBuffer timelineOf(GameId gameId) {
+        return gameRepository.timelineOf(gameId)
+                             .orElseThrow(() -> new GameNotFoundException(gameId));
+    }
+
+}
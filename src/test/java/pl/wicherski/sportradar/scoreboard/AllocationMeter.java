@@ -0,0 +1,36 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures heap memory allocated by the current thread. Tests using it are skipped on JVMs which cannot account memory
+ * allocated by threads, as their allocation assertions would not measure anything.
+ */
+final class AllocationMeter {
+
+    private AllocationMeter() {
+    }
+
+    static long measureAllocatedBytes(MeasuredAction action) throws Exception {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "JVM does not measure thread allocations");
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled(),
+                   "JVM does not measure thread allocations");
+        long threadId = Thread.currentThread()
+                              .getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        action.run();
+        return threadMXBean.getThreadAllocatedBytes(threadId) - before;
+    }
+
+    interface MeasuredAction {
+
+        void run() throws Exception;
+
+    }
+
+}
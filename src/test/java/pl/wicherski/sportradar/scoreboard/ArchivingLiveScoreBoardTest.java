@@ -0,0 +1,76 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArchivingLiveScoreBoardTest {
+
+    private static final Instant FINAL_WHISTLE = Instant.parse("2022-11-20T17:50:00Z");
+
+    @Mock
+    private LiveScoreBoard delegateMock;
+    @Mock
+    private TimeProvider timeProviderMock;
+
+    @Test
+    void shouldArchiveGameWithFinalScore_whenFinishingGame() {
+        when(timeProviderMock.now()).thenReturn(FINAL_WHISTLE);
+        FinishedGameArchive archive = new FinishedGameArchive(10, Duration.ofHours(24), timeProviderMock);
+        SlotGameRepository slotGameRepository = new SlotGameRepository();
+        LiveScoreBoard delegate = new LiveScoreBoardImpl(new ArchivingGameRepository(slotGameRepository, archive),
+                                                         timeProviderMock,
+                                                         new ScoreSummaryFactory(),
+                                                         GameComparators.BY_RANK_KEY,
+                                                         slotGameRepository);
+        ArchiveLiveScoreBoard board = new ArchivingLiveScoreBoard(delegate, archive, new ScoreSummaryFactory());
+        GameId mexicoCanada = board.startGame("Mexico", "Canada");
+        GameId spainBrazil = board.startGame("Spain", "Brazil");
+        board.updateScore(mexicoCanada, Score.of(0, 5));
+        board.updateScore(spainBrazil, Score.of(10, 2));
+
+        board.finishGame(mexicoCanada);
+        board.finishGames(List.of(spainBrazil));
+
+        assertThat(board.getSummary()
+                        .toPrintableSummary()).isEmpty();
+        assertThat(board.getFinishedGame(mexicoCanada)).map(FinishedGame::score)
+                                                       .contains(Score.of(0, 5));
+        assertThat(board.getLatestResults(10)
+                        .toPrintableSummary()).isEqualTo("""
+                                                                 1. Spain 10 - Brazil 2
+                                                                 2. Mexico 0 - Canada 5""");
+    }
+
+    @Test
+    void shouldNotTouchArchive_whenUpdatingScore() {
+        FinishedGameArchive archive = new FinishedGameArchive(10, Duration.ofHours(24), timeProviderMock);
+        ArchiveLiveScoreBoard board = new ArchivingLiveScoreBoard(delegateMock, archive, new ScoreSummaryFactory());
+        GameId gameId = GameId.generate();
+
+        board.updateScore(gameId, Score.of(1, 0));
+
+        verify(delegateMock).updateScore(gameId, Score.of(1, 0));
+        verifyNoInteractions(timeProviderMock);
+        assertThat(board.getArchiveStatistics()).isEqualTo(new ArchiveStatistics(0, 0, 0));
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenGettingLatestResults_withNegativeLimit() {
+        FinishedGameArchive archive = new FinishedGameArchive(10, Duration.ofHours(24), timeProviderMock);
+        ArchiveLiveScoreBoard board = new ArchivingLiveScoreBoard(delegateMock, archive, new ScoreSummaryFactory());
+
+        assertThatThrownBy(() -> board.getLatestResults(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
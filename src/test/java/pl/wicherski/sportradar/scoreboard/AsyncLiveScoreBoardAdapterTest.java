@@ -0,0 +1,126 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncLiveScoreBoardAdapterTest {
+
+    private static final String TEAM_1 = "team1";
+    private static final String TEAM_2 = "team2";
+
+    private final List<Runnable> executedTasks = new ArrayList<>();
+    private final Executor executor = executedTasks::add;
+    @Mock
+    private LiveScoreBoard delegateMock;
+    @Mock
+    private IngestingLiveScoreBoard ingestingBoardMock;
+    @Mock
+    private ScoreSummary summaryMock;
+
+    @Test
+    void shouldStartGameOnExecutor_whenStartingGameAsynchronously() {
+        GameId gameId = GameId.generate();
+        when(delegateMock.startGame(TEAM_1, TEAM_2)).thenReturn(gameId);
+        AsyncLiveScoreBoard board = new AsyncLiveScoreBoardAdapter(delegateMock, executor);
+
+        CompletableFuture<GameId> result = board.startGameAsync(TEAM_1, TEAM_2);
+
+        assertThat(result).isNotDone();
+        runExecutedTasks();
+        assertThat(result).isCompletedWithValue(gameId);
+    }
+
+    @Test
+    void shouldCompleteFutureExceptionally_whenUpdatingScoreAsynchronously_ofNotExistingGame() {
+        GameId gameId = GameId.generate();
+        doThrow(new GameNotFoundException(gameId)).when(delegateMock)
+                                                  .updateScore(gameId, Score.of(1, 0));
+        AsyncLiveScoreBoard board = new AsyncLiveScoreBoardAdapter(delegateMock, executor);
+
+        CompletableFuture<Void> result = board.updateScoreAsync(gameId, Score.of(1, 0));
+        runExecutedTasks();
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class)
+                                        .hasCauseInstanceOf(GameNotFoundException.class);
+    }
+
+    @Test
+    void shouldFinishGameOnExecutor_whenFinishingGameAsynchronously() {
+        GameId gameId = GameId.generate();
+        AsyncLiveScoreBoard board = new AsyncLiveScoreBoardAdapter(delegateMock, executor);
+
+        CompletableFuture<Void> result = board.finishGameAsync(gameId);
+
+        verify(delegateMock, never()).finishGame(gameId);
+        runExecutedTasks();
+        verify(delegateMock).finishGame(gameId);
+        assertThat(result).isCompleted();
+    }
+
+    @Test
+    void shouldProduceSummaryOnExecutor_whenGettingSummaryAsynchronously_ofLockingBoard() {
+        when(delegateMock.getSummary(3)).thenReturn(summaryMock);
+        AsyncLiveScoreBoard board = new AsyncLiveScoreBoardAdapter(delegateMock, executor);
+
+        CompletableFuture<ScoreSummary> result = board.getSummaryAsync(3);
+        runExecutedTasks();
+
+        assertThat(result).isCompletedWithValue(summaryMock);
+    }
+
+    @Test
+    void shouldSubmitModificationsDirectly_whenBoardIsIngestingBoard() {
+        GameId gameId = GameId.generate();
+        when(ingestingBoardMock.submitStartGame(TEAM_1, TEAM_2)).thenReturn(CompletableFuture.completedFuture(gameId));
+        when(ingestingBoardMock.submitScoreUpdate(gameId, Score.of(1, 0))).thenReturn(CompletableFuture.completedFuture(null));
+        AsyncLiveScoreBoard board = new AsyncLiveScoreBoardAdapter(ingestingBoardMock, executor);
+
+        CompletableFuture<GameId> startResult = board.startGameAsync(TEAM_1, TEAM_2);
+        CompletableFuture<Void> updateResult = board.updateScoreAsync(gameId, Score.of(1, 0));
+
+        assertThat(startResult).isCompletedWithValue(gameId);
+        assertThat(updateResult).isCompleted();
+        assertThat(executedTasks).isEmpty();
+    }
+
+    @Test
+    void shouldReadPublishedSummaryDirectly_whenBoardPublishesSummaries() {
+        when(ingestingBoardMock.getSummary()).thenReturn(summaryMock);
+        AsyncLiveScoreBoard board = new AsyncLiveScoreBoardAdapter(ingestingBoardMock, executor);
+
+        CompletableFuture<ScoreSummary> result = board.getSummaryAsync();
+
+        assertThat(result).isCompletedWithValue(summaryMock);
+        assertThat(executedTasks).isEmpty();
+    }
+
+    @Test
+    void shouldReturnFailedFuture_whenSubmittingModification_toClosedIngestingBoard() {
+        GameId gameId = GameId.generate();
+        when(ingestingBoardMock.submitFinishGame(gameId)).thenThrow(new IllegalStateException("Command ring is closed!"));
+        AsyncLiveScoreBoard board = new AsyncLiveScoreBoardAdapter(ingestingBoardMock, executor);
+
+        CompletableFuture<Void> result = board.finishGameAsync(gameId);
+
+        assertThat(result).isCompletedExceptionally();
+    }
+
+    private void runExecutedTasks() {
+        executedTasks.forEach(Runnable::run);
+        executedTasks.clear();
+    }
+
+}
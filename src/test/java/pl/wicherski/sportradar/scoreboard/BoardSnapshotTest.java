@@ -0,0 +1,242 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.*;
+
+class BoardSnapshotTest {
+
+    private static final Instant CREATION_TIMESTAMP = Instant.parse("2022-11-20T16:00:00.123456789Z");
+
+    @TempDir
+    private Path directory;
+    private Path snapshotFile;
+    private Map<GameId, Game> storedGames;
+    private InMemoryGameRepository gameRepository;
+
+    @BeforeEach
+    void setUp() {
+        snapshotFile = directory.resolve("board.snapshot");
+        storedGames = new HashMap<>();
+        gameRepository = new InMemoryGameRepository(storedGames);
+    }
+
+    @Test
+    void shouldRestoreAllGames_whenReadingWrittenSnapshot() {
+        storeGame(GameId.ofSequence(7), "Mexico", "Canada", Score.of(0, 5), CREATION_TIMESTAMP);
+        storeGame(GameId.ofSlot(3, 2), "Spain", "Brazil", Score.of(10, 2), CREATION_TIMESTAMP.plusNanos(1));
+        storeGame(GameId.generate(), "Mexico", "Brazil", Score.of(1, 1), CREATION_TIMESTAMP.plusSeconds(1));
+        storedGames.computeIfPresent(GameId.ofSequence(7), (gameId, game) -> game.withUpdatedScore(Score.of(0, 6), 12));
+
+        BoardSnapshot.write(snapshotFile, gameRepository);
+        BoardSnapshot snapshot = BoardSnapshot.read(snapshotFile);
+
+        assertThat(snapshot.games()).isEqualTo(storedGames);
+        assertThat(snapshot.games()
+                           .get(GameId.ofSequence(7))
+                           .scoreSequence()).isEqualTo(12);
+        assertThat(snapshot.lastSequence()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldRestoreSingleInstanceOfEachTeamName_whenReadingSnapshot() {
+        for (int i = 0; i < 10; i++) {
+            storeGame(GameId.ofSequence(i), new String("Mexico"), "Canada", Score.of(0, i), CREATION_TIMESTAMP);
+        }
+
+        BoardSnapshot.write(snapshotFile, gameRepository);
+        BoardSnapshot snapshot = BoardSnapshot.read(snapshotFile);
+
+        String homeTeamName = snapshot.games()
+                                      .get(GameId.ofSequence(0))
+                                      .homeTeamName();
+        assertThat(snapshot.games()
+                           .values()).allSatisfy(game -> assertThat(game.homeTeamName()).isSameAs(homeTeamName));
+    }
+
+    @Test
+    void shouldRestoreNoGames_whenReadingSnapshotOfEmptyRepository() {
+        BoardSnapshot.write(snapshotFile, gameRepository);
+
+        assertThat(BoardSnapshot.read(snapshotFile)
+                                .games()).isEmpty();
+    }
+
+    @Test
+    void shouldReplacePreviousSnapshot_whenWritingSnapshotToExistingFile() {
+        storeGame(GameId.ofSequence(1), "Mexico", "Canada", Score.of(0, 5), CREATION_TIMESTAMP);
+        BoardSnapshot.write(snapshotFile, gameRepository);
+        storedGames.clear();
+        storeGame(GameId.ofSequence(2), "Spain", "Brazil", Score.of(10, 2), CREATION_TIMESTAMP);
+
+        BoardSnapshot.write(snapshotFile, gameRepository);
+
+        assertThat(BoardSnapshot.read(snapshotFile)
+                                .games()).isEqualTo(storedGames);
+        assertThat(directory).isDirectoryNotContaining(path -> path.toString()
+                                                                   .endsWith(".tmp"));
+    }
+
+    @Test
+    void shouldPassGamesAsStartedAndUpdated_whenReplayingSnapshot() {
+        GameId mexicoCanada = GameId.ofSequence(1);
+        GameId spainBrazil = GameId.ofSequence(2);
+        storeGame(mexicoCanada, "Mexico", "Canada", Score.of(0, 5), CREATION_TIMESTAMP);
+        storeGame(spainBrazil, "Spain", "Brazil", Score.of(0, 0), CREATION_TIMESTAMP);
+        GameId germanyFrance = GameId.ofSequence(3);
+        Game germanyFranceGame = new Game(germanyFrance, "Germany", "France", Score.of(0, 0), CREATION_TIMESTAMP);
+        storedGames.put(germanyFrance, germanyFranceGame.withUpdatedScore(Score.of(0, 0), 4));
+        BoardSnapshot.write(snapshotFile, gameRepository);
+        JournalEventHandler handlerMock = mock(JournalEventHandler.class);
+
+        BoardSnapshot.read(snapshotFile)
+                     .replayTo(handlerMock);
+
+        InOrder inOrder = inOrder(handlerMock);
+        inOrder.verify(handlerMock)
+               .gameStarted(mexicoCanada, "Mexico", "Canada", CREATION_TIMESTAMP);
+        inOrder.verify(handlerMock)
+               .scoreUpdated(mexicoCanada, Score.of(0, 5), 0);
+        verify(handlerMock).gameStarted(spainBrazil, "Spain", "Brazil", CREATION_TIMESTAMP);
+        verify(handlerMock).gameStarted(germanyFrance, "Germany", "France", CREATION_TIMESTAMP);
+        verify(handlerMock).scoreUpdated(germanyFrance, Score.of(0, 0), 4);
+        verifyNoMoreInteractions(handlerMock);
+    }
+
+    @Test
+    void shouldRestoreLayoutOfShardedBoard_whenReadingSnapshotWrittenWithLayout() {
+        storeGame(GameId.ofSequence(42, 5), "Mexico", "Canada", Score.of(0, 5), CREATION_TIMESTAMP);
+
+        BoardSnapshot.write(snapshotFile, gameRepository, 4, 42);
+        BoardSnapshot snapshot = BoardSnapshot.read(snapshotFile);
+
+        assertThat(snapshot.games()).isEqualTo(storedGames);
+        assertThat(snapshot.shards()).isEqualTo(4);
+        assertThat(snapshot.idScope()).isEqualTo(42);
+    }
+
+    @Test
+    void shouldReadSnapshotAsNotSharded_whenReadingSnapshotOfFormatVersion1() throws IOException {
+        GameId gameId = GameId.ofSequence(7);
+        byte[] name = "Mexico".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(4 * Integer.BYTES + Integer.BYTES + name.length + 44);
+        buffer.putInt(0x5342534E)
+              .putInt(1)
+              .putInt(1)
+              .putInt(1)
+              .putInt(name.length)
+              .put(name)
+              .putLong(gameId.mostSignificantBits())
+              .putLong(gameId.leastSignificantBits())
+              .putInt(0)
+              .putInt(0)
+              .putInt(2)
+              .putInt(1)
+              .putLong(CREATION_TIMESTAMP.getEpochSecond())
+              .putInt(CREATION_TIMESTAMP.getNano());
+        Files.write(snapshotFile, buffer.array());
+
+        BoardSnapshot snapshot = BoardSnapshot.read(snapshotFile);
+
+        assertThat(snapshot.games()).containsExactly(entry(gameId, new Game(gameId,
+                                                                            "Mexico",
+                                                                            "Mexico",
+                                                                            Score.of(2, 1),
+                                                                            CREATION_TIMESTAMP)));
+        assertThat(snapshot.shards()).isZero();
+        assertThat(snapshot.lastSequence()).isEqualTo(7);
+    }
+
+    @Test
+    void shouldReadGamesWithScoreSequenceZero_whenReadingSnapshotOfFormatVersion2() throws IOException {
+        GameId gameId = GameId.ofSequence(42, 5);
+        byte[] name = "Mexico".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocate(4 * Integer.BYTES + Integer.BYTES + Long.BYTES + Integer.BYTES
+                                                + name.length + 44);
+        buffer.putInt(0x5342534E)
+              .putInt(2)
+              .putInt(4)
+              .putLong(42)
+              .putInt(1)
+              .putInt(1)
+              .putInt(name.length)
+              .put(name)
+              .putLong(gameId.mostSignificantBits())
+              .putLong(gameId.leastSignificantBits())
+              .putInt(0)
+              .putInt(0)
+              .putInt(2)
+              .putInt(1)
+              .putLong(CREATION_TIMESTAMP.getEpochSecond())
+              .putInt(CREATION_TIMESTAMP.getNano());
+        Files.write(snapshotFile, buffer.array());
+
+        BoardSnapshot snapshot = BoardSnapshot.read(snapshotFile);
+
+        assertThat(snapshot.games()).containsExactly(entry(gameId, new Game(gameId,
+                                                                            "Mexico",
+                                                                            "Mexico",
+                                                                            Score.of(2, 1),
+                                                                            CREATION_TIMESTAMP)));
+        assertThat(snapshot.shards()).isEqualTo(4);
+        assertThat(snapshot.idScope()).isEqualTo(42);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenFileIsNotSnapshot() throws IOException {
+        Files.writeString(snapshotFile, "1. Mexico 0 - Canada 5");
+
+        assertThatThrownBy(() -> BoardSnapshot.read(snapshotFile))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not a score board snapshot");
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenSnapshotIsTruncated() throws IOException {
+        storeGame(GameId.ofSequence(1), "Mexico", "Canada", Score.of(0, 5), CREATION_TIMESTAMP);
+        BoardSnapshot.write(snapshotFile, gameRepository);
+        byte[] content = Files.readAllBytes(snapshotFile);
+        Files.write(snapshotFile, Arrays.copyOf(content, content.length - 1));
+
+        assertThatThrownBy(() -> BoardSnapshot.read(snapshotFile))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("corrupted");
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenSnapshotHasCorruptedTimestamp() throws IOException {
+        storeGame(GameId.ofSequence(1), "Mexico", "Canada", Score.of(0, 5), CREATION_TIMESTAMP);
+        BoardSnapshot.write(snapshotFile, gameRepository);
+        byte[] content = Files.readAllBytes(snapshotFile);
+        int timestampOffset = content.length - Long.BYTES - Integer.BYTES;
+        ByteBuffer.wrap(content)
+                  .putLong(timestampOffset, Long.MAX_VALUE);
+        Files.write(snapshotFile, content);
+
+        assertThatThrownBy(() -> BoardSnapshot.read(snapshotFile))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("corrupted")
+                .hasMessageContaining("Offset=" + timestampOffset);
+    }
+
+    private void storeGame(GameId gameId, String homeTeamName, String awayTeamName, Score score, Instant creationTimestamp) {
+        storedGames.put(gameId, new Game(gameId, homeTeamName, awayTeamName, score, creationTimestamp));
+    }
+
+}
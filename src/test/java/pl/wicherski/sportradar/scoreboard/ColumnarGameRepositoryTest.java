@@ -0,0 +1,195 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pl.wicherski.sportradar.scoreboard.AllocationMeter.measureAllocatedBytes;
+import static pl.wicherski.sportradar.scoreboard.GameAssert.assertThatGame;
+
+class ColumnarGameRepositoryTest {
+
+    private TeamNameDictionary teamNames;
+    private ColumnarGameRepository gameRepository;
+
+    @BeforeEach
+    void setUp() {
+        teamNames = new TeamNameDictionary();
+        gameRepository = new ColumnarGameRepository(teamNames, 2);
+    }
+
+    @Test
+    void shouldStoreGame_whenSavingGame() {
+        GameId gameId = gameRepository.next();
+        Game game = new Game(gameId, "team1", "team2", Score.of(1, 2), Instant.now());
+
+        gameRepository.save(gameId, game);
+
+        assertThat(gameRepository.get(gameId)).contains(game);
+        assertThat(gameRepository.getAll()).containsExactly(game);
+    }
+
+    @Test
+    void shouldStoreTeamNamesOnce_whenSavingGames_ofTheSameTeams() {
+        for (int i = 0; i < 10; i++) {
+            GameId gameId = gameRepository.next();
+            gameRepository.save(gameId, new Game(gameId, "team1", "team2", Score.of(0, 0), Instant.now()));
+        }
+
+        assertThat(teamNames.size()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldPassCurrentIdsOfStoredGames_whenIteratingGames() {
+        GameId finishedGameId = gameRepository.next();
+        gameRepository.save(finishedGameId, new Game(finishedGameId, "team1", "team2", Score.of(0, 0), Instant.now()));
+        gameRepository.delete(finishedGameId);
+        GameId gameId1 = gameRepository.next();
+        Game game1 = new Game(gameId1, "team3", "team4", Score.of(1, 0), Instant.now());
+        gameRepository.save(gameId1, game1);
+        GameId gameId2 = gameRepository.next();
+        Game game2 = new Game(gameId2, "team5", "team6", Score.of(0, 2), Instant.now());
+        gameRepository.save(gameId2, game2);
+
+        Map<GameId, Game> iteratedGames = new HashMap<>();
+        gameRepository.forEach(iteratedGames::put);
+
+        assertThat(iteratedGames).containsOnly(Map.entry(gameId1, game1), Map.entry(gameId2, game2));
+    }
+
+    @Test
+    void shouldStoreAllGames_whenSavingMoreGamesThanInitialCapacity() {
+        List<GameId> gameIds = new ArrayList<>();
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            GameId gameId = gameRepository.next();
+            Game game = new Game(gameId, "home" + i, "away" + i, Score.of(i, i + 1), Instant.now());
+            gameRepository.save(gameId, game);
+            gameIds.add(gameId);
+            games.add(game);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(gameRepository.get(gameIds.get(i))).contains(games.get(i));
+        }
+        assertThat(gameRepository.getAll()).containsExactlyInAnyOrderElementsOf(games);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenSavingGame_withIdNotReservedByRepository() {
+        GameId gameId = GameId.generate();
+        Game game = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
+
+        assertThatThrownBy(() -> gameRepository.save(gameId, game)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRemoveGame_whenDeletingGame() {
+        GameId gameId1 = gameRepository.next();
+        GameId gameId2 = gameRepository.next();
+        Game game1 = new Game(gameId1, "team1", "team2", Score.of(1, 1), Instant.now());
+        Game game2 = new Game(gameId2, "team3", "team4", Score.of(1, 1), Instant.now());
+        gameRepository.save(gameId1, game1);
+        gameRepository.save(gameId2, game2);
+
+        gameRepository.delete(gameId1);
+
+        assertThat(gameRepository.get(gameId1)).isEmpty();
+        assertThat(gameRepository.getAll()).containsExactly(game2);
+    }
+
+    @Test
+    void shouldNotThrowException_whenDeletingGame_thatDoesNotExist() {
+        assertThatCode(() -> gameRepository.delete(GameId.generate())).doesNotThrowAnyException();
+        assertThatCode(() -> gameRepository.delete(gameRepository.next())).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldNotFindGame_whenUsingStaleId_ofFinishedGame() {
+        GameId oldGameId = gameRepository.next();
+        gameRepository.save(oldGameId, new Game(oldGameId, "team1", "team2", Score.of(1, 1), Instant.now()));
+        gameRepository.delete(oldGameId);
+        GameId newGameId = gameRepository.next();
+        Game newGame = new Game(newGameId, "team3", "team4", Score.of(0, 0), Instant.now());
+        gameRepository.save(newGameId, newGame);
+
+        boolean updated = gameRepository.updateScore(oldGameId, Score.of(5, 5));
+
+        assertThat(updated).isFalse();
+        assertThat(newGameId.slot()).isEqualTo(oldGameId.slot());
+        assertThat(gameRepository.get(oldGameId)).isEmpty();
+        assertThat(gameRepository.get(newGameId)).contains(newGame);
+    }
+
+    @Test
+    void shouldReplaceScore_whenUpdatingGame() {
+        GameId gameId = gameRepository.next();
+        Game game = new Game(gameId, "team1", "team2", Score.of(0, 0), Instant.now());
+        gameRepository.save(gameId, game);
+        Game updatedGame = game.withUpdatedScore(Score.of(1, 0));
+
+        gameRepository.update(gameId, updatedGame);
+
+        assertThat(gameRepository.get(gameId)).contains(updatedGame);
+    }
+
+    @Test
+    void shouldKeepScoreSequence_whenReplacingGame() {
+        GameId gameId = gameRepository.next();
+        Game game = new Game(gameId, "team1", "team2", Score.of(0, 0), Instant.now());
+        gameRepository.save(gameId, game);
+        Game updatedGame = game.withUpdatedScore(Score.of(1, 0), 5);
+
+        boolean replaced = gameRepository.replace(gameId, game, updatedGame);
+
+        assertThat(replaced).isTrue();
+        assertThat(gameRepository.get(gameId)).contains(updatedGame);
+        assertThat(gameRepository.replace(gameId, game, game.withUpdatedScore(Score.of(2, 0), 6))).isFalse();
+    }
+
+    @Test
+    void shouldWriteScoreInPlace_whenUpdatingScore() {
+        Instant creationTimestamp = Instant.now();
+        GameId gameId = gameRepository.next();
+        Game game = new Game(gameId, "team1", "team2", Score.of(0, 0), creationTimestamp);
+        gameRepository.save(gameId, game);
+
+        boolean updated = gameRepository.updateScore(gameId, Score.of(3, 2));
+
+        assertThat(updated).isTrue();
+        Game storedGame = gameRepository.get(gameId)
+                                        .orElseThrow();
+        assertThatGame(storedGame).hasHomeTeam("team1")
+                                  .hasAwayTeam("team2")
+                                  .hasScore(Score.of(3, 2))
+                                  .wasCreatedAt(creationTimestamp);
+        assertThat(storedGame).isEqualTo(game.withUpdatedScore(Score.of(3, 2)));
+    }
+
+    @Test
+    void shouldNotAllocateMemory_whenUpdatingScore() throws Exception {
+        GameId gameId = gameRepository.next();
+        gameRepository.save(gameId, new Game(gameId, "team1", "team2", Score.of(0, 0), Instant.now()));
+        Score[] scores = {Score.of(1, 0), Score.of(1, 1), Score.of(2, 1)};
+        for (int i = 0; i < 10_000; i++) {
+            gameRepository.updateScore(gameId, scores[i % scores.length]);
+        }
+
+        long allocatedBytes = measureAllocatedBytes(() -> {
+            for (int i = 0; i < 1_000; i++) {
+                gameRepository.updateScore(gameId, scores[i % scores.length]);
+            }
+        });
+
+        assertThat(allocatedBytes).isLessThan(1_024);
+    }
+
+}
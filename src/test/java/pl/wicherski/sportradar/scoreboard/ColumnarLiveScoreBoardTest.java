@@ -0,0 +1,103 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pl.wicherski.sportradar.scoreboard.GameComparators.BY_RANK_KEY;
+
+class ColumnarLiveScoreBoardTest {
+
+    private Instant sortingBoardClock;
+    private Instant columnarBoardClock;
+    private LiveScoreBoardImpl sortingBoard;
+    private ColumnarLiveScoreBoard columnarBoard;
+
+    @BeforeEach
+    void setUp() {
+        sortingBoardClock = Instant.now();
+        columnarBoardClock = sortingBoardClock;
+        ScoreSummaryFactory scoreSummaryFactory = new ScoreSummaryFactory();
+        // every game is started one second after the previous one, so both boards assign the same timestamps
+        sortingBoard = new LiveScoreBoardImpl(new InMemoryGameRepository(new HashMap<>()),
+                                              () -> sortingBoardClock = sortingBoardClock.plusSeconds(1),
+                                              scoreSummaryFactory,
+                                              BY_RANK_KEY);
+        TeamNameDictionary teamNames = new TeamNameDictionary();
+        columnarBoard = new ColumnarLiveScoreBoard(new ColumnarGameRepository(teamNames, 4),
+                                                   () -> columnarBoardClock = columnarBoardClock.plusSeconds(1),
+                                                   scoreSummaryFactory,
+                                                   BY_RANK_KEY,
+                                                   teamNames);
+    }
+
+    @Test
+    void shouldProduceTheSameSummaryAsInMemoryBoard_whenApplyingRandomOperations() {
+        Random random = new Random(42);
+        List<GameId> sortingBoardIds = new ArrayList<>();
+        List<GameId> columnarBoardIds = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 3 || sortingBoardIds.isEmpty()) {
+                sortingBoardIds.add(sortingBoard.startGame("home" + i % 50, "away" + i % 70));
+                columnarBoardIds.add(columnarBoard.startGame("home" + i % 50, "away" + i % 70));
+            } else if (operation < 9) {
+                int index = random.nextInt(sortingBoardIds.size());
+                Score score = Score.of(random.nextInt(8), random.nextInt(8));
+                sortingBoard.updateScore(sortingBoardIds.get(index), score);
+                columnarBoard.updateScore(columnarBoardIds.get(index), score);
+            } else {
+                int index = random.nextInt(sortingBoardIds.size());
+                sortingBoard.finishGame(sortingBoardIds.remove(index));
+                columnarBoard.finishGame(columnarBoardIds.remove(index));
+            }
+        }
+
+        assertThat(rankingOf(columnarBoard.rankGames())).isEqualTo(rankingOf(sortingBoard.rankGames()));
+    }
+
+    @Test
+    void shouldThrowGameNotFoundException_whenUpdatingScore_ofFinishedGame() {
+        GameId gameId = columnarBoard.startGame("team1", "team2");
+        columnarBoard.finishGame(gameId);
+
+        assertThatThrownBy(() -> columnarBoard.updateScore(gameId, Score.of(1, 0))).isInstanceOf(GameNotFoundException.class);
+    }
+
+    @Test
+    void shouldReportFinishedGames_whenUpdatingScores() {
+        GameId gameId1 = columnarBoard.startGame("team1", "team2");
+        GameId gameId2 = columnarBoard.startGame("team3", "team4");
+        columnarBoard.finishGame(gameId2);
+
+        BatchUpdateResult result = columnarBoard.updateScores(Map.of(gameId1, Score.of(1, 0), gameId2, Score.of(2, 0)));
+
+        assertThat(result.notFoundGameIds()).containsExactly(gameId2);
+        assertThat(columnarBoard.getSummary()
+                                .toPrintableSummary()).isEqualTo("1. team1 1 - team2 0");
+    }
+
+    /**
+     * Rankings of both boards are compared without game IDs, which differ between the boards.
+     */
+    private static List<Tuple> rankingOf(List<Game> games) {
+        return games.stream()
+                    .map(game -> tuple(game.homeTeamName(),
+                                       game.awayTeamName(),
+                                       game.score(),
+                                       game.creationTimestamp()))
+                    .toList();
+    }
+
+}
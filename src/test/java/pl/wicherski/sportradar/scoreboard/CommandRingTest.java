@@ -0,0 +1,77 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommandRingTest {
+
+    private final CommandRing<AtomicLong> ring = new CommandRing<>(2, AtomicLong::new);
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenCapacityIsNotPowerOfTwo() {
+        assertThatThrownBy(() -> new CommandRing<>(3, Object::new)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldPublishSlotsInOrderOfClaimedSequences() {
+        long firstSequence = ring.claim();
+        long secondSequence = ring.claim();
+        ring.slot(secondSequence)
+            .set(2);
+        ring.publish(secondSequence);
+
+        assertThat(firstSequence).isZero();
+        assertThat(ring.isPublished(firstSequence)).isFalse();
+        assertThat(ring.isPublished(secondSequence)).isTrue();
+        assertThat(ring.slot(secondSequence)
+                       .get()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldWaitForReleasedSlot_whenRingIsFull() {
+        ring.publish(ring.claim());
+        ring.publish(ring.claim());
+
+        CompletableFuture<Long> claim = CompletableFuture.supplyAsync(ring::claim);
+
+        assertThat(claim).isNotCompleted();
+        ring.release(1);
+        assertThat(claim).succeedsWithin(5, TimeUnit.SECONDS)
+                         .isEqualTo(2L);
+    }
+
+    @Test
+    void shouldNotClaimSequence_whenTryingToClaim_andRingIsFull() {
+        ring.publish(ring.tryClaim());
+        ring.publish(ring.tryClaim());
+
+        assertThat(ring.tryClaim()).isEqualTo(-1);
+        ring.release(1);
+        assertThat(ring.tryClaim()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldThrowIllegalStateException_whenClaimingSequence_afterLastOneWasClaimed() {
+        long lastSequence = ring.claimLast();
+
+        assertThat(lastSequence).isZero();
+        assertThat(ring.claimLast()).isEqualTo(-1);
+        assertThatThrownBy(ring::claim).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldReturnWhenSequenceIsPublished_whenAwaitingSequence() {
+        CompletableFuture<Void> consumer = CompletableFuture.runAsync(() -> ring.awaitPublished(0));
+
+        ring.publish(ring.claim());
+
+        assertThat(consumer).succeedsWithin(5, TimeUnit.SECONDS);
+    }
+
+}
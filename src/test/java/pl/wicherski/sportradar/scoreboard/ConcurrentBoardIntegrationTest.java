@@ -0,0 +1,150 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ConcurrentBoardIntegrationTest {
+
+    private static final int THREADS = 8;
+    private static final int GAMES_PER_THREAD = 50;
+    private static final int UPDATES_PER_GAME = 20;
+
+    @Test
+    void shouldApplyAllUpdates_whenUpdatingDifferentGamesInParallel() throws Exception {
+        LiveScoreBoard board = LiveScoreBoardFactory.getInstance()
+                                                    .newConcurrentBoard();
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            int threadNumber = thread;
+            futures.add(executorService.submit(() -> {
+                for (int game = 0; game < GAMES_PER_THREAD; game++) {
+                    GameId gameId = board.startGame("home-%s-%s".formatted(threadNumber, game),
+                                                    "away-%s-%s".formatted(threadNumber, game));
+                    for (int update = 1; update <= UPDATES_PER_GAME; update++) {
+                        board.updateScore(gameId, Score.of(update, 0));
+                        // reading in the meantime must not break writers
+                        board.getSummary();
+                    }
+                    if (game % 2 == 1) {
+                        board.finishGame(gameId);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        String[] lines = board.getSummary()
+                              .toPrintableSummary()
+                              .split("\n");
+        assertThat(lines).hasSize(THREADS * GAMES_PER_THREAD / 2)
+                         .allMatch(line -> line.contains(" %s - ".formatted(UPDATES_PER_GAME)) && line.endsWith(" 0"));
+    }
+
+    @Test
+    void shouldPublishChainedScoreUpdates_whenUpdatingScoreOfOneGameInParallel() throws Exception {
+        LiveScoreBoard board = LiveScoreBoardFactory.getInstance()
+                                                    .newConcurrentBoard();
+        List<ScoreEvent> events = Collections.synchronizedList(new ArrayList<>());
+        board.subscribe(events::addAll);
+        GameId gameId = board.startGame("home", "away");
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            int threadNumber = thread;
+            futures.add(executorService.submit(() -> {
+                for (int update = 1; update <= UPDATES_PER_GAME; update++) {
+                    board.updateScore(gameId, Score.of(threadNumber, update));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+        board.finishGame(gameId);
+
+        await().until(() -> !events.isEmpty() && events.get(events.size() - 1) instanceof ScoreEvent.GameFinished);
+        Score expectedPreviousScore = Score.of(0, 0);
+        for (ScoreEvent event : events.subList(1, events.size() - 1)) {
+            ScoreEvent.ScoreUpdated scoreUpdated = (ScoreEvent.ScoreUpdated) event;
+            assertThat(scoreUpdated.previousScore()).isEqualTo(expectedPreviousScore);
+            expectedPreviousScore = scoreUpdated.score();
+        }
+        assertThat(((ScoreEvent.GameFinished) events.get(events.size() - 1)).finalScore())
+                .isEqualTo(expectedPreviousScore);
+    }
+
+    @Test
+    void shouldNotLoseUpdates_whenIncrementingScoreOfOneGameInParallel_withCompareAndSet() throws Exception {
+        LiveScoreBoard board = LiveScoreBoardFactory.getInstance()
+                                                    .newConcurrentBoard();
+        GameId gameId = board.startGame("home", "away");
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            futures.add(executorService.submit(() -> {
+                for (int update = 0; update < UPDATES_PER_GAME; update++) {
+                    Score score;
+                    do {
+                        score = ((ScoreSummaryImpl) board.getSummary()).games()
+                                     .get(0)
+                                     .score();
+                    } while (!board.compareAndSetScore(gameId, score, Score.of(score.home() + 1, 0)));
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        assertThat(board.getSummary()
+                        .toPrintableSummary()).isEqualTo("1. home %s - away 0".formatted(THREADS * UPDATES_PER_GAME));
+    }
+
+    @Test
+    void shouldKeepScoreSequence_whenUpdatingScoreOfOneGameInParallel_withAndWithoutSequence() throws Exception {
+        LiveScoreBoard board = LiveScoreBoardFactory.getInstance()
+                                                    .newConcurrentBoard();
+        GameId gameId = board.startGame("home", "away");
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            boolean sequenced = thread % 2 == 0;
+            futures.add(executorService.submit(() -> {
+                for (int update = 1; update <= UPDATES_PER_GAME * 100; update++) {
+                    if (sequenced) {
+                        board.updateScoreIfNewer(gameId, update, Score.of(update, 0));
+                    } else {
+                        board.updateScore(gameId, Score.of(0, update));
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        // plain updates must not reset the sequence of the last sequenced update, so a stale message is still dropped
+        assertThat(board.updateScoreIfNewer(gameId, UPDATES_PER_GAME * 100, Score.of(0, 0))).isFalse();
+    }
+
+}
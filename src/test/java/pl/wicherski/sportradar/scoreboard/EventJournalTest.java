@@ -0,0 +1,211 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventJournalTest {
+
+    private static final Duration FLUSH_INTERVAL = Duration.ofMillis(10);
+    private static final GameId GAME_ID_1 = GameId.ofSequence(1);
+    private static final GameId GAME_ID_2 = GameId.generate();
+    private static final Instant CREATION_TIMESTAMP = Instant.parse("2022-11-20T16:00:00.123456789Z");
+
+    @TempDir
+    private Path directory;
+    @Mock
+    private JournalEventHandler handlerMock;
+
+    @Test
+    void shouldReplayAppendedEventsInOrder_whenReopeningJournal() {
+        Path file = directory.resolve("journal");
+        try (EventJournal journal = EventJournal.open(file, FLUSH_INTERVAL, handlerMock)) {
+            journal.appendGameStarted(GAME_ID_1, "Mexico", "Canada", CREATION_TIMESTAMP);
+            journal.appendGameStarted(GAME_ID_2, "Spain", "Brazil", CREATION_TIMESTAMP.plusSeconds(1));
+            journal.appendScoreUpdated(GAME_ID_1, Score.of(0, 5), 7);
+            journal.appendGameFinished(GAME_ID_2);
+        }
+        verifyNoInteractions(handlerMock);
+
+        try (EventJournal journal = EventJournal.open(file, FLUSH_INTERVAL, handlerMock)) {
+            InOrder inOrder = inOrder(handlerMock);
+            inOrder.verify(handlerMock)
+                   .gameStarted(GAME_ID_1, "Mexico", "Canada", CREATION_TIMESTAMP);
+            inOrder.verify(handlerMock)
+                   .gameStarted(GAME_ID_2, "Spain", "Brazil", CREATION_TIMESTAMP.plusSeconds(1));
+            inOrder.verify(handlerMock)
+                   .scoreUpdated(GAME_ID_1, Score.of(0, 5), 7);
+            inOrder.verify(handlerMock)
+                   .gameFinished(GAME_ID_2);
+            inOrder.verifyNoMoreInteractions();
+            assertThat(journal.replayStatistics()
+                              .events()).isEqualTo(4);
+        }
+    }
+
+    @Test
+    void shouldAppendAfterReplayedEvents_whenReopeningJournal() {
+        Path file = directory.resolve("journal");
+        try (EventJournal journal = EventJournal.open(file, FLUSH_INTERVAL, handlerMock)) {
+            journal.appendGameStarted(GAME_ID_1, "Mexico", "Canada", CREATION_TIMESTAMP);
+        }
+        try (EventJournal journal = EventJournal.open(file, FLUSH_INTERVAL, handlerMock)) {
+            journal.appendScoreUpdated(GAME_ID_1, Score.of(0, 1), 0);
+        }
+        clearInvocations(handlerMock);
+
+        try (EventJournal journal = EventJournal.open(file, FLUSH_INTERVAL, handlerMock)) {
+            verify(handlerMock).gameStarted(GAME_ID_1, "Mexico", "Canada", CREATION_TIMESTAMP);
+            verify(handlerMock).scoreUpdated(GAME_ID_1, Score.of(0, 1), 0);
+            assertThat(journal.replayStatistics()
+                              .events()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldReplayEventsFromAllRegions_whenEventsDoNotFitInSingleRegion() {
+        Path file = directory.resolve("journal");
+        try (EventJournal journal = EventJournal.open(file, FLUSH_INTERVAL, 256, handlerMock)) {
+            journal.appendGameStarted(GAME_ID_1, "Mexico", "Canada", CREATION_TIMESTAMP);
+            for (int i = 0; i < 100; i++) {
+                journal.appendScoreUpdated(GAME_ID_1, Score.of(i, 0), 0);
+            }
+        }
+
+        try (EventJournal journal = EventJournal.open(file, FLUSH_INTERVAL, handlerMock)) {
+            verify(handlerMock, times(100)).scoreUpdated(eq(GAME_ID_1), any(), eq(0L));
+            verify(handlerMock).scoreUpdated(GAME_ID_1, Score.of(99, 0), 0);
+            assertThat(journal.replayStatistics()
+                              .events()).isEqualTo(101);
+            assertThat(journal.replayStatistics()
+                              .bytes()).isGreaterThan(256);
+        }
+    }
+
+    @Test
+    void shouldStopReplayAtUncommittedRecord_whenAppendingWasInterrupted() throws IOException {
+        Path file = directory.resolve("journal");
+        try (EventJournal journal = EventJournal.open(file, FLUSH_INTERVAL, handlerMock)) {
+            journal.appendGameStarted(GAME_ID_1, "Mexico", "Canada", CREATION_TIMESTAMP);
+            journal.appendScoreUpdated(GAME_ID_1, Score.of(1, 0), 0);
+        }
+        long scoreUpdateOffset = 12 + 1 + 16 + 8 + 4 + 4 + "Mexico".length() + 4 + "Canada".length();
+        try (FileChannel channel = FileChannel.open(file, WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[1]), scoreUpdateOffset);
+        }
+
+        try (EventJournal journal = EventJournal.open(file, FLUSH_INTERVAL, handlerMock)) {
+            journal.appendGameFinished(GAME_ID_1);
+        }
+        clearInvocations(handlerMock);
+
+        try (EventJournal journal = EventJournal.open(file, FLUSH_INTERVAL, handlerMock)) {
+            InOrder inOrder = inOrder(handlerMock);
+            inOrder.verify(handlerMock)
+                   .gameStarted(GAME_ID_1, "Mexico", "Canada", CREATION_TIMESTAMP);
+            inOrder.verify(handlerMock)
+                   .gameFinished(GAME_ID_1);
+            inOrder.verifyNoMoreInteractions();
+            assertThat(journal.replayStatistics()
+                              .events()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldReplayOnlyEventsAppendedAfterTruncation_whenReopeningTruncatedJournal() throws IOException {
+        Path file = directory.resolve("journal");
+        try (EventJournal journal = EventJournal.open(file, FLUSH_INTERVAL, 256, handlerMock)) {
+            journal.appendGameStarted(GAME_ID_1, "Mexico", "Canada", CREATION_TIMESTAMP);
+            for (int i = 0; i < 100; i++) {
+                journal.appendScoreUpdated(GAME_ID_1, Score.of(i, 0), 0);
+            }
+            journal.truncate();
+            journal.appendGameFinished(GAME_ID_2);
+        }
+        assertThat(Files.size(file)).isEqualTo(256);
+
+        try (EventJournal journal = EventJournal.open(file, FLUSH_INTERVAL, handlerMock)) {
+            verify(handlerMock).gameFinished(GAME_ID_2);
+            verifyNoMoreInteractions(handlerMock);
+            assertThat(journal.replayStatistics()
+                              .events()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void shouldReplayScoreUpdatesWithSequenceZero_whenReopeningJournalOfFormatVersion1() throws IOException {
+        Path file = directory.resolve("journal");
+        ByteBuffer content = ByteBuffer.allocate(256)
+                                       .putInt(0x53424A4C)
+                                       .putInt(1)
+                                       .putInt(256)
+                                       .put((byte) 2)
+                                       .putLong(GAME_ID_1.mostSignificantBits())
+                                       .putLong(GAME_ID_1.leastSignificantBits())
+                                       .putInt(2)
+                                       .putInt(1);
+        Files.write(file, content.array());
+
+        try (EventJournal journal = EventJournal.open(file, FLUSH_INTERVAL, handlerMock)) {
+            verify(handlerMock).scoreUpdated(GAME_ID_1, Score.of(2, 1), 0);
+            journal.appendScoreUpdated(GAME_ID_1, Score.of(3, 1), 5);
+        }
+        clearInvocations(handlerMock);
+
+        try (EventJournal journal = EventJournal.open(file, FLUSH_INTERVAL, handlerMock)) {
+            InOrder inOrder = inOrder(handlerMock);
+            inOrder.verify(handlerMock)
+                   .scoreUpdated(GAME_ID_1, Score.of(2, 1), 0);
+            inOrder.verify(handlerMock)
+                   .scoreUpdated(GAME_ID_1, Score.of(3, 1), 5);
+            inOrder.verifyNoMoreInteractions();
+            assertThat(journal.replayStatistics()
+                              .events()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldThrowException_whenFileIsNotJournal() throws IOException {
+        Path file = directory.resolve("not-a-journal");
+        Files.writeString(file, "Mexico 0 - Canada 5");
+
+        assertThatThrownBy(() -> EventJournal.open(file, FLUSH_INTERVAL, handlerMock))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("not a score board journal");
+    }
+
+    @Test
+    void shouldThrowException_whenAppendingToClosedJournal() {
+        EventJournal journal = EventJournal.open(directory.resolve("journal"), FLUSH_INTERVAL, handlerMock);
+        journal.close();
+
+        assertThatThrownBy(() -> journal.appendGameFinished(GAME_ID_1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("closed");
+    }
+
+    @Test
+    void shouldThrowException_whenFlushIntervalIsNotPositive() {
+        assertThatThrownBy(() -> EventJournal.open(directory.resolve("journal"), Duration.ZERO, handlerMock))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
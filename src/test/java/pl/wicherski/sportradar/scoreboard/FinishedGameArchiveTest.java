@@ -0,0 +1,144 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static pl.wicherski.sportradar.scoreboard.AllocationMeter.measureAllocatedBytes;
+
+@ExtendWith(MockitoExtension.class)
+class FinishedGameArchiveTest {
+
+    private static final Instant KICK_OFF = Instant.parse("2022-11-20T16:00:00Z");
+    private static final Instant FINAL_WHISTLE = KICK_OFF.plus(Duration.ofMinutes(110));
+    private static final Duration RETENTION = Duration.ofHours(24);
+
+    @Mock
+    private TimeProvider timeProviderMock;
+
+    @Test
+    void shouldReturnFinishedGame_whenGettingArchivedGame() {
+        when(timeProviderMock.now()).thenReturn(FINAL_WHISTLE);
+        FinishedGameArchive archive = new FinishedGameArchive(10, RETENTION, timeProviderMock);
+        GameId gameId = GameId.ofSequence(1);
+
+        archive.archive(gameId, new Game(gameId, "Qatar", "Ecuador", Score.of(0, 2), KICK_OFF));
+
+        assertThat(archive.get(gameId)).contains(new FinishedGame(gameId,
+                                                                  "Qatar",
+                                                                  "Ecuador",
+                                                                  Score.of(0, 2),
+                                                                  KICK_OFF,
+                                                                  FINAL_WHISTLE));
+        assertThat(archive.get(GameId.ofSequence(2))).isEmpty();
+    }
+
+    @Test
+    void shouldReturnMostRecentlyFinishedGamesFirst_whenGettingLatestGames() {
+        when(timeProviderMock.now()).thenReturn(FINAL_WHISTLE);
+        FinishedGameArchive archive = new FinishedGameArchive(10, RETENTION, timeProviderMock);
+        Game game1 = archiveGame(archive, 1);
+        Game game2 = archiveGame(archive, 2);
+        Game game3 = archiveGame(archive, 3);
+
+        assertThat(archive.latest(2)).containsExactly(game3, game2);
+        assertThat(archive.latest(10)).containsExactly(game3, game2, game1);
+    }
+
+    @Test
+    void shouldEvictOldestGame_whenArchivingGame_andArchiveIsFull() {
+        when(timeProviderMock.now()).thenReturn(FINAL_WHISTLE);
+        FinishedGameArchive archive = new FinishedGameArchive(2, RETENTION, timeProviderMock);
+        archiveGame(archive, 1);
+        Game game2 = archiveGame(archive, 2);
+        Game game3 = archiveGame(archive, 3);
+
+        assertThat(archive.get(GameId.ofSequence(1))).isEmpty();
+        assertThat(archive.latest(10)).containsExactly(game3, game2);
+        assertThat(archive.statistics()).isEqualTo(new ArchiveStatistics(2, 3, 1));
+    }
+
+    @Test
+    void shouldNotReturnGames_finishedLongerThanRetentionAgo() {
+        when(timeProviderMock.now()).thenReturn(FINAL_WHISTLE,
+                                                FINAL_WHISTLE.plus(Duration.ofHours(2)),
+                                                FINAL_WHISTLE.plus(RETENTION)
+                                                             .plus(Duration.ofHours(1)));
+        FinishedGameArchive archive = new FinishedGameArchive(10, RETENTION, timeProviderMock);
+        archiveGame(archive, 1);
+        Game game2 = archiveGame(archive, 2);
+
+        assertThat(archive.latest(10)).containsExactly(game2);
+        assertThat(archive.get(GameId.ofSequence(1))).isEmpty();
+        assertThat(archive.get(GameId.ofSequence(2))).isPresent();
+    }
+
+    @Test
+    void shouldEvictExpiredGames_whenArchivingGame() {
+        when(timeProviderMock.now()).thenReturn(FINAL_WHISTLE,
+                                                FINAL_WHISTLE.plusSeconds(60),
+                                                FINAL_WHISTLE.plus(RETENTION)
+                                                             .plus(Duration.ofHours(1)));
+        FinishedGameArchive archive = new FinishedGameArchive(10, RETENTION, timeProviderMock);
+        archiveGame(archive, 1);
+        archiveGame(archive, 2);
+
+        archiveGame(archive, 3);
+
+        assertThat(archive.statistics()).isEqualTo(new ArchiveStatistics(1, 3, 2));
+    }
+
+    @Test
+    void shouldFindOnlyRetainedGames_whenManyGamesWereEvicted() {
+        when(timeProviderMock.now()).thenReturn(FINAL_WHISTLE);
+        FinishedGameArchive archive = new FinishedGameArchive(100, RETENTION, timeProviderMock);
+        Random random = new Random(42);
+        List<GameId> gameIds = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            GameId gameId = random.nextBoolean() ? GameId.ofSequence(i) : GameId.generate();
+            archive.archive(gameId, new Game(gameId, "home", "away", Score.of(0, 0), KICK_OFF));
+            gameIds.add(gameId);
+        }
+
+        assertThat(gameIds.subList(0, 9_900)).allMatch(gameId -> archive.get(gameId)
+                                                                         .isEmpty());
+        assertThat(gameIds.subList(9_900, 10_000)).allMatch(gameId -> archive.get(gameId)
+                                                                              .isPresent());
+    }
+
+    @Test
+    void shouldNotAllocateMemory_whenArchivingGames() throws Exception {
+        // mock invocations allocate, so the time is provided by a lambda
+        FinishedGameArchive archive = new FinishedGameArchive(100, RETENTION, () -> FINAL_WHISTLE);
+        Game[] games = new Game[1_000];
+        for (int i = 0; i < games.length; i++) {
+            games[i] = new Game(GameId.ofSequence(i), "home", "away", Score.of(0, 0), KICK_OFF);
+            archive.archive(games[i].gameId(), games[i]);
+        }
+
+        long allocatedBytes = measureAllocatedBytes(() -> {
+            for (Game game : games) {
+                archive.archive(game.gameId(), game);
+            }
+        });
+
+        assertThat(allocatedBytes).isLessThan(1_024);
+    }
+
+    private static Game archiveGame(FinishedGameArchive archive, int sequence) {
+        GameId gameId = GameId.ofSequence(sequence);
+        Game game = new Game(gameId, "home" + sequence, "away" + sequence, Score.of(sequence, 0), KICK_OFF);
+        archive.archive(gameId, game);
+        return game;
+    }
+
+}
@@ -3,9 +3,13 @@ package pl.wicherski.sportradar.scoreboard;
 import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static pl.wicherski.sportradar.scoreboard.GameComparators.BY_RANK_KEY;
 import static pl.wicherski.sportradar.scoreboard.GameComparators.HIGHEST_OVERALL_SCORE;
 import static pl.wicherski.sportradar.scoreboard.GameComparators.RECENT_FIRST;
 
@@ -13,9 +17,9 @@ class GameComparatorsTest {
 
     @Test
     void shouldCompareGamesByOverallScore() {
-        Game game1 = new Game("team1", "team2", Score.of(1, 2), Instant.now());
-        Game game2 = new Game("team1", "team2", Score.of(1, 1), Instant.now());
-        Game game3 = new Game("team1", "team2", Score.of(1, 0), Instant.now());
+        Game game1 = new Game(GameId.generate(), "team1", "team2", Score.of(1, 2), Instant.now());
+        Game game2 = new Game(GameId.generate(), "team1", "team2", Score.of(1, 1), Instant.now());
+        Game game3 = new Game(GameId.generate(), "team1", "team2", Score.of(1, 0), Instant.now());
 
         assertThat(List.of(game1, game2, game3)).isSortedAccordingTo(HIGHEST_OVERALL_SCORE);
     }
@@ -23,11 +27,75 @@ class GameComparatorsTest {
     @Test
     void shouldCompareGamesByCreationDate() {
         Instant now = Instant.now();
-        Game game1 = new Game("team1", "team2", Score.of(1, 1), now);
-        Game game2 = new Game("team1", "team2", Score.of(1, 1), now.minusSeconds(1));
-        Game game3 = new Game("team1", "team2", Score.of(1, 1), now.minusSeconds(2));
+        Game game1 = new Game(GameId.generate(), "team1", "team2", Score.of(1, 1), now);
+        Game game2 = new Game(GameId.generate(), "team1", "team2", Score.of(1, 1), now.minusSeconds(1));
+        Game game3 = new Game(GameId.generate(), "team1", "team2", Score.of(1, 1), now.minusSeconds(2));
 
         assertThat(List.of(game1, game2, game3)).isSortedAccordingTo(RECENT_FIRST);
     }
 
+    @Test
+    void shouldCompareGamesByRankKey_theSameWayAsByOverallScoreAndCreationDate() {
+        Comparator<Game> expectedComparator = HIGHEST_OVERALL_SCORE.thenComparing(RECENT_FIRST);
+        List<Game> games = gamesWithEdgeCases();
+
+        for (Game game1 : games) {
+            for (Game game2 : games) {
+                assertThat(Integer.signum(BY_RANK_KEY.compare(game1, game2)))
+                        .as("%s vs %s", game1, game2)
+                        .isEqualTo(Integer.signum(expectedComparator.compare(game1, game2)));
+            }
+        }
+    }
+
+    @Test
+    void shouldSortGamesByRankKey_theSameWayAsByOverallScoreAndCreationDate() {
+        List<Game> games = gamesWithEdgeCases();
+
+        List<Game> sortedByRankKey = games.stream()
+                                          .sorted(BY_RANK_KEY)
+                                          .toList();
+
+        assertThat(sortedByRankKey).isSortedAccordingTo(HIGHEST_OVERALL_SCORE.thenComparing(RECENT_FIRST));
+    }
+
+    private static List<Game> gamesWithEdgeCases() {
+        Random random = new Random(42);
+        Instant now = Instant.parse("2022-11-20T16:00:00.123456789Z");
+        List<Instant> timestamps = List.of(now,
+                                           now.plusNanos(1),
+                                           now.plusNanos(500_000),
+                                           now.plusMillis(1),
+                                           now.minusSeconds(90 * 60),
+                                           Instant.EPOCH,
+                                           Instant.EPOCH.minusNanos(1),
+                                           Instant.parse("1930-07-13T15:00:00Z"),
+                                           Instant.parse("9999-12-31T23:59:59Z"),
+                                           Instant.MAX,
+                                           Instant.MIN);
+        List<Score> scores = List.of(Score.of(0, 0),
+                                     Score.of(1, 0),
+                                     Score.of(0, 1),
+                                     Score.of(6, 6),
+                                     Score.of(0x7FFE, 0),
+                                     Score.of(0x7FFF, 0),
+                                     Score.of(0x7FFF, 1),
+                                     Score.of(100_000, 0),
+                                     Score.of(Integer.MAX_VALUE, 0),
+                                     Score.of(Integer.MAX_VALUE, 1),
+                                     Score.of(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        List<Game> games = new ArrayList<>();
+        for (Instant timestamp : timestamps) {
+            for (Score score : scores) {
+                games.add(new Game(GameId.generate(), "team1", "team2", score, timestamp));
+            }
+        }
+        for (int i = 0; i < 200; i++) {
+            games.add(new Game(GameId.generate(), "team1", "team2",
+                               Score.of(random.nextInt(10), random.nextInt(10)),
+                               now.plusNanos(random.nextInt(5_000_000))));
+        }
+        return games;
+    }
+
 }
\ No newline at end of file
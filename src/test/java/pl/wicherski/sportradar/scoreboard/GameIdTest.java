@@ -0,0 +1,80 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameIdTest {
+
+    @Test
+    void shouldGenerateDifferentIds_whenGeneratingRandomIds() {
+        GameIdGenerator generator = GameIdGenerator.random();
+
+        assertThat(generator.next()).isNotEqualTo(generator.next());
+    }
+
+    @Test
+    void shouldGenerateDifferentIds_whenGeneratingSequentialIds() {
+        GameIdGenerator generator = GameIdGenerator.sequential();
+
+        assertThat(generator.next()).isNotEqualTo(generator.next());
+    }
+
+    @Test
+    void shouldBeEqual_whenCreatedFromTheSameSequenceNumber() {
+        assertThat(GameId.ofSequence(7)).isEqualTo(GameId.ofSequence(7))
+                                        .hasSameHashCodeAs(GameId.ofSequence(7));
+    }
+
+    @Test
+    void shouldEncodeSlotAndGeneration_whenCreatingSlotId() {
+        GameId gameId = GameId.ofSlot(123, Integer.MAX_VALUE);
+
+        assertThat(gameId.isSlot()).isTrue();
+        assertThat(gameId.slot()).isEqualTo(123);
+        assertThat(gameId.generation()).isEqualTo(Integer.MAX_VALUE);
+    }
+
+    @Test
+    void shouldNotBeEqual_whenSlotIsTheSame_butGenerationDiffers() {
+        assertThat(GameId.ofSlot(1, 0)).isNotEqualTo(GameId.ofSlot(1, 1));
+    }
+
+    @Test
+    void shouldGenerateIdsOfDifferentScopes_whenGeneratingSequentialIdsWithDifferentGenerators() {
+        GameId gameId = GameIdGenerator.sequential()
+                                       .next();
+        GameId otherGameId = GameIdGenerator.sequential()
+                                            .next();
+
+        assertThat(gameId.sequence()).isEqualTo(otherGameId.sequence());
+        assertThat(gameId.scope()).isNotEqualTo(otherGameId.scope());
+        assertThat(gameId).isNotEqualTo(otherGameId);
+    }
+
+    @Test
+    void shouldKeepKindAndScope_whenCreatingScopedIds() {
+        long scope = GameId.newScope();
+
+        GameId sequenceId = GameId.ofSequence(scope, 5);
+        GameId slotId = GameId.ofSlot(scope, 5, 1);
+
+        assertThat(sequenceId.isSequence()).isTrue();
+        assertThat(sequenceId.scope()).isEqualTo(scope);
+        assertThat(sequenceId.sequence()).isEqualTo(5);
+        assertThat(slotId.isSlot()).isTrue();
+        assertThat(slotId.scope()).isEqualTo(scope);
+        assertThat(slotId.slot()).isEqualTo(5);
+        assertThat(slotId.generation()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotBeEqual_whenSequenceAndSlotIdsHaveTheSameValue() {
+        assertThat(GameId.ofSequence(5)).isNotEqualTo(GameId.ofSlot(5, 0));
+        assertThat(GameId.ofSequence(5)
+                         .isSlot()).isFalse();
+        assertThat(GameId.generate()
+                         .isSlot()).isFalse();
+    }
+
+}
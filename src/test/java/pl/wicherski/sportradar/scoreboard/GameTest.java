@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.Instant;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static pl.wicherski.sportradar.scoreboard.GameAssert.assertThatGame;
 
 class GameTest {
@@ -14,7 +15,7 @@ class GameTest {
     @Test
     void shouldGenerateGameCopyWithNewScore_whenUpdatingScore() {
         Instant creationTimestamp = Instant.now();
-        Game originalGame = new Game(TEAM_1, TEAM_2, Score.of(0, 0), creationTimestamp);
+        Game originalGame = new Game(GameId.generate(), TEAM_1, TEAM_2, Score.of(0, 0), creationTimestamp);
         Score newScore = Score.of(1, 2);
 
         Game updatedGame = originalGame.withUpdatedScore(newScore);
@@ -25,10 +26,21 @@ class GameTest {
                                    .wasCreatedAt(creationTimestamp);
     }
 
+    @Test
+    void shouldUpdateRankKey_whenUpdatingScore() {
+        Instant creationTimestamp = Instant.now();
+        Game originalGame = new Game(GameId.generate(), TEAM_1, TEAM_2, Score.of(0, 0), creationTimestamp);
+
+        Game updatedGame = originalGame.withUpdatedScore(Score.of(1, 2));
+
+        assertThat(updatedGame.rankKey()).isEqualTo(new Game(GameId.generate(), TEAM_1, TEAM_2, Score.of(1, 2), creationTimestamp).rankKey())
+                                         .isLessThan(originalGame.rankKey());
+    }
+
     @Test
     void shouldNotChangeOriginalGameScore_whenUpdatingScore() {
         Score originalScore = Score.of(0, 0);
-        Game originalGame = new Game(TEAM_1, TEAM_2, originalScore, Instant.now());
+        Game originalGame = new Game(GameId.generate(), TEAM_1, TEAM_2, originalScore, Instant.now());
 
         originalGame.withUpdatedScore(Score.of(1, 2));
 
@@ -37,4 +49,14 @@ class GameTest {
                                     .hasScore(originalScore);
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldKeepScoreSequence_whenUpdatingScore_withoutSequence() {
+        Game originalGame = new Game(GameId.generate(), TEAM_1, TEAM_2, Score.of(0, 0), Instant.now())
+                .withUpdatedScore(Score.of(1, 0), 7);
+
+        Game updatedGame = originalGame.withUpdatedScore(Score.of(1, 1));
+
+        assertThat(updatedGame.scoreSequence()).isEqualTo(7);
+    }
+
+}
@@ -0,0 +1,64 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HistogramTest {
+
+    @Test
+    void shouldReturnZeros_whenNothingWasRecorded() {
+        Histogram histogram = new Histogram();
+
+        HistogramStatistics statistics = histogram.statistics();
+
+        assertThat(statistics).isEqualTo(new HistogramStatistics(0, 0, 0, 0, 0, 0, 0));
+    }
+
+    @Test
+    void shouldReturnExactStatistics_whenRecordedValuesAreLow() {
+        Histogram histogram = new Histogram();
+
+        for (int value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+
+        assertThat(histogram.statistics()).isEqualTo(new HistogramStatistics(10, 5, 5, 9, 10, 10, 10));
+    }
+
+    @Test
+    void shouldReturnPercentilesWithinBucketPrecision_whenRecordedValuesAreHigh() {
+        Histogram histogram = new Histogram();
+
+        for (int value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        HistogramStatistics statistics = histogram.statistics();
+        assertThat(statistics.count()).isEqualTo(100_000);
+        assertThat(statistics.mean()).isEqualTo(50_000);
+        assertThat(statistics.p50()).isBetween(50_000L, 56_250L);
+        assertThat(statistics.p99()).isBetween(99_000L, 100_000L);
+        assertThat(statistics.max()).isEqualTo(100_000);
+    }
+
+    @Test
+    void shouldRecordZero_whenValueIsNegative() {
+        Histogram histogram = new Histogram();
+
+        histogram.record(-5);
+
+        assertThat(histogram.statistics()).isEqualTo(new HistogramStatistics(1, 0, 0, 0, 0, 0, 0));
+    }
+
+    @Test
+    void shouldPlaceValueInBucket_notLowerThanValue() {
+        for (long value : new long[]{0, 15, 16, 17, 1000, 123_456_789, Long.MAX_VALUE}) {
+            int bucket = Histogram.bucketOf(value);
+
+            assertThat(Histogram.highestValueOf(bucket)).isGreaterThanOrEqualTo(value);
+            assertThat(bucket == 0 || Histogram.highestValueOf(bucket - 1) < value).isTrue();
+        }
+    }
+
+}
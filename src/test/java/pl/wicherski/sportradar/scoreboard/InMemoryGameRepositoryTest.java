@@ -8,6 +8,7 @@ import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class InMemoryGameRepositoryTest {
 
@@ -23,7 +24,7 @@ class InMemoryGameRepositoryTest {
     @Test
     void shouldStoreGameInMemory_whenSavingGame() {
         GameId gameId = GameId.generate();
-        Game game = new Game("team1", "team2", Score.of(1, 1), Instant.now());
+        Game game = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
 
         gameRepository.save(gameId, game);
 
@@ -34,9 +35,9 @@ class InMemoryGameRepositoryTest {
     @Test
     void shouldOverwritePreviousGame_whenSavingGame_withTheSameId() {
         GameId gameId = GameId.generate();
-        Game game1 = new Game("team1", "team2", Score.of(1, 1), Instant.now());
+        Game game1 = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
         storedGames.put(gameId, game1);
-        Game game2 = new Game("team2", "team3", Score.of(1, 1), Instant.now());
+        Game game2 = new Game(gameId, "team2", "team3", Score.of(1, 1), Instant.now());
 
         gameRepository.save(gameId, game2);
 
@@ -44,10 +45,30 @@ class InMemoryGameRepositoryTest {
                                .containsEntry(gameId, game2);
     }
 
+    @Test
+    void shouldThrowIllegalArgumentException_whenSavingGame_underIdOfAnotherGame() {
+        GameId gameId = GameId.generate();
+        Game game = new Game(GameId.generate(), "team1", "team2", Score.of(1, 1), Instant.now());
+
+        assertThatThrownBy(() -> gameRepository.save(gameId, game)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(storedGames).isEmpty();
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenUpdatingGame_withGameOfAnotherId() {
+        GameId gameId = GameId.generate();
+        Game game = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
+        storedGames.put(gameId, game);
+        Game otherGame = new Game(GameId.generate(), "team1", "team2", Score.of(2, 1), Instant.now());
+
+        assertThatThrownBy(() -> gameRepository.update(gameId, otherGame)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(storedGames).containsEntry(gameId, game);
+    }
+
     @Test
     void shouldRemoveGameFromStore_whenDeletingGame() {
         GameId gameId = GameId.generate();
-        Game game1 = new Game("team1", "team2", Score.of(1, 1), Instant.now());
+        Game game1 = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
         storedGames.put(gameId, game1);
 
         gameRepository.delete(gameId);
@@ -58,10 +79,10 @@ class InMemoryGameRepositoryTest {
     @Test
     void shouldRemoveOnlySpecifiedGameFromStore_whenDeletingGame() {
         GameId gameId1 = GameId.generate();
-        Game game1 = new Game("team1", "team2", Score.of(1, 1), Instant.now());
+        Game game1 = new Game(gameId1, "team1", "team2", Score.of(1, 1), Instant.now());
         storedGames.put(gameId1, game1);
         GameId gameId2 = GameId.generate();
-        Game game2 = new Game("team2", "team3", Score.of(1, 1), Instant.now());
+        Game game2 = new Game(gameId2, "team2", "team3", Score.of(1, 1), Instant.now());
         storedGames.put(gameId2, game2);
 
         gameRepository.delete(gameId1);
@@ -77,12 +98,25 @@ class InMemoryGameRepositoryTest {
         assertThatCode(() -> gameRepository.delete(gameId)).doesNotThrowAnyException();
     }
 
+    @Test
+    void shouldReturnRemovedGame_whenRemovingGame() {
+        GameId gameId = GameId.generate();
+        Game game = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
+        storedGames.put(gameId, game);
+
+        Optional<Game> removedGame = gameRepository.remove(gameId);
+
+        assertThat(removedGame).containsSame(game);
+        assertThat(storedGames).isEmpty();
+        assertThat(gameRepository.remove(gameId)).isEmpty();
+    }
+
     @Test
     void shouldOverwritePreviousGame_whenUpdatingGame() {
         GameId gameId = GameId.generate();
-        Game game1 = new Game("team1", "team2", Score.of(1, 1), Instant.now());
+        Game game1 = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
         storedGames.put(gameId, game1);
-        Game game2 = new Game("team2", "team3", Score.of(1, 1), Instant.now());
+        Game game2 = new Game(gameId, "team2", "team3", Score.of(1, 1), Instant.now());
 
         gameRepository.update(gameId, game2);
 
@@ -93,17 +127,42 @@ class InMemoryGameRepositoryTest {
     @Test
     void shouldNotStoreGame_whenUpdatingGame_withNonExistingId() {
         GameId gameId = GameId.generate();
-        Game game = new Game("team1", "team2", Score.of(1, 1), Instant.now());
+        Game game = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
 
         gameRepository.update(gameId, game);
 
         assertThat(storedGames).isEmpty();
     }
 
+    @Test
+    void shouldReplaceGame_whenReplacingGame_thatEqualsExpectedGame() {
+        GameId gameId = GameId.generate();
+        Game game = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
+        storedGames.put(gameId, game);
+        Game updatedGame = game.withUpdatedScore(Score.of(2, 1));
+
+        boolean replaced = gameRepository.replace(gameId, game, updatedGame);
+
+        assertThat(replaced).isTrue();
+        assertThat(storedGames).containsEntry(gameId, updatedGame);
+    }
+
+    @Test
+    void shouldNotReplaceGame_whenReplacingGame_thatDiffersFromExpectedGame() {
+        GameId gameId = GameId.generate();
+        Game game = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
+        storedGames.put(gameId, game.withUpdatedScore(Score.of(1, 2)));
+
+        boolean replaced = gameRepository.replace(gameId, game, game.withUpdatedScore(Score.of(2, 1)));
+
+        assertThat(replaced).isFalse();
+        assertThat(storedGames).containsEntry(gameId, game.withUpdatedScore(Score.of(1, 2)));
+    }
+
     @Test
     void shouldReturnOptionalWithGame_whenGettingGame() {
         GameId gameId = GameId.generate();
-        Game game = new Game("team1", "team2", Score.of(1, 1), Instant.now());
+        Game game = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
         storedGames.put(gameId, game);
 
         Optional<Game> optionalGame = gameRepository.get(gameId);
@@ -124,8 +183,8 @@ class InMemoryGameRepositoryTest {
     void shouldReturnAllStoredGames_whenGettingAllGames() {
         GameId gameId1 = GameId.generate();
         GameId gameId2 = GameId.generate();
-        Game game1 = new Game("team1", "team2", Score.of(1, 1), Instant.now());
-        Game game2 = new Game("team3", "team4", Score.of(1, 1), Instant.now());
+        Game game1 = new Game(gameId1, "team1", "team2", Score.of(1, 1), Instant.now());
+        Game game2 = new Game(gameId2, "team3", "team4", Score.of(1, 1), Instant.now());
         storedGames.put(gameId1, game1);
         storedGames.put(gameId2, game2);
 
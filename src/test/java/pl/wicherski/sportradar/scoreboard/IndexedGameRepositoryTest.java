@@ -0,0 +1,150 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static pl.wicherski.sportradar.scoreboard.GameComparators.HIGHEST_OVERALL_SCORE;
+import static pl.wicherski.sportradar.scoreboard.GameComparators.RECENT_FIRST;
+
+class IndexedGameRepositoryTest {
+
+    private IndexedGameRepository gameRepository;
+
+    @BeforeEach
+    void setUp() {
+        gameRepository = new IndexedGameRepository(HIGHEST_OVERALL_SCORE.thenComparing(RECENT_FIRST));
+    }
+
+    @Test
+    void shouldStoreGame_whenSavingGame() {
+        GameId gameId = GameId.generate();
+        Game game = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
+
+        gameRepository.save(gameId, game);
+
+        assertThat(gameRepository.get(gameId)).contains(game);
+        assertThat(gameRepository.getAll()).containsExactly(game);
+    }
+
+    @Test
+    void shouldOverwritePreviousGame_whenSavingGame_withTheSameId() {
+        GameId gameId = GameId.generate();
+        Game game1 = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
+        Game game2 = new Game(gameId, "team2", "team3", Score.of(1, 1), Instant.now());
+        gameRepository.save(gameId, game1);
+
+        gameRepository.save(gameId, game2);
+
+        assertThat(gameRepository.get(gameId)).contains(game2);
+        assertThat(gameRepository.getAll()).containsExactly(game2);
+    }
+
+    @Test
+    void shouldRemoveOnlySpecifiedGame_whenDeletingGame() {
+        GameId gameId1 = GameId.generate();
+        GameId gameId2 = GameId.generate();
+        Game game1 = new Game(gameId1, "team1", "team2", Score.of(1, 1), Instant.now());
+        Game game2 = new Game(gameId2, "team2", "team3", Score.of(1, 1), Instant.now());
+        gameRepository.save(gameId1, game1);
+        gameRepository.save(gameId2, game2);
+
+        gameRepository.delete(gameId1);
+
+        assertThat(gameRepository.get(gameId1)).isEmpty();
+        assertThat(gameRepository.getAll()).containsExactly(game2);
+    }
+
+    @Test
+    void shouldReturnRemovedGame_whenRemovingGame() {
+        GameId gameId = GameId.generate();
+        Game game = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
+        gameRepository.save(gameId, game);
+
+        Optional<Game> removedGame = gameRepository.remove(gameId);
+
+        assertThat(removedGame).contains(game);
+        assertThat(gameRepository.getAll()).isEmpty();
+        assertThat(gameRepository.remove(gameId)).isEmpty();
+    }
+
+    @Test
+    void shouldNotThrowException_whenDeletingGame_thatDoesNotExist() {
+        GameId gameId = GameId.generate();
+
+        assertThatCode(() -> gameRepository.delete(gameId)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldReorderGames_whenUpdatingGame() {
+        Instant now = Instant.now();
+        GameId gameId1 = GameId.generate();
+        GameId gameId2 = GameId.generate();
+        Game game1 = new Game(gameId1, "team1", "team2", Score.of(0, 0), now.minusSeconds(1));
+        Game game2 = new Game(gameId2, "team3", "team4", Score.of(1, 0), now);
+        gameRepository.save(gameId1, game1);
+        gameRepository.save(gameId2, game2);
+        Game updatedGame1 = game1.withUpdatedScore(Score.of(2, 0));
+
+        gameRepository.update(gameId1, updatedGame1);
+
+        assertThat(gameRepository.get(gameId1)).contains(updatedGame1);
+        assertThat(gameRepository.getAll()).containsExactly(updatedGame1, game2);
+    }
+
+    @Test
+    void shouldNotStoreGame_whenUpdatingGame_withNonExistingId() {
+        GameId gameId = GameId.generate();
+        Game game = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
+
+        gameRepository.update(gameId, game);
+
+        assertThat(gameRepository.get(gameId)).isEmpty();
+        assertThat(gameRepository.getAll()).isEmpty();
+    }
+
+    @Test
+    void shouldReturnEmptyOptional_whenGettingGame_whichDoesNotExist() {
+        Optional<Game> optionalGame = gameRepository.get(GameId.generate());
+
+        assertThat(optionalGame).isEmpty();
+    }
+
+    @Test
+    void shouldReturnGamesInRankingOrder_whenGettingAllGames() {
+        Instant now = Instant.now();
+        Game game1 = new Game(GameId.generate(), "Mexico", "Canada", Score.of(0, 5), now.minusSeconds(5));
+        Game game2 = new Game(GameId.generate(), "Spain", "Brazil", Score.of(10, 2), now.minusSeconds(4));
+        Game game3 = new Game(GameId.generate(), "Germany", "France", Score.of(2, 2), now.minusSeconds(3));
+        Game game4 = new Game(GameId.generate(), "Uruguay", "Italy", Score.of(6, 6), now.minusSeconds(2));
+        Game game5 = new Game(GameId.generate(), "Argentina", "Australia", Score.of(3, 1), now.minusSeconds(1));
+        gameRepository.save(game1.gameId(), game1);
+        gameRepository.save(game2.gameId(), game2);
+        gameRepository.save(game3.gameId(), game3);
+        gameRepository.save(game4.gameId(), game4);
+        gameRepository.save(game5.gameId(), game5);
+
+        Collection<Game> games = gameRepository.getAll();
+
+        assertThat(games).containsExactly(game4, game2, game1, game5, game3);
+    }
+
+    @Test
+    void shouldKeepGamesEqualByComparator_whenGettingAllGames() {
+        Instant now = Instant.now();
+        Game game1 = new Game(GameId.generate(), "team1", "team2", Score.of(1, 1), now);
+        Game game2 = new Game(GameId.generate(), "team3", "team4", Score.of(1, 1), now);
+        gameRepository.save(game1.gameId(), game1);
+        gameRepository.save(game2.gameId(), game2);
+
+        Collection<Game> games = gameRepository.getAll();
+
+        assertThat(games).containsExactly(game2, game1);
+    }
+
+}
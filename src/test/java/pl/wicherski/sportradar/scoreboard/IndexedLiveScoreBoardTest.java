@@ -0,0 +1,120 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static pl.wicherski.sportradar.scoreboard.GameComparators.HIGHEST_OVERALL_SCORE;
+import static pl.wicherski.sportradar.scoreboard.GameComparators.RECENT_FIRST;
+
+class IndexedLiveScoreBoardTest {
+
+    private Instant sortingBoardClock;
+    private Instant indexedBoardClock;
+    private LiveScoreBoardImpl sortingBoard;
+    private IndexedLiveScoreBoard indexedBoard;
+
+    @BeforeEach
+    void setUp() {
+        sortingBoardClock = Instant.now();
+        indexedBoardClock = sortingBoardClock;
+        // every game is started one second after the previous one, so there are no ties on creation time
+        ScoreSummaryFactory scoreSummaryFactory = new ScoreSummaryFactory();
+        sortingBoard = new LiveScoreBoardImpl(new InMemoryGameRepository(new HashMap<>()),
+                                              () -> sortingBoardClock = sortingBoardClock.plusSeconds(1),
+                                              scoreSummaryFactory,
+                                              HIGHEST_OVERALL_SCORE.thenComparing(RECENT_FIRST));
+        indexedBoard = new IndexedLiveScoreBoard(new IndexedGameRepository(HIGHEST_OVERALL_SCORE.thenComparing(RECENT_FIRST)),
+                                                 () -> indexedBoardClock = indexedBoardClock.plusSeconds(1),
+                                                 scoreSummaryFactory,
+                                                 new TeamNameDictionary());
+    }
+
+    @Test
+    void shouldProduceTheSameSummaryAsSortingBoard_whenApplyingRandomOperations() {
+        Random random = new Random(42);
+        List<GameId> sortingBoardIds = new ArrayList<>();
+        List<GameId> indexedBoardIds = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 3 || sortingBoardIds.isEmpty()) {
+                sortingBoardIds.add(sortingBoard.startGame("home" + i, "away" + i));
+                indexedBoardIds.add(indexedBoard.startGame("home" + i, "away" + i));
+            } else if (operation < 9) {
+                int index = random.nextInt(sortingBoardIds.size());
+                Score score = Score.of(random.nextInt(8), random.nextInt(8));
+                sortingBoard.updateScore(sortingBoardIds.get(index), score);
+                indexedBoard.updateScore(indexedBoardIds.get(index), score);
+            } else {
+                int index = random.nextInt(sortingBoardIds.size());
+                sortingBoard.finishGame(sortingBoardIds.remove(index));
+                indexedBoard.finishGame(indexedBoardIds.remove(index));
+            }
+
+            assertThat(rankingOf(indexedBoard.rankGames())).isEqualTo(rankingOf(sortingBoard.rankGames()));
+        }
+        assertThat(indexedBoard.getSummary()
+                               .toPrintableSummary()).isEqualTo(sortingBoard.getSummary()
+                                                                            .toPrintableSummary());
+    }
+
+    @Test
+    void shouldReturnPrefixOfFullSummary_whenCreatingLimitedSummary() {
+        Random random = new Random(7);
+        for (int i = 0; i < 500; i++) {
+            GameId sortingBoardGameId = sortingBoard.startGame("home" + i, "away" + i);
+            GameId indexedBoardGameId = indexedBoard.startGame("home" + i, "away" + i);
+            Score score = Score.of(random.nextInt(5), random.nextInt(5));
+            sortingBoard.updateScore(sortingBoardGameId, score);
+            indexedBoard.updateScore(indexedBoardGameId, score);
+        }
+        List<Game> fullRanking = sortingBoard.rankGames();
+
+        for (int limit : new int[]{0, 1, 10, 499, 500, 501}) {
+            List<Game> expectedGames = fullRanking.subList(0, Math.min(limit, fullRanking.size()));
+            assertThat(sortingBoard.rankTopGames(limit)).isEqualTo(expectedGames);
+            assertThat(indexedBoard.rankTopGames(limit)).extracting(Game::homeTeamName)
+                                                        .isEqualTo(expectedGames.stream()
+                                                                                .map(Game::homeTeamName)
+                                                                                .toList());
+        }
+        assertThat(indexedBoard.getSummary(10)
+                               .toPrintableSummary()).isEqualTo(sortingBoard.getSummary(10)
+                                                                            .toPrintableSummary());
+    }
+
+    @Test
+    void shouldReturnGamesSortedAccordingToComparator_whenCreatingSummary() {
+        GameId gameId1 = indexedBoard.startGame("Mexico", "Canada");
+        indexedBoard.updateScore(gameId1, Score.of(0, 5));
+        GameId gameId2 = indexedBoard.startGame("Spain", "Brazil");
+        indexedBoard.updateScore(gameId2, Score.of(10, 2));
+        indexedBoard.startGame("Germany", "France");
+        indexedBoard.updateScore(gameId1, Score.of(3, 6));
+
+        assertThat(indexedBoard.rankGames()).hasSize(3)
+                                            .isSortedAccordingTo(HIGHEST_OVERALL_SCORE.thenComparing(RECENT_FIRST));
+    }
+
+    /**
+     * Rankings of both boards are compared without game IDs, which differ between the boards.
+     */
+    private static List<Tuple> rankingOf(List<Game> games) {
+        return games.stream()
+                    .map(game -> tuple(game.homeTeamName(),
+                                       game.awayTeamName(),
+                                       game.score(),
+                                       game.creationTimestamp()))
+                    .toList();
+    }
+
+}
@@ -0,0 +1,204 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InstrumentingLiveScoreBoardTest {
+
+    private static final String TEAM_1 = "team1";
+    private static final String TEAM_2 = "team2";
+
+    @Mock
+    private LiveScoreBoard delegateMock;
+    @Mock
+    private ScoreSummary summaryMock;
+
+    @Test
+    void shouldRecordLatency_whenOperationIsCalled() {
+        when(delegateMock.getSummary()).thenReturn(summaryMock);
+        InstrumentedLiveScoreBoard board = new InstrumentingLiveScoreBoard(delegateMock, null, 1);
+
+        board.updateScore(GameId.generate(), Score.of(1, 0));
+        board.updateScore(GameId.generate(), Score.of(2, 0));
+        board.getSummary();
+
+        BoardStatistics statistics = board.getStatistics();
+        assertThat(statistics.operationLatencies()
+                             .get(BoardOperation.UPDATE_SCORE)
+                             .count()).isEqualTo(2);
+        assertThat(statistics.operationLatencies()
+                             .get(BoardOperation.GET_SUMMARY)
+                             .count()).isEqualTo(1);
+        assertThat(statistics.operationLatencies()
+                             .get(BoardOperation.FINISH_GAME)
+                             .count()).isZero();
+    }
+
+    @Test
+    void shouldRecordLatency_whenOperationFails() {
+        GameId gameId = GameId.generate();
+        doThrow(new GameNotFoundException(gameId)).when(delegateMock)
+                                                  .updateScore(gameId, Score.of(1, 0));
+        InstrumentedLiveScoreBoard board = new InstrumentingLiveScoreBoard(delegateMock, null, 1);
+
+        assertThatThrownBy(() -> board.updateScore(gameId, Score.of(1, 0))).isInstanceOf(GameNotFoundException.class);
+        assertThat(board.getStatistics()
+                        .operationLatencies()
+                        .get(BoardOperation.UPDATE_SCORE)
+                        .count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTimeSampleOfOperations_whenSamplingIntervalIsGreaterThanOne() {
+        InstrumentedLiveScoreBoard board = new InstrumentingLiveScoreBoard(delegateMock, null, 16);
+
+        for (int i = 0; i < 1_600; i++) {
+            board.updateScore(GameId.generate(), Score.of(1, 0));
+        }
+
+        assertThat(board.getStatistics()
+                        .operationLatencies()
+                        .get(BoardOperation.UPDATE_SCORE)
+                        .count()).isBetween(1L, 1_599L);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenSamplingIntervalIsNotPositive() {
+        assertThatThrownBy(() -> new InstrumentingLiveScoreBoard(delegateMock, null, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReportSizeOfLastSummary_whenGamesAreStartedAndFinished() {
+        InstrumentedLiveScoreBoard board = new InstrumentingLiveScoreBoard(LiveScoreBoardFactory.getInstance()
+                                                                                                .newBoard());
+        GameId gameId = board.startGame(TEAM_1, TEAM_2);
+        board.startGames(List.of(new Teams(TEAM_1, TEAM_2), new Teams(TEAM_2, TEAM_1)));
+        board.finishGame(gameId);
+        board.finishGame(GameId.generate());
+
+        assertThat(board.getStatistics()
+                        .boardSize()).isZero();
+        board.getSummary();
+        assertThat(board.getStatistics()
+                        .boardSize()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldCountInitialGames_whenDecoratedBoardAlreadyTracksGames() {
+        LiveScoreBoard liveScoreBoard = LiveScoreBoardFactory.getInstance()
+                                                             .newBoard();
+        liveScoreBoard.startGame(TEAM_1, TEAM_2);
+        liveScoreBoard.startGame(TEAM_2, TEAM_1);
+
+        InstrumentedLiveScoreBoard board = new InstrumentingLiveScoreBoard(liveScoreBoard);
+
+        assertThat(board.getStatistics()
+                        .boardSize()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldRecordSummarySizes_whenSummariesAreProduced() {
+        InstrumentedLiveScoreBoard board = LiveScoreBoardFactory.getInstance()
+                                                                .newInstrumentedBoard();
+        board.startGame(TEAM_1, TEAM_2);
+        board.startGame(TEAM_2, TEAM_1);
+        board.startGame("team3", "team4");
+
+        board.getSummary();
+        board.getSummary(1);
+
+        HistogramStatistics summarySizes = board.getStatistics()
+                                                .summarySizes();
+        assertThat(summarySizes.count()).isEqualTo(2);
+        assertThat(summarySizes.max()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRecordLockTimes_whenBoardIsCreatedWithTimedLock() {
+        InstrumentedLiveScoreBoard board = LiveScoreBoardFactory.getInstance()
+                                                                .newInstrumentedBoard(1, true);
+        // initial games of the board are read under the read lock
+        long initialReads = board.getStatistics()
+                                 .readLockHold()
+                                 .count();
+
+        board.startGame(TEAM_1, TEAM_2);
+        board.getSummary();
+        board.getSummary();
+
+        BoardStatistics statistics = board.getStatistics();
+        assertThat(statistics.writeLockWait()
+                             .count()).isEqualTo(1);
+        assertThat(statistics.writeLockHold()
+                             .count()).isEqualTo(1);
+        assertThat(statistics.readLockWait()
+                             .count()).isEqualTo(initialReads + 2);
+        assertThat(statistics.readLockHold()
+                             .count()).isEqualTo(initialReads + 2);
+    }
+
+    @Test
+    void shouldReturnEmptyLockTimes_whenBoardIsCreatedWithoutTimedLock() {
+        InstrumentedLiveScoreBoard board = LiveScoreBoardFactory.getInstance()
+                                                                .newInstrumentedBoard();
+
+        board.startGame(TEAM_1, TEAM_2);
+
+        assertThat(board.getStatistics()
+                        .writeLockHold()
+                        .count()).isZero();
+    }
+
+    @Test
+    void shouldExposeStatistics_whenMBeanIsRegistered() throws Exception {
+        InstrumentedLiveScoreBoard board = LiveScoreBoardFactory.getInstance()
+                                                                .newInstrumentedBoard(1, false);
+        board.startGame(TEAM_1, TEAM_2);
+        board.getSummary();
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+        ObjectName objectName = board.registerMBean("exposedBoard");
+        try {
+            assertThat(mBeanServer.getAttribute(objectName, "BoardSize")).isEqualTo(1L);
+            TabularData latencies = (TabularData) mBeanServer.getAttribute(objectName, "OperationLatencies");
+            assertThat(latencies.get(new Object[]{"startGame.count"})
+                                .get("value")).isEqualTo(1L);
+        } finally {
+            mBeanServer.unregisterMBean(objectName);
+        }
+    }
+
+    @Test
+    void shouldThrowIllegalStateException_whenMBeanIsAlreadyRegistered() throws Exception {
+        InstrumentedLiveScoreBoard board = new InstrumentingLiveScoreBoard(delegateMock);
+        ObjectName objectName = board.registerMBean("duplicatedBoard");
+        try {
+            assertThatThrownBy(() -> board.registerMBean("duplicatedBoard")).isInstanceOf(IllegalStateException.class);
+        } finally {
+            ManagementFactory.getPlatformMBeanServer()
+                             .unregisterMBean(objectName);
+        }
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenRegisteringMBean_withInvalidName() {
+        InstrumentedLiveScoreBoard board = new InstrumentingLiveScoreBoard(delegateMock);
+
+        assertThatThrownBy(() -> board.registerMBean("invalid,name=")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,170 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JournaledBoardIntegrationTest {
+
+    private final LiveScoreBoardFactory factory = LiveScoreBoardFactory.getInstance();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void shouldRebuildBoard_whenCreatingBoardFromExistingJournal() {
+        Path journalFile = directory.resolve("board.journal");
+        String summaryBeforeRestart;
+        GameId mexicoCanada;
+        try (JournaledLiveScoreBoard board = factory.newJournaledBoard(journalFile)) {
+            mexicoCanada = board.startGame("Mexico", "Canada");
+            GameId spainBrazil = board.startGame("Spain", "Brazil");
+            GameId germanyFrance = board.startGame("Germany", "France");
+            board.updateScore(mexicoCanada, Score.of(0, 5));
+            board.updateScore(spainBrazil, Score.of(10, 2));
+            board.finishGame(germanyFrance);
+            summaryBeforeRestart = board.getSummary()
+                                        .toPrintableSummary();
+        }
+
+        try (JournaledLiveScoreBoard board = factory.newJournaledBoard(journalFile)) {
+            assertThat(board.getSummary()
+                            .toPrintableSummary()).isEqualTo(summaryBeforeRestart);
+            assertThat(board.getReplayStatistics()
+                            .events()).isEqualTo(6);
+
+            board.updateScore(mexicoCanada, Score.of(1, 5));
+            GameId uruguayItaly = board.startGame("Uruguay", "Italy");
+            board.updateScore(uruguayItaly, Score.of(6, 6));
+            assertThat(uruguayItaly).isNotEqualTo(mexicoCanada);
+            assertThat(board.getSummary()
+                            .toPrintableSummary()).isEqualTo("""
+                                                                     1. Uruguay 6 - Italy 6
+                                                                     2. Spain 10 - Brazil 2
+                                                                     3. Mexico 1 - Canada 5""");
+        }
+    }
+
+    @Test
+    void shouldRebuildBoardFromSnapshot_whenJournalWasCompacted() {
+        Path journalFile = directory.resolve("board.journal");
+        GameId mexicoCanada;
+        try (JournaledLiveScoreBoard board = factory.newJournaledBoard(journalFile)) {
+            mexicoCanada = board.startGame("Mexico", "Canada");
+            GameId spainBrazil = board.startGame("Spain", "Brazil");
+            board.updateScore(mexicoCanada, Score.of(0, 5));
+            board.compact();
+            board.updateScore(spainBrazil, Score.of(10, 2));
+        }
+
+        try (JournaledLiveScoreBoard board = factory.newJournaledBoard(journalFile)) {
+            assertThat(board.getSummary()
+                            .toPrintableSummary()).isEqualTo("1. Spain 10 - Brazil 2\n2. Mexico 0 - Canada 5");
+            assertThat(board.getReplayStatistics()
+                            .events()).isEqualTo(1);
+            GameId uruguayItaly = board.startGame("Uruguay", "Italy");
+            assertThat(uruguayItaly).isNotEqualTo(mexicoCanada);
+        }
+    }
+
+    @Test
+    void shouldDropStaleScoreUpdates_whenReopeningBoardAfterRestart() {
+        Path journalFile = directory.resolve("board.journal");
+        GameId mexicoCanada;
+        GameId spainBrazil;
+        try (JournaledLiveScoreBoard board = factory.newJournaledBoard(journalFile)) {
+            mexicoCanada = board.startGame("Mexico", "Canada");
+            spainBrazil = board.startGame("Spain", "Brazil");
+            board.updateScoreIfNewer(mexicoCanada, 5, Score.of(0, 5));
+            board.compact();
+            board.updateScoreIfNewer(spainBrazil, 7, Score.of(1, 0));
+        }
+
+        try (JournaledLiveScoreBoard board = factory.newJournaledBoard(journalFile)) {
+            assertThat(board.updateScoreIfNewer(mexicoCanada, 4, Score.of(0, 4))).isFalse();
+            assertThat(board.updateScoreIfNewer(spainBrazil, 6, Score.of(0, 0))).isFalse();
+            assertThat(board.updateScoreIfNewer(mexicoCanada, 6, Score.of(0, 6))).isTrue();
+            assertThat(board.getSummary()
+                            .toPrintableSummary()).isEqualTo("1. Mexico 0 - Canada 6\n2. Spain 1 - Brazil 0");
+        }
+    }
+
+    @Test
+    void shouldReplayOnlyNewEvents_whenReopeningBoardAfterRestart() {
+        Path journalFile = directory.resolve("board.journal");
+        try (JournaledLiveScoreBoard board = factory.newJournaledBoard(journalFile)) {
+            GameId mexicoCanada = board.startGame("Mexico", "Canada");
+            for (int i = 1; i <= 100; i++) {
+                board.updateScore(mexicoCanada, Score.of(0, i));
+            }
+        }
+        try (JournaledLiveScoreBoard board = factory.newJournaledBoard(journalFile)) {
+            assertThat(board.getReplayStatistics()
+                            .events()).isEqualTo(101);
+        }
+
+        try (JournaledLiveScoreBoard board = factory.newJournaledBoard(journalFile)) {
+            assertThat(board.getReplayStatistics()
+                            .events()).isZero();
+            assertThat(board.getSummary()
+                            .toPrintableSummary()).isEqualTo("1. Mexico 0 - Canada 100");
+        }
+    }
+
+    @Test
+    void shouldNotJournalFinish_ofGameWhichIsNotTracked() {
+        Path journalFile = directory.resolve("board.journal");
+        try (JournaledLiveScoreBoard board = factory.newJournaledBoard(journalFile)) {
+            GameId mexicoCanada = board.startGame("Mexico", "Canada");
+            board.finishGame(mexicoCanada);
+            board.finishGame(mexicoCanada);
+            board.finishGame(GameId.generate());
+        }
+
+        try (JournaledLiveScoreBoard board = factory.newJournaledBoard(journalFile)) {
+            assertThat(board.getReplayStatistics()
+                            .events()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void shouldCreateEmptyBoard_whenJournalDoesNotExist() {
+        try (JournaledLiveScoreBoard board = factory.newJournaledBoard(directory.resolve("board.journal"))) {
+            assertThat(board.getSummary()
+                            .toPrintableSummary()).isEmpty();
+            assertThat(board.getReplayStatistics()
+                            .events()).isZero();
+        }
+    }
+
+    @Test
+    void shouldRebuildBatchModifications_whenCreatingBoardFromExistingJournal() {
+        Path journalFile = directory.resolve("board.journal");
+        try (JournaledLiveScoreBoard board = factory.newJournaledBoard(journalFile)) {
+            List<GameId> gameIds = board.startGames(List.of(Teams.of("Mexico", "Canada"), Teams.of("Spain", "Brazil")));
+            board.updateScores(Map.of(gameIds.get(0), Score.of(0, 5)));
+            board.finishGames(List.of(gameIds.get(1)));
+            board.flush();
+        }
+
+        try (JournaledLiveScoreBoard board = factory.newJournaledBoard(journalFile)) {
+            assertThat(board.getSummary()
+                            .toPrintableSummary()).isEqualTo("1. Mexico 0 - Canada 5");
+        }
+    }
+
+    @Test
+    void shouldThrowException_whenModifyingClosedBoard() {
+        JournaledLiveScoreBoard board = factory.newJournaledBoard(directory.resolve("board.journal"));
+        board.close();
+
+        assertThatThrownBy(() -> board.startGame("Mexico", "Canada")).isInstanceOf(IllegalStateException.class);
+    }
+
+}
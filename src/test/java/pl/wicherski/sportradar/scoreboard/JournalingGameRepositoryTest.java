@@ -0,0 +1,90 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class JournalingGameRepositoryTest {
+
+    private static final Duration FLUSH_INTERVAL = Duration.ofMillis(10);
+    private static final GameId GAME_ID = GameId.ofSequence(1);
+    private static final GameId NOT_STORED_GAME_ID = GameId.ofSequence(2);
+    private static final Instant CREATION_TIMESTAMP = Instant.parse("2022-11-20T16:00:00Z");
+
+    @TempDir
+    private Path directory;
+    @Mock
+    private JournalEventHandler handlerMock;
+    private Path journalFile;
+    private EventJournal journal;
+    private JournalingGameRepository gameRepository;
+
+    @BeforeEach
+    void setUp() {
+        journalFile = directory.resolve("journal");
+        journal = EventJournal.open(journalFile, FLUSH_INTERVAL, handlerMock);
+        gameRepository = new JournalingGameRepository(new InMemoryGameRepository(new HashMap<>()), journal);
+    }
+
+    @Test
+    void shouldJournalAppliedModifications_whenModifyingStoredGame() {
+        Game game = new Game(GAME_ID, "Mexico", "Canada", Score.of(0, 0), CREATION_TIMESTAMP);
+        gameRepository.save(GAME_ID, game);
+        gameRepository.update(GAME_ID, game.withUpdatedScore(Score.of(0, 1), 3));
+        gameRepository.delete(GAME_ID);
+        journal.close();
+
+        try (EventJournal reopenedJournal = EventJournal.open(journalFile, FLUSH_INTERVAL, handlerMock)) {
+            InOrder inOrder = inOrder(handlerMock);
+            inOrder.verify(handlerMock)
+                   .gameStarted(GAME_ID, "Mexico", "Canada", CREATION_TIMESTAMP);
+            inOrder.verify(handlerMock)
+                   .scoreUpdated(GAME_ID, Score.of(0, 1), 3);
+            inOrder.verify(handlerMock)
+                   .gameFinished(GAME_ID);
+            inOrder.verifyNoMoreInteractions();
+            assertThat(reopenedJournal.replayStatistics()
+                                      .events()).isEqualTo(3);
+        }
+    }
+
+    @Test
+    void shouldNotJournalModifications_ofGameWhichIsNotStored() {
+        Game game = new Game(NOT_STORED_GAME_ID, "Mexico", "Canada", Score.of(0, 1), CREATION_TIMESTAMP);
+
+        gameRepository.update(NOT_STORED_GAME_ID, game);
+        gameRepository.delete(NOT_STORED_GAME_ID);
+        assertThat(gameRepository.remove(NOT_STORED_GAME_ID)).isEmpty();
+        journal.close();
+
+        try (EventJournal reopenedJournal = EventJournal.open(journalFile, FLUSH_INTERVAL, handlerMock)) {
+            assertThat(reopenedJournal.replayStatistics()
+                                      .events()).isZero();
+            verifyNoInteractions(handlerMock);
+        }
+    }
+
+    @Test
+    void shouldReturnRemovedGame_whenRemovingStoredGame() {
+        Game game = new Game(GAME_ID, "Mexico", "Canada", Score.of(0, 0), CREATION_TIMESTAMP);
+        gameRepository.save(GAME_ID, game);
+
+        assertThat(gameRepository.remove(GAME_ID)).contains(game);
+        assertThat(gameRepository.get(GAME_ID)).isEmpty();
+        journal.close();
+    }
+
+}
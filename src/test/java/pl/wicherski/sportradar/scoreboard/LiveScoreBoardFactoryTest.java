@@ -2,7 +2,10 @@ package pl.wicherski.sportradar.scoreboard;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class LiveScoreBoardFactoryTest {
 
@@ -16,6 +19,83 @@ class LiveScoreBoardFactoryTest {
                                   .isInstanceOf(LiveScoreBoardImpl.class);
     }
 
+    @Test
+    void shouldCreateBoardWithRandomGameIds_whenCreatingNewBoard() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        GameId gameId = instance.newBoard()
+                                .startGame("team1", "team2");
+
+        assertThat(gameId.isSequence()).isFalse();
+        assertThat(gameId.isSlot()).isFalse();
+    }
+
+    @Test
+    void shouldCreateSlotBoard_whenCreatingNewSlotBoard() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        LiveScoreBoard liveScoreBoard = instance.newSlotBoard();
+
+        assertThat(liveScoreBoard).isNotNull()
+                                  .isInstanceOf(LiveScoreBoardImpl.class);
+        assertThat(liveScoreBoard.startGame("team1", "team2")
+                                 .isSlot()).isTrue();
+    }
+
+    @Test
+    void shouldNotFindGameOfAnotherSlotBoard_whenUpdatingScore() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+        LiveScoreBoard liveScoreBoard = instance.newSlotBoard();
+        LiveScoreBoard otherLiveScoreBoard = instance.newSlotBoard();
+        liveScoreBoard.startGame("team1", "team2");
+        GameId otherGameId = otherLiveScoreBoard.startGame("team3", "team4");
+
+        assertThatThrownBy(() -> liveScoreBoard.updateScore(otherGameId, Score.of(1, 0)))
+                .isInstanceOf(GameNotFoundException.class);
+    }
+
+    @Test
+    void shouldCreateIndexedBoard_whenCreatingNewIndexedBoard() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        LiveScoreBoard liveScoreBoard = instance.newIndexedBoard();
+
+        assertThat(liveScoreBoard).isNotNull()
+                                  .isInstanceOf(IndexedLiveScoreBoard.class);
+    }
+
+    @Test
+    void shouldCreateColumnarBoard_whenCreatingNewColumnarBoard() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        LiveScoreBoard liveScoreBoard = instance.newColumnarBoard();
+
+        assertThat(liveScoreBoard).isNotNull()
+                                  .isInstanceOf(ColumnarLiveScoreBoard.class);
+    }
+
+    @Test
+    void shouldCountTeamNamesOfBoardsInUse_whenGettingTeamNameStatistics() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+        LiveScoreBoard board = instance.newBoard();
+        LiveScoreBoard concurrentBoard = instance.newConcurrentBoard();
+        board.startGame(new String("team1"), new String("team2"));
+        board.startGame(new String("team1"), new String("team3"));
+        concurrentBoard.startGame(new String("team1"), new String("team2"));
+
+        TeamNameStatistics statistics = instance.getTeamNameStatistics();
+
+        // boards created by other tests may be still in use, so the statistics are at least those of both boards
+        assertThat(statistics.distinctNames()).isGreaterThanOrEqualTo(5);
+        assertThat(statistics.lookups()).isGreaterThanOrEqualTo(6);
+        assertThat(statistics.duplicatesReplaced()).isGreaterThanOrEqualTo(1);
+        assertThat(statistics.estimatedBytesSaved()).isPositive();
+        assertThat(board.getSummary()
+                        .toPrintableSummary()).isNotEmpty();
+        assertThat(concurrentBoard.getSummary()
+                                  .toPrintableSummary()).isNotEmpty();
+    }
+
     @Test
     void shouldCreateThreadSafeBoard() {
         LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
@@ -26,4 +106,155 @@ class LiveScoreBoardFactoryTest {
                                   .isInstanceOf(ThreadSafeLiveScoreBoard.class);
     }
 
+    @Test
+    void shouldCreateInstrumentedBoard() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        InstrumentedLiveScoreBoard liveScoreBoard = instance.newInstrumentedBoard();
+
+        assertThat(liveScoreBoard).isNotNull()
+                                  .isInstanceOf(InstrumentingLiveScoreBoard.class);
+    }
+
+    @Test
+    void shouldCreateShardedBoard() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        ShardedLiveScoreBoard liveScoreBoard = instance.newShardedBoard(4);
+
+        assertThat(liveScoreBoard).isNotNull()
+                                  .isInstanceOf(ShardingLiveScoreBoard.class);
+        assertThat(liveScoreBoard.shardCount()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenCreatingShardedBoard_withoutShards() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        assertThatThrownBy(() -> instance.newShardedBoard(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCreateTimelineBoard() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        TimelineLiveScoreBoard liveScoreBoard = instance.newTimelineBoard();
+
+        assertThat(liveScoreBoard).isNotNull()
+                                  .isInstanceOf(TimelineRecordingLiveScoreBoard.class);
+    }
+
+    @Test
+    void shouldCreateArchiveBoard() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        ArchiveLiveScoreBoard liveScoreBoard = instance.newArchiveBoard(100, Duration.ofHours(24));
+
+        assertThat(liveScoreBoard).isNotNull()
+                                  .isInstanceOf(ArchivingLiveScoreBoard.class);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenCreatingArchiveBoard_withoutRetention() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        assertThatThrownBy(() -> instance.newArchiveBoard(100, Duration.ZERO)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldCreateSnapshotPublishingBoard() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        LiveScoreBoard liveScoreBoard = instance.newSnapshotPublishingBoard();
+
+        assertThat(liveScoreBoard).isNotNull()
+                                  .isInstanceOf(SnapshotPublishingLiveScoreBoard.class);
+    }
+
+    @Test
+    void shouldCreateSingleWriterBoard() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        try (IngestingLiveScoreBoard liveScoreBoard = instance.newSingleWriterBoard()) {
+            assertThat(liveScoreBoard).isNotNull()
+                                      .isInstanceOf(SingleWriterLiveScoreBoard.class);
+        }
+    }
+
+    @Test
+    void shouldCreateInMemoryBoard_whenCreatingNewConcurrentBoard() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        LiveScoreBoard liveScoreBoard = instance.newConcurrentBoard();
+
+        assertThat(liveScoreBoard).isNotNull()
+                                  .isInstanceOf(LiveScoreBoardImpl.class);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenCreatingLeaderBoard_withoutAddress() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        assertThatThrownBy(() -> instance.newLeaderBoard(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenCreatingFollowerBoard_withoutLeaderAddress() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        assertThatThrownBy(() -> instance.newFollowerBoard(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldDecorateBoard_whenAddingSummaryCache() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        CachingLiveScoreBoard liveScoreBoard = instance.withSummaryCache(instance.newThreadSafeBoard());
+
+        assertThat(liveScoreBoard).isNotNull()
+                                  .isInstanceOf(SummaryCachingLiveScoreBoard.class);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenAddingSummaryCache_toNullBoard() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        assertThatThrownBy(() -> instance.withSummaryCache(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldDecorateBoard_whenAddingInstrumentation() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        InstrumentedLiveScoreBoard liveScoreBoard = instance.withInstrumentation(instance.newThreadSafeBoard());
+
+        assertThat(liveScoreBoard).isNotNull()
+                                  .isInstanceOf(InstrumentingLiveScoreBoard.class);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenAddingInstrumentation_toNullBoard() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        assertThatThrownBy(() -> instance.withInstrumentation(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldWrapBoard_whenAddingAsyncApi() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        AsyncLiveScoreBoard liveScoreBoard = instance.withAsyncApi(instance.newThreadSafeBoard(), Runnable::run);
+
+        assertThat(liveScoreBoard).isNotNull()
+                                  .isInstanceOf(AsyncLiveScoreBoardAdapter.class);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenAddingAsyncApi_withNullExecutor() {
+        LiveScoreBoardFactory instance = LiveScoreBoardFactory.getInstance();
+
+        assertThatThrownBy(() -> instance.withAsyncApi(instance.newThreadSafeBoard(), null)).isInstanceOf(
+                IllegalArgumentException.class);
+    }
+
 }
\ No newline at end of file
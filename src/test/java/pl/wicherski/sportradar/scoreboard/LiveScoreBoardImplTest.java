@@ -9,12 +9,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.Mockito.*;
 import static pl.wicherski.sportradar.scoreboard.GameAssert.assertThatGame;
 
@@ -57,6 +62,18 @@ class LiveScoreBoardImplTest {
         assertThat(gameId1).isNotEqualTo(gameId2);
     }
 
+    @Test
+    void shouldUseIdGenerator_whenStartingGame() {
+        GameId generatedId = GameId.ofSequence(42);
+        board = new LiveScoreBoardImpl(gameRepositoryMock, timeProviderMock, scoreSummaryFactoryMock,
+                                       Comparator.comparing(Game::creationTimestamp), () -> generatedId);
+
+        GameId gameId = board.startGame(TEAM_1, TEAM_2);
+
+        assertThat(gameId).isSameAs(generatedId);
+        verify(gameRepositoryMock).save(eq(generatedId), any());
+    }
+
     @Test
     void shouldStoreStartedGame_whenStartingGame() {
         GameId gameId = board.startGame(TEAM_1, TEAM_2);
@@ -74,6 +91,23 @@ class LiveScoreBoardImplTest {
         verify(gameRepositoryMock, times(2)).save(any(), any());
     }
 
+    @Test
+    void shouldStoreCanonicalTeamNames_whenStartingGames_withEqualTeamNames() {
+        board = new LiveScoreBoardImpl(gameRepositoryMock, timeProviderMock, scoreSummaryFactoryMock,
+                                       Comparator.comparing(Game::creationTimestamp), GameId::generate,
+                                       new TeamNameDictionary());
+        String homeTeam1 = new String("Poland");
+        String homeTeam2 = new String("Poland");
+
+        board.startGame(homeTeam1, TEAM_2);
+        board.startGame(homeTeam2, TEAM_2);
+
+        verify(gameRepositoryMock, times(2)).save(any(), gameCaptor.capture());
+        assertThat(gameCaptor.getAllValues()
+                             .get(1)
+                             .homeTeamName()).isSameAs(homeTeam1);
+    }
+
     @Test
     void shouldStartGameWithScoreZeroToZero_whenStartingGame() {
         GameId gameId = board.startGame(TEAM_1, TEAM_2);
@@ -109,7 +143,21 @@ class LiveScoreBoardImplTest {
 
         board.finishGame(gameId);
 
-        verify(gameRepositoryMock).delete(gameId);
+        verify(gameRepositoryMock).remove(gameId);
+    }
+
+    @Test
+    void shouldReleaseTeamNames_whenFinishingTheGame() {
+        TeamNameDictionary teamNames = new TeamNameDictionary();
+        board = new LiveScoreBoardImpl(gameRepositoryMock, timeProviderMock, scoreSummaryFactoryMock,
+                                       Comparator.comparing(Game::creationTimestamp), GameId::generate, teamNames);
+        GameId gameId = board.startGame(TEAM_1, TEAM_2);
+        verify(gameRepositoryMock).save(eq(gameId), gameCaptor.capture());
+        when(gameRepositoryMock.remove(gameId)).thenReturn(Optional.of(gameCaptor.getValue()));
+
+        board.finishGame(gameId);
+
+        assertThat(teamNames.size()).isZero();
     }
 
     @Test
@@ -127,16 +175,36 @@ class LiveScoreBoardImplTest {
     @Test
     void shouldUpdateGameScore_whenUpdatingScore() {
         GameId gameId = GameId.generate();
-        Game game = new Game(TEAM_1, TEAM_2, Score.of(0, 0), Instant.now());
+        Game game = new Game(gameId, TEAM_1, TEAM_2, Score.of(0, 0), Instant.now());
         when(gameRepositoryMock.get(gameId)).thenReturn(Optional.of(game));
+        when(gameRepositoryMock.replace(eq(gameId), eq(game), any())).thenReturn(true);
         Score newScore = Score.of(1, 2);
 
         board.updateScore(gameId, newScore);
 
-        verify(gameRepositoryMock).update(eq(gameId), gameCaptor.capture());
+        verify(gameRepositoryMock).replace(eq(gameId), eq(game), gameCaptor.capture());
         assertThatGame(gameCaptor.getValue()).hasScore(newScore);
     }
 
+    @Test
+    void shouldKeepConcurrentModification_whenUpdatingScore_andGameWasReplacedConcurrently() {
+        GameId gameId = GameId.generate();
+        Game game = new Game(gameId, TEAM_1, TEAM_2, Score.of(0, 0), Instant.now());
+        Game concurrentlyUpdatedGame = game.withUpdatedScore(Score.of(1, 0), 10);
+        when(gameRepositoryMock.get(gameId)).thenReturn(Optional.of(game))
+                                             .thenReturn(Optional.of(concurrentlyUpdatedGame));
+        when(gameRepositoryMock.replace(eq(gameId), eq(game), any())).thenReturn(false);
+        when(gameRepositoryMock.replace(eq(gameId), eq(concurrentlyUpdatedGame), any())).thenReturn(true);
+
+        board.updateScore(gameId, Score.of(2, 0));
+
+        verify(gameRepositoryMock).replace(eq(gameId), eq(concurrentlyUpdatedGame), gameCaptor.capture());
+        assertThatGame(gameCaptor.getValue()).hasScore(Score.of(2, 0));
+        assertThat(gameCaptor.getValue()
+                             .scoreSequence()).isEqualTo(10);
+        verify(gameRepositoryMock, never()).update(any(), any());
+    }
+
     @Test
     void shouldThrowGameNotFoundException_whenUpdatingScore_ofNotTrackedGame() {
         GameId gameId = GameId.generate();
@@ -159,14 +227,190 @@ class LiveScoreBoardImplTest {
         assertThatThrownBy(() -> board.updateScore(gameId, null)).isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void shouldReplaceGame_whenComparingAndSettingScore_andCurrentScoreIsExpected() {
+        GameId gameId = GameId.generate();
+        Game game = new Game(gameId, TEAM_1, TEAM_2, Score.of(1, 0), Instant.now());
+        when(gameRepositoryMock.get(gameId)).thenReturn(Optional.of(game));
+        when(gameRepositoryMock.replace(eq(gameId), eq(game), any())).thenReturn(true);
+
+        boolean updated = board.compareAndSetScore(gameId, Score.of(1, 0), Score.of(2, 0));
+
+        assertThat(updated).isTrue();
+        verify(gameRepositoryMock).replace(eq(gameId), eq(game), gameCaptor.capture());
+        assertThatGame(gameCaptor.getValue()).hasScore(Score.of(2, 0));
+    }
+
+    @Test
+    void shouldNotUpdateGame_whenComparingAndSettingScore_andCurrentScoreIsDifferent() {
+        GameId gameId = GameId.generate();
+        Game game = new Game(gameId, TEAM_1, TEAM_2, Score.of(1, 1), Instant.now());
+        when(gameRepositoryMock.get(gameId)).thenReturn(Optional.of(game));
+
+        boolean updated = board.compareAndSetScore(gameId, Score.of(1, 0), Score.of(2, 0));
+
+        assertThat(updated).isFalse();
+        verify(gameRepositoryMock, never()).replace(any(), any(), any());
+    }
+
+    @Test
+    void shouldCheckCurrentGameAgain_whenComparingAndSettingScore_andGameWasReplacedConcurrently() {
+        GameId gameId = GameId.generate();
+        Game game = new Game(gameId, TEAM_1, TEAM_2, Score.of(1, 0), Instant.now());
+        Game concurrentlyUpdatedGame = game.withUpdatedScore(Score.of(1, 1));
+        when(gameRepositoryMock.get(gameId)).thenReturn(Optional.of(game))
+                                             .thenReturn(Optional.of(concurrentlyUpdatedGame));
+        when(gameRepositoryMock.replace(eq(gameId), eq(game), any())).thenReturn(false);
+
+        boolean updated = board.compareAndSetScore(gameId, Score.of(1, 0), Score.of(2, 0));
+
+        assertThat(updated).isFalse();
+        verify(gameRepositoryMock, times(2)).get(gameId);
+    }
+
+    @Test
+    void shouldThrowGameNotFoundException_whenComparingAndSettingScore_ofNotTrackedGame() {
+        GameId gameId = GameId.generate();
+
+        assertThatThrownBy(() -> board.compareAndSetScore(gameId, Score.of(0, 0), Score.of(1, 0))).isInstanceOf(
+                GameNotFoundException.class);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenComparingAndSettingScore_withNullExpectedScore() {
+        GameId gameId = GameId.generate();
+
+        assertThatThrownBy(() -> board.compareAndSetScore(gameId, null, Score.of(1, 0))).isInstanceOf(
+                IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldUpdateScoreAndSequence_whenUpdatingScoreIfNewer_withHigherSequence() {
+        GameId gameId = GameId.generate();
+        Game game = new Game(gameId, TEAM_1, TEAM_2, Score.of(0, 0), Instant.now()).withUpdatedScore(Score.of(1, 0), 3);
+        when(gameRepositoryMock.get(gameId)).thenReturn(Optional.of(game));
+        when(gameRepositoryMock.replace(eq(gameId), eq(game), any())).thenReturn(true);
+
+        boolean updated = board.updateScoreIfNewer(gameId, 4, Score.of(2, 0));
+
+        assertThat(updated).isTrue();
+        verify(gameRepositoryMock).replace(eq(gameId), eq(game), gameCaptor.capture());
+        assertThatGame(gameCaptor.getValue()).hasScore(Score.of(2, 0));
+        assertThat(gameCaptor.getValue()
+                             .scoreSequence()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldDropUpdate_whenUpdatingScoreIfNewer_withStaleSequence() {
+        GameId gameId = GameId.generate();
+        Game game = new Game(gameId, TEAM_1, TEAM_2, Score.of(0, 0), Instant.now()).withUpdatedScore(Score.of(2, 0), 4);
+        when(gameRepositoryMock.get(gameId)).thenReturn(Optional.of(game));
+
+        boolean updated = board.updateScoreIfNewer(gameId, 4, Score.of(1, 0));
+
+        assertThat(updated).isFalse();
+        verify(gameRepositoryMock, never()).replace(any(), any(), any());
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenUpdatingScoreIfNewer_withNotPositiveSequence() {
+        GameId gameId = GameId.generate();
+
+        assertThatThrownBy(() -> board.updateScoreIfNewer(gameId, 0, Score.of(1, 0))).isInstanceOf(
+                IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldStoreAllGames_whenStartingGames() {
+        List<GameId> gameIds = board.startGames(List.of(Teams.of(TEAM_1, TEAM_2), Teams.of("team3", "team4")));
+
+        assertThat(gameIds).hasSize(2)
+                           .doesNotHaveDuplicates();
+        verify(gameRepositoryMock).save(eq(gameIds.get(0)), gameCaptor.capture());
+        assertThatGame(gameCaptor.getValue()).hasHomeTeam(TEAM_1)
+                                             .hasAwayTeam(TEAM_2)
+                                             .hasScore(Score.of(0, 0));
+        verify(gameRepositoryMock).save(eq(gameIds.get(1)), gameCaptor.capture());
+        assertThatGame(gameCaptor.getValue()).hasHomeTeam("team3")
+                                             .hasAwayTeam("team4")
+                                             .hasScore(Score.of(0, 0));
+    }
+
+    @Test
+    void shouldNotStartAnyGame_whenStartingGames_andOneOfTeamNamesIsNull() {
+        List<Teams> teams = List.of(Teams.of(TEAM_1, TEAM_2), Teams.of("team3", null));
+
+        assertThatThrownBy(() -> board.startGames(teams)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(gameRepositoryMock);
+    }
+
+    @Test
+    void shouldRemoveAllGamesFromStore_whenFinishingGames() {
+        GameId gameId1 = GameId.generate();
+        GameId gameId2 = GameId.generate();
+
+        board.finishGames(List.of(gameId1, gameId2));
+
+        verify(gameRepositoryMock).remove(gameId1);
+        verify(gameRepositoryMock).remove(gameId2);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenFinishingGames_withNullId() {
+        List<GameId> gameIds = new ArrayList<>();
+        gameIds.add(GameId.generate());
+        gameIds.add(null);
+
+        assertThatThrownBy(() -> board.finishGames(gameIds)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(gameRepositoryMock);
+    }
+
+    @Test
+    void shouldUpdateAllGames_andReportNotFoundOnes_whenUpdatingScores() {
+        GameId gameId1 = GameId.generate();
+        GameId gameId2 = GameId.generate();
+        GameId gameId3 = GameId.generate();
+        Game game1 = new Game(gameId1, TEAM_1, TEAM_2, Score.of(0, 0), Instant.now());
+        Game game3 = new Game(gameId3, "team3", "team4", Score.of(0, 0), Instant.now());
+        when(gameRepositoryMock.get(gameId1)).thenReturn(Optional.of(game1));
+        when(gameRepositoryMock.get(gameId2)).thenReturn(Optional.empty());
+        when(gameRepositoryMock.get(gameId3)).thenReturn(Optional.of(game3));
+        when(gameRepositoryMock.replace(eq(gameId1), eq(game1), any())).thenReturn(true);
+        when(gameRepositoryMock.replace(eq(gameId3), eq(game3), any())).thenReturn(true);
+        Map<GameId, Score> scores = new LinkedHashMap<>();
+        scores.put(gameId1, Score.of(1, 0));
+        scores.put(gameId2, Score.of(2, 0));
+        scores.put(gameId3, Score.of(3, 0));
+
+        BatchUpdateResult result = board.updateScores(scores);
+
+        assertThat(result.notFoundGameIds()).containsExactly(gameId2);
+        assertThat(result.allApplied()).isFalse();
+        verify(gameRepositoryMock).replace(eq(gameId1), eq(game1), gameCaptor.capture());
+        assertThatGame(gameCaptor.getValue()).hasScore(Score.of(1, 0));
+        verify(gameRepositoryMock).replace(eq(gameId3), eq(game3), gameCaptor.capture());
+        assertThatGame(gameCaptor.getValue()).hasScore(Score.of(3, 0));
+        verify(gameRepositoryMock, never()).replace(eq(gameId2), any(), any());
+    }
+
+    @Test
+    void shouldNotUpdateAnyGame_whenUpdatingScores_andOneOfScoresIsNull() {
+        Map<GameId, Score> scores = new LinkedHashMap<>();
+        scores.put(GameId.generate(), Score.of(1, 0));
+        scores.put(GameId.generate(), null);
+
+        assertThatThrownBy(() -> board.updateScores(scores)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(gameRepositoryMock);
+    }
+
     @Test
     void shouldSortGamesUsingComparator_whenCreatingSummary() {
         // ordering based on creation timestamp - see setUp
         Instant now = Instant.now();
-        Game game1 = new Game("a", "b", Score.of(0, 0), now.minusSeconds(1));
-        Game game2 = new Game("c", "d", Score.of(2, 2), now.minusSeconds(2));
-        Game game3 = new Game("e", "f", Score.of(3, 0), now);
-        Game game4 = new Game("g", "h", Score.of(0, 0), now.minusSeconds(4));
+        Game game1 = new Game(GameId.generate(), "a", "b", Score.of(0, 0), now.minusSeconds(1));
+        Game game2 = new Game(GameId.generate(), "c", "d", Score.of(2, 2), now.minusSeconds(2));
+        Game game3 = new Game(GameId.generate(), "e", "f", Score.of(3, 0), now);
+        Game game4 = new Game(GameId.generate(), "g", "h", Score.of(0, 0), now.minusSeconds(4));
         when(gameRepositoryMock.getAll()).thenReturn(List.of(game1, game2, game3, game4));
 
         board.getSummary();
@@ -175,6 +419,50 @@ class LiveScoreBoardImplTest {
         assertThat(gamesListCaptor.getValue()).containsExactly(game4, game2, game1, game3);
     }
 
+    @Test
+    void shouldSelectLeadingGamesUsingComparator_whenCreatingLimitedSummary() {
+        // ordering based on creation timestamp - see setUp
+        Instant now = Instant.now();
+        Game game1 = new Game(GameId.generate(), "a", "b", Score.of(0, 0), now.minusSeconds(1));
+        Game game2 = new Game(GameId.generate(), "c", "d", Score.of(2, 2), now.minusSeconds(2));
+        Game game3 = new Game(GameId.generate(), "e", "f", Score.of(3, 0), now);
+        Game game4 = new Game(GameId.generate(), "g", "h", Score.of(0, 0), now.minusSeconds(4));
+        when(gameRepositoryMock.getAll()).thenReturn(List.of(game1, game2, game3, game4));
+
+        board.getSummary(2);
+
+        verify(scoreSummaryFactoryMock).createSummaryFor(gamesListCaptor.capture());
+        assertThat(gamesListCaptor.getValue()).containsExactly(game4, game2);
+    }
+
+    @Test
+    void shouldSortAllGames_whenCreatingLimitedSummary_withLimitExceedingNumberOfGames() {
+        Instant now = Instant.now();
+        Game game1 = new Game(GameId.generate(), "a", "b", Score.of(0, 0), now.minusSeconds(1));
+        Game game2 = new Game(GameId.generate(), "c", "d", Score.of(2, 2), now.minusSeconds(2));
+        when(gameRepositoryMock.getAll()).thenReturn(List.of(game1, game2));
+
+        board.getSummary(5);
+
+        verify(scoreSummaryFactoryMock).createSummaryFor(gamesListCaptor.capture());
+        assertThat(gamesListCaptor.getValue()).containsExactly(game2, game1);
+    }
+
+    @Test
+    void shouldReturnEmptySummary_whenCreatingLimitedSummary_withZeroLimit() {
+        when(gameRepositoryMock.getAll()).thenReturn(List.of(new Game(GameId.generate(), "a", "b", Score.of(0, 0), Instant.now())));
+
+        board.getSummary(0);
+
+        verify(scoreSummaryFactoryMock).createSummaryFor(gamesListCaptor.capture());
+        assertThat(gamesListCaptor.getValue()).isEmpty();
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenCreatingLimitedSummary_withNegativeLimit() {
+        assertThatThrownBy(() -> board.getSummary(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void shouldReturnScoreSummary_whenCreatingSummary() {
         ScoreSummary scoreSummary = mock(ScoreSummary.class);
@@ -185,4 +473,78 @@ class LiveScoreBoardImplTest {
         assertThat(summary).isSameAs(scoreSummary);
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldPublishGameStartedEvent_whenStartingGame_andListenerIsSubscribed() {
+        List<ScoreEvent> receivedEvents = new CopyOnWriteArrayList<>();
+        board.subscribe(receivedEvents::addAll);
+
+        GameId gameId = board.startGame(TEAM_1, TEAM_2);
+
+        await().untilAsserted(() -> assertThat(receivedEvents).containsExactly(new ScoreEvent.GameStarted(gameId,
+                                                                                                          TEAM_1,
+                                                                                                          TEAM_2)));
+    }
+
+    @Test
+    void shouldPublishScoreUpdatedEventWithPreviousScore_whenUpdatingScore_andListenerIsSubscribed() {
+        GameId gameId = GameId.generate();
+        when(gameRepositoryMock.get(gameId)).thenReturn(Optional.of(new Game(gameId, TEAM_1,
+                                                                             TEAM_2,
+                                                                             Score.of(1, 0),
+                                                                             Instant.now())));
+        when(gameRepositoryMock.replace(eq(gameId), any(), any())).thenReturn(true);
+        List<ScoreEvent> receivedEvents = new CopyOnWriteArrayList<>();
+        board.subscribe(receivedEvents::addAll);
+
+        board.updateScore(gameId, Score.of(2, 0));
+
+        await().untilAsserted(() -> assertThat(receivedEvents).containsExactly(new ScoreEvent.ScoreUpdated(gameId,
+                                                                                                           Score.of(1, 0),
+                                                                                                           Score.of(2, 0))));
+    }
+
+    @Test
+    void shouldPublishGameFinishedEventWithFinalScore_whenFinishingGames_andListenerIsSubscribed() {
+        GameId gameId1 = GameId.generate();
+        GameId gameId2 = GameId.generate();
+        when(gameRepositoryMock.remove(gameId1)).thenReturn(Optional.of(new Game(gameId1, TEAM_1,
+                                                                                 TEAM_2,
+                                                                                 Score.of(3, 1),
+                                                                                 Instant.now())));
+        when(gameRepositoryMock.remove(gameId2)).thenReturn(Optional.empty());
+        List<ScoreEvent> receivedEvents = new CopyOnWriteArrayList<>();
+        board.subscribe(receivedEvents::addAll);
+
+        board.finishGames(List.of(gameId1, gameId2));
+
+        await().untilAsserted(() -> assertThat(receivedEvents).containsExactly(new ScoreEvent.GameFinished(gameId1,
+                                                                                                           Score.of(3, 1))));
+    }
+
+    @Test
+    void shouldNotPublishEvent_whenUpdatingScore_ofNotTrackedGame() {
+        GameId gameId = GameId.generate();
+        when(gameRepositoryMock.get(gameId)).thenReturn(Optional.empty());
+        List<ScoreEvent> receivedEvents = new CopyOnWriteArrayList<>();
+        Subscription subscription = board.subscribe(receivedEvents::addAll);
+
+        assertThatThrownBy(() -> board.updateScore(gameId, Score.of(1, 0))).isInstanceOf(GameNotFoundException.class);
+
+        assertThat(subscription.getStatistics()).isEqualTo(new SubscriptionStatistics(0, 0, 0));
+        verify(gameRepositoryMock, never()).replace(any(), any(), any());
+    }
+
+    @Test
+    void shouldRemoveFinishedGameOnce_whenFinishingGame_andNoListenerIsSubscribed() {
+        GameId gameId = GameId.generate();
+        board.subscribe(events -> {
+                 })
+             .cancel();
+
+        board.finishGame(gameId);
+
+        verify(gameRepositoryMock).remove(gameId);
+        verifyNoMoreInteractions(gameRepositoryMock);
+    }
+
+}
@@ -1,8 +1,15 @@
 package pl.wicherski.sportradar.scoreboard;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 
 class LiveScoreBoardIntegrationTest {
 
@@ -46,6 +53,20 @@ class LiveScoreBoardIntegrationTest {
                                                               2. Argentina 3 - Australia 1
                                                               3. Germany 2 - France 2""");
 
+        // apply a batch of changes
+        List<GameId> newGameIds = board.startGames(List.of(Teams.of("Poland", "Portugal"), Teams.of("Japan", "Korea")));
+        BatchUpdateResult batchResult = board.updateScores(Map.of(newGameIds.get(0), Score.of(4, 4),
+                                                                  newGameIds.get(1), Score.of(1, 0),
+                                                                  spainBrazilGameId, Score.of(11, 2)));
+        board.finishGames(List.of(germanyFranceGameId, argentinaAustraliaGameId));
+
+        assertThat(batchResult.notFoundGameIds()).containsExactly(spainBrazilGameId);
+        assertThat(board.getSummary()
+                        .toPrintableSummary()).isEqualTo("""
+                                                        1. Mexico 3 - Canada 6
+                                                        2. Poland 4 - Portugal 4
+                                                        3. Japan 1 - Korea 0""");
+
         // verify previous summary object is unchanged
         assertThat(summary.toPrintableSummary()).isEqualTo("""
                                                            1. Uruguay 6 - Italy 6
@@ -55,4 +76,88 @@ class LiveScoreBoardIntegrationTest {
                                                            5. Germany 2 - France 2""");
     }
 
+    @Test
+    void snapshotRestoreIntegrationFlowTest(@TempDir Path directory) {
+        LiveScoreBoardFactory factory = LiveScoreBoardFactory.getInstance();
+        Path snapshotFile = directory.resolve("board.snapshot");
+        LiveScoreBoard board = factory.newColumnarBoard();
+        GameId mexicoCanadaGameId = board.startGame("Mexico", "Canada");
+        board.updateScore(mexicoCanadaGameId, Score.of(0, 5));
+        GameId spainBrazilGameId = board.startGame("Spain", "Brazil");
+        board.updateScore(spainBrazilGameId, Score.of(10, 2));
+        GameId germanyFranceGameId = board.startGame("Germany", "France");
+        board.updateScore(germanyFranceGameId, Score.of(2, 2));
+
+        // restore board from snapshot
+        board.saveSnapshot(snapshotFile);
+        LiveScoreBoard restoredBoard = factory.newBoardFromSnapshot(snapshotFile);
+
+        assertThat(restoredBoard.getSummary()
+                                .toPrintableSummary()).isEqualTo(board.getSummary()
+                                                                      .toPrintableSummary());
+
+        // continue with restored game IDs and new games
+        restoredBoard.updateScore(germanyFranceGameId, Score.of(3, 2));
+        GameId uruguayItalyGameId = restoredBoard.startGame("Uruguay", "Italy");
+        restoredBoard.updateScore(uruguayItalyGameId, Score.of(6, 6));
+        restoredBoard.finishGame(spainBrazilGameId);
+
+        assertThat(restoredBoard.getSummary()
+                                .toPrintableSummary()).isEqualTo("""
+                                                                 1. Uruguay 6 - Italy 6
+                                                                 2. Germany 3 - France 2
+                                                                 3. Mexico 0 - Canada 5""");
+    }
+
+    @Test
+    void scoreEventsIntegrationFlowTest() {
+        LiveScoreBoard board = LiveScoreBoardFactory.getInstance()
+                                                    .newThreadSafeBoard();
+        List<ScoreEvent> receivedEvents = new CopyOnWriteArrayList<>();
+        Subscription subscription = board.subscribe(receivedEvents::addAll);
+
+        GameId mexicoCanadaGameId = board.startGame("Mexico", "Canada");
+        board.updateScore(mexicoCanadaGameId, Score.of(0, 1));
+        board.finishGame(mexicoCanadaGameId);
+
+        await().untilAsserted(() -> assertThat(subscription.getStatistics()
+                                                           .delivered()).isEqualTo(3));
+        assertThat(receivedEvents).containsExactly(new ScoreEvent.GameStarted(mexicoCanadaGameId, "Mexico", "Canada"),
+                                                   new ScoreEvent.ScoreUpdated(mexicoCanadaGameId,
+                                                                               Score.of(0, 0),
+                                                                               Score.of(0, 1)),
+                                                   new ScoreEvent.GameFinished(mexicoCanadaGameId, Score.of(0, 1)));
+    }
+
+    @Test
+    void paginatedSummaryIntegrationFlowTest() {
+        LiveScoreBoard board = LiveScoreBoardFactory.getInstance()
+                                                    .newIndexedBoard();
+        GameId mexicoCanadaGameId = board.startGame("Mexico", "Canada");
+        board.updateScore(mexicoCanadaGameId, Score.of(0, 5));
+        GameId spainBrazilGameId = board.startGame("Spain", "Brazil");
+        board.updateScore(spainBrazilGameId, Score.of(10, 2));
+        GameId germanyFranceGameId = board.startGame("Germany", "France");
+        board.updateScore(germanyFranceGameId, Score.of(2, 2));
+
+        SummaryPage firstPage = board.getSummaryPage(2);
+        ScoreSummary summary = firstPage.summary();
+        String nextPageToken = firstPage.nextCursor()
+                                        .orElseThrow()
+                                        .toToken();
+        assertThat(firstPage.games()
+                            .toPrintableSummary()).isEqualTo("""
+                                                             1. Spain 10 - Brazil 2
+                                                             2. Mexico 0 - Canada 5""");
+
+        // change the board before fetching the next page
+        board.updateScore(germanyFranceGameId, Score.of(9, 9));
+        board.finishGame(spainBrazilGameId);
+
+        SummaryPage secondPage = summary.page(SummaryCursor.fromToken(nextPageToken));
+        assertThat(secondPage.games()
+                             .toPrintableSummary()).isEqualTo("3. Germany 2 - France 2");
+        assertThat(secondPage.hasNextPage()).isFalse();
+    }
+
 }
@@ -0,0 +1,87 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class LiveScoreBoardTest {
+
+    private final LiveScoreBoard board = mock(LiveScoreBoard.class, CALLS_REAL_METHODS);
+
+    @Test
+    void shouldStartGamesOneByOne_whenStartingGames_withDefaultImplementation() {
+        GameId gameId1 = GameId.ofSequence(1);
+        GameId gameId2 = GameId.ofSequence(2);
+        doReturn(gameId1).when(board)
+                         .startGame("team1", "team2");
+        doReturn(gameId2).when(board)
+                         .startGame("team3", "team4");
+
+        List<GameId> gameIds = board.startGames(List.of(Teams.of("team1", "team2"), Teams.of("team3", "team4")));
+
+        assertThat(gameIds).containsExactly(gameId1, gameId2);
+    }
+
+    @Test
+    void shouldNotStartAnyGame_whenStartingGames_withDefaultImplementation_andOneOfTeamNamesIsNull() {
+        List<Teams> teams = List.of(Teams.of("team1", "team2"), Teams.of(null, "team4"));
+
+        assertThatThrownBy(() -> board.startGames(teams)).isInstanceOf(IllegalArgumentException.class);
+        verify(board, never()).startGame(any(), any());
+    }
+
+    @Test
+    void shouldFinishGamesOneByOne_whenFinishingGames_withDefaultImplementation() {
+        GameId gameId1 = GameId.ofSequence(1);
+        GameId gameId2 = GameId.ofSequence(2);
+
+        board.finishGames(List.of(gameId1, gameId2));
+
+        verify(board).finishGame(gameId1);
+        verify(board).finishGame(gameId2);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenFinishingGames_withDefaultImplementation_andNullId() {
+        List<GameId> gameIds = new ArrayList<>();
+        gameIds.add(null);
+
+        assertThatThrownBy(() -> board.finishGames(gameIds)).isInstanceOf(IllegalArgumentException.class);
+        verify(board, never()).finishGame(any());
+    }
+
+    @Test
+    void shouldReportNotFoundGames_whenUpdatingScores_withDefaultImplementation() {
+        GameId gameId1 = GameId.ofSequence(1);
+        GameId gameId2 = GameId.ofSequence(2);
+        doNothing().when(board)
+                   .updateScore(gameId1, Score.of(1, 0));
+        doThrow(new GameNotFoundException(gameId2)).when(board)
+                                                   .updateScore(gameId2, Score.of(2, 0));
+        Map<GameId, Score> scores = new LinkedHashMap<>();
+        scores.put(gameId1, Score.of(1, 0));
+        scores.put(gameId2, Score.of(2, 0));
+
+        BatchUpdateResult result = board.updateScores(scores);
+
+        assertThat(result.notFoundGameIds()).containsExactly(gameId2);
+        verify(board).updateScore(gameId1, Score.of(1, 0));
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenUpdatingScores_withDefaultImplementation_andNullScore() {
+        Map<GameId, Score> scores = new LinkedHashMap<>();
+        scores.put(GameId.ofSequence(1), null);
+
+        assertThatThrownBy(() -> board.updateScores(scores)).isInstanceOf(IllegalArgumentException.class);
+        verify(board, never()).updateScore(any(), any());
+    }
+
+}
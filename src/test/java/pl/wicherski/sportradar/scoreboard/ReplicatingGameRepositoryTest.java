@@ -0,0 +1,46 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicatingGameRepositoryTest {
+
+    private static final GameId GAME_ID = GameId.ofSequence(1);
+    private static final GameId NOT_STORED_GAME_ID = GameId.ofSequence(2);
+    private static final Instant CREATION_TIMESTAMP = Instant.parse("2022-11-20T16:00:00Z");
+
+    private final ReplicationLog log = new ReplicationLog(64);
+    private final ReplicatingGameRepository gameRepository = new ReplicatingGameRepository(new InMemoryGameRepository(new HashMap<>()),
+                                                                                           log);
+
+    @Test
+    void shouldAppendAppliedModifications_whenModifyingStoredGame() {
+        Game game = new Game(GAME_ID, "Mexico", "Canada", Score.of(0, 0), CREATION_TIMESTAMP);
+        gameRepository.save(GAME_ID, game);
+        long startedPosition = log.endPosition();
+        gameRepository.update(GAME_ID, game.withUpdatedScore(Score.of(0, 1)));
+        long updatedPosition = log.endPosition();
+
+        assertThat(gameRepository.remove(GAME_ID)).contains(game.withUpdatedScore(Score.of(0, 1)));
+
+        assertThat(startedPosition).isPositive();
+        assertThat(updatedPosition).isGreaterThan(startedPosition);
+        assertThat(log.endPosition()).isGreaterThan(updatedPosition);
+    }
+
+    @Test
+    void shouldNotAppendModifications_ofGameWhichIsNotStored() {
+        Game game = new Game(NOT_STORED_GAME_ID, "Mexico", "Canada", Score.of(0, 1), CREATION_TIMESTAMP);
+
+        gameRepository.update(NOT_STORED_GAME_ID, game);
+        gameRepository.delete(NOT_STORED_GAME_ID);
+
+        assertThat(log.endPosition()).isZero();
+        assertThat(gameRepository.getAll()).isEmpty();
+    }
+
+}
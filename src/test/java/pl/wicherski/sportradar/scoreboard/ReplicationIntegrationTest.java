@@ -0,0 +1,108 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class ReplicationIntegrationTest {
+
+    private static final InetSocketAddress ANY_LOCAL_PORT = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+    private static final Duration CATCH_UP_TIMEOUT = Duration.ofSeconds(10);
+
+    private final LiveScoreBoardFactory factory = LiveScoreBoardFactory.getInstance();
+
+    @Test
+    void shouldLoadSnapshotAndFollowLog_whenFollowerConnectsToRunningLeader() {
+        try (LeaderLiveScoreBoard leader = factory.newLeaderBoard(ANY_LOCAL_PORT)) {
+            GameId mexicoCanada = leader.startGame("Mexico", "Canada");
+            GameId spainBrazil = leader.startGame("Spain", "Brazil");
+            leader.updateScore(mexicoCanada, Score.of(0, 5));
+
+            try (FollowerLiveScoreBoard follower = factory.newFollowerBoard(leader.getReplicationAddress())) {
+                assertThat(follower.getAppliedSequence()).isEqualTo(3);
+                assertThat(follower.getSummary()
+                                   .toPrintableSummary()).isEqualTo(leader.getSummary()
+                                                                          .toPrintableSummary());
+
+                leader.updateScore(spainBrazil, Score.of(10, 2));
+                leader.finishGame(mexicoCanada);
+                GameId uruguayItaly = leader.startGame("Uruguay", "Italy");
+                leader.updateScore(uruguayItaly, Score.of(6, 6));
+
+                await().atMost(CATCH_UP_TIMEOUT)
+                       .until(() -> follower.getAppliedSequence() == leader.getLastSequence());
+                assertThat(follower.getSummary()
+                                   .toPrintableSummary()).isEqualTo("""
+                                                                            1. Uruguay 6 - Italy 6
+                                                                            2. Spain 10 - Brazil 2""");
+            }
+        }
+    }
+
+    @Test
+    void shouldKeepFollowersConsistent_whenLeaderIsModifiedUnderLoad() {
+        Random random = new Random(42);
+        try (LeaderLiveScoreBoard leader = factory.newLeaderBoard(ANY_LOCAL_PORT)) {
+            List<GameId> gameIds = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                gameIds.add(leader.startGame("home" + i, "away" + i));
+            }
+            try (FollowerLiveScoreBoard follower1 = factory.newFollowerBoard(leader.getReplicationAddress());
+                 FollowerLiveScoreBoard follower2 = factory.newFollowerBoard(leader.getReplicationAddress())) {
+                assertThat(leader.getFollowerCount()).isEqualTo(2);
+
+                long maxLag = 0;
+                for (int i = 0; i < 20_000; i++) {
+                    GameId gameId = gameIds.get(random.nextInt(gameIds.size()));
+                    leader.updateScore(gameId, Score.of(random.nextInt(10), random.nextInt(10)));
+                    if (i % 100 == 0) {
+                        leader.finishGame(gameId);
+                        gameIds.set(gameIds.indexOf(gameId), leader.startGame("home" + i, "away" + i));
+                        maxLag = Math.max(maxLag, leader.getLastSequence() - follower1.getAppliedSequence());
+                    }
+                }
+
+                await().atMost(CATCH_UP_TIMEOUT)
+                       .until(() -> follower1.getAppliedSequence() == leader.getLastSequence()
+                                    && follower2.getAppliedSequence() == leader.getLastSequence());
+                String leaderSummary = leader.getSummary()
+                                             .toPrintableSummary();
+                assertThat(follower1.getSummary()
+                                    .toPrintableSummary()).isEqualTo(leaderSummary);
+                assertThat(follower2.getSummary()
+                                    .toPrintableSummary()).isEqualTo(leaderSummary);
+                assertThat(maxLag).isLessThan(leader.getLastSequence());
+            }
+        }
+    }
+
+    @Test
+    void shouldDisconnectFollower_whenLeaderIsClosed() {
+        LeaderLiveScoreBoard leader = factory.newLeaderBoard(ANY_LOCAL_PORT);
+        try (FollowerLiveScoreBoard follower = factory.newFollowerBoard(leader.getReplicationAddress())) {
+            leader.close();
+
+            await().atMost(CATCH_UP_TIMEOUT)
+                   .until(() -> !follower.isConnected());
+            assertThatThrownBy(() -> leader.startGame("Mexico", "Canada")).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void shouldRejectModifications_whenModifyingFollower() {
+        try (LeaderLiveScoreBoard leader = factory.newLeaderBoard(ANY_LOCAL_PORT);
+             FollowerLiveScoreBoard follower = factory.newFollowerBoard(leader.getReplicationAddress())) {
+            assertThatThrownBy(() -> follower.startGame("Mexico", "Canada")).isInstanceOf(UnsupportedOperationException.class);
+        }
+    }
+
+}
@@ -0,0 +1,144 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicationLogTest {
+
+    private static final GameId GAME_ID_1 = GameId.ofSequence(1);
+    private static final GameId GAME_ID_2 = GameId.generate();
+    private static final Instant CREATION_TIMESTAMP = Instant.parse("2022-11-20T16:00:00.123456789Z");
+
+    private final ReplicationLog log = new ReplicationLog(64);
+    @Mock
+    private ReplicationEventHandler handlerMock;
+
+    @Test
+    void shouldDecodeAppendedRecordsInOrder_whenReadingLog() {
+        log.appendGameStarted(GAME_ID_1, new Game(GAME_ID_1, "Mexico", "Canada", Score.of(0, 0), CREATION_TIMESTAMP));
+        log.appendScoreUpdated(GAME_ID_1, Score.of(0, 5), 7);
+        log.appendGameFinished(GAME_ID_1);
+
+        int records = ReplicationLog.decode(readAll(0), handlerMock);
+
+        assertThat(records).isEqualTo(3);
+        assertThat(log.lastSequence()).isEqualTo(3);
+        InOrder inOrder = inOrder(handlerMock);
+        inOrder.verify(handlerMock)
+               .gameStarted(GAME_ID_1, "Mexico", "Canada", CREATION_TIMESTAMP);
+        inOrder.verify(handlerMock)
+               .scoreUpdated(GAME_ID_1, Score.of(0, 5), 7);
+        inOrder.verify(handlerMock)
+               .gameFinished(GAME_ID_1);
+        inOrder.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void shouldLeavePartialRecordInBuffer_whenDecodingIncompleteStream() {
+        log.appendGameStarted(GAME_ID_2, new Game(GAME_ID_2, "Spain", "Brazil", Score.of(0, 0), CREATION_TIMESTAMP));
+        log.appendScoreUpdated(GAME_ID_2, Score.of(1, 0), 0);
+        ByteBuffer stream = readAll(0);
+        ByteBuffer partial = stream.duplicate()
+                                   .limit(stream.limit() - 1);
+
+        int records = ReplicationLog.decode(partial, handlerMock);
+
+        assertThat(records).isEqualTo(1);
+        assertThat(partial.remaining()).isEqualTo(stream.limit() - 1 - partial.position());
+        verify(handlerMock).gameStarted(GAME_ID_2, "Spain", "Brazil", CREATION_TIMESTAMP);
+        verifyNoMoreInteractions(handlerMock);
+    }
+
+    @Test
+    void shouldEncodeGamesAndLastSequence_whenTakingSnapshot() {
+        GameRepository gameRepository = new InMemoryGameRepository(new HashMap<>());
+        Game game = new Game(GAME_ID_1, "Mexico", "Canada", Score.of(0, 5), CREATION_TIMESTAMP);
+        gameRepository.save(GAME_ID_1, game);
+        log.appendGameStarted(GAME_ID_1, game);
+        log.appendScoreUpdated(GAME_ID_1, Score.of(0, 5), 0);
+
+        ReplicationLog.Snapshot snapshot = ReplicationLog.encode(log.capture(gameRepository));
+
+        ByteBuffer data = snapshot.data();
+        assertThat(ReplicationLog.readHeader(data)).isTrue();
+        assertThat(ReplicationLog.decode(data, handlerMock)).isEqualTo(3);
+        verify(handlerMock).gameStarted(GAME_ID_1, "Mexico", "Canada", CREATION_TIMESTAMP);
+        verify(handlerMock).scoreUpdated(GAME_ID_1, Score.of(0, 5), 0);
+        verify(handlerMock).snapshotLoaded(2);
+        assertThat(snapshot.position()).isEqualTo(log.endPosition());
+    }
+
+    @Test
+    void shouldEncodeCapturedGames_whenRepositoryIsModifiedAfterCapturing() {
+        GameRepository gameRepository = new InMemoryGameRepository(new HashMap<>());
+        Game game = new Game(GAME_ID_1, "Mexico", "Canada", Score.of(0, 0), CREATION_TIMESTAMP);
+        gameRepository.save(GAME_ID_1, game);
+        log.appendGameStarted(GAME_ID_1, game);
+
+        ReplicationLog.CapturedGames capturedGames = log.capture(gameRepository);
+        gameRepository.update(GAME_ID_1, game.withUpdatedScore(Score.of(1, 0)));
+        log.appendScoreUpdated(GAME_ID_1, Score.of(1, 0), 0);
+        ReplicationLog.Snapshot snapshot = ReplicationLog.encode(capturedGames);
+
+        ByteBuffer data = snapshot.data();
+        assertThat(ReplicationLog.readHeader(data)).isTrue();
+        assertThat(ReplicationLog.decode(data, handlerMock)).isEqualTo(3);
+        verify(handlerMock).scoreUpdated(GAME_ID_1, Score.of(0, 0), 0);
+        verify(handlerMock).snapshotLoaded(1);
+        assertThat(snapshot.position()).isLessThan(log.endPosition());
+    }
+
+    @Test
+    void shouldThrowException_whenReadingHeaderOfUnsupportedStream() {
+        ByteBuffer buffer = ByteBuffer.allocate(8)
+                                      .putInt(42)
+                                      .putInt(1)
+                                      .flip();
+
+        assertThatThrownBy(() -> ReplicationLog.readHeader(buffer)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldDropReadChunks_whenTrimmingLog() {
+        for (int i = 0; i < 10; i++) {
+            log.appendScoreUpdated(GAME_ID_1, Score.of(i, 0), 0);
+        }
+        long position = log.endPosition();
+
+        log.trim(position);
+
+        assertThat(log.retainedBytes()).isLessThan(position);
+        assertThat(log.read(position)
+                      .hasRemaining()).isFalse();
+        assertThatThrownBy(() -> log.read(0)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldThrowException_whenAppendingToClosedLog() {
+        log.close();
+
+        assertThatThrownBy(() -> log.appendGameFinished(GAME_ID_1)).isInstanceOf(IllegalStateException.class);
+        assertThat(log.lastSequence()).isZero();
+    }
+
+    private ByteBuffer readAll(long position) {
+        ByteBuffer stream = ByteBuffer.allocate((int) (log.endPosition() - position));
+        while (stream.hasRemaining()) {
+            stream.put(log.read(position + stream.position()));
+        }
+        return stream.flip();
+    }
+
+}
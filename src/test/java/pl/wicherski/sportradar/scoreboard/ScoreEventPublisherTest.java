@@ -0,0 +1,230 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class ScoreEventPublisherTest {
+
+    private static final GameId GAME_ID_1 = GameId.ofSequence(1);
+    private static final GameId GAME_ID_2 = GameId.ofSequence(2);
+
+    private final List<Runnable> deliveryTasks = new ArrayList<>();
+    private final List<List<ScoreEvent>> deliveredBatches = new ArrayList<>();
+    private ScoreEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new ScoreEventPublisher(deliveryTasks::add, 3);
+    }
+
+    @Test
+    void shouldDeliverPublishedEventsInSingleBatch_whenPublishedBeforeDelivery() {
+        Subscription subscription = publisher.subscribe(deliveredBatches::add);
+
+        publisher.publish(new ScoreEvent.GameStarted(GAME_ID_1, "Mexico", "Canada"));
+        publisher.publish(new ScoreEvent.ScoreUpdated(GAME_ID_1, Score.of(0, 0), Score.of(0, 1)));
+        publisher.publish(new ScoreEvent.GameFinished(GAME_ID_1, Score.of(0, 1)));
+        runDeliveryTasks();
+
+        assertThat(deliveryTasks).isEmpty();
+        assertThat(deliveredBatches).containsExactly(List.of(new ScoreEvent.GameStarted(GAME_ID_1, "Mexico", "Canada"),
+                                                             new ScoreEvent.ScoreUpdated(GAME_ID_1,
+                                                                                         Score.of(0, 0),
+                                                                                         Score.of(0, 1)),
+                                                             new ScoreEvent.GameFinished(GAME_ID_1, Score.of(0, 1))));
+        assertThat(subscription.getStatistics()).isEqualTo(new SubscriptionStatistics(3, 0, 0));
+    }
+
+    @Test
+    void shouldScheduleSingleDelivery_whenPublishingMultipleEvents() {
+        publisher.subscribe(deliveredBatches::add);
+
+        publisher.publish(new ScoreEvent.GameStarted(GAME_ID_1, "Mexico", "Canada"));
+        publisher.publish(new ScoreEvent.GameStarted(GAME_ID_2, "Spain", "Brazil"));
+
+        assertThat(deliveryTasks).hasSize(1);
+    }
+
+    @Test
+    void shouldCoalescePendingScoreUpdates_whenUpdatingTheSameGame() {
+        Subscription subscription = publisher.subscribe(deliveredBatches::add);
+
+        publisher.publish(new ScoreEvent.ScoreUpdated(GAME_ID_1, Score.of(0, 0), Score.of(1, 0)));
+        publisher.publish(new ScoreEvent.ScoreUpdated(GAME_ID_2, Score.of(0, 0), Score.of(0, 1)));
+        publisher.publish(new ScoreEvent.ScoreUpdated(GAME_ID_1, Score.of(1, 0), Score.of(2, 0)));
+        publisher.publish(new ScoreEvent.ScoreUpdated(GAME_ID_1, Score.of(2, 0), Score.of(3, 0)));
+        runDeliveryTasks();
+
+        assertThat(deliveredBatches).containsExactly(List.of(new ScoreEvent.ScoreUpdated(GAME_ID_1,
+                                                                                         Score.of(0, 0),
+                                                                                         Score.of(3, 0)),
+                                                             new ScoreEvent.ScoreUpdated(GAME_ID_2,
+                                                                                         Score.of(0, 0),
+                                                                                         Score.of(0, 1))));
+        assertThat(subscription.getStatistics()).isEqualTo(new SubscriptionStatistics(2, 2, 0));
+    }
+
+    @Test
+    void shouldNotCoalesceScoreUpdates_whenGameWasFinishedInBetween() {
+        Subscription subscription = publisher.subscribe(deliveredBatches::add);
+
+        publisher.publish(new ScoreEvent.ScoreUpdated(GAME_ID_1, Score.of(0, 0), Score.of(1, 0)));
+        publisher.publish(new ScoreEvent.GameFinished(GAME_ID_1, Score.of(1, 0)));
+        publisher.publish(new ScoreEvent.ScoreUpdated(GAME_ID_1, Score.of(0, 0), Score.of(0, 1)));
+        runDeliveryTasks();
+
+        assertThat(deliveredBatches.get(0)).hasSize(3);
+        assertThat(subscription.getStatistics()
+                               .coalesced()).isZero();
+    }
+
+    @Test
+    void shouldDropNewEvents_whenBufferIsFull() {
+        Subscription subscription = publisher.subscribe(deliveredBatches::add);
+
+        publisher.publish(new ScoreEvent.GameStarted(GAME_ID_1, "Mexico", "Canada"));
+        publisher.publish(new ScoreEvent.GameStarted(GAME_ID_2, "Spain", "Brazil"));
+        publisher.publish(new ScoreEvent.GameFinished(GAME_ID_1, Score.of(0, 0)));
+        publisher.publish(new ScoreEvent.GameFinished(GAME_ID_2, Score.of(0, 0)));
+        runDeliveryTasks();
+
+        assertThat(deliveredBatches).hasSize(1);
+        assertThat(deliveredBatches.get(0)).hasSize(3);
+        assertThat(subscription.getStatistics()).isEqualTo(new SubscriptionStatistics(3, 0, 1));
+    }
+
+    @Test
+    void shouldNotifyListenerAfterPrecedingBatch_whenEventsWereDropped() {
+        List<Long> droppedEvents = new ArrayList<>();
+        publisher.subscribe(new ScoreEventListener() {
+            @Override
+            public void onEvents(List<ScoreEvent> events) {
+                deliveredBatches.add(events);
+            }
+
+            @Override
+            public void onEventsDropped(long dropped) {
+                droppedEvents.add(dropped);
+                assertThat(deliveredBatches).hasSize(1);
+            }
+        });
+
+        publisher.publish(new ScoreEvent.GameStarted(GAME_ID_1, "Mexico", "Canada"));
+        publisher.publish(new ScoreEvent.GameStarted(GAME_ID_2, "Spain", "Brazil"));
+        publisher.publish(new ScoreEvent.GameFinished(GAME_ID_1, Score.of(0, 0)));
+        publisher.publish(new ScoreEvent.GameFinished(GAME_ID_2, Score.of(0, 0)));
+        publisher.publish(new ScoreEvent.GameStarted(GAME_ID_1, "Mexico", "Canada"));
+        runDeliveryTasks();
+        publisher.publish(new ScoreEvent.GameStarted(GAME_ID_2, "Spain", "Brazil"));
+        runDeliveryTasks();
+
+        assertThat(droppedEvents).containsExactly(2L);
+        assertThat(deliveredBatches).hasSize(2);
+    }
+
+    @Test
+    void shouldDeliverEventsToEachSubscriberSeparately_whenOneOfThemIsFull() {
+        Subscription subscription1 = publisher.subscribe(deliveredBatches::add);
+        publisher.publish(new ScoreEvent.GameStarted(GAME_ID_1, "Mexico", "Canada"));
+        publisher.publish(new ScoreEvent.GameFinished(GAME_ID_1, Score.of(0, 0)));
+        publisher.publish(new ScoreEvent.GameStarted(GAME_ID_2, "Spain", "Brazil"));
+        Subscription subscription2 = publisher.subscribe(deliveredBatches::add);
+
+        publisher.publish(new ScoreEvent.GameFinished(GAME_ID_2, Score.of(0, 0)));
+        runDeliveryTasks();
+
+        assertThat(subscription1.getStatistics()).isEqualTo(new SubscriptionStatistics(3, 0, 1));
+        assertThat(subscription2.getStatistics()).isEqualTo(new SubscriptionStatistics(1, 0, 0));
+    }
+
+    @Test
+    void shouldNotDeliverEvents_whenSubscriptionIsCancelled() {
+        Subscription subscription = publisher.subscribe(deliveredBatches::add);
+        publisher.publish(new ScoreEvent.GameStarted(GAME_ID_1, "Mexico", "Canada"));
+
+        subscription.cancel();
+        publisher.publish(new ScoreEvent.GameStarted(GAME_ID_2, "Spain", "Brazil"));
+        runDeliveryTasks();
+
+        assertThat(deliveredBatches).isEmpty();
+        assertThat(publisher.hasSubscribers()).isFalse();
+    }
+
+    @Test
+    void shouldContinueDelivery_whenListenerThrowsException() {
+        Subscription subscription = publisher.subscribe(events -> {
+            deliveredBatches.add(events);
+            throw new IllegalStateException("listener failure");
+        });
+
+        publisher.publish(new ScoreEvent.GameStarted(GAME_ID_1, "Mexico", "Canada"));
+        runDeliveryTasks();
+        publisher.publish(new ScoreEvent.GameStarted(GAME_ID_2, "Spain", "Brazil"));
+        runDeliveryTasks();
+
+        assertThat(deliveredBatches).hasSize(2);
+        assertThat(subscription.getStatistics()
+                               .delivered()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenSubscribingNullListener() {
+        assertThatThrownBy(() -> publisher.subscribe(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldNotWaitForSlowListener_whenPublishingEvents() throws InterruptedException {
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        publisher = new ScoreEventPublisher(executorService, 16);
+        CountDownLatch listenerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseListener = new CountDownLatch(1);
+        List<ScoreEvent> receivedEvents = new ArrayList<>();
+        Subscription subscription = publisher.subscribe(events -> {
+            listenerBlocked.countDown();
+            try {
+                releaseListener.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread()
+                      .interrupt();
+            }
+            synchronized (receivedEvents) {
+                receivedEvents.addAll(events);
+            }
+        });
+        publisher.publish(new ScoreEvent.GameStarted(GAME_ID_1, "Mexico", "Canada"));
+        assertThat(listenerBlocked.await(1, TimeUnit.SECONDS)).isTrue();
+
+        for (int goals = 1; goals <= 10_000; goals++) {
+            publisher.publish(new ScoreEvent.ScoreUpdated(GameId.ofSequence(goals % 100),
+                                                          Score.of(goals - 1, 0),
+                                                          Score.of(goals, 0)));
+        }
+        releaseListener.countDown();
+
+        // buffer keeps updates of the first 16 games, coalescing their next updates, and updates of other games are dropped
+        await().atMost(1, TimeUnit.SECONDS)
+               .untilAsserted(() -> assertThat(subscription.getStatistics()
+                                                           .delivered()).isEqualTo(17));
+        assertThat(subscription.getStatistics()).isEqualTo(new SubscriptionStatistics(17, 16 * 99, 84 * 100));
+        executorService.shutdown();
+    }
+
+    private void runDeliveryTasks() {
+        while (!deliveryTasks.isEmpty()) {
+            deliveryTasks.remove(0)
+                         .run();
+        }
+    }
+
+}
@@ -2,21 +2,30 @@ package pl.wicherski.sportradar.scoreboard;
 
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pl.wicherski.sportradar.scoreboard.AllocationMeter.measureAllocatedBytes;
 
 class ScoreSummaryImplTest {
 
     @Test
     void shouldReturnGamesList_whenFormattingSummary() {
         List<Game> games = List.of(
-                new Game("Uruguay", "Italy", Score.of(6, 6), Instant.now()),
-                new Game("Spain", "Brazil", Score.of(10, 2), Instant.now()),
-                new Game("Mexico", "Canada", Score.of(0, 5), Instant.now()),
-                new Game("Argentina", "Australia", Score.of(3, 1), Instant.now()),
-                new Game("Germany", "France", Score.of(2, 2), Instant.now())
+                new Game(GameId.generate(), "Uruguay", "Italy", Score.of(6, 6), Instant.now()),
+                new Game(GameId.generate(), "Spain", "Brazil", Score.of(10, 2), Instant.now()),
+                new Game(GameId.generate(), "Mexico", "Canada", Score.of(0, 5), Instant.now()),
+                new Game(GameId.generate(), "Argentina", "Australia", Score.of(3, 1), Instant.now()),
+                new Game(GameId.generate(), "Germany", "France", Score.of(2, 2), Instant.now())
         );
         ScoreSummary scoreSummary = new ScoreSummaryImpl(games);
 
@@ -42,9 +51,42 @@ class ScoreSummaryImplTest {
                 .isEmpty();
     }
 
+    @Test
+    void shouldReturnLeadingGames_whenLimitingSummary() {
+        List<Game> games = List.of(
+                new Game(GameId.generate(), "Uruguay", "Italy", Score.of(6, 6), Instant.now()),
+                new Game(GameId.generate(), "Spain", "Brazil", Score.of(10, 2), Instant.now()),
+                new Game(GameId.generate(), "Mexico", "Canada", Score.of(0, 5), Instant.now())
+        );
+        ScoreSummary scoreSummary = new ScoreSummaryImpl(games);
+
+        ScoreSummary topSummary = scoreSummary.top(2);
+
+        assertThat(topSummary.toPrintableSummary())
+                .isEqualTo("""
+                           1. Uruguay 6 - Italy 6
+                           2. Spain 10 - Brazil 2""");
+    }
+
+    @Test
+    void shouldReturnTheSameSummary_whenLimitingSummary_withLimitExceedingNumberOfGames() {
+        ScoreSummary scoreSummary = new ScoreSummaryImpl(List.of(new Game(GameId.generate(), "Uruguay", "Italy", Score.of(6, 6), Instant.now())));
+
+        ScoreSummary topSummary = scoreSummary.top(5);
+
+        assertThat(topSummary).isSameAs(scoreSummary);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenLimitingSummary_withNegativeLimit() {
+        ScoreSummary scoreSummary = new ScoreSummaryImpl(List.of());
+
+        assertThatThrownBy(() -> scoreSummary.top(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
     @Test
     void shouldReturnCachedSummary_whenFormattingSummary_multipleTimes() {
-        List<Game> games = List.of(new Game("Uruguay", "Italy", Score.of(6, 6), Instant.now()));
+        List<Game> games = List.of(new Game(GameId.generate(), "Uruguay", "Italy", Score.of(6, 6), Instant.now()));
         ScoreSummary scoreSummary = new ScoreSummaryImpl(games);
 
         String printableSummary1 = scoreSummary.toPrintableSummary();
@@ -54,4 +96,271 @@ class ScoreSummaryImplTest {
                 .isSameAs(printableSummary2);
     }
 
-}
\ No newline at end of file
+    @Test
+    void shouldAppendTheSameTextAsPrintableSummary_whenAppendingSummary() throws IOException {
+        ScoreSummary scoreSummary = new ScoreSummaryImpl(gamesWithSpecialCharacters());
+        StringWriter writer = new StringWriter();
+
+        scoreSummary.appendTo(writer);
+
+        assertThat(writer.toString()).isEqualTo(scoreSummary.toPrintableSummary());
+    }
+
+    @Test
+    void shouldAppendSummary_afterPrintableSummaryWasCached() throws IOException {
+        ScoreSummary scoreSummary = new ScoreSummaryImpl(gamesWithSpecialCharacters());
+        String printableSummary = scoreSummary.toPrintableSummary();
+        StringBuilder builder = new StringBuilder("> ");
+
+        scoreSummary.appendTo(builder);
+
+        assertThat(builder.toString()).isEqualTo("> " + printableSummary);
+    }
+
+    @Test
+    void shouldWriteTheSameBytesAsEncodedPrintableSummary_whenWritingSummary() {
+        ScoreSummary scoreSummary = new ScoreSummaryImpl(gamesWithSpecialCharacters());
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+
+        scoreSummary.writeTo(buffer);
+
+        byte[] writtenBytes = Arrays.copyOf(buffer.array(), buffer.position());
+        assertThat(writtenBytes).isEqualTo(scoreSummary.toPrintableSummary()
+                                                       .getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldWriteNothing_whenWritingSummary_andThereAreNoGames() {
+        ScoreSummary scoreSummary = new ScoreSummaryImpl(List.of());
+        ByteBuffer buffer = ByteBuffer.allocate(16);
+
+        scoreSummary.writeTo(buffer);
+
+        assertThat(buffer.position()).isZero();
+    }
+
+    @Test
+    void shouldThrowBufferOverflowException_whenWritingSummary_toTooSmallBuffer() {
+        ScoreSummary scoreSummary = new ScoreSummaryImpl(gamesWithSpecialCharacters());
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+
+        assertThatThrownBy(() -> scoreSummary.writeTo(buffer)).isInstanceOf(BufferOverflowException.class);
+    }
+
+    @Test
+    void shouldNotAllocateMemoryPerGame_whenWritingSummary_toReusedBuffer() throws Exception {
+        ScoreSummary scoreSummary = new ScoreSummaryImpl(manyGames(1_000));
+        ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1_024);
+        for (int i = 0; i < 1_000; i++) {
+            buffer.clear();
+            scoreSummary.writeTo(buffer);
+        }
+
+        long allocatedBytes = measureAllocatedBytes(() -> {
+            buffer.clear();
+            scoreSummary.writeTo(buffer);
+        });
+
+        // rendering a fresh string allocates tens of kilobytes for such summary
+        assertThat(allocatedBytes).isLessThan(1_024);
+    }
+
+    @Test
+    void shouldNotAllocateMemoryPerGame_whenAppendingSummary_toReusedBuilder() throws Exception {
+        ScoreSummary scoreSummary = new ScoreSummaryImpl(manyGames(1_000));
+        StringBuilder builder = new StringBuilder(64 * 1_024);
+        for (int i = 0; i < 1_000; i++) {
+            builder.setLength(0);
+            scoreSummary.appendTo(builder);
+        }
+
+        long allocatedBytes = measureAllocatedBytes(() -> {
+            builder.setLength(0);
+            scoreSummary.appendTo(builder);
+        });
+
+        assertThat(allocatedBytes).isLessThan(1_024);
+    }
+
+    private static List<Game> gamesWithSpecialCharacters() {
+        return List.of(
+                new Game(GameId.generate(), "Côte d'Ivoire", "Curaçao", Score.of(1234567, 0), Instant.now()),
+                new Game(GameId.generate(), "日本", "대한민국", Score.of(10, 2), Instant.now()),
+                new Game(GameId.generate(), "Team \uD83D\uDE00", "Broken \uD83D", Score.of(0, 5), Instant.now()),
+                new Game(GameId.generate(), "Argentina", "Australia", Score.of(Integer.MAX_VALUE, 1), Instant.now())
+        );
+    }
+
+    private static List<Game> manyGames(int count) {
+        List<Game> games = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            games.add(new Game(GameId.generate(), "Home " + i, "Away " + i, Score.of(i % 7, i % 5), Instant.now()));
+        }
+        return games;
+    }
+
+    @Test
+    void shouldReturnChangesOfRanking_whenComparingWithPreviousSummary() {
+        Game mexicoCanada = new Game(GameId.ofSequence(1), "Mexico", "Canada", Score.of(0, 0), Instant.now());
+        Game spainBrazil = new Game(GameId.ofSequence(2), "Spain", "Brazil", Score.of(0, 0), Instant.now());
+        Game germanyFrance = new Game(GameId.ofSequence(3), "Germany", "France", Score.of(0, 0), Instant.now());
+        ScoreSummary previousSummary = new ScoreSummaryImpl(List.of(spainBrazil, mexicoCanada));
+        ScoreSummary summary = new ScoreSummaryImpl(List.of(mexicoCanada.withUpdatedScore(Score.of(1, 0)),
+                                                            germanyFrance,
+                                                            spainBrazil));
+
+        SummaryDiff diff = summary.changesSince(previousSummary);
+
+        assertThat(diff).isEqualTo(new SummaryDiff(
+                List.of(new SummaryDiff.Added(germanyFrance.gameId(), 2, "Germany", "France", Score.of(0, 0))),
+                List.of(),
+                List.of(new SummaryDiff.Moved(mexicoCanada.gameId(), 2, 1)),
+                List.of(new SummaryDiff.ScoreChanged(mexicoCanada.gameId(), Score.of(0, 0), Score.of(1, 0)))));
+    }
+
+    @Test
+    void shouldReportRanksInWholeSummary_whenComparingSecondPagesOfSummaries() {
+        Game mexicoCanada = new Game(GameId.ofSequence(1), "Mexico", "Canada", Score.of(0, 0), Instant.now());
+        Game spainBrazil = new Game(GameId.ofSequence(2), "Spain", "Brazil", Score.of(0, 0), Instant.now());
+        Game germanyFrance = new Game(GameId.ofSequence(3), "Germany", "France", Score.of(0, 0), Instant.now());
+        List<Game> previousGames = new ArrayList<>(manyGames(3));
+        List<Game> games = new ArrayList<>(previousGames);
+        previousGames.addAll(List.of(spainBrazil, mexicoCanada));
+        games.addAll(List.of(mexicoCanada, germanyFrance, spainBrazil));
+
+        SummaryDiff diff = secondPageOf(new ScoreSummaryImpl(games)).changesSince(
+                secondPageOf(new ScoreSummaryImpl(previousGames)));
+
+        assertThat(diff).isEqualTo(new SummaryDiff(
+                List.of(new SummaryDiff.Added(germanyFrance.gameId(), 5, "Germany", "France", Score.of(0, 0))),
+                List.of(),
+                List.of(new SummaryDiff.Moved(mexicoCanada.gameId(), 5, 4)),
+                List.of()));
+    }
+
+    private static ScoreSummary secondPageOf(ScoreSummary summary) {
+        return summary.page(summary.firstPage(3)
+                                   .nextCursor()
+                                   .orElseThrow())
+                      .games();
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenComparingWithNullSummary() {
+        ScoreSummary summary = new ScoreSummaryImpl(List.of());
+
+        assertThatThrownBy(() -> summary.changesSince(null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRankGamesAsWholeSummary_whenFetchingPages() {
+        List<Game> games = List.of(
+                new Game(GameId.generate(), "Uruguay", "Italy", Score.of(6, 6), Instant.now()),
+                new Game(GameId.generate(), "Spain", "Brazil", Score.of(10, 2), Instant.now()),
+                new Game(GameId.generate(), "Mexico", "Canada", Score.of(0, 5), Instant.now()),
+                new Game(GameId.generate(), "Argentina", "Australia", Score.of(3, 1), Instant.now()),
+                new Game(GameId.generate(), "Germany", "France", Score.of(2, 2), Instant.now())
+        );
+        ScoreSummary scoreSummary = new ScoreSummaryImpl(games);
+
+        SummaryPage firstPage = scoreSummary.firstPage(2);
+        SummaryPage secondPage = scoreSummary.page(firstPage.nextCursor()
+                                                            .orElseThrow());
+        SummaryPage lastPage = scoreSummary.page(secondPage.nextCursor()
+                                                           .orElseThrow());
+
+        assertThat(firstPage.games()
+                            .toPrintableSummary())
+                .isEqualTo("""
+                           1. Uruguay 6 - Italy 6
+                           2. Spain 10 - Brazil 2""");
+        assertThat(secondPage.games()
+                             .toPrintableSummary())
+                .isEqualTo("""
+                           3. Mexico 0 - Canada 5
+                           4. Argentina 3 - Australia 1""");
+        assertThat(lastPage.games()
+                           .toPrintableSummary())
+                .isEqualTo("5. Germany 2 - France 2");
+        assertThat(lastPage.firstRank()).isEqualTo(5);
+        assertThat(lastPage.totalGames()).isEqualTo(5);
+        assertThat(lastPage.hasNextPage()).isFalse();
+    }
+
+    @Test
+    void shouldReturnSamePage_whenFetchingPage_withTheSameCursorAgain() {
+        ScoreSummary scoreSummary = new ScoreSummaryImpl(manyGames(10));
+        SummaryCursor cursor = scoreSummary.firstPage(4)
+                                           .nextCursor()
+                                           .orElseThrow();
+
+        SummaryPage page = scoreSummary.page(cursor);
+        SummaryPage fetchedAgainPage = scoreSummary.page(cursor);
+
+        assertThat(cursor.offset()).isEqualTo(4);
+        assertThat(fetchedAgainPage.games()
+                                   .toPrintableSummary())
+                .isEqualTo(page.games()
+                               .toPrintableSummary())
+                .startsWith("5. ");
+    }
+
+    @Test
+    void shouldFetchSamePage_whenFetchingPage_withCursorRestoredFromToken() {
+        ScoreSummary scoreSummary = new ScoreSummaryImpl(manyGames(10));
+        SummaryCursor cursor = scoreSummary.firstPage(4)
+                                           .nextCursor()
+                                           .orElseThrow();
+
+        SummaryCursor restoredCursor = SummaryCursor.fromToken(cursor.toToken());
+
+        assertThat(restoredCursor).isEqualTo(cursor);
+        assertThat(scoreSummary.page(restoredCursor)
+                               .games()
+                               .toPrintableSummary())
+                .isEqualTo(scoreSummary.page(cursor)
+                                       .games()
+                                       .toPrintableSummary());
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenFetchingPage_withCursorOfOtherSummary() {
+        List<Game> games = manyGames(10);
+        ScoreSummary scoreSummary = new ScoreSummaryImpl(games);
+        SummaryCursor otherSummaryCursor = new ScoreSummaryImpl(games).firstPage(4)
+                                                                      .nextCursor()
+                                                                      .orElseThrow();
+
+        assertThatThrownBy(() -> scoreSummary.page(otherSummaryCursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("does not belong");
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenRestoringCursor_fromInvalidToken() {
+        assertThatThrownBy(() -> SummaryCursor.fromToken("1. Mexico 0 - Canada 5"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SummaryCursor.fromToken("AAAA"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldReturnEmptyLastPage_whenFetchingFirstPage_andThereAreNoGames() {
+        ScoreSummary scoreSummary = new ScoreSummaryImpl(List.of());
+
+        SummaryPage page = scoreSummary.firstPage(10);
+
+        assertThat(page.games()
+                       .toPrintableSummary()).isEmpty();
+        assertThat(page.totalGames()).isZero();
+        assertThat(page.hasNextPage()).isFalse();
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenFetchingFirstPage_withNotPositivePageSize() {
+        ScoreSummary summary = new ScoreSummaryImpl(List.of());
+
+        assertThatThrownBy(() -> summary.firstPage(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,108 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static pl.wicherski.sportradar.scoreboard.AllocationMeter.measureAllocatedBytes;
+
+class ScoreTimelineBufferTest {
+
+    private static final GameId GAME_ID = GameId.ofSequence(1);
+    private static final Instant KICK_OFF = Instant.parse("2022-11-20T16:00:00Z");
+
+    @Test
+    void shouldReturnScoreValidAtGivenTime_whenGettingScoreAt() {
+        ScoreTimelineBuffer timeline = new ScoreTimelineBuffer(64, KICK_OFF, Score.of(0, 0));
+        timeline.append(KICK_OFF.plusSeconds(10 * 60), Score.of(1, 0));
+        timeline.append(KICK_OFF.plusSeconds(30 * 60), Score.of(1, 1));
+
+        assertThat(timeline.scoreAt(KICK_OFF.minusMillis(1))).isEmpty();
+        assertThat(timeline.scoreAt(KICK_OFF)).contains(Score.of(0, 0));
+        assertThat(timeline.scoreAt(KICK_OFF.plusSeconds(10 * 60)
+                                            .minusMillis(1))).contains(Score.of(0, 0));
+        assertThat(timeline.scoreAt(KICK_OFF.plusSeconds(10 * 60))).contains(Score.of(1, 0));
+        assertThat(timeline.scoreAt(KICK_OFF.plusSeconds(29 * 60))).contains(Score.of(1, 0));
+        assertThat(timeline.scoreAt(KICK_OFF.plusSeconds(90 * 60))).contains(Score.of(1, 1));
+    }
+
+    @Test
+    void shouldReturnAllChangesInOrder_whenConvertingToTimeline() {
+        ScoreTimelineBuffer timeline = new ScoreTimelineBuffer(64, KICK_OFF, Score.of(0, 0));
+        timeline.append(KICK_OFF.plusSeconds(600), Score.of(2, 0));
+        timeline.append(KICK_OFF.plusSeconds(1200), Score.of(1, 0));
+        timeline.append(KICK_OFF.plusSeconds(1800), Score.of(1, 0));
+
+        ScoreTimeline result = timeline.toTimeline(GAME_ID);
+
+        assertThat(result.gameId()).isEqualTo(GAME_ID);
+        assertThat(result.truncated()).isFalse();
+        assertThat(result.changes()).containsExactly(new ScoreTimeline.ScoreChange(KICK_OFF, Score.of(0, 0)),
+                                                     new ScoreTimeline.ScoreChange(KICK_OFF.plusSeconds(600), Score.of(2, 0)),
+                                                     new ScoreTimeline.ScoreChange(KICK_OFF.plusSeconds(1200), Score.of(1, 0)));
+    }
+
+    @Test
+    void shouldRecordChangeAtTimeOfPreviousChange_whenAppendingChange_withEarlierTimestamp() {
+        ScoreTimelineBuffer timeline = new ScoreTimelineBuffer(64, KICK_OFF, Score.of(0, 0));
+        timeline.append(KICK_OFF.plusSeconds(600), Score.of(1, 0));
+
+        timeline.append(KICK_OFF.plusSeconds(300), Score.of(2, 0));
+
+        assertThat(timeline.toTimeline(GAME_ID)
+                           .changes()).last()
+                                      .isEqualTo(new ScoreTimeline.ScoreChange(KICK_OFF.plusSeconds(600), Score.of(2, 0)));
+    }
+
+    @Test
+    void shouldDropOldestChanges_whenAppendingChange_toFullBuffer() {
+        ScoreTimelineBuffer timeline = new ScoreTimelineBuffer(64, KICK_OFF, Score.of(0, 0));
+        for (int minute = 1; minute <= 90; minute++) {
+            timeline.append(KICK_OFF.plusSeconds(minute * 60L), Score.of(minute, 0));
+        }
+
+        ScoreTimeline result = timeline.toTimeline(GAME_ID);
+
+        assertThat(result.truncated()).isTrue();
+        assertThat(result.changes()).hasSize(timeline.changes())
+                                    .hasSizeLessThan(91)
+                                    .last()
+                                    .isEqualTo(new ScoreTimeline.ScoreChange(KICK_OFF.plusSeconds(90 * 60), Score.of(90, 0)));
+        Instant oldestRetained = result.changes()
+                                       .get(0)
+                                       .timestamp();
+        assertThat(timeline.scoreAt(oldestRetained.minusMillis(1))).isEmpty();
+        assertThat(timeline.scoreAt(KICK_OFF.plusSeconds(85 * 60 + 30))).contains(Score.of(85, 0));
+    }
+
+    @Test
+    void shouldNotAllocateMemory_whenAppendingChanges() throws Exception {
+        ScoreTimelineBuffer timeline = new ScoreTimelineBuffer(ScoreTimelineBuffer.DEFAULT_CAPACITY, KICK_OFF, Score.of(0, 0));
+        Instant[] timestamps = new Instant[10_000];
+        Score[] scores = new Score[10_000];
+        for (int i = 0; i < timestamps.length; i++) {
+            timestamps[i] = KICK_OFF.plusSeconds(i * 60L);
+            scores[i] = Score.of(i % 7, i % 5);
+        }
+        for (int i = 0; i < timestamps.length; i++) {
+            timeline.append(timestamps[i], scores[i]);
+        }
+
+        long allocatedBytes = measureAllocatedBytes(() -> {
+            for (int i = 0; i < timestamps.length; i++) {
+                timeline.append(timestamps[i], scores[i]);
+            }
+        });
+
+        assertThat(allocatedBytes).isLessThan(1_024);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenCreatingBuffer_tooSmallForOneChange() {
+        assertThatThrownBy(() -> new ScoreTimelineBuffer(8, KICK_OFF, Score.of(0, 0))).isInstanceOf(
+                IllegalArgumentException.class);
+    }
+
+}
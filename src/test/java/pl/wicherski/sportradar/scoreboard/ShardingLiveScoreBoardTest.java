@@ -0,0 +1,252 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static pl.wicherski.sportradar.scoreboard.GameComparators.BY_RANK_KEY;
+
+class ShardingLiveScoreBoardTest {
+
+    private static final int SHARDS = 4;
+    private static final long ID_SCOPE = 42;
+
+    @TempDir
+    private Path tempDir;
+    private Instant sortingBoardClock;
+    private Instant shardedBoardClock;
+    private LiveScoreBoardImpl sortingBoard;
+    private ShardingLiveScoreBoard shardedBoard;
+
+    @BeforeEach
+    void setUp() {
+        sortingBoardClock = Instant.now();
+        shardedBoardClock = sortingBoardClock;
+        // every game is started one second after the previous one, so there are no ties on creation time
+        ScoreSummaryFactory scoreSummaryFactory = new ScoreSummaryFactory();
+        sortingBoard = new LiveScoreBoardImpl(new InMemoryGameRepository(new HashMap<>()),
+                                              () -> sortingBoardClock = sortingBoardClock.plusSeconds(1),
+                                              scoreSummaryFactory,
+                                              BY_RANK_KEY);
+        List<LiveScoreBoard> shards = new ArrayList<>();
+        for (int shard = 0; shard < SHARDS; shard++) {
+            shards.add(new IndexedLiveScoreBoard(new IndexedGameRepository(BY_RANK_KEY),
+                                                 () -> shardedBoardClock = shardedBoardClock.plusSeconds(1),
+                                                 scoreSummaryFactory,
+                                                 GameIdGenerator.sharded(ID_SCOPE, shard, SHARDS),
+                                                 new TeamNameDictionary()));
+        }
+        shardedBoard = new ShardingLiveScoreBoard(shards, ID_SCOPE, BY_RANK_KEY, scoreSummaryFactory);
+    }
+
+    @Test
+    void shouldProduceTheSameSummaryAsSortingBoard_whenApplyingRandomOperations() {
+        Random random = new Random(42);
+        List<GameId> sortingBoardIds = new ArrayList<>();
+        List<GameId> shardedBoardIds = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            int operation = random.nextInt(10);
+            if (operation < 3 || sortingBoardIds.isEmpty()) {
+                sortingBoardIds.add(sortingBoard.startGame("home" + i, "away" + i));
+                shardedBoardIds.add(shardedBoard.startGame("home" + i, "away" + i));
+            } else if (operation < 9) {
+                int index = random.nextInt(sortingBoardIds.size());
+                Score score = Score.of(random.nextInt(8), random.nextInt(8));
+                sortingBoard.updateScore(sortingBoardIds.get(index), score);
+                shardedBoard.updateScore(shardedBoardIds.get(index), score);
+            } else {
+                int index = random.nextInt(sortingBoardIds.size());
+                sortingBoard.finishGame(sortingBoardIds.remove(index));
+                shardedBoard.finishGame(shardedBoardIds.remove(index));
+            }
+        }
+
+        assertThat(shardedBoard.getSummary()
+                               .toPrintableSummary()).isEqualTo(sortingBoard.getSummary()
+                                                                            .toPrintableSummary());
+        assertThat(shardedBoard.getSummary(10)
+                               .toPrintableSummary()).isEqualTo(sortingBoard.getSummary(10)
+                                                                            .toPrintableSummary());
+    }
+
+    @Test
+    void shouldSpreadGamesAcrossShards_whenStartingGamesWithoutCompetition() {
+        List<Integer> usedShards = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            GameId gameId = shardedBoard.startGame("home" + i, "away" + i);
+            usedShards.add((int) (gameId.sequence() % SHARDS));
+        }
+
+        assertThat(usedShards).containsOnly(0, 1, 2, 3);
+    }
+
+    @Test
+    void shouldStartGamesInOneShard_whenStartingGamesOfOneCompetition() {
+        GameId gameId1 = shardedBoard.startGame("World Cup", "Mexico", "Canada");
+        List<GameId> gameIds = shardedBoard.startGames("World Cup",
+                                                       List.of(Teams.of("Spain", "Brazil"), Teams.of("Germany", "France")));
+
+        assertThat(gameIds).extracting(gameId -> gameId.sequence() % SHARDS)
+                           .containsOnly(gameId1.sequence() % SHARDS);
+    }
+
+    @Test
+    void shouldReturnIdsInOrderOfTeams_whenStartingGamesAcrossShards() {
+        List<Teams> teams = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            teams.add(Teams.of("home" + i, "away" + i));
+        }
+
+        List<GameId> gameIds = shardedBoard.startGames(teams);
+        for (int i = 0; i < gameIds.size(); i++) {
+            shardedBoard.updateScore(gameIds.get(i), Score.of(i, 0));
+        }
+
+        assertThat(shardedBoard.getSummary(1)
+                               .toPrintableSummary()).isEqualTo("1. home19 19 - away19 0");
+    }
+
+    @Test
+    void shouldNotStartAnyGame_whenBatchContainsInvalidTeams() {
+        List<Teams> teams = List.of(Teams.of("home1", "away1"), Teams.of("home2", null));
+
+        assertThatThrownBy(() -> shardedBoard.startGames(teams)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(shardedBoard.getSummary()
+                               .toPrintableSummary()).isEmpty();
+    }
+
+    @Test
+    void shouldReportNotFoundGames_whenUpdatingScoresAcrossShards() {
+        GameId gameId1 = shardedBoard.startGame("home1", "away1");
+        GameId gameId2 = shardedBoard.startGame("home2", "away2");
+        GameId finishedGameId = shardedBoard.startGame("home3", "away3");
+        shardedBoard.finishGames(List.of(finishedGameId));
+        GameId foreignGameId = GameId.generate();
+
+        BatchUpdateResult result = shardedBoard.updateScores(Map.of(gameId1, Score.of(1, 0),
+                                                                    gameId2, Score.of(2, 0),
+                                                                    finishedGameId, Score.of(3, 0),
+                                                                    foreignGameId, Score.of(4, 0)));
+
+        assertThat(result.notFoundGameIds()).containsExactlyInAnyOrder(finishedGameId, foreignGameId);
+        assertThat(shardedBoard.getSummary()
+                               .toPrintableSummary()).isEqualTo("1. home2 2 - away2 0\n2. home1 1 - away1 0");
+    }
+
+    @Test
+    void shouldThrowGameNotFoundException_whenUpdatingScore_ofGameNotStartedByBoard() {
+        GameId foreignGameId = GameId.generate();
+
+        assertThatThrownBy(() -> shardedBoard.updateScore(foreignGameId, Score.of(1, 0))).isInstanceOf(
+                GameNotFoundException.class);
+    }
+
+    @Test
+    void shouldThrowGameNotFoundException_whenUpdatingScore_ofGameWithTheSameSequenceFromAnotherScope() {
+        GameId gameId = shardedBoard.startGame("home1", "away1");
+        GameId foreignGameId = GameId.ofSequence(ID_SCOPE + 1, gameId.sequence());
+
+        assertThatThrownBy(() -> shardedBoard.updateScore(foreignGameId, Score.of(1, 0))).isInstanceOf(
+                GameNotFoundException.class);
+    }
+
+    @Test
+    void shouldLoadAllGames_whenLoadingSavedSnapshot() {
+        GameId gameId1 = shardedBoard.startGame("home1", "away1");
+        shardedBoard.startGame("home2", "away2");
+        shardedBoard.updateScore(gameId1, Score.of(3, 1));
+        Path snapshotFile = tempDir.resolve("sharded.snapshot");
+
+        shardedBoard.saveSnapshot(snapshotFile);
+        LiveScoreBoard loadedBoard = LiveScoreBoardFactory.getInstance()
+                                                          .newBoardFromSnapshot(snapshotFile);
+
+        assertThat(loadedBoard.getSummary()
+                              .toPrintableSummary()).isEqualTo(shardedBoard.getSummary()
+                                                                           .toPrintableSummary());
+    }
+
+    @Test
+    void shouldRouteRestoredGamesToTheirShards_whenLoadingSavedSnapshot() {
+        List<GameId> gameIds = new ArrayList<>();
+        for (int i = 0; i < 2 * SHARDS; i++) {
+            gameIds.add(shardedBoard.startGame("home" + i, "away" + i));
+        }
+        Path snapshotFile = tempDir.resolve("sharded.snapshot");
+        shardedBoard.saveSnapshot(snapshotFile);
+
+        LiveScoreBoard loadedBoard = LiveScoreBoardFactory.getInstance()
+                                                          .newBoardFromSnapshot(snapshotFile);
+        for (int i = 0; i < gameIds.size(); i++) {
+            loadedBoard.updateScore(gameIds.get(i), Score.of(i, 0));
+        }
+        GameId newGameId = loadedBoard.startGame("home", "away");
+
+        assertThat(loadedBoard).isInstanceOf(ShardedLiveScoreBoard.class);
+        assertThat(((ShardedLiveScoreBoard) loadedBoard).shardCount()).isEqualTo(SHARDS);
+        assertThat(gameIds).doesNotContain(newGameId);
+        assertThat(loadedBoard.getSummary()
+                              .toPrintableSummary()).startsWith("1. home7 7 - away7 0");
+    }
+
+    @Test
+    void shouldNotifyListenerOfDroppedEvents_whenShardBufferOverflows() throws InterruptedException {
+        CountDownLatch firstBatchReceived = new CountDownLatch(1);
+        CountDownLatch listenerReleased = new CountDownLatch(1);
+        AtomicLong reportedDroppedEvents = new AtomicLong();
+        Subscription subscription = shardedBoard.subscribe(new ScoreEventListener() {
+            @Override
+            public void onEvents(List<ScoreEvent> events) {
+                firstBatchReceived.countDown();
+                try {
+                    listenerReleased.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread()
+                          .interrupt();
+                }
+            }
+
+            @Override
+            public void onEventsDropped(long droppedEvents) {
+                reportedDroppedEvents.addAndGet(droppedEvents);
+            }
+        });
+        shardedBoard.startGame("home", "away");
+        firstBatchReceived.await();
+
+        // deliveries of all shards wait for the blocked listener, so each shard buffer fills up
+        for (int i = 0; i < 2 * SHARDS * ScoreEventPublisher.DEFAULT_CAPACITY; i++) {
+            shardedBoard.startGame("home" + i, "away" + i);
+        }
+        listenerReleased.countDown();
+
+        long droppedEvents = subscription.getStatistics()
+                                         .dropped();
+        assertThat(droppedEvents).isPositive();
+        await().atMost(Duration.ofSeconds(10))
+               .until(() -> reportedDroppedEvents.get() == droppedEvents);
+        subscription.cancel();
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenStartingGame_withNullCompetition() {
+        assertThatThrownBy(() -> shardedBoard.startGame(null, "home", "away")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,244 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SingleWriterLiveScoreBoardTest {
+
+    private static final String TEAM_1 = "team1";
+    private static final String TEAM_2 = "team2";
+    private static final Duration PUBLISH_INTERVAL = Duration.ofMillis(10);
+
+    private SingleWriterLiveScoreBoard board;
+    @Mock
+    private LiveScoreBoard delegateMock;
+    @Mock
+    private ScoreSummary initialSummaryMock;
+    @Mock
+    private ScoreSummary updatedSummaryMock;
+
+    @BeforeEach
+    void setUp() {
+        when(delegateMock.getSummary()).thenReturn(initialSummaryMock);
+        board = new SingleWriterLiveScoreBoard(delegateMock, 8, PUBLISH_INTERVAL);
+    }
+
+    @AfterEach
+    void tearDown() {
+        board.close();
+    }
+
+    @Test
+    void shouldReturnInitialSummary_whenNothingChanged() {
+        ScoreSummary summary = board.getSummary();
+
+        assertThat(summary).isSameAs(initialSummaryMock);
+    }
+
+    @Test
+    void shouldCompleteFutureWithGameId_whenSubmittingStartOfGame() {
+        GameId gameId = GameId.generate();
+        when(delegateMock.startGame(TEAM_1, TEAM_2)).thenReturn(gameId);
+
+        CompletableFuture<GameId> result = board.submitStartGame(TEAM_1, TEAM_2);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS)
+                          .isEqualTo(gameId);
+    }
+
+    @Test
+    void shouldPublishNewSummary_whenScoreWasUpdated() {
+        GameId gameId = GameId.generate();
+        when(delegateMock.getSummary()).thenReturn(updatedSummaryMock);
+
+        board.updateScore(gameId, Score.of(1, 0));
+
+        verify(delegateMock).updateScore(gameId, Score.of(1, 0));
+        await().atMost(5, TimeUnit.SECONDS)
+               .untilAsserted(() -> assertThat(board.getSummary()).isSameAs(updatedSummaryMock));
+    }
+
+    @Test
+    void shouldPublishSummaryOnce_whenManyCommandsWereAppliedWithinPublishInterval() {
+        SingleWriterLiveScoreBoard slowPublishingBoard = new SingleWriterLiveScoreBoard(delegateMock, 8, Duration.ofHours(1));
+        clearInvocations(delegateMock);
+        for (int i = 0; i < 100; i++) {
+            slowPublishingBoard.submitFinishGame(GameId.generate());
+        }
+
+        slowPublishingBoard.close();
+
+        verify(delegateMock, times(1)).getSummary();
+    }
+
+    @Test
+    void shouldThrowGameNotFoundException_whenUpdatingScore_ofNotExistingGame() {
+        GameId gameId = GameId.generate();
+        doThrow(new GameNotFoundException(gameId)).when(delegateMock)
+                                                  .updateScore(gameId, Score.of(1, 0));
+
+        assertThatThrownBy(() -> board.updateScore(gameId, Score.of(1, 0))).isInstanceOf(GameNotFoundException.class);
+    }
+
+    @Test
+    void shouldCompleteFutureExceptionally_whenSubmittingScoreUpdate_ofNotExistingGame() {
+        GameId gameId = GameId.generate();
+        doThrow(new GameNotFoundException(gameId)).when(delegateMock)
+                                                  .updateScore(gameId, Score.of(1, 0));
+
+        CompletableFuture<Void> result = board.submitScoreUpdate(gameId, Score.of(1, 0));
+
+        assertThatThrownBy(result::join).isInstanceOf(CompletionException.class)
+                                        .hasCauseInstanceOf(GameNotFoundException.class);
+    }
+
+    @Test
+    void shouldKeepApplyingCommands_whenPreviousCommandFailed() {
+        GameId gameId = GameId.generate();
+        doThrow(new GameNotFoundException(gameId)).when(delegateMock)
+                                                  .updateScore(gameId, Score.of(1, 0));
+
+        board.submitScoreUpdate(gameId, Score.of(1, 0));
+        board.finishGame(gameId);
+
+        verify(delegateMock).finishGame(gameId);
+    }
+
+    @Test
+    void shouldDelegateBatchOperations_whenUpdatingMultipleGames() {
+        GameId gameId = GameId.generate();
+        List<Teams> teams = List.of(new Teams(TEAM_1, TEAM_2));
+        BatchUpdateResult batchResult = new BatchUpdateResult(List.of());
+        when(delegateMock.startGames(teams)).thenReturn(List.of(gameId));
+        when(delegateMock.updateScores(Map.of(gameId, Score.of(1, 0)))).thenReturn(batchResult);
+
+        List<GameId> gameIds = board.startGames(teams);
+        BatchUpdateResult result = board.updateScores(Map.of(gameId, Score.of(1, 0)));
+        board.finishGames(List.of(gameId));
+
+        assertThat(gameIds).containsExactly(gameId);
+        assertThat(result).isSameAs(batchResult);
+        verify(delegateMock).finishGames(List.of(gameId));
+    }
+
+    @Test
+    void shouldApplyAllSubmittedCommands_whenClosingBoard() {
+        List<GameId> gameIds = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            GameId gameId = GameId.generate();
+            gameIds.add(gameId);
+            board.submitFinishGame(gameId);
+        }
+
+        board.close();
+
+        for (GameId gameId : gameIds) {
+            verify(delegateMock).finishGame(gameId);
+        }
+    }
+
+    @Test
+    void shouldThrowIllegalStateException_whenSubmittingCommand_toClosedBoard() {
+        board.close();
+
+        assertThatThrownBy(() -> board.submitFinishGame(GameId.generate())).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void shouldFailDependentAction_whenItWaitsForBoard_onWriterThread() {
+        GameId gameId = GameId.generate();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        when(delegateMock.startGame(TEAM_1, TEAM_2)).thenAnswer(invocation -> {
+            startLatch.await();
+            return gameId;
+        });
+
+        CompletableFuture<Void> dependentAction = board.submitStartGame(TEAM_1, TEAM_2)
+                                                       .thenAccept(board::finishGame);
+        startLatch.countDown();
+
+        assertThat(dependentAction).failsWithin(5, TimeUnit.SECONDS)
+                                   .withThrowableOfType(ExecutionException.class)
+                                   .withCauseInstanceOf(IllegalStateException.class);
+        board.close();
+        verify(delegateMock, never()).finishGame(any());
+    }
+
+    @Test
+    void shouldFailDependentAction_whenItSubmitsCommands_andRingIsFull() {
+        GameId gameId = GameId.generate();
+        CountDownLatch startLatch = new CountDownLatch(1);
+        when(delegateMock.startGame(TEAM_1, TEAM_2)).thenAnswer(invocation -> {
+            startLatch.await();
+            return gameId;
+        });
+
+        CompletableFuture<Void> dependentAction = board.submitStartGame(TEAM_1, TEAM_2)
+                                                       .thenAccept(startedGameId -> {
+                                                           for (int i = 0; i <= 8; i++) {
+                                                               board.submitFinishGame(startedGameId);
+                                                           }
+                                                       });
+        startLatch.countDown();
+
+        assertThat(dependentAction).failsWithin(5, TimeUnit.SECONDS)
+                                   .withThrowableOfType(ExecutionException.class)
+                                   .withCauseInstanceOf(IllegalStateException.class);
+        board.close();
+        verify(delegateMock, times(8)).finishGame(gameId);
+    }
+
+    @Test
+    void shouldApplyCommandsOfAllProducers_whenRingIsFull() throws Exception {
+        LiveScoreBoard realBoard = LiveScoreBoardFactory.getInstance()
+                                                        .newIndexedBoard();
+        try (SingleWriterLiveScoreBoard ringBoard = new SingleWriterLiveScoreBoard(realBoard, 4, PUBLISH_INTERVAL)) {
+            GameId[] gameIds = new GameId[8];
+            for (int i = 0; i < gameIds.length; i++) {
+                gameIds[i] = ringBoard.startGame("home" + i, "away" + i);
+            }
+            ExecutorService executorService = Executors.newFixedThreadPool(gameIds.length);
+            List<Future<?>> producers = new ArrayList<>();
+            for (GameId gameId : gameIds) {
+                producers.add(executorService.submit(() -> {
+                    for (int goals = 1; goals <= 1_000; goals++) {
+                        ringBoard.submitScoreUpdate(gameId, Score.of(goals, 0));
+                    }
+                }));
+            }
+            for (Future<?> producer : producers) {
+                producer.get(10, TimeUnit.SECONDS);
+            }
+            executorService.shutdown();
+
+            await().atMost(5, TimeUnit.SECONDS)
+                   .untilAsserted(() -> assertThat(ringBoard.getSummary()
+                                                            .toPrintableSummary()
+                                                            .lines()).allMatch(line -> line.contains(" 1000 - ")));
+        }
+    }
+
+}
@@ -0,0 +1,189 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SlotGameRepositoryTest {
+
+    private SlotGameRepository gameRepository;
+
+    @BeforeEach
+    void setUp() {
+        gameRepository = new SlotGameRepository(2);
+    }
+
+    @Test
+    void shouldReserveDifferentSlots_whenGeneratingIds() {
+        GameId gameId1 = gameRepository.next();
+        GameId gameId2 = gameRepository.next();
+
+        assertThat(gameId1.isSlot()).isTrue();
+        assertThat(gameId1.slot()).isNotEqualTo(gameId2.slot());
+    }
+
+    @Test
+    void shouldStoreGame_whenSavingGame() {
+        GameId gameId = gameRepository.next();
+        Game game = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
+
+        gameRepository.save(gameId, game);
+
+        assertThat(gameRepository.get(gameId)).contains(game);
+        assertThat(gameRepository.getAll()).containsExactly(game);
+    }
+
+    @Test
+    void shouldPassCurrentIdsOfStoredGames_whenIteratingGames() {
+        GameId finishedGameId = gameRepository.next();
+        gameRepository.save(finishedGameId, new Game(finishedGameId, "team1", "team2", Score.of(0, 0), Instant.now()));
+        gameRepository.delete(finishedGameId);
+        GameId gameId1 = gameRepository.next();
+        Game game1 = new Game(gameId1, "team3", "team4", Score.of(1, 0), Instant.now());
+        gameRepository.save(gameId1, game1);
+        GameId gameId2 = gameRepository.next();
+        Game game2 = new Game(gameId2, "team5", "team6", Score.of(0, 2), Instant.now());
+        gameRepository.save(gameId2, game2);
+
+        Map<GameId, Game> iteratedGames = new HashMap<>();
+        gameRepository.forEach(iteratedGames::put);
+
+        assertThat(iteratedGames).containsOnly(Map.entry(gameId1, game1), Map.entry(gameId2, game2));
+    }
+
+    @Test
+    void shouldStoreAllGames_whenSavingMoreGamesThanInitialCapacity() {
+        List<GameId> gameIds = new ArrayList<>();
+        List<Game> games = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            GameId gameId = gameRepository.next();
+            Game game = new Game(gameId, "home" + i, "away" + i, Score.of(0, 0), Instant.now());
+            gameRepository.save(gameId, game);
+            gameIds.add(gameId);
+            games.add(game);
+        }
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(gameRepository.get(gameIds.get(i))).contains(games.get(i));
+        }
+        assertThat(gameRepository.getAll()).containsExactlyInAnyOrderElementsOf(games);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenSavingGame_withIdNotReservedByRepository() {
+        GameId gameId = GameId.generate();
+        Game game = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
+
+        assertThatThrownBy(() -> gameRepository.save(gameId, game)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldRemoveGame_whenDeletingGame() {
+        GameId gameId1 = gameRepository.next();
+        GameId gameId2 = gameRepository.next();
+        Game game1 = new Game(gameId1, "team1", "team2", Score.of(1, 1), Instant.now());
+        Game game2 = new Game(gameId2, "team3", "team4", Score.of(1, 1), Instant.now());
+        gameRepository.save(gameId1, game1);
+        gameRepository.save(gameId2, game2);
+
+        gameRepository.delete(gameId1);
+
+        assertThat(gameRepository.get(gameId1)).isEmpty();
+        assertThat(gameRepository.getAll()).containsExactly(game2);
+    }
+
+    @Test
+    void shouldReturnRemovedGame_whenRemovingGame() {
+        GameId gameId = gameRepository.next();
+        Game game = new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now());
+        gameRepository.save(gameId, game);
+
+        Optional<Game> removedGame = gameRepository.remove(gameId);
+
+        assertThat(removedGame).containsSame(game);
+        assertThat(gameRepository.getAll()).isEmpty();
+        assertThat(gameRepository.remove(gameId)).isEmpty();
+    }
+
+    @Test
+    void shouldReuseSlot_withNewGeneration_whenGeneratingId_afterDeletingGame() {
+        GameId oldGameId = gameRepository.next();
+        gameRepository.save(oldGameId, new Game(oldGameId, "team1", "team2", Score.of(1, 1), Instant.now()));
+        gameRepository.delete(oldGameId);
+
+        GameId newGameId = gameRepository.next();
+
+        assertThat(newGameId.slot()).isEqualTo(oldGameId.slot());
+        assertThat(newGameId.generation()).isNotEqualTo(oldGameId.generation());
+        assertThat(newGameId).isNotEqualTo(oldGameId);
+    }
+
+    @Test
+    void shouldNotFindGame_whenUsingStaleId_ofFinishedGame() {
+        GameId oldGameId = gameRepository.next();
+        gameRepository.save(oldGameId, new Game(oldGameId, "team1", "team2", Score.of(1, 1), Instant.now()));
+        gameRepository.delete(oldGameId);
+        GameId newGameId = gameRepository.next();
+        Game newGame = new Game(newGameId, "team3", "team4", Score.of(0, 0), Instant.now());
+        gameRepository.save(newGameId, newGame);
+
+        gameRepository.update(oldGameId, new Game(oldGameId, "team1", "team2", Score.of(5, 5), Instant.now()));
+        gameRepository.delete(oldGameId);
+
+        assertThat(gameRepository.get(oldGameId)).isEmpty();
+        assertThat(gameRepository.get(newGameId)).contains(newGame);
+        assertThatThrownBy(() -> gameRepository.save(oldGameId, newGame)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldNotThrowException_whenDeletingGame_thatDoesNotExist() {
+        assertThatCode(() -> gameRepository.delete(GameId.generate())).doesNotThrowAnyException();
+        assertThatCode(() -> gameRepository.delete(GameId.ofSlot(100, 0))).doesNotThrowAnyException();
+    }
+
+    @Test
+    void shouldNotFreeSlotTwice_whenDeletingGame_multipleTimes() {
+        GameId gameId = gameRepository.next();
+        gameRepository.save(gameId, new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now()));
+        gameRepository.delete(gameId);
+        gameRepository.delete(gameId);
+
+        GameId gameId1 = gameRepository.next();
+        GameId gameId2 = gameRepository.next();
+
+        assertThat(gameId1.slot()).isNotEqualTo(gameId2.slot());
+    }
+
+    @Test
+    void shouldReplaceGame_whenUpdatingGame() {
+        GameId gameId = gameRepository.next();
+        Game game = new Game(gameId, "team1", "team2", Score.of(0, 0), Instant.now());
+        gameRepository.save(gameId, game);
+        Game updatedGame = game.withUpdatedScore(Score.of(1, 0));
+
+        gameRepository.update(gameId, updatedGame);
+
+        assertThat(gameRepository.get(gameId)).contains(updatedGame);
+    }
+
+    @Test
+    void shouldNotStoreGame_whenUpdatingGame_withReservedButNotSavedId() {
+        GameId gameId = gameRepository.next();
+
+        gameRepository.update(gameId, new Game(gameId, "team1", "team2", Score.of(1, 1), Instant.now()));
+
+        assertThat(gameRepository.get(gameId)).isEmpty();
+        assertThat(gameRepository.getAll()).isEmpty();
+    }
+
+}
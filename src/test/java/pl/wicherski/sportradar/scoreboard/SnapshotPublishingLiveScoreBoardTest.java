@@ -0,0 +1,173 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.AdditionalAnswers.answersWithDelay;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotPublishingLiveScoreBoardTest {
+
+    private static final String TEAM_1 = "team1";
+    private static final String TEAM_2 = "team2";
+    private static final String TEAM_3 = "team3";
+    private static final String TEAM_4 = "team4";
+
+    private SnapshotPublishingLiveScoreBoard board;
+    @Mock
+    private LiveScoreBoard delegateMock;
+    @Mock
+    private ScoreSummary initialSummaryMock;
+    @Mock
+    private ScoreSummary updatedSummaryMock;
+
+    @BeforeEach
+    void setUp() {
+        when(delegateMock.getSummary()).thenReturn(initialSummaryMock);
+        board = new SnapshotPublishingLiveScoreBoard(delegateMock);
+    }
+
+    @Test
+    void shouldReturnInitialSummary_whenNothingChanged() {
+        ScoreSummary summary = board.getSummary();
+
+        assertThat(summary).isSameAs(initialSummaryMock);
+        verify(delegateMock, times(1)).getSummary();
+    }
+
+    @Test
+    void shouldReturnLeadingGamesOfPublishedSummary_whenGettingLimitedSummary() {
+        when(initialSummaryMock.top(3)).thenReturn(updatedSummaryMock);
+
+        ScoreSummary summary = board.getSummary(3);
+
+        assertThat(summary).isSameAs(updatedSummaryMock);
+        verify(delegateMock, never()).getSummary(anyInt());
+    }
+
+    @Test
+    void shouldPublishNewSummary_whenStartingGame() {
+        when(delegateMock.getSummary()).thenReturn(updatedSummaryMock);
+
+        board.startGame(TEAM_1, TEAM_2);
+
+        assertThat(board.getSummary()).isSameAs(updatedSummaryMock);
+    }
+
+    @Test
+    void shouldPublishNewSummary_whenUpdatingScore() {
+        GameId gameId = GameId.generate();
+        when(delegateMock.getSummary()).thenReturn(updatedSummaryMock);
+
+        board.updateScore(gameId, Score.of(1, 0));
+
+        verify(delegateMock).updateScore(gameId, Score.of(1, 0));
+        assertThat(board.getSummary()).isSameAs(updatedSummaryMock);
+    }
+
+    @Test
+    void shouldPublishNewSummary_whenFinishingGame() {
+        GameId gameId = GameId.generate();
+        when(delegateMock.getSummary()).thenReturn(updatedSummaryMock);
+
+        board.finishGame(gameId);
+
+        verify(delegateMock).finishGame(gameId);
+        assertThat(board.getSummary()).isSameAs(updatedSummaryMock);
+    }
+
+    @Test
+    void shouldPublishNewSummaryOnce_whenUpdatingScores() {
+        Map<GameId, Score> scores = Map.of(GameId.generate(), Score.of(1, 0), GameId.generate(), Score.of(0, 1));
+        BatchUpdateResult batchResult = new BatchUpdateResult(List.of());
+        when(delegateMock.updateScores(scores)).thenReturn(batchResult);
+        when(delegateMock.getSummary()).thenReturn(updatedSummaryMock);
+
+        BatchUpdateResult result = board.updateScores(scores);
+
+        assertThat(result).isSameAs(batchResult);
+        assertThat(board.getSummary()).isSameAs(updatedSummaryMock);
+        // once on creation and once after the batch
+        verify(delegateMock, times(2)).getSummary();
+    }
+
+    @Test
+    void shouldPublishNewSummary_whenStartingAndFinishingGames() {
+        GameId gameId = GameId.generate();
+        when(delegateMock.startGames(List.of(Teams.of(TEAM_1, TEAM_2)))).thenReturn(List.of(gameId));
+        when(delegateMock.getSummary()).thenReturn(updatedSummaryMock, initialSummaryMock);
+
+        board.startGames(List.of(Teams.of(TEAM_1, TEAM_2)));
+        assertThat(board.getSummary()).isSameAs(updatedSummaryMock);
+        board.finishGames(List.of(gameId));
+        assertThat(board.getSummary()).isSameAs(initialSummaryMock);
+
+        verify(delegateMock).finishGames(List.of(gameId));
+    }
+
+    @Test
+    void shouldKeepPreviousSummary_whenUpdatingScore_ofNotTrackedGame() {
+        GameId gameId = GameId.generate();
+        doThrow(new GameNotFoundException(gameId)).when(delegateMock)
+                                                  .updateScore(gameId, Score.of(1, 0));
+
+        assertThatThrownBy(() -> board.updateScore(gameId, Score.of(1, 0))).isInstanceOf(GameNotFoundException.class);
+        assertThat(board.getSummary()).isSameAs(initialSummaryMock);
+    }
+
+    @Test
+    void shouldLockStartGameExecution_whenCalledInParallel() {
+        GameId gameId = GameId.generate();
+        long sleepyTime = 100L;
+        when(delegateMock.startGame(TEAM_1, TEAM_2)).then(answersWithDelay(sleepyTime,
+                                                                           answer -> gameId));
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        executorService.submit(() -> board.startGame(TEAM_1, TEAM_2));
+        // block until the thread starts execution
+        await().atMost(sleepyTime, TimeUnit.MILLISECONDS)
+               .pollInterval(5, TimeUnit.MILLISECONDS)
+               .untilAsserted(() -> verify(delegateMock).startGame(TEAM_1, TEAM_2));
+
+        executorService.submit(() -> board.startGame(TEAM_3, TEAM_4));
+
+        // second thread should wait for the first one to complete (it will take little less than sleep time at this point)
+        await().atLeast(sleepyTime / 2, TimeUnit.MILLISECONDS)
+               .pollInterval(5, TimeUnit.MILLISECONDS)
+               .untilAsserted(() -> verify(delegateMock).startGame(TEAM_3, TEAM_4));
+    }
+
+    @Test
+    void shouldNotBlockGettingSummary_whenModificationIsInProgress() {
+        GameId gameId = GameId.generate();
+        long sleepyTime = 200L;
+        doAnswer(answersWithDelay(sleepyTime, answer -> null)).when(delegateMock)
+                                                              .updateScore(gameId, Score.of(1, 0));
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        executorService.submit(() -> board.updateScore(gameId, Score.of(1, 0)));
+        // block until the thread starts execution
+        await().atMost(sleepyTime, TimeUnit.MILLISECONDS)
+               .pollInterval(5, TimeUnit.MILLISECONDS)
+               .untilAsserted(() -> verify(delegateMock).updateScore(gameId, Score.of(1, 0)));
+
+        // reading should not wait for the writer - previously published summary is returned
+        await().atMost(sleepyTime / 2, TimeUnit.MILLISECONDS)
+               .pollDelay(0, TimeUnit.MILLISECONDS)
+               .until(() -> board.getSummary() == initialSummaryMock);
+    }
+
+}
@@ -0,0 +1,142 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SummaryCachingLiveScoreBoardTest {
+
+    @InjectMocks
+    private SummaryCachingLiveScoreBoard board;
+    @Mock
+    private LiveScoreBoard delegateMock;
+    @Mock
+    private ScoreSummary summaryMock1;
+    @Mock
+    private ScoreSummary summaryMock2;
+
+    @Test
+    void shouldReturnCachedSummary_whenBoardWasNotModified() {
+        when(delegateMock.getSummary()).thenReturn(summaryMock1);
+
+        ScoreSummary summary1 = board.getSummary();
+        ScoreSummary summary2 = board.getSummary();
+
+        assertThat(summary1).isSameAs(summaryMock1);
+        assertThat(summary2).isSameAs(summaryMock1);
+        verify(delegateMock, times(1)).getSummary();
+    }
+
+    @Test
+    void shouldProduceNewSummary_whenGameWasStarted() {
+        when(delegateMock.getSummary()).thenReturn(summaryMock1, summaryMock2);
+        board.getSummary();
+
+        board.startGame("team1", "team2");
+
+        assertThat(board.getSummary()).isSameAs(summaryMock2);
+    }
+
+    @Test
+    void shouldProduceNewSummary_whenScoreWasUpdated() {
+        when(delegateMock.getSummary()).thenReturn(summaryMock1, summaryMock2);
+        board.getSummary();
+
+        board.updateScore(GameId.generate(), Score.of(1, 0));
+
+        assertThat(board.getSummary()).isSameAs(summaryMock2);
+    }
+
+    @Test
+    void shouldProduceNewSummary_whenGameWasFinished() {
+        when(delegateMock.getSummary()).thenReturn(summaryMock1, summaryMock2);
+        board.getSummary();
+
+        board.finishGame(GameId.generate());
+
+        assertThat(board.getSummary()).isSameAs(summaryMock2);
+    }
+
+    @Test
+    void shouldProduceNewSummary_whenBatchWasApplied() {
+        Map<GameId, Score> scores = Map.of(GameId.generate(), Score.of(1, 0));
+        when(delegateMock.getSummary()).thenReturn(summaryMock1, summaryMock2, summaryMock1, summaryMock2);
+        board.getSummary();
+
+        board.updateScores(scores);
+        assertThat(board.getSummary()).isSameAs(summaryMock2);
+        board.startGames(List.of(Teams.of("team1", "team2")));
+        assertThat(board.getSummary()).isSameAs(summaryMock1);
+        board.finishGames(List.of(GameId.generate()));
+        assertThat(board.getSummary()).isSameAs(summaryMock2);
+
+        verify(delegateMock).updateScores(scores);
+    }
+
+    @Test
+    void shouldKeepCachedSummary_whenUpdatingScore_ofNotTrackedGame() {
+        GameId gameId = GameId.generate();
+        when(delegateMock.getSummary()).thenReturn(summaryMock1);
+        doThrow(new GameNotFoundException(gameId)).when(delegateMock)
+                                                  .updateScore(gameId, Score.of(1, 0));
+        board.getSummary();
+
+        assertThatThrownBy(() -> board.updateScore(gameId, Score.of(1, 0))).isInstanceOf(GameNotFoundException.class);
+
+        assertThat(board.getSummary()).isSameAs(summaryMock1);
+        verify(delegateMock, times(1)).getSummary();
+    }
+
+    @Test
+    void shouldUseCachedSummary_whenGettingLimitedSummary_andBoardWasNotModified() {
+        when(delegateMock.getSummary()).thenReturn(summaryMock1);
+        when(summaryMock1.top(3)).thenReturn(summaryMock2);
+        board.getSummary();
+
+        ScoreSummary summary = board.getSummary(3);
+
+        assertThat(summary).isSameAs(summaryMock2);
+        verify(delegateMock, never()).getSummary(anyInt());
+    }
+
+    @Test
+    void shouldDelegateLimitedSummary_whenBoardWasModified() {
+        when(delegateMock.getSummary()).thenReturn(summaryMock1);
+        when(delegateMock.getSummary(3)).thenReturn(summaryMock2);
+        board.getSummary();
+        board.startGame("team1", "team2");
+
+        ScoreSummary summary = board.getSummary(3);
+
+        assertThat(summary).isSameAs(summaryMock2);
+    }
+
+    @Test
+    void shouldCountHitsAndMisses_whenGettingSummary() {
+        when(delegateMock.getSummary()).thenReturn(summaryMock1);
+
+        board.getSummary();
+        board.getSummary();
+        board.getSummary();
+        board.startGame("team1", "team2");
+        board.getSummary();
+
+        assertThat(board.getCacheStatistics()).isEqualTo(new SummaryCacheStatistics(2, 2));
+    }
+
+    @Test
+    void shouldReturnZeroStatistics_whenSummaryWasNotRequested() {
+        assertThat(board.getCacheStatistics()).isEqualTo(new SummaryCacheStatistics(0, 0));
+    }
+
+}
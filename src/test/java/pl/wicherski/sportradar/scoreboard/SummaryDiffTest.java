@@ -0,0 +1,190 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SummaryDiffTest {
+
+    private static final Instant CREATION_TIMESTAMP = Instant.parse("2022-11-20T16:00:00Z");
+
+    @Test
+    void shouldReturnEmptyDiff_whenSummariesContainTheSameGames() {
+        List<Game> games = List.of(game(1, Score.of(1, 0)), game(2, Score.of(0, 0)));
+
+        SummaryDiff diff = SummaryDiff.between(games, List.copyOf(games));
+
+        assertThat(diff.isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldReportAddedAndRemovedGames_whenGamesWereStartedAndFinished() {
+        Game game1 = game(1, Score.of(0, 0));
+        Game game2 = game(2, Score.of(0, 0));
+        Game game3 = game(3, Score.of(0, 0));
+
+        SummaryDiff diff = SummaryDiff.between(List.of(game1, game2), List.of(game3, game1));
+
+        assertThat(diff).isEqualTo(new SummaryDiff(
+                List.of(new SummaryDiff.Added(game3.gameId(), 1, "home3", "away3", Score.of(0, 0))),
+                List.of(new SummaryDiff.Removed(game2.gameId(), 2)),
+                List.of(),
+                List.of()));
+    }
+
+    @Test
+    void shouldReportSingleMove_whenGameOvertookOtherGames() {
+        List<Game> previousGames = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            previousGames.add(game(i, Score.of(1, 0)));
+        }
+        Game scoringGame = previousGames.get(8)
+                                        .withUpdatedScore(Score.of(2, 0));
+        List<Game> currentGames = new ArrayList<>(previousGames);
+        currentGames.remove(8);
+        currentGames.add(0, scoringGame);
+
+        SummaryDiff diff = SummaryDiff.between(previousGames, currentGames);
+
+        assertThat(diff.moved()).containsExactly(new SummaryDiff.Moved(scoringGame.gameId(), 9, 1));
+        assertThat(diff.scoreChanged()).containsExactly(new SummaryDiff.ScoreChanged(scoringGame.gameId(),
+                                                                                     Score.of(1, 0),
+                                                                                     Score.of(2, 0)));
+        assertThat(diff.added()).isEmpty();
+        assertThat(diff.removed()).isEmpty();
+    }
+
+    @Test
+    void shouldReportSingleMove_whenGameFellBehindOtherGames() {
+        List<Game> previousGames = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            previousGames.add(game(i, Score.of(0, 0)));
+        }
+        List<Game> currentGames = new ArrayList<>(previousGames);
+        Game fallingGame = currentGames.remove(1);
+        currentGames.add(fallingGame);
+
+        SummaryDiff diff = SummaryDiff.between(previousGames, currentGames);
+
+        assertThat(diff.moved()).containsExactly(new SummaryDiff.Moved(fallingGame.gameId(), 2, 10));
+    }
+
+    @Test
+    void shouldNotReportMove_whenGameRankChangedOnlyBecauseOfAddedAndRemovedGames() {
+        Game game1 = game(1, Score.of(0, 0));
+        Game game2 = game(2, Score.of(0, 0));
+        Game game3 = game(3, Score.of(0, 0));
+        Game game4 = game(4, Score.of(0, 0));
+
+        SummaryDiff diff = SummaryDiff.between(List.of(game1, game2, game3), List.of(game4, game2, game3));
+
+        assertThat(diff.moved()).isEmpty();
+        assertThat(diff.removed()).containsExactly(new SummaryDiff.Removed(game1.gameId(), 1));
+        assertThat(diff.added()).extracting(SummaryDiff.Added::gameId)
+                                .containsExactly(game4.gameId());
+    }
+
+    @Test
+    void shouldTurnPreviousSummaryIntoCurrentOne_whenApplyingDiff() {
+        Random random = new Random(42);
+        List<Game> previousGames = new ArrayList<>();
+        int nextGame = 0;
+        for (; nextGame < 200; nextGame++) {
+            previousGames.add(game(nextGame, Score.of(random.nextInt(5), random.nextInt(5))));
+        }
+
+        for (int round = 0; round < 100; round++) {
+            List<Game> currentGames = new ArrayList<>(previousGames);
+            int changes = random.nextInt(20);
+            for (int change = 0; change < changes; change++) {
+                int index = random.nextInt(currentGames.size());
+                int operation = random.nextInt(3);
+                if (operation == 0) {
+                    currentGames.remove(index);
+                } else if (operation == 1) {
+                    currentGames.add(game(nextGame++, Score.of(0, 0)));
+                } else {
+                    currentGames.set(index, currentGames.get(index)
+                                                        .withUpdatedScore(Score.of(random.nextInt(5),
+                                                                                   random.nextInt(5))));
+                }
+            }
+            currentGames.sort(Comparator.comparingLong(Game::rankKey)
+                                        .reversed());
+
+            SummaryDiff diff = SummaryDiff.between(previousGames, currentGames);
+
+            assertThat(apply(diff, previousGames, currentGames)).isEqualTo(currentGames);
+            previousGames = currentGames;
+        }
+    }
+
+    @Test
+    void shouldReportEveryGameOnce_whenOrderIsReversed() {
+        List<Game> previousGames = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            previousGames.add(game(i, Score.of(0, 0)));
+        }
+        List<Game> currentGames = new ArrayList<>(previousGames);
+        Collections.reverse(currentGames);
+
+        SummaryDiff diff = SummaryDiff.between(previousGames, currentGames);
+
+        assertThat(diff.moved()).hasSizeLessThan(100)
+                                .extracting(SummaryDiff.Moved::gameId)
+                                .doesNotHaveDuplicates();
+        assertThat(apply(diff, previousGames, currentGames)).isEqualTo(currentGames);
+    }
+
+    /**
+     * Applies the diff to the previous games, as described by {@link SummaryDiff}. Added games are taken from the current
+     * games, as the diff does not carry their creation timestamps.
+     */
+    private static List<Game> apply(SummaryDiff diff, List<Game> previousGames, List<Game> currentGames) {
+        Map<GameId, Game> previousGamesById = new HashMap<>();
+        previousGames.forEach(game -> previousGamesById.put(game.gameId(), game));
+        Set<GameId> takenOutIds = new HashSet<>();
+        diff.removed()
+            .forEach(removed -> takenOutIds.add(removed.gameId()));
+        diff.moved()
+            .forEach(moved -> takenOutIds.add(moved.gameId()));
+        List<Game> games = new ArrayList<>(previousGames);
+        games.removeIf(game -> takenOutIds.contains(game.gameId()));
+
+        Map<Integer, Game> insertedGames = new TreeMap<>();
+        diff.added()
+            .forEach(added -> insertedGames.put(added.rank(), currentGames.get(added.rank() - 1)));
+        diff.moved()
+            .forEach(moved -> insertedGames.put(moved.rank(), previousGamesById.get(moved.gameId())));
+        insertedGames.forEach((rank, game) -> games.add(rank - 1, game));
+
+        Map<GameId, Score> changedScores = new HashMap<>();
+        diff.scoreChanged()
+            .forEach(scoreChanged -> changedScores.put(scoreChanged.gameId(), scoreChanged.score()));
+        games.replaceAll(game -> changedScores.containsKey(game.gameId())
+                                 ? game.withUpdatedScore(changedScores.get(game.gameId()))
+                                 : game);
+        return games;
+    }
+
+    private static Game game(int number, Score score) {
+        return new Game(GameId.ofSequence(number + 1),
+                        "home" + number,
+                        "away" + number,
+                        score,
+                        CREATION_TIMESTAMP.plusSeconds(number));
+    }
+
+}
@@ -0,0 +1,175 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TeamNameDictionaryTest {
+
+    private TeamNameDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new TeamNameDictionary();
+    }
+
+    @Test
+    void shouldReturnFirstStoredInstance_whenCanonicalizingEqualNames() {
+        String name1 = new String("Poland");
+        String name2 = new String("Poland");
+
+        String canonical1 = dictionary.canonicalize(name1);
+        String canonical2 = dictionary.canonicalize(name2);
+
+        assertThat(canonical1).isSameAs(name1);
+        assertThat(canonical2).isSameAs(name1);
+    }
+
+    @Test
+    void shouldAssignTheSameCode_whenGettingCodeOfEqualNames() {
+        int code1 = dictionary.codeOf(new String("Poland"));
+        int code2 = dictionary.codeOf(new String("Poland"));
+        int code3 = dictionary.codeOf("Portugal");
+
+        assertThat(code1).isEqualTo(code2)
+                         .isNotEqualTo(code3);
+        assertThat(dictionary.nameOf(code1)).isEqualTo("Poland");
+        assertThat(dictionary.nameOf(code3)).isEqualTo("Portugal");
+    }
+
+    @Test
+    void shouldStoreManyNames_whenGettingCodes() {
+        List<Integer> codes = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            codes.add(dictionary.codeOf("team" + i));
+        }
+
+        for (int i = 0; i < 1_000; i++) {
+            assertThat(dictionary.nameOf(codes.get(i))).isEqualTo("team" + i);
+        }
+        assertThat(dictionary.size()).isEqualTo(1_000);
+    }
+
+    @Test
+    void shouldCountReplacedDuplicates_whenCanonicalizingNames() {
+        dictionary.canonicalize(new String("Poland"));
+        dictionary.canonicalize(new String("Poland"));
+        dictionary.canonicalize(new String("Poland"));
+        dictionary.canonicalize("Portugal");
+
+        TeamNameStatistics statistics = dictionary.statistics();
+
+        assertThat(statistics.distinctNames()).isEqualTo(2);
+        assertThat(statistics.lookups()).isEqualTo(4);
+        assertThat(statistics.duplicatesReplaced()).isEqualTo(2);
+        assertThat(statistics.estimatedBytesSaved()).isGreaterThanOrEqualTo(2 * "Poland".length());
+    }
+
+    @Test
+    void shouldNotCountDuplicate_whenCanonicalizingAlreadyStoredInstance() {
+        String name = "Poland";
+        dictionary.canonicalize(name);
+        dictionary.canonicalize(name);
+
+        assertThat(dictionary.statistics()
+                             .duplicatesReplaced()).isZero();
+    }
+
+    @Test
+    void shouldRemoveName_whenReleasingItsLastReference() {
+        String name = dictionary.canonicalize(new String("Poland"));
+        dictionary.canonicalize(new String("Poland"));
+
+        dictionary.release(name);
+        assertThat(dictionary.size()).isEqualTo(1);
+        dictionary.release(name);
+
+        assertThat(dictionary.size()).isZero();
+        assertThat(dictionary.statistics()
+                             .distinctNames()).isZero();
+    }
+
+    @Test
+    void shouldIgnoreRelease_ofNameWhichIsNotTheStoredInstance() {
+        dictionary.canonicalize("Poland");
+
+        dictionary.release(new String("Poland"));
+        dictionary.release("Portugal");
+
+        assertThat(dictionary.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReuseCodeOfRemovedName_whenAddingNewName() {
+        String name = dictionary.canonicalize("Poland");
+        int code = dictionary.codeOf(name);
+
+        dictionary.release(name);
+        String newName = dictionary.canonicalize("Portugal");
+
+        assertThat(dictionary.codeOf(newName)).isEqualTo(code);
+        assertThat(dictionary.nameOf(code)).isEqualTo("Portugal");
+    }
+
+    @Test
+    void shouldKeepReferencedNames_whenReferencingAndReleasingNamesInParallel() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        String keptName = dictionary.canonicalize("team0");
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < 4; thread++) {
+            futures.add(executorService.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    String canonical = dictionary.canonicalize(new String("team" + i % 10));
+                    assertThat(dictionary.nameOf(dictionary.codeOf(canonical))).isSameAs(canonical);
+                    dictionary.release(canonical);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        assertThat(dictionary.size()).isEqualTo(1);
+        assertThat(dictionary.canonicalize(new String("team0"))).isSameAs(keptName);
+    }
+
+    @Test
+    void shouldReturnSingleInstance_whenCanonicalizingNamesInParallel() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        Set<String> canonicalInstances = ConcurrentHashMap.newKeySet();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < 4; thread++) {
+            futures.add(executorService.submit(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    String canonical = dictionary.canonicalize(new String("team" + i % 10));
+                    if (canonical.equals("team0")) {
+                        canonicalInstances.add(canonical);
+                    }
+                    assertThat(dictionary.nameOf(dictionary.codeOf(canonical))).isSameAs(canonical);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executorService.shutdown();
+
+        assertThat(dictionary.size()).isEqualTo(10);
+        assertThat(canonicalInstances.stream()
+                                     .map(System::identityHashCode)
+                                     .distinct()).hasSize(1);
+    }
+
+}
@@ -1,15 +1,18 @@
 package pl.wicherski.sportradar.scoreboard;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.AdditionalAnswers.answersWithDelay;
 import static org.mockito.Mockito.*;
@@ -22,11 +25,15 @@ class ThreadSafeLiveScoreBoardTest {
     private static final String TEAM_3 = "team3";
     private static final String TEAM_4 = "team4";
 
-    @InjectMocks
     private ThreadSafeLiveScoreBoard board;
     @Mock
     private LiveScoreBoard delegateMock;
 
+    @BeforeEach
+    void setUp() {
+        board = new ThreadSafeLiveScoreBoard(delegateMock);
+    }
+
     @Test
     void shouldLockStartGameExecution_whenCalledInParallel() {
         GameId gameId = GameId.generate();
@@ -49,6 +56,16 @@ class ThreadSafeLiveScoreBoardTest {
                .untilAsserted(() -> verify(delegateMock).startGame(TEAM_3, TEAM_4));
     }
 
+    @Test
+    void shouldReturnDelegateResult_whenComparingAndSettingScore() {
+        GameId gameId = GameId.generate();
+        when(delegateMock.compareAndSetScore(gameId, Score.of(0, 0), Score.of(1, 0))).thenReturn(true);
+
+        boolean updated = board.compareAndSetScore(gameId, Score.of(0, 0), Score.of(1, 0));
+
+        assertThat(updated).isTrue();
+    }
+
     @Test
     void shouldLockUpdateScoreExecution_whenCalledInParallel() {
         GameId gameId1 = GameId.generate();
@@ -96,6 +113,49 @@ class ThreadSafeLiveScoreBoardTest {
                .untilAsserted(() -> verify(delegateMock).finishGame(gameId2));
     }
 
+    @Test
+    void shouldLockUpdateScoresExecution_whenCalledInParallel() {
+        Map<GameId, Score> scores1 = Map.of(GameId.generate(), Score.of(1, 3));
+        Map<GameId, Score> scores2 = Map.of(GameId.generate(), Score.of(1, 3));
+        long sleepyTime = 100L;
+        when(delegateMock.updateScores(scores1)).then(answersWithDelay(sleepyTime,
+                                                                       answer -> new BatchUpdateResult(List.of())));
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        executorService.submit(() -> board.updateScores(scores1));
+        // block until the thread starts execution
+        await().atMost(sleepyTime, TimeUnit.MILLISECONDS)
+               .pollInterval(5, TimeUnit.MILLISECONDS)
+               .untilAsserted(() -> verify(delegateMock).updateScores(scores1));
+
+        executorService.submit(() -> board.updateScores(scores2));
+
+        // second thread should wait for the first one to complete (it will take little less than sleep time at this point)
+        await().atLeast(sleepyTime / 2, TimeUnit.MILLISECONDS)
+               .pollInterval(5, TimeUnit.MILLISECONDS)
+               .untilAsserted(() -> verify(delegateMock).updateScores(scores2));
+    }
+
+    @Test
+    void shouldNotLockGenerateLimitedSummaryExecution_whenCalledInParallel() {
+        long sleepyTime = 100L;
+        when(delegateMock.getSummary(3)).then(answersWithDelay(sleepyTime, answer -> null));
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        executorService.submit(() -> board.getSummary(3));
+        // block until the thread starts execution
+        await().atMost(sleepyTime, TimeUnit.MILLISECONDS)
+               .pollInterval(5, TimeUnit.MILLISECONDS)
+               .untilAsserted(() -> verify(delegateMock).getSummary(3));
+
+        executorService.submit(() -> board.getSummary(3));
+
+        // second thread should not wait for the first one to complete (there will be two calls for summary at this point)
+        await().atMost(sleepyTime / 2, TimeUnit.MILLISECONDS)
+               .pollInterval(5, TimeUnit.MILLISECONDS)
+               .untilAsserted(() -> verify(delegateMock, times(2)).getSummary(3));
+    }
+
     @Test
     void shouldNotLockGenerateSummaryExecution_whenCalledInParallel() {
         long sleepyTime = 100L;
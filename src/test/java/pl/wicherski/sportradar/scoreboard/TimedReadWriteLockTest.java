@@ -0,0 +1,68 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class TimedReadWriteLockTest {
+
+    @Test
+    void shouldRecordHoldTime_whenWriteLockIsReleased() throws InterruptedException {
+        TimedReadWriteLock lock = new TimedReadWriteLock();
+
+        lock.writeLock()
+            .lock();
+        Thread.sleep(20);
+        lock.writeLock()
+            .unlock();
+
+        assertThat(lock.writeLockHold()
+                       .max()).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(lock.readLockHold()
+                       .count()).isZero();
+    }
+
+    @Test
+    void shouldRecordWaitTime_whenReadLockIsHeldByWriter() throws InterruptedException {
+        TimedReadWriteLock lock = new TimedReadWriteLock();
+        Lock writeLock = lock.writeLock();
+        writeLock.lock();
+        CompletableFuture<Void> reader = CompletableFuture.runAsync(() -> {
+            lock.readLock()
+                .lock();
+            lock.readLock()
+                .unlock();
+        });
+
+        Thread.sleep(20);
+        writeLock.unlock();
+        reader.join();
+
+        HistogramStatistics readLockWait = lock.readLockWait();
+        assertThat(readLockWait.count()).isEqualTo(1);
+        assertThat(readLockWait.max()).isPositive();
+    }
+
+    @Test
+    void shouldNotRecordWaitTime_whenTryLockFails() {
+        TimedReadWriteLock lock = new TimedReadWriteLock();
+        lock.writeLock()
+            .lock();
+
+        CompletableFuture<Boolean> acquired = CompletableFuture.supplyAsync(() -> lock.readLock()
+                                                                                      .tryLock());
+
+        await().until(acquired::isDone);
+        assertThat(acquired.join()).isFalse();
+        assertThat(lock.readLockWait()
+                       .count()).isZero();
+        lock.writeLock()
+            .unlock();
+    }
+
+}
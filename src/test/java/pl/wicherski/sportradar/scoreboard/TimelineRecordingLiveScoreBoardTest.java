@@ -0,0 +1,98 @@
+package pl.wicherski.sportradar.scoreboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+import static pl.wicherski.sportradar.scoreboard.GameComparators.BY_RANK_KEY;
+
+@ExtendWith(MockitoExtension.class)
+class TimelineRecordingLiveScoreBoardTest {
+
+    private static final Instant KICK_OFF = Instant.parse("2022-11-20T16:00:00Z");
+
+    private TimelineLiveScoreBoard board;
+    @Mock
+    private TimeProvider timeProviderMock;
+
+    @BeforeEach
+    void setUp() {
+        TimelineRecordingGameRepository gameRepository = new TimelineRecordingGameRepository(new InMemoryGameRepository(new HashMap<>()),
+                                                                                             timeProviderMock,
+                                                                                             64);
+        ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+        LiveScoreBoard delegate = new LiveScoreBoardImpl(gameRepository,
+                                                         timeProviderMock,
+                                                         new ScoreSummaryFactory(),
+                                                         BY_RANK_KEY);
+        board = new TimelineRecordingLiveScoreBoard(new ThreadSafeLiveScoreBoard(delegate, readWriteLock),
+                                                    gameRepository,
+                                                    readWriteLock);
+    }
+
+    @Test
+    void shouldReturnScoreAtGivenTime_whenScoreWasUpdatedSeveralTimes() {
+        when(timeProviderMock.now()).thenReturn(KICK_OFF,
+                                                KICK_OFF.plusSeconds(12 * 60),
+                                                KICK_OFF.plusSeconds(47 * 60),
+                                                KICK_OFF.plusSeconds(81 * 60));
+        GameId gameId = board.startGame("Mexico", "Canada");
+        board.updateScore(gameId, Score.of(1, 0));
+        board.updateScore(gameId, Score.of(1, 1));
+        board.updateScore(gameId, Score.of(1, 2));
+
+        assertThat(board.getScoreAt(gameId, KICK_OFF.plusSeconds(10 * 60))).contains(Score.of(0, 0));
+        assertThat(board.getScoreAt(gameId, KICK_OFF.plusSeconds(45 * 60))).contains(Score.of(1, 0));
+        assertThat(board.getScoreAt(gameId, KICK_OFF.plusSeconds(60 * 60))).contains(Score.of(1, 1));
+        assertThat(board.getScoreAt(gameId, KICK_OFF.plusSeconds(90 * 60))).contains(Score.of(1, 2));
+        assertThat(board.getScoreAt(gameId, KICK_OFF.minusSeconds(60))).isEmpty();
+    }
+
+    @Test
+    void shouldRecordOnlyAppliedUpdates_whenUpdatingScoresConditionallyAndInBatch() {
+        when(timeProviderMock.now()).thenReturn(KICK_OFF,
+                                                KICK_OFF.plusSeconds(60),
+                                                KICK_OFF.plusSeconds(120),
+                                                KICK_OFF.plusSeconds(180));
+        GameId gameId = board.startGame("Spain", "Brazil");
+        board.compareAndSetScore(gameId, Score.of(1, 0), Score.of(2, 0));
+        board.updateScoreIfNewer(gameId, 5, Score.of(1, 0));
+        board.updateScoreIfNewer(gameId, 4, Score.of(0, 0));
+        board.updateScores(Map.of(gameId, Score.of(1, 1), GameId.generate(), Score.of(3, 3)));
+
+        ScoreTimeline timeline = board.getTimeline(gameId);
+
+        assertThat(timeline.changes()).extracting(ScoreTimeline.ScoreChange::score)
+                                      .containsExactly(Score.of(0, 0), Score.of(1, 0), Score.of(1, 1));
+        assertThat(timeline.truncated()).isFalse();
+    }
+
+    @Test
+    void shouldThrowGameNotFoundException_whenGettingTimeline_ofFinishedGame() {
+        when(timeProviderMock.now()).thenReturn(KICK_OFF);
+        List<GameId> gameIds = board.startGames(List.of(Teams.of("Germany", "France")));
+        board.finishGames(gameIds);
+
+        assertThatThrownBy(() -> board.getTimeline(gameIds.get(0))).isInstanceOf(GameNotFoundException.class);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenGettingScoreAt_withNullTimestamp() {
+        GameId gameId = GameId.generate();
+
+        assertThatThrownBy(() -> board.getScoreAt(gameId, null)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}